@@ -0,0 +1,165 @@
+package com.crypto.console.common.arbitrage;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.model.BookTicker;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import com.crypto.console.common.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class ArbitrageScanner {
+    private static final MathContext MC = MathContext.DECIMAL64;
+    private static final BigDecimal BPS = BigDecimal.valueOf(10_000);
+
+    private final AppProperties.ArbitrageConfig cfg;
+    private final Map<String, RateGraph> graphs = new ConcurrentHashMap<>();
+
+    public ArbitrageScanner(AppProperties.ArbitrageConfig cfg) {
+        this.cfg = cfg;
+    }
+
+    public Scan scan(ExchangeClient client, BigDecimal notional) {
+        List<BookTicker> tickers = client.getBookTickers();
+        if (tickers == null) {
+            return null;
+        }
+        String exchange = client.name();
+        RateGraph graph = graphs.computeIfAbsent(exchange, key -> new RateGraph());
+        double feeRate = cfg.getFeeBps().doubleValue() / 10_000.0;
+        long started = System.nanoTime();
+        graph.update(tickers, feeRate);
+        List<RateGraph.Cycle> cycles = graph.findCycles(cfg.getMaxCycles());
+        long elapsedMicros = (System.nanoTime() - started) / 1_000L;
+        LOG.debug("Scanned {} pairs on {} in {}us ({} full, {} incremental scans so far)", tickers.size(), exchange,
+                elapsedMicros, graph.fullScans(), graph.incrementalScans());
+
+        Map<String, BookTicker> byPair = new HashMap<>(tickers.size() * 2);
+        for (BookTicker ticker : tickers) {
+            byPair.put(ticker.base + "/" + ticker.quote, ticker);
+        }
+        List<Opportunity> opportunities = new ArrayList<>(cycles.size());
+        for (RateGraph.Cycle cycle : cycles) {
+            if (cycle.profit() <= 0) {
+                continue;
+            }
+            List<RateGraph.Leg> legs = rotate(cycle.legs(), cfg.getNotionalAsset());
+            opportunities.add(confirm(client, legs, cycle.profit(), byPair, notional == null ? cfg.getNotional() : notional));
+        }
+        return new Scan(exchange, tickers.size(), graph.currencies(), elapsedMicros, List.copyOf(opportunities));
+    }
+
+    private Opportunity confirm(ExchangeClient client, List<RateGraph.Leg> legs, double profit,
+                                Map<String, BookTicker> tickers, BigDecimal notional) {
+        String path = path(legs);
+        double tickerBps = profit * 10_000.0;
+        String start = legs.get(0).from();
+        BigDecimal amount = startAmount(start, tickers, notional);
+        if (amount == null) {
+            return new Opportunity(client.name(), path, tickerBps, null, null, "no " + cfg.getNotionalAsset() + " price for " + start);
+        }
+        List<OrderBook> books;
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<OrderBook>> futures = new ArrayList<>(legs.size());
+            for (RateGraph.Leg leg : legs) {
+                futures.add(executor.submit(() -> client.getOrderBook(leg.base(), leg.quote(), cfg.getDepthLevels())));
+            }
+            books = new ArrayList<>(legs.size());
+            for (Future<OrderBook> future : futures) {
+                books.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            return new Opportunity(client.name(), path, tickerBps, null, amount, "depth fetch failed: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeException("Interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BigDecimal keep = BigDecimal.ONE.subtract(cfg.getFeeBps().divide(BPS, MC));
+        BigDecimal value = amount;
+        for (int i = 0; i < legs.size(); i++) {
+            RateGraph.Leg leg = legs.get(i);
+            value = convert(leg.buy() ? books.get(i).asks : books.get(i).bids, value, leg.buy());
+            if (value == null) {
+                return new Opportunity(client.name(), path, tickerBps, null, amount, "not enough depth on " + leg.base() + "/" + leg.quote());
+            }
+            value = value.multiply(keep, MC);
+        }
+        BigDecimal confirmedBps = value.divide(amount, MC).subtract(BigDecimal.ONE).multiply(BPS);
+        return new Opportunity(client.name(), path, tickerBps, confirmedBps, amount, null);
+    }
+
+    private BigDecimal startAmount(String start, Map<String, BookTicker> tickers, BigDecimal notional) {
+        String asset = cfg.getNotionalAsset();
+        if (start.equalsIgnoreCase(asset)) {
+            return notional;
+        }
+        BookTicker direct = tickers.get(start + "/" + asset);
+        if (direct != null && direct.ask.signum() > 0) {
+            return notional.divide(direct.ask, MC);
+        }
+        BookTicker inverse = tickers.get(asset + "/" + start);
+        if (inverse != null && inverse.bid.signum() > 0) {
+            return notional.multiply(inverse.bid);
+        }
+        return null;
+    }
+
+    static BigDecimal convert(List<OrderBookEntry> levels, BigDecimal amount, boolean buy) {
+        BigDecimal remaining = amount;
+        BigDecimal received = BigDecimal.ZERO;
+        for (OrderBookEntry level : levels) {
+            if (remaining.signum() <= 0) {
+                break;
+            }
+            BigDecimal take = remaining.min(buy ? level.price.multiply(level.quantity) : level.quantity);
+            received = received.add(buy ? take.divide(level.price, MC) : take.multiply(level.price));
+            remaining = remaining.subtract(take);
+        }
+        return remaining.signum() > 0 ? null : received;
+    }
+
+    private static List<RateGraph.Leg> rotate(List<RateGraph.Leg> legs, String preferred) {
+        for (int i = 0; i < legs.size(); i++) {
+            if (legs.get(i).from().equalsIgnoreCase(preferred)) {
+                List<RateGraph.Leg> rotated = new ArrayList<>(legs.size());
+                rotated.addAll(legs.subList(i, legs.size()));
+                rotated.addAll(legs.subList(0, i));
+                return rotated;
+            }
+        }
+        return legs;
+    }
+
+    private static String path(List<RateGraph.Leg> legs) {
+        StringBuilder sb = new StringBuilder(legs.get(0).from());
+        for (RateGraph.Leg leg : legs) {
+            sb.append(" > ").append(leg.to());
+        }
+        return sb.toString();
+    }
+
+    public record Opportunity(String exchange, String path, double tickerBps, BigDecimal confirmedBps,
+                              BigDecimal startAmount, String note) {
+    }
+
+    public record Scan(String exchange, int pairs, int currencies, long elapsedMicros, List<Opportunity> opportunities) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.crypto.console.common.arbitrage;
+
+import com.crypto.console.common.model.BookTicker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RateGraph {
+    private static final double EPSILON = 1e-12;
+
+    private final Map<String, Integer> currencies = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> pairs = new HashMap<>();
+    private final List<String[]> pairNames = new ArrayList<>();
+
+    private int[] from = new int[64];
+    private int[] to = new int[64];
+    private double[] weight = new double[64];
+    private int[] nextEdge = new int[64];
+    private int[] firstEdge = new int[16];
+    private double[] dist = new double[16];
+    private int[] pred = new int[16];
+    private int[] length = new int[16];
+    private boolean[] queued = new boolean[16];
+    private int[] queue = new int[16];
+    private final BitSet dirty = new BitSet();
+    private final BitSet masked = new BitSet();
+    private boolean feasible;
+    private int fullScans;
+    private int incrementalScans;
+
+    public RateGraph() {
+        Arrays.fill(firstEdge, -1);
+    }
+
+    public synchronized int update(List<BookTicker> tickers, double feeRate) {
+        double fee = Math.log(1.0 - feeRate);
+        BitSet seen = new BitSet(pairs.size());
+        int changed = 0;
+        for (BookTicker ticker : tickers) {
+            if (ticker.bid == null || ticker.ask == null || ticker.bid.signum() <= 0 || ticker.ask.signum() <= 0) {
+                continue;
+            }
+            int pair = pair(ticker.base, ticker.quote);
+            seen.set(pair);
+            changed += setWeight(2 * pair, Math.log(ticker.ask.doubleValue()) - fee);
+            changed += setWeight(2 * pair + 1, -Math.log(ticker.bid.doubleValue()) - fee);
+        }
+        for (int pair = seen.nextClearBit(0); pair < pairs.size(); pair = seen.nextClearBit(pair + 1)) {
+            changed += setWeight(2 * pair, Double.POSITIVE_INFINITY);
+            changed += setWeight(2 * pair + 1, Double.POSITIVE_INFINITY);
+        }
+        return changed;
+    }
+
+    public synchronized List<Cycle> findCycles(int max) {
+        List<Cycle> cycles = new ArrayList<>();
+        int vertices = names.size();
+        if (vertices == 0) {
+            return cycles;
+        }
+        if (feasible) {
+            incrementalScans++;
+        } else {
+            fullScans++;
+            Arrays.fill(dist, 0, vertices, 0.0);
+            dirty.set(0, vertices);
+        }
+        boolean converged = false;
+        while (cycles.size() < max) {
+            int found = relax(vertices);
+            if (found < 0) {
+                converged = true;
+                break;
+            }
+            Cycle cycle = extract(found, vertices);
+            if (cycle == null) {
+                break;
+            }
+            cycles.add(cycle);
+            for (int edge : cycle.edges) {
+                masked.set(edge);
+            }
+            Arrays.fill(dist, 0, vertices, 0.0);
+            dirty.set(0, vertices);
+        }
+        dirty.clear();
+        feasible = converged && cycles.isEmpty();
+        masked.clear();
+        return cycles;
+    }
+
+    public synchronized int currencies() {
+        return names.size();
+    }
+
+    public synchronized int pairs() {
+        return pairs.size();
+    }
+
+    public synchronized int fullScans() {
+        return fullScans;
+    }
+
+    public synchronized int incrementalScans() {
+        return incrementalScans;
+    }
+
+    private int relax(int vertices) {
+        int head = 0;
+        int size = 0;
+        Arrays.fill(length, 0, vertices, 0);
+        Arrays.fill(queued, 0, vertices, false);
+        for (int v = dirty.nextSetBit(0); v >= 0 && v < vertices; v = dirty.nextSetBit(v + 1)) {
+            queue[(head + size++) % vertices] = v;
+            queued[v] = true;
+        }
+        dirty.clear();
+        while (size > 0) {
+            int u = queue[head];
+            head = (head + 1) % vertices;
+            size--;
+            queued[u] = false;
+            for (int edge = firstEdge[u]; edge >= 0; edge = nextEdge[edge]) {
+                double w = weight[edge];
+                if (w == Double.POSITIVE_INFINITY || masked.get(edge)) {
+                    continue;
+                }
+                int v = to[edge];
+                double candidate = dist[u] + w;
+                if (candidate < dist[v] - EPSILON) {
+                    dist[v] = candidate;
+                    pred[v] = edge;
+                    length[v] = length[u] + 1;
+                    if (length[v] >= vertices) {
+                        return v;
+                    }
+                    if (!queued[v]) {
+                        queue[(head + size++) % vertices] = v;
+                        queued[v] = true;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    private Cycle extract(int start, int vertices) {
+        int v = start;
+        for (int i = 0; i < vertices; i++) {
+            v = from[pred[v]];
+        }
+        List<Integer> edges = new ArrayList<>();
+        int u = v;
+        do {
+            int edge = pred[u];
+            edges.add(edge);
+            u = from[edge];
+        } while (u != v && edges.size() <= vertices);
+        if (u != v) {
+            return null;
+        }
+        Collections.reverse(edges);
+        List<Leg> legs = new ArrayList<>(edges.size());
+        double total = 0;
+        int[] ids = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            int edge = edges.get(i);
+            ids[i] = edge;
+            total += weight[edge];
+            String[] pair = pairNames.get(edge / 2);
+            boolean buy = edge % 2 == 0;
+            legs.add(new Leg(names.get(from[edge]), names.get(to[edge]), pair[0], pair[1], buy, Math.exp(-weight[edge])));
+        }
+        return new Cycle(List.copyOf(legs), Math.exp(-total) - 1.0, ids);
+    }
+
+    private int pair(String base, String quote) {
+        String key = base + "/" + quote;
+        Integer existing = pairs.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int pair = pairs.size();
+        pairs.put(key, pair);
+        pairNames.add(new String[]{base, quote});
+        int b = currency(base);
+        int q = currency(quote);
+        ensureEdges(2 * pair + 2);
+        addEdge(2 * pair, q, b);
+        addEdge(2 * pair + 1, b, q);
+        return pair;
+    }
+
+    private int currency(String name) {
+        Integer existing = currencies.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int id = names.size();
+        currencies.put(name, id);
+        names.add(name);
+        if (id >= firstEdge.length) {
+            int size = firstEdge.length * 2;
+            int oldSize = firstEdge.length;
+            firstEdge = Arrays.copyOf(firstEdge, size);
+            Arrays.fill(firstEdge, oldSize, size, -1);
+            dist = Arrays.copyOf(dist, size);
+            pred = Arrays.copyOf(pred, size);
+            length = Arrays.copyOf(length, size);
+            queued = Arrays.copyOf(queued, size);
+            queue = Arrays.copyOf(queue, size);
+        }
+        firstEdge[id] = -1;
+        dist[id] = 0.0;
+        feasible = false;
+        return id;
+    }
+
+    private void ensureEdges(int count) {
+        if (count > from.length) {
+            int size = Math.max(count, from.length * 2);
+            from = Arrays.copyOf(from, size);
+            to = Arrays.copyOf(to, size);
+            weight = Arrays.copyOf(weight, size);
+            nextEdge = Arrays.copyOf(nextEdge, size);
+        }
+    }
+
+    private void addEdge(int edge, int tail, int head) {
+        from[edge] = tail;
+        to[edge] = head;
+        weight[edge] = Double.POSITIVE_INFINITY;
+        nextEdge[edge] = firstEdge[tail];
+        firstEdge[tail] = edge;
+    }
+
+    private int setWeight(int edge, double value) {
+        double previous = weight[edge];
+        if (previous == value) {
+            return 0;
+        }
+        weight[edge] = value;
+        if (value < previous) {
+            dirty.set(from[edge]);
+        }
+        return 1;
+    }
+
+    public record Leg(String from, String to, String base, String quote, boolean buy, double rate) {
+    }
+
+    public record Cycle(List<Leg> legs, double profit, int[] edges) {
+    }
+}
@@ -2,18 +2,29 @@ package com.crypto.console.common.command;
 
 public enum CommandType {
     MOVE,
+    REBALANCE,
     BUY,
+    BUYBEST,
     BUYINFO,
     BUYINFOS,
     SELLINFO,
     SELLINFOS,
     SPREAD,
+    TRIARB,
     SELL,
+    SELLBEST,
+    TWAP,
+    POV,
+    JOBS,
+    CANCEL,
     BALANCE,
     BALANCES,
     ORDERBOOK,
+    TICKERS,
     DEPOSIT,
     ADDRESS,
+    HEALTH,
+    PING,
     HELP,
     EXIT,
     INVALID
@@ -0,0 +1,30 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+import java.math.BigDecimal;
+
+public class BuyBestCommand implements Command {
+    public final String baseAsset;
+    public final BigDecimal quoteAmount;
+    public final String quoteAsset;
+    private final String raw;
+
+    public BuyBestCommand(String raw, String baseAsset, BigDecimal quoteAmount, String quoteAsset) {
+        this.raw = raw;
+        this.baseAsset = baseAsset;
+        this.quoteAmount = quoteAmount;
+        this.quoteAsset = quoteAsset;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.BUYBEST;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
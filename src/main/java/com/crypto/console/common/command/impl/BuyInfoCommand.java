@@ -4,19 +4,26 @@ import com.crypto.console.common.command.Command;
 import com.crypto.console.common.command.CommandType;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public class BuyInfoCommand implements Command {
     public final String exchange;
     public final String baseAsset;
     public final BigDecimal quoteAmount;
+    public final List<BigDecimal> quoteAmounts;
     public final String quoteAsset;
     private final String raw;
 
     public BuyInfoCommand(String raw, String exchange, String baseAsset, BigDecimal quoteAmount, String quoteAsset) {
+        this(raw, exchange, baseAsset, List.of(quoteAmount), quoteAsset);
+    }
+
+    public BuyInfoCommand(String raw, String exchange, String baseAsset, List<BigDecimal> quoteAmounts, String quoteAsset) {
         this.raw = raw;
         this.exchange = exchange;
         this.baseAsset = baseAsset;
-        this.quoteAmount = quoteAmount;
+        this.quoteAmount = quoteAmounts.get(0);
+        this.quoteAmounts = List.copyOf(quoteAmounts);
         this.quoteAsset = quoteAsset;
     }
 
@@ -0,0 +1,37 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class BuyInfosCommand implements Command {
+    public final String baseAsset;
+    public final BigDecimal quoteAmount;
+    public final List<BigDecimal> quoteAmounts;
+    public final String quoteAsset;
+    private final String raw;
+
+    public BuyInfosCommand(String raw, String baseAsset, BigDecimal quoteAmount, String quoteAsset) {
+        this(raw, baseAsset, List.of(quoteAmount), quoteAsset);
+    }
+
+    public BuyInfosCommand(String raw, String baseAsset, List<BigDecimal> quoteAmounts, String quoteAsset) {
+        this.raw = raw;
+        this.baseAsset = baseAsset;
+        this.quoteAmount = quoteAmounts.get(0);
+        this.quoteAmounts = List.copyOf(quoteAmounts);
+        this.quoteAsset = quoteAsset;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.BUYINFOS;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
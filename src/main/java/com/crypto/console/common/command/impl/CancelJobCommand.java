@@ -0,0 +1,24 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+public class CancelJobCommand implements Command {
+    public final int jobId;
+    private final String raw;
+
+    public CancelJobCommand(String raw, int jobId) {
+        this.raw = raw;
+        this.jobId = jobId;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.CANCEL;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
@@ -1,10 +1,27 @@
 package com.crypto.console.common.command.impl;
 
 import com.crypto.console.common.command.Command;
+import org.apache.commons.lang3.math.NumberUtils;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class CommandParser {
+    private static final int MAX_SIZES = 20;
+    private static final int DEFAULT_RANGE_STEPS = 5;
+    private static final String STALE_OPTION = "--stale=";
+    private static final int MAX_SLICES = 1000;
+    private static final Duration MIN_SLICE_INTERVAL = Duration.ofSeconds(1);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final String SIZES_ERROR = "Quote amount must be a positive number, a list like 1000,10000 or a range like 1000..100000[/steps]";
+
     public Command parse(String line) {
         if (line == null) {
             return new InvalidCommand("", "Empty command");
@@ -13,29 +30,65 @@ public class CommandParser {
         if (trimmed.isEmpty()) {
             return new InvalidCommand(line, "Empty command");
         }
+        int stale = trimmed.indexOf(STALE_OPTION);
+        if (stale >= 0) {
+            int end = trimmed.indexOf(' ', stale);
+            String value = trimmed.substring(stale + STALE_OPTION.length(), end < 0 ? trimmed.length() : end);
+            Duration maxStale = parseDuration(value);
+            if (maxStale == null) {
+                return new InvalidCommand(trimmed, "Stale budget must look like 500ms, 2s, 1m or 1h");
+            }
+            String rest = (trimmed.substring(0, stale) + (end < 0 ? "" : trimmed.substring(end))).trim();
+            Command command = parse(rest);
+            return command instanceof InvalidCommand ? command : new StaleCommand(trimmed, command, maxStale);
+        }
         String[] parts = trimmed.split("\\s+");
         String cmd = parts[0].toLowerCase();
 
         return switch (cmd) {
             case "move" -> parseMove(trimmed, parts);
+            case "rebalance" -> parseRebalance(trimmed, parts);
             case "buy" -> parseBuy(trimmed, parts);
+            case "buybest" -> parseBuyBest(trimmed, parts);
             case "askinfo" -> parseBuyInfo(trimmed, parts);
             case "askinfos" -> parseBuyInfos(trimmed, parts);
             case "bidinfo" -> parseSellInfo(trimmed, parts);
             case "bidinfos" -> parseSellInfos(trimmed, parts);
             case "spread" -> parseSpread(trimmed, parts);
+            case "triarb" -> parseTriArb(trimmed, parts);
             case "sell" -> parseSell(trimmed, parts);
+            case "sellbest" -> parseSellBest(trimmed, parts);
+            case "twap" -> parseTwap(trimmed, parts);
+            case "pov" -> parsePov(trimmed, parts);
+            case "jobs" -> new JobsCommand(trimmed);
+            case "cancel" -> parseCancel(trimmed, parts);
             case "balance" -> parseBalance(trimmed, parts);
             case "balances" -> parseBalances(trimmed, parts);
             case "orderbook" -> parseOrderBook(trimmed, parts);
+            case "tickers" -> parts.length == 3
+                    ? new TickersCommand(trimmed, parts[1].toUpperCase(), parts[2].toUpperCase())
+                    : new InvalidCommand(trimmed, "Syntax: tickers <base> <quote>");
             case "deposit" -> parseDeposit(trimmed, parts);
             case "address" -> parseAddress(trimmed, parts);
+            case "health" -> new HealthCommand(trimmed);
+            case "ping" -> parsePing(trimmed, parts);
             case "help", "?" -> new HelpCommand(trimmed);
             case "exit", "quit" -> new ExitCommand(trimmed);
             default -> new InvalidCommand(trimmed, "Unknown command: " + parts[0]);
         };
     }
 
+    private Command parsePing(String raw, String[] parts) {
+        if (parts.length > 2) {
+            return new InvalidCommand(raw, "Syntax: ping [samples]");
+        }
+        int samples = parts.length == 2 ? NumberUtils.toInt(parts[1], -1) : 5;
+        if (samples < 1 || samples > 20) {
+            return new InvalidCommand(raw, "Samples must be between 1 and 20");
+        }
+        return new PingCommand(raw, samples);
+    }
+
     private Command parseMove(String raw, String[] parts) {
         if (parts.length != 5) {
             return new InvalidCommand(raw, "Syntax: move <from> <to> <amount> <asset>");
@@ -47,6 +100,33 @@ public class CommandParser {
         return new MoveCommand(raw, parts[1].toLowerCase(), parts[2].toLowerCase(), amount, parts[4].toUpperCase());
     }
 
+    private Command parseRebalance(String raw, String[] parts) {
+        if (parts.length < 3) {
+            return new InvalidCommand(raw, "Syntax: rebalance <asset> <exchange>=<target>[,<exchange>=<target>...]");
+        }
+        Map<String, BigDecimal> targets = new LinkedHashMap<>();
+        for (int i = 2; i < parts.length; i++) {
+            for (String token : parts[i].split(",")) {
+                if (token.isBlank()) {
+                    continue;
+                }
+                String[] pair = token.split("[=:]", 2);
+                if (pair.length != 2 || pair[0].isBlank()) {
+                    return new InvalidCommand(raw, "Target must look like <exchange>=<amount>: " + token);
+                }
+                BigDecimal amount = parseNonNegativeDecimal(pair[1]);
+                if (amount == null) {
+                    return new InvalidCommand(raw, "Target amount must be a non-negative number: " + token);
+                }
+                targets.put(pair[0].toLowerCase(), amount);
+            }
+        }
+        if (targets.size() < 2) {
+            return new InvalidCommand(raw, "Rebalance needs targets for at least two exchanges");
+        }
+        return new RebalanceCommand(raw, parts[1].toUpperCase(), Collections.unmodifiableMap(targets));
+    }
+
     private Command parseBuy(String raw, String[] parts) {
         if (parts.length != 5) {
             return new InvalidCommand(raw, "Syntax: buy <exchange> <baseAsset> <quoteAmount> <quoteAsset>");
@@ -58,31 +138,42 @@ public class CommandParser {
         return new BuyCommand(raw, parts[1].toLowerCase(), parts[2].toUpperCase(), amount, parts[4].toUpperCase());
     }
 
+    private Command parseBuyBest(String raw, String[] parts) {
+        if (parts.length != 4) {
+            return new InvalidCommand(raw, "Syntax: buybest <baseAsset> <quoteAmount> <quoteAsset>");
+        }
+        BigDecimal amount = parsePositiveDecimal(parts[2], raw);
+        if (amount == null) {
+            return new InvalidCommand(raw, "Quote amount must be a positive number");
+        }
+        return new BuyBestCommand(raw, parts[1].toUpperCase(), amount, parts[3].toUpperCase());
+    }
+
     private Command parseBuyInfo(String raw, String[] parts) {
         if (parts.length != 5) {
-            return new InvalidCommand(raw, "Syntax: askinfo <exchange> <baseAsset> <quoteAmount> <quoteAsset>");
+            return new InvalidCommand(raw, "Syntax: askinfo <exchange> <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>");
         }
         String exchange = parts[1].toLowerCase();
         String baseAsset = parts[2].toUpperCase();
-        BigDecimal amount = parsePositiveDecimal(parts[3], raw);
-        if (amount == null) {
-            return new InvalidCommand(raw, "Quote amount must be a positive number");
+        List<BigDecimal> amounts = parseSizes(parts[3]);
+        if (amounts == null) {
+            return new InvalidCommand(raw, SIZES_ERROR);
         }
         String quoteAsset = parts[4].toUpperCase();
-        return new BuyInfoCommand(raw, exchange, baseAsset, amount, quoteAsset);
+        return new BuyInfoCommand(raw, exchange, baseAsset, amounts, quoteAsset);
     }
 
     private Command parseBuyInfos(String raw, String[] parts) {
         if (parts.length != 4) {
-            return new InvalidCommand(raw, "Syntax: askinfos <baseAsset> <quoteAmount> <quoteAsset>");
+            return new InvalidCommand(raw, "Syntax: askinfos <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>");
         }
         String baseAsset = parts[1].toUpperCase();
-        BigDecimal amount = parsePositiveDecimal(parts[2], raw);
-        if (amount == null) {
-            return new InvalidCommand(raw, "Quote amount must be a positive number");
+        List<BigDecimal> amounts = parseSizes(parts[2]);
+        if (amounts == null) {
+            return new InvalidCommand(raw, SIZES_ERROR);
         }
         String quoteAsset = parts[3].toUpperCase();
-        return new BuyInfosCommand(raw, baseAsset, amount, quoteAsset);
+        return new BuyInfosCommand(raw, baseAsset, amounts, quoteAsset);
     }
 
     private Command parseSell(String raw, String[] parts) {
@@ -96,31 +187,123 @@ public class CommandParser {
         return new SellCommand(raw, parts[1].toLowerCase(), parts[2].toUpperCase(), amount, parts[4].toUpperCase());
     }
 
+    private Command parseSellBest(String raw, String[] parts) {
+        if (parts.length != 4) {
+            return new InvalidCommand(raw, "Syntax: sellbest <baseAsset> <baseAmount> <quoteAsset>");
+        }
+        BigDecimal amount = parsePositiveDecimal(parts[2], raw);
+        if (amount == null) {
+            return new InvalidCommand(raw, "Base amount must be a positive number");
+        }
+        return new SellBestCommand(raw, parts[1].toUpperCase(), amount, parts[3].toUpperCase());
+    }
+
+    private Command parseTriArb(String raw, String[] parts) {
+        if (parts.length != 2 && parts.length != 3) {
+            return new InvalidCommand(raw, "Syntax: triarb <exchange|all> [notional]");
+        }
+        BigDecimal notional = null;
+        if (parts.length == 3) {
+            notional = parsePositiveDecimal(parts[2], raw);
+            if (notional == null) {
+                return new InvalidCommand(raw, "Notional must be a positive number");
+            }
+        }
+        return new TriArbCommand(raw, parts[1].toLowerCase(), notional);
+    }
+
+    private Command parseTwap(String raw, String[] parts) {
+        if (parts.length != 8) {
+            return new InvalidCommand(raw, "Syntax: twap <exchange> <buy|sell> <baseAsset> <amount> <quoteAsset> <duration> <slices>");
+        }
+        Boolean buy = parseSide(parts[2]);
+        if (buy == null) {
+            return new InvalidCommand(raw, "Side must be buy or sell");
+        }
+        BigDecimal amount = parsePositiveDecimal(parts[4], raw);
+        if (amount == null) {
+            return new InvalidCommand(raw, "Amount must be a positive number");
+        }
+        Duration duration = parseDuration(parts[6]);
+        int slices = NumberUtils.toInt(parts[7], -1);
+        if (duration == null || slices < 1 || slices > MAX_SLICES) {
+            return new InvalidCommand(raw, "Duration must look like 30s, 10m or 1h and slices must be between 1 and " + MAX_SLICES);
+        }
+        if (duration.dividedBy(slices).compareTo(MIN_SLICE_INTERVAL) < 0) {
+            return new InvalidCommand(raw, "Slices must be at least " + MIN_SLICE_INTERVAL.toSeconds() + "s apart");
+        }
+        return ScheduleOrderCommand.twap(raw, parts[1].toLowerCase(), buy, parts[3].toUpperCase(), amount,
+                parts[5].toUpperCase(), duration, slices);
+    }
+
+    private Command parsePov(String raw, String[] parts) {
+        if (parts.length != 7 && parts.length != 8) {
+            return new InvalidCommand(raw, "Syntax: pov <exchange> <buy|sell> <baseAsset> <amount> <quoteAsset> <percent> [interval]");
+        }
+        Boolean buy = parseSide(parts[2]);
+        if (buy == null) {
+            return new InvalidCommand(raw, "Side must be buy or sell");
+        }
+        BigDecimal amount = parsePositiveDecimal(parts[4], raw);
+        if (amount == null) {
+            return new InvalidCommand(raw, "Amount must be a positive number");
+        }
+        BigDecimal percent = parsePositiveDecimal(parts[6].endsWith("%") ? parts[6].substring(0, parts[6].length() - 1) : parts[6], raw);
+        if (percent == null || percent.compareTo(HUNDRED) > 0) {
+            return new InvalidCommand(raw, "Participation must be a percentage between 0 and 100");
+        }
+        Duration interval = null;
+        if (parts.length == 8) {
+            interval = parseDuration(parts[7]);
+            if (interval == null || interval.compareTo(MIN_SLICE_INTERVAL) < 0) {
+                return new InvalidCommand(raw, "Interval must look like 5s or 1m and be at least " + MIN_SLICE_INTERVAL.toSeconds() + "s");
+            }
+        }
+        return ScheduleOrderCommand.pov(raw, parts[1].toLowerCase(), buy, parts[3].toUpperCase(), amount,
+                parts[5].toUpperCase(), percent.divide(HUNDRED), interval);
+    }
+
+    private Command parseCancel(String raw, String[] parts) {
+        int id = parts.length == 2 ? NumberUtils.toInt(parts[1].startsWith("#") ? parts[1].substring(1) : parts[1], -1) : -1;
+        if (id < 1) {
+            return new InvalidCommand(raw, "Syntax: cancel <jobId>");
+        }
+        return new CancelJobCommand(raw, id);
+    }
+
+    private static Boolean parseSide(String value) {
+        return switch (value.toLowerCase()) {
+            case "buy" -> Boolean.TRUE;
+            case "sell" -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
     private Command parseSellInfo(String raw, String[] parts) {
         if (parts.length != 5) {
-            return new InvalidCommand(raw, "Syntax: bidinfo <exchange> <baseAsset> <quoteAmount> <quoteAsset>");
+            return new InvalidCommand(raw, "Syntax: bidinfo <exchange> <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>");
         }
         String exchange = parts[1].toLowerCase();
         String baseAsset = parts[2].toUpperCase();
-        BigDecimal amount = parsePositiveDecimal(parts[3], raw);
-        if (amount == null) {
-            return new InvalidCommand(raw, "Quote amount must be a positive number");
+        List<BigDecimal> amounts = parseSizes(parts[3]);
+        if (amounts == null) {
+            return new InvalidCommand(raw, SIZES_ERROR);
         }
         String quoteAsset = parts[4].toUpperCase();
-        return new SellInfoCommand(raw, exchange, baseAsset, amount, quoteAsset);
+        return new SellInfoCommand(raw, exchange, baseAsset, amounts, quoteAsset);
     }
 
     private Command parseSellInfos(String raw, String[] parts) {
         if (parts.length != 4) {
-            return new InvalidCommand(raw, "Syntax: bidinfos <baseAsset> <quoteAmount> <quoteAsset>");
+            return new InvalidCommand(raw, "Syntax: bidinfos <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>");
         }
         String baseAsset = parts[1].toUpperCase();
-        BigDecimal amount = parsePositiveDecimal(parts[2], raw);
-        if (amount == null) {
-            return new InvalidCommand(raw, "Quote amount must be a positive number");
+        List<BigDecimal> amounts = parseSizes(parts[2]);
+        if (amounts == null) {
+            return new InvalidCommand(raw, SIZES_ERROR);
         }
         String quoteAsset = parts[3].toUpperCase();
-        return new SellInfosCommand(raw, baseAsset, amount, quoteAsset);
+        return new SellInfosCommand(raw, baseAsset, amounts, quoteAsset);
     }
 
     private Command parseSpread(String raw, String[] parts) {
@@ -156,10 +339,14 @@ public class CommandParser {
     }
 
     private Command parseOrderBook(String raw, String[] parts) {
-        if (parts.length != 4) {
-            return new InvalidCommand(raw, "Syntax: orderbook <exchange> <base> <quote>");
+        if (parts.length != 4 && parts.length != 5) {
+            return new InvalidCommand(raw, "Syntax: orderbook <exchange|all> <base> <quote> [depth]");
         }
-        return new OrderBookCommand(raw, parts[1].toLowerCase(), parts[2].toUpperCase(), parts[3].toUpperCase());
+        int depth = parts.length == 5 ? NumberUtils.toInt(parts[4], -1) : 10;
+        if (depth <= 0 || depth > 500) {
+            return new InvalidCommand(raw, "Depth must be a whole number between 1 and 500");
+        }
+        return new OrderBookCommand(raw, parts[1].toLowerCase(), parts[2].toUpperCase(), parts[3].toUpperCase(), depth);
     }
 
     private Command parseDeposit(String raw, String[] parts) {
@@ -187,4 +374,78 @@ public class CommandParser {
             return null;
         }
     }
+
+    private List<BigDecimal> parseSizes(String value) {
+        int range = value.indexOf("..");
+        if (range < 0) {
+            List<BigDecimal> sizes = new ArrayList<>();
+            for (String part : value.split(",")) {
+                BigDecimal size = parsePositiveDecimal(part.trim(), value);
+                if (size == null) {
+                    return null;
+                }
+                sizes.add(size);
+            }
+            return sizes.isEmpty() || sizes.size() > MAX_SIZES ? null : sizes;
+        }
+        String upper = value.substring(range + 2);
+        int steps = DEFAULT_RANGE_STEPS;
+        int slash = upper.indexOf('/');
+        if (slash >= 0) {
+            try {
+                steps = Integer.parseInt(upper.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            upper = upper.substring(0, slash);
+        }
+        BigDecimal from = parsePositiveDecimal(value.substring(0, range), value);
+        BigDecimal to = parsePositiveDecimal(upper, value);
+        if (from == null || to == null || from.compareTo(to) >= 0 || steps < 2 || steps > MAX_SIZES) {
+            return null;
+        }
+        List<BigDecimal> sizes = new ArrayList<>(steps);
+        double ratio = to.doubleValue() / from.doubleValue();
+        sizes.add(from);
+        for (int i = 1; i < steps - 1; i++) {
+            BigDecimal size = BigDecimal.valueOf(from.doubleValue() * Math.pow(ratio, (double) i / (steps - 1)))
+                    .round(new MathContext(3, RoundingMode.HALF_UP));
+            sizes.add(size);
+        }
+        sizes.add(to);
+        return sizes;
+    }
+
+    private Duration parseDuration(String value) {
+        String lower = value.toLowerCase();
+        int split = 0;
+        while (split < lower.length() && Character.isDigit(lower.charAt(split))) {
+            split++;
+        }
+        if (split == 0) {
+            return null;
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(lower.substring(0, split));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return switch (lower.substring(split)) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "s", "" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            case "h" -> Duration.ofHours(amount);
+            default -> null;
+        };
+    }
+
+    private BigDecimal parseNonNegativeDecimal(String value) {
+        try {
+            BigDecimal amount = new BigDecimal(value);
+            return amount.signum() < 0 ? null : amount;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
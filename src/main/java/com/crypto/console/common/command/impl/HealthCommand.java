@@ -0,0 +1,24 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+public class HealthCommand implements Command {
+    private final String raw;
+
+    public HealthCommand(String raw) {
+        this.raw = raw;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.HEALTH;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
+
+
@@ -0,0 +1,22 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+public class JobsCommand implements Command {
+    private final String raw;
+
+    public JobsCommand(String raw) {
+        this.raw = raw;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.JOBS;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
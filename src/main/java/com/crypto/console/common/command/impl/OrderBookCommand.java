@@ -7,13 +7,23 @@ public class OrderBookCommand implements Command {
     public final String exchange;
     public final String base;
     public final String quote;
+    public final int depth;
     private final String raw;
 
     public OrderBookCommand(String raw, String exchange, String base, String quote) {
+        this(raw, exchange, base, quote, 10);
+    }
+
+    public OrderBookCommand(String raw, String exchange, String base, String quote, int depth) {
         this.raw = raw;
         this.exchange = exchange;
         this.base = base;
         this.quote = quote;
+        this.depth = depth;
+    }
+
+    public boolean allExchanges() {
+        return "all".equals(exchange);
     }
 
     @Override
@@ -0,0 +1,24 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+public class PingCommand implements Command {
+    public final int samples;
+    private final String raw;
+
+    public PingCommand(String raw, int samples) {
+        this.raw = raw;
+        this.samples = samples;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.PING;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
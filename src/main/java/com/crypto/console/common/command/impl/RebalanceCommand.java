@@ -0,0 +1,29 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class RebalanceCommand implements Command {
+    public final String asset;
+    public final Map<String, BigDecimal> targets;
+    private final String raw;
+
+    public RebalanceCommand(String raw, String asset, Map<String, BigDecimal> targets) {
+        this.raw = raw;
+        this.asset = asset;
+        this.targets = targets;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.REBALANCE;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
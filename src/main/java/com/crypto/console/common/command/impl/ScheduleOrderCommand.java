@@ -0,0 +1,60 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+import com.crypto.console.common.execution.ExecutionJob;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+public class ScheduleOrderCommand implements Command {
+    public final ExecutionJob.Strategy strategy;
+    public final String exchange;
+    public final boolean buy;
+    public final String baseAsset;
+    public final BigDecimal amount;
+    public final String quoteAsset;
+    public final Duration duration;
+    public final int slices;
+    public final BigDecimal participation;
+    public final Duration interval;
+    private final String raw;
+
+    private ScheduleOrderCommand(String raw, ExecutionJob.Strategy strategy, String exchange, boolean buy, String baseAsset,
+                                 BigDecimal amount, String quoteAsset, Duration duration, int slices,
+                                 BigDecimal participation, Duration interval) {
+        this.raw = raw;
+        this.strategy = strategy;
+        this.exchange = exchange;
+        this.buy = buy;
+        this.baseAsset = baseAsset;
+        this.amount = amount;
+        this.quoteAsset = quoteAsset;
+        this.duration = duration;
+        this.slices = slices;
+        this.participation = participation;
+        this.interval = interval;
+    }
+
+    public static ScheduleOrderCommand twap(String raw, String exchange, boolean buy, String baseAsset, BigDecimal amount,
+                                            String quoteAsset, Duration duration, int slices) {
+        return new ScheduleOrderCommand(raw, ExecutionJob.Strategy.TWAP, exchange, buy, baseAsset, amount, quoteAsset,
+                duration, slices, null, null);
+    }
+
+    public static ScheduleOrderCommand pov(String raw, String exchange, boolean buy, String baseAsset, BigDecimal amount,
+                                           String quoteAsset, BigDecimal participation, Duration interval) {
+        return new ScheduleOrderCommand(raw, ExecutionJob.Strategy.POV, exchange, buy, baseAsset, amount, quoteAsset,
+                null, 0, participation, interval);
+    }
+
+    @Override
+    public CommandType type() {
+        return strategy == ExecutionJob.Strategy.TWAP ? CommandType.TWAP : CommandType.POV;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
@@ -0,0 +1,30 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+import java.math.BigDecimal;
+
+public class SellBestCommand implements Command {
+    public final String baseAsset;
+    public final BigDecimal baseAmount;
+    public final String quoteAsset;
+    private final String raw;
+
+    public SellBestCommand(String raw, String baseAsset, BigDecimal baseAmount, String quoteAsset) {
+        this.raw = raw;
+        this.baseAsset = baseAsset;
+        this.baseAmount = baseAmount;
+        this.quoteAsset = quoteAsset;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.SELLBEST;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
@@ -0,0 +1,28 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+import java.time.Duration;
+
+public class StaleCommand implements Command {
+    public final Command command;
+    public final Duration maxStale;
+    private final String raw;
+
+    public StaleCommand(String raw, Command command, Duration maxStale) {
+        this.raw = raw;
+        this.command = command;
+        this.maxStale = maxStale;
+    }
+
+    @Override
+    public CommandType type() {
+        return command.type();
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
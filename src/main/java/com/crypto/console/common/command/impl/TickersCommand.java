@@ -0,0 +1,26 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+public class TickersCommand implements Command {
+    public final String base;
+    public final String quote;
+    private final String raw;
+
+    public TickersCommand(String raw, String base, String quote) {
+        this.raw = raw;
+        this.base = base;
+        this.quote = quote;
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.TICKERS;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
@@ -0,0 +1,32 @@
+package com.crypto.console.common.command.impl;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.CommandType;
+
+import java.math.BigDecimal;
+
+public class TriArbCommand implements Command {
+    public final String exchange;
+    public final BigDecimal notional;
+    private final String raw;
+
+    public TriArbCommand(String raw, String exchange, BigDecimal notional) {
+        this.raw = raw;
+        this.exchange = exchange;
+        this.notional = notional;
+    }
+
+    public boolean allExchanges() {
+        return "all".equals(exchange);
+    }
+
+    @Override
+    public CommandType type() {
+        return CommandType.TRIARB;
+    }
+
+    @Override
+    public String raw() {
+        return raw;
+    }
+}
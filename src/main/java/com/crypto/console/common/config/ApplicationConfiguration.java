@@ -1,24 +1,66 @@
 package com.crypto.console.common.config;
 
+import com.crypto.console.common.arbitrage.ArbitrageScanner;
 import com.crypto.console.common.command.impl.CommandParser;
 import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.execution.ExecutionScheduler;
+import com.crypto.console.common.marketdata.OrderBookRecorder;
+import com.crypto.console.common.marketdata.OrderBookSink;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
 import com.crypto.console.common.service.CommandExecutor;
 import com.crypto.console.common.service.DepositNetworkResolver;
+import com.crypto.console.common.service.ExchangeHealthMonitor;
+import com.crypto.console.common.service.ImpactCurveService;
+import com.crypto.console.common.service.LatencyProbe;
+import com.crypto.console.common.service.MetadataSnapshotService;
 import com.crypto.console.common.service.MoveService;
 import com.crypto.console.common.service.NetworkSelector;
+import com.crypto.console.common.service.RebalancePlanner;
+import com.crypto.console.common.service.RebalanceService;
+import com.crypto.console.common.service.TickerService;
+import com.crypto.console.common.service.UserDataService;
+import com.crypto.console.common.service.WatchlistPrefetcher;
+import com.crypto.console.common.service.WithdrawalFeeCache;
 import com.crypto.console.repl.ReplRunner;
+import jakarta.validation.Validator;
+import org.jline.terminal.Terminal;
+import org.jline.terminal.TerminalBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Configuration
 @EnableConfigurationProperties({AppProperties.class, SecretsProperties.class})
 public class ApplicationConfiguration {
     @Bean
-    public ExchangeRegistry exchangeRegistry(AppProperties appProperties, SecretsProperties secretsProperties) {
-        return ExchangeRegistry.create(appProperties, secretsProperties);
+    public OrderBookSink orderBookSink(AppProperties appProperties) {
+        AppProperties.RecorderConfig recorder = appProperties.getRecorder();
+        if (recorder == null || !recorder.isEnabled()) {
+            return OrderBookSink.NONE;
+        }
+        return new OrderBookRecorder(
+                Path.of(recorder.getDir()),
+                Math.toIntExact(recorder.getSegmentSizeMb() * 1024L * 1024L),
+                Duration.ofMinutes(recorder.getSegmentMinutes()).toMillis(),
+                recorder.getQueueCapacity(),
+                recorder.getMaxLevels()
+        );
+    }
+
+    @Bean
+    public ExchangeRegistry exchangeRegistry(AppProperties appProperties, SecretsProperties secretsProperties, OrderBookSink orderBookSink) {
+        return ExchangeRegistry.create(appProperties, secretsProperties, orderBookSink);
+    }
+
+    @Bean
+    public MetadataSnapshotService metadataSnapshotService(ExchangeRegistry registry, AppProperties appProperties) {
+        return new MetadataSnapshotService(registry, appProperties.getSnapshot());
     }
 
     @Bean
@@ -26,9 +68,22 @@ public class ApplicationConfiguration {
         return new DepositNetworkResolver(appProperties);
     }
 
+    @Bean(destroyMethod = "close")
+    public Terminal terminal() throws IOException {
+        try {
+            return TerminalBuilder.builder()
+                    .system(true)
+                    .jna(true)
+                    .jansi(true)
+                    .build();
+        } catch (IOException e) {
+            return TerminalBuilder.builder().dumb(true).build();
+        }
+    }
+
     @Bean
-    public NetworkSelector networkSelector() {
-        return new NetworkSelector();
+    public NetworkSelector networkSelector(Terminal terminal) {
+        return new NetworkSelector(terminal);
     }
 
     @Bean
@@ -37,8 +92,68 @@ public class ApplicationConfiguration {
     }
 
     @Bean
-    public CommandExecutor commandExecutor(ExchangeRegistry registry, MoveService moveService, DepositNetworkResolver depositNetworkResolver) {
-        return new CommandExecutor(registry, moveService, depositNetworkResolver);
+    public WithdrawalFeeCache withdrawalFeeCache(ExchangeRegistry registry, AppProperties appProperties) {
+        return new WithdrawalFeeCache(registry, appProperties);
+    }
+
+    @Bean
+    public RebalanceService rebalanceService(ExchangeRegistry registry, MoveService moveService, WithdrawalFeeCache withdrawalFeeCache) {
+        return new RebalanceService(registry, moveService, withdrawalFeeCache, new RebalancePlanner());
+    }
+
+    @Bean
+    public ImpactCurveService impactCurveService() {
+        return new ImpactCurveService();
+    }
+
+    @Bean
+    public ExchangeHealthMonitor exchangeHealthMonitor(ExchangeRegistry registry, AppProperties appProperties) {
+        return new ExchangeHealthMonitor(registry, appProperties.getHealth());
+    }
+
+    @Bean
+    public UserDataService userDataService(ExchangeRegistry registry, AppProperties appProperties) {
+        return new UserDataService(registry, appProperties.getUserData());
+    }
+
+    @Bean
+    public ConfigReloader configReloader(ConfigurableEnvironment environment, ExchangeRegistry registry, AppProperties appProperties,
+                                         UserDataService userDataService, Validator validator) {
+        return new ConfigReloader(environment, registry, appProperties, userDataService, validator);
+    }
+
+    @Bean
+    public ExecutionScheduler executionScheduler(ExchangeRegistry registry, AppProperties appProperties) {
+        return new ExecutionScheduler(registry, appProperties.getExecution());
+    }
+
+    @Bean
+    public ArbitrageScanner arbitrageScanner(AppProperties appProperties) {
+        return new ArbitrageScanner(appProperties.getArbitrage());
+    }
+
+    @Bean
+    public TickerService tickerService(ExchangeRegistry registry, ExchangeHealthMonitor exchangeHealthMonitor, AppProperties appProperties) {
+        return new TickerService(registry, exchangeHealthMonitor, appProperties.getTickers());
+    }
+
+    @Bean
+    public WatchlistPrefetcher watchlistPrefetcher(ExchangeRegistry registry, ExchangeHealthMonitor exchangeHealthMonitor, AppProperties appProperties) {
+        return new WatchlistPrefetcher(registry, exchangeHealthMonitor, appProperties.getWatchlist());
+    }
+
+    @Bean
+    public LatencyProbe latencyProbe(ExchangeRegistry registry, ExchangeHealthMonitor exchangeHealthMonitor) {
+        return new LatencyProbe(registry, exchangeHealthMonitor);
+    }
+
+    @Bean
+    public CommandExecutor commandExecutor(ExchangeRegistry registry, MoveService moveService, DepositNetworkResolver depositNetworkResolver,
+                                           RebalanceService rebalanceService, ImpactCurveService impactCurveService,
+                                           ExchangeHealthMonitor exchangeHealthMonitor, ExecutionScheduler executionScheduler,
+                                           ArbitrageScanner arbitrageScanner, TickerService tickerService, LatencyProbe latencyProbe) {
+        return new CommandExecutor(registry, moveService, depositNetworkResolver, rebalanceService, impactCurveService,
+                exchangeHealthMonitor, executionScheduler, arbitrageScanner, tickerService, latencyProbe);
     }
 
     @Bean
@@ -47,8 +162,8 @@ public class ApplicationConfiguration {
     }
 
     @Bean
-    public ReplRunner replRunner(CommandParser parser, CommandExecutor executor) {
-        return new ReplRunner(parser, executor);
+    public ReplRunner replRunner(Terminal terminal, CommandParser parser, CommandExecutor executor) {
+        return new ReplRunner(terminal, parser, executor);
     }
 }
 
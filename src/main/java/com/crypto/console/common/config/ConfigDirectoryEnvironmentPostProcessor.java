@@ -15,13 +15,14 @@ import org.springframework.core.io.Resource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Stream;
 
 @Slf4j
 public class ConfigDirectoryEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
-    private static final String CONFIG_DIR_PROP = "app.config.dir";
+    static final String CONFIG_DIR_PROP = "app.config.dir";
 
     @Override
     public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
@@ -36,16 +37,24 @@ public class ConfigDirectoryEnvironmentPostProcessor implements EnvironmentPostP
         }
 
         MutablePropertySources sources = environment.getPropertySources();
+        for (PropertySource<?> source : load(root)) {
+            sources.addLast(source);
+        }
+    }
+
+    static List<PropertySource<?>> load(Path root) {
         PropertySourceLoader loader = new YamlPropertySourceLoader();
+        List<PropertySource<?>> sources = new ArrayList<>();
 
         loadYamlIfExists(loader, sources, root.resolve("base.yml"));
         loadYamlIfExists(loader, sources, root.resolve("base.yaml"));
 
         loadAllFromDir(loader, sources, root.resolve("exchanges"));
         loadAllFromDir(loader, sources, root.resolve("secrets"));
+        return sources;
     }
 
-    private void loadAllFromDir(PropertySourceLoader loader, MutablePropertySources sources, Path dir) {
+    private static void loadAllFromDir(PropertySourceLoader loader, List<PropertySource<?>> sources, Path dir) {
         if (!Files.exists(dir) || !Files.isDirectory(dir)) {
             return;
         }
@@ -62,7 +71,7 @@ public class ConfigDirectoryEnvironmentPostProcessor implements EnvironmentPostP
         }
     }
 
-    private void loadYamlIfExists(PropertySourceLoader loader, MutablePropertySources sources, Path path) {
+    private static void loadYamlIfExists(PropertySourceLoader loader, List<PropertySource<?>> sources, Path path) {
         if (!Files.exists(path) || !Files.isRegularFile(path)) {
             return;
         }
@@ -70,7 +79,7 @@ public class ConfigDirectoryEnvironmentPostProcessor implements EnvironmentPostP
         try {
             List<PropertySource<?>> loaded = loader.load(path.toString(), resource);
             for (PropertySource<?> source : loaded) {
-                sources.addLast(source);
+                sources.add(source);
                 LOG.info("Loaded config: {}", path.toAbsolutePath());
             }
         } catch (IOException e) {
@@ -78,7 +87,7 @@ public class ConfigDirectoryEnvironmentPostProcessor implements EnvironmentPostP
         }
     }
 
-    private boolean isYaml(Path path) {
+    static boolean isYaml(Path path) {
         String name = path.getFileName().toString().toLowerCase();
         return name.endsWith(".yml") || name.endsWith(".yaml");
     }
@@ -0,0 +1,190 @@
+package com.crypto.console.common.config;
+
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.properties.SecretsProperties;
+import com.crypto.console.common.service.UserDataService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class ConfigReloader implements AutoCloseable {
+    private static final long DEBOUNCE_MILLIS = 500;
+
+    private final ConfigurableEnvironment environment;
+    private final ExchangeRegistry registry;
+    private final AppProperties appProperties;
+    private final UserDataService userDataService;
+    private final Validator validator;
+    private final Path root;
+    private final WatchService watcher;
+
+    public ConfigReloader(ConfigurableEnvironment environment, ExchangeRegistry registry, AppProperties appProperties,
+                          UserDataService userDataService, Validator validator) {
+        this.environment = environment;
+        this.registry = registry;
+        this.appProperties = appProperties;
+        this.userDataService = userDataService;
+        this.validator = validator;
+        String configDir = environment.getProperty(ConfigDirectoryEnvironmentPostProcessor.CONFIG_DIR_PROP);
+        boolean watch = environment.getProperty("app.config.watch", Boolean.class, true);
+        this.root = configDir == null || configDir.isBlank() ? null : Path.of(configDir);
+        this.watcher = watch && root != null && Files.isDirectory(root) ? register(root) : null;
+        if (watcher != null) {
+            Thread thread = new Thread(this::watch, "config-watch");
+            thread.setDaemon(true);
+            thread.start();
+            LOG.info("Watching config directory {}", root.toAbsolutePath());
+        }
+    }
+
+    private static WatchService register(Path root) {
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path dir : List.of(root, root.resolve("exchanges"), root.resolve("secrets"))) {
+                if (Files.isDirectory(dir)) {
+                    dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE);
+                }
+            }
+            return service;
+        } catch (IOException e) {
+            LOG.warn("Config hot reload disabled, cannot watch {}: {}", root.toAbsolutePath(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                boolean relevant = drain(key);
+                WatchKey next;
+                while ((next = watcher.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    relevant |= drain(next);
+                }
+                if (relevant) {
+                    reloadQuietly();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LOG.debug("Config watcher closed");
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            LOG.warn("Config reload failed, keeping current config: {}", e.getMessage());
+        }
+    }
+
+    private static boolean drain(WatchKey key) {
+        boolean relevant = key.pollEvents().stream()
+                .anyMatch(event -> event.context() instanceof Path path && ConfigDirectoryEnvironmentPostProcessor.isYaml(path));
+        key.reset();
+        return relevant;
+    }
+
+    public synchronized List<String> reload() {
+        if (root == null) {
+            return List.of();
+        }
+        List<PropertySource<?>> loaded;
+        AppProperties freshApp;
+        SecretsProperties freshSecrets;
+        try {
+            loaded = ConfigDirectoryEnvironmentPostProcessor.load(root);
+            MutablePropertySources sources = new MutablePropertySources();
+            environment.getPropertySources().stream()
+                    .filter(source -> !isConfigDirSource(source) && !"configurationProperties".equals(source.getName()))
+                    .forEach(sources::addLast);
+            loaded.forEach(sources::addLast);
+            Binder binder = new Binder(ConfigurationPropertySources.from(sources), new PropertySourcesPlaceholdersResolver(sources));
+            freshApp = binder.bind("app", Bindable.of(AppProperties.class)).orElseGet(AppProperties::new);
+            freshSecrets = binder.bind("secrets", Bindable.of(SecretsProperties.class)).orElseGet(SecretsProperties::new);
+        } catch (RuntimeException e) {
+            LOG.warn("Config reload rejected, keeping current config: {}", e.getMessage());
+            return List.of();
+        }
+        String violations = violations(freshApp, freshSecrets);
+        if (violations != null) {
+            LOG.warn("Config reload rejected, keeping current config: {}", violations);
+            return List.of();
+        }
+
+        List<String> rebuilt;
+        try {
+            rebuilt = registry.reload(freshApp, freshSecrets);
+        } catch (RuntimeException e) {
+            LOG.warn("Config reload rejected, keeping current config: {}", e.getMessage());
+            return List.of();
+        }
+        appProperties.setExchanges(freshApp.getExchanges());
+        appProperties.setNetworkPriority(freshApp.getNetworkPriority());
+        appProperties.setWithdrawalAddresses(freshApp.getWithdrawalAddresses());
+        appProperties.setWithdrawFeesFallback(freshApp.getWithdrawFeesFallback());
+        MutablePropertySources live = environment.getPropertySources();
+        live.stream().filter(this::isConfigDirSource).map(PropertySource::getName).toList().forEach(live::remove);
+        loaded.forEach(live::addLast);
+        if (userDataService != null) {
+            userDataService.restart(rebuilt);
+        }
+        LOG.info("Config reloaded from {}; rebuilt clients: {}", root.toAbsolutePath(), rebuilt.isEmpty() ? "none" : rebuilt);
+        return rebuilt;
+    }
+
+    private String violations(AppProperties app, SecretsProperties secrets) {
+        Set<ConstraintViolation<?>> found = new LinkedHashSet<>();
+        found.addAll(validator.validate(app));
+        found.addAll(validator.validate(secrets));
+        if (found.isEmpty()) {
+            return null;
+        }
+        return found.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private boolean isConfigDirSource(PropertySource<?> source) {
+        return source.getName().startsWith(root.toString());
+    }
+
+    @Override
+    public void close() {
+        if (watcher == null) {
+            return;
+        }
+        try {
+            watcher.close();
+        } catch (IOException e) {
+            LOG.debug("Failed to close config watcher: {}", e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.crypto.console.common.exchange;
 import com.crypto.console.common.model.*;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 public interface ExchangeClient {
     String name();
@@ -13,6 +14,10 @@ public interface ExchangeClient {
 
     OrderBook getOrderBook(String base, String quote, int depth);
 
+    default List<BookTicker> getBookTickers() {
+        return null;
+    }
+
     BuyInfoResult buyInfo(String base, String quote, BigDecimal quoteAmount);
 
     BuyInfoResult sellInfo(String base, String quote, BigDecimal quoteAmount);
@@ -21,6 +26,13 @@ public interface ExchangeClient {
 
     OrderResult marketSell(String base, String quote, BigDecimal baseAmount);
 
+    default void prepareOrder(String base, String quote) {
+    }
+
+    default OrderTemplate orderTemplate(String base, String quote) {
+        return null;
+    }
+
     WithdrawResult withdraw(String asset, BigDecimal amount, String network, String address, String memoOrNull);
 
     default String getWithdrawStatus(String asset) {
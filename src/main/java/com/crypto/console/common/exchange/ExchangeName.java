@@ -24,7 +24,8 @@ public enum ExchangeName {
 
     //stub
     EXSTUB1("exstub1", "EX1"),
-    EXSTUB2("exstub2", "EX2");
+    EXSTUB2("exstub2", "EX2"),
+    REPLAY("replay", "rpl");
 
     private final String id;
     private final String alias;
@@ -1,26 +1,49 @@
 package com.crypto.console.common.exchange.impl;
 
 import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.marketdata.OrderBookImpact;
+import com.crypto.console.common.marketdata.OrderBookSink;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.model.BuyInfoResult;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderResult;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.userdata.UserDataStore;
+import com.crypto.console.common.userdata.UserDataStream;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
 
 public abstract class BaseExchangeClient implements ExchangeClient {
     protected final String name;
     protected final String baseUrl;
+    protected final List<String> baseUrls;
+    protected final String streamUrl;
     protected final SecretsProperties.ExchangeSecrets secrets;
     protected final WebClient webClient;
+    private final SingleFlightFilter singleFlight;
+    private final MicroCacheFilter microCache;
+    private volatile OrderBookSink orderBookSink = OrderBookSink.NONE;
+    private volatile OrderTemplateCache orderTemplates = new OrderTemplateCache(new AppProperties.OrderConfig());
+    private volatile UserDataStore userData;
 
     protected BaseExchangeClient(String name, AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         this.name = name;
         this.baseUrl = cfg == null ? null : cfg.getBaseUrl();
+        this.baseUrls = cfg == null ? List.of() : cfg.resolveBaseUrls();
+        this.streamUrl = cfg == null ? null : cfg.getStreamUrl();
         this.secrets = secrets;
         if (StringUtils.isBlank(this.baseUrl)) {
             throw new IllegalStateException("Missing baseUrl for exchange: " + name);
@@ -28,10 +51,20 @@ public abstract class BaseExchangeClient implements ExchangeClient {
         ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
                 .build();
-        this.webClient = WebClient.builder()
+        this.singleFlight = cfg.isSingleFlight() ? new SingleFlightFilter(strategies) : null;
+        this.microCache = new MicroCacheFilter(strategies);
+        WebClient.Builder builder = WebClient.builder()
                 .baseUrl(this.baseUrl)
                 .exchangeStrategies(strategies)
-                .build();
+                .filter(new RequestLogFilter(name))
+                .filter(microCache);
+        if (singleFlight != null) {
+            builder.filter(singleFlight);
+        }
+        if (cfg.isHedge() && baseUrls.size() > 1) {
+            builder.filter(new HedgingFilter(baseUrls));
+        }
+        this.webClient = builder.build();
     }
 
     @Override
@@ -49,6 +82,85 @@ public abstract class BaseExchangeClient implements ExchangeClient {
         throw notImplemented("sell info from order book");
     }
 
+    public void setOrderBookSink(OrderBookSink orderBookSink) {
+        this.orderBookSink = orderBookSink == null ? OrderBookSink.NONE : orderBookSink;
+    }
+
+    public void setMarketDataCache(MarketDataCache cache) {
+        microCache.setCache(cache);
+    }
+
+    public void setOrderTemplates(OrderTemplateCache orderTemplates) {
+        this.orderTemplates = orderTemplates;
+    }
+
+    public OrderTemplateCache orderTemplates() {
+        return orderTemplates;
+    }
+
+    public void setUserData(UserDataStore userData) {
+        this.userData = userData;
+    }
+
+    public UserDataStream userDataStream() {
+        return null;
+    }
+
+    protected UserDataStore userData() {
+        return userData;
+    }
+
+    protected OrderUpdate awaitOrderUpdate(String orderId) {
+        UserDataStore store = userData;
+        if (store == null || orderId == null || !store.isConnected(name)) {
+            return null;
+        }
+        return store.awaitTerminal(name, orderId);
+    }
+
+    protected OrderResult confirmOrder(String orderId, String submittedMessage) {
+        OrderUpdate update = awaitOrderUpdate(orderId);
+        if (update == null) {
+            return new OrderResult(orderId, "SUBMITTED", submittedMessage);
+        }
+        return new OrderResult(orderId, update.status, "filledQty=" + update.executedQty);
+    }
+
+    public Map<String, String> accountMetadata() {
+        return Map.of();
+    }
+
+    public void restoreAccountMetadata(Map<String, String> metadata) {
+    }
+
+    public String credentialFingerprint() {
+        String apiKey = secrets == null ? null : secrets.getApiKey();
+        if (StringUtils.isBlank(apiKey)) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public long coalescedRequests() {
+        return singleFlight == null ? 0 : singleFlight.coalesced();
+    }
+
+    protected OrderBook publish(OrderBook book) {
+        orderBookSink.onOrderBook(name, book);
+        orderTemplates.observe(book);
+        return book;
+    }
+
+    protected BuyInfoResult walkAndPublish(String symbol, PriceLadder bids, PriceLadder asks, BigDecimal quoteAmount, boolean buy) {
+        publish(new OrderBook(symbol, bids.entries(), asks.entries()));
+        return OrderBookImpact.walk(symbol, buy ? asks : bids, quoteAmount, buy);
+    }
+
     protected ExchangeException notImplemented(String endpointNote) {
         return new ExchangeException("Not implemented yet: verify endpoint for " + name + " - " + endpointNote);
     }
@@ -0,0 +1,32 @@
+package com.crypto.console.common.exchange.impl;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+record BufferedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    static Mono<BufferedResponse> buffer(ClientResponse response) {
+        return DataBufferUtils.join(response.body((message, context) -> message.getBody()))
+                .map(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .map(bytes -> new BufferedResponse(response.statusCode(), response.headers().asHttpHeaders(), bytes));
+    }
+
+    ClientResponse toResponse(ExchangeStrategies strategies) {
+        return ClientResponse.create(status, strategies)
+                .headers(target -> target.addAll(headers))
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                .build();
+    }
+}
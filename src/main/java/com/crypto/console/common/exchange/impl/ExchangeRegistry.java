@@ -2,9 +2,11 @@ package com.crypto.console.common.exchange.impl;
 
 import com.crypto.console.common.exchange.ExchangeClient;
 import com.crypto.console.common.exchange.ExchangeName;
+import com.crypto.console.common.marketdata.OrderBookSink;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
+import com.crypto.console.common.userdata.UserDataStore;
 import com.crypto.console.exchanges.binance.BinanceClient;
 import com.crypto.console.exchanges.bingx.BingxClient;
 import com.crypto.console.exchanges.bitget.BitgetClient;
@@ -24,11 +26,18 @@ import com.crypto.console.exchanges.lbank.LBankClient;
 import com.crypto.console.exchanges.mexc.MexcClient;
 import com.crypto.console.exchanges.okx.OkxClient;
 import com.crypto.console.exchanges.poloniex.PoloniexClient;
+import com.crypto.console.exchanges.replay.ReplayClient;
 import com.crypto.console.exchanges.xt.XtClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import static com.crypto.console.common.exchange.ExchangeName.BINANCE;
 import static com.crypto.console.common.exchange.ExchangeName.BINGX;
@@ -49,24 +58,44 @@ import static com.crypto.console.common.exchange.ExchangeName.LBANK;
 import static com.crypto.console.common.exchange.ExchangeName.MEXC;
 import static com.crypto.console.common.exchange.ExchangeName.OKX;
 import static com.crypto.console.common.exchange.ExchangeName.POLONIEX;
+import static com.crypto.console.common.exchange.ExchangeName.REPLAY;
 import static com.crypto.console.common.exchange.ExchangeName.XT;
 
+@Slf4j
 public class ExchangeRegistry {
-    private final Map<ExchangeName, ExchangeClient> clients;
-    private final Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets;
+    private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private volatile Map<ExchangeName, ExchangeClient> clients;
+    private volatile Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets;
+    private volatile Map<String, AppProperties.ExchangeConfig> configs;
+    private final MarketDataCache cache;
+    private final UserDataStore userData;
+    private final OrderBookSink orderBookSink;
+    private final AppProperties.OrderConfig orders;
 
     private ExchangeRegistry(Map<ExchangeName, ExchangeClient> clients,
-                             Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets) {
+                             Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets,
+                             Map<String, AppProperties.ExchangeConfig> configs,
+                             MarketDataCache cache,
+                             UserDataStore userData,
+                             OrderBookSink orderBookSink,
+                             AppProperties.OrderConfig orders) {
         this.clients = clients;
         this.secrets = secrets;
+        this.configs = configs;
+        this.cache = cache;
+        this.userData = userData;
+        this.orderBookSink = orderBookSink;
+        this.orders = orders;
     }
 
     public static ExchangeRegistry create(AppProperties appProperties, SecretsProperties secretsProperties) {
+        return create(appProperties, secretsProperties, OrderBookSink.NONE);
+    }
+
+    public static ExchangeRegistry create(AppProperties appProperties, SecretsProperties secretsProperties, OrderBookSink orderBookSink) {
         Map<ExchangeName, ExchangeClient> map = new EnumMap<>(ExchangeName.class);
-        Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets = new EnumMap<>(ExchangeName.class);
-        if (secretsProperties != null && secretsProperties.getExchanges() != null) {
-            secretsProperties.getExchanges().forEach((key, value) -> secrets.put(ExchangeName.from(key), value));
-        }
+        Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets = secretsByExchange(secretsProperties);
 
         createClient(BINANCE,   appProperties, map, secrets);
         createClient(BINGX,     appProperties, map, secrets);
@@ -88,8 +117,117 @@ public class ExchangeRegistry {
         createClient(POLONIEX,  appProperties, map, secrets);
         createClient(EXSTUB1,   appProperties, map, secrets);
         createClient(EXSTUB2,   appProperties, map, secrets);
+        if (appProperties.getReplay() != null && appProperties.getReplay().isEnabled()
+                && appProperties.getExchanges().containsKey(REPLAY.id())) {
+            createClient(REPLAY, appProperties, map, secrets);
+        }
 
-        return new ExchangeRegistry(map, secrets);
+        MarketDataCache cache = appProperties.getCache() == null
+                ? MarketDataCache.DISABLED
+                : new MarketDataCache(appProperties.getCache());
+        UserDataStore userData = new UserDataStore(appProperties.getUserData() == null
+                ? new AppProperties.UserDataConfig()
+                : appProperties.getUserData());
+        ExchangeRegistry registry = new ExchangeRegistry(map, secrets, Map.copyOf(appProperties.getExchanges()), cache, userData,
+                orderBookSink, appProperties.getOrders());
+        map.values().forEach(client -> registry.wire(client, null));
+        return registry;
+    }
+
+    public synchronized List<String> reload(AppProperties appProperties, SecretsProperties secretsProperties) {
+        Map<ExchangeName, SecretsProperties.ExchangeSecrets> freshSecrets = secretsByExchange(secretsProperties);
+        Map<String, AppProperties.ExchangeConfig> freshConfigs = Map.copyOf(appProperties.getExchanges());
+        Map<ExchangeName, ExchangeClient> next = new EnumMap<>(clients);
+        List<String> rebuilt = new ArrayList<>();
+        Set<ExchangeName> exchanges = EnumSet.noneOf(ExchangeName.class);
+        exchanges.addAll(clients.keySet());
+        for (String key : freshConfigs.keySet()) {
+            ExchangeName added = addedExchange(key, freshConfigs, appProperties);
+            if (added != null) {
+                exchanges.add(added);
+            }
+        }
+        for (ExchangeName exchange : exchanges) {
+            AppProperties.ExchangeConfig cfg = freshConfigs.get(exchange.id());
+            if (cfg == null) {
+                LOG.warn("Keeping {} client: exchange config was removed", exchange.id());
+                continue;
+            }
+            boolean configChanged = !sameJson(configs.get(exchange.id()), cfg);
+            if (!configChanged && sameJson(secrets.get(exchange), freshSecrets.get(exchange))) {
+                continue;
+            }
+            ExchangeClient previous = clients.get(exchange);
+            Map<ExchangeName, ExchangeClient> created = new EnumMap<>(ExchangeName.class);
+            try {
+                createClient(exchange, appProperties, created, freshSecrets);
+            } catch (RuntimeException e) {
+                if (previous != null) {
+                    throw e;
+                }
+                LOG.warn("Not adding {}: {}. Adding this exchange needs a restart", exchange.id(), e.getMessage());
+                continue;
+            }
+            ExchangeClient client = created.get(exchange);
+            if (previous == null) {
+                LOG.info("Added {} client from new exchange config", exchange.id());
+            }
+            wire(client, configChanged ? null : previous);
+            next.put(exchange, client);
+            rebuilt.add(exchange.id());
+        }
+        this.secrets = freshSecrets;
+        this.configs = freshConfigs;
+        this.clients = next;
+        return rebuilt;
+    }
+
+    private ExchangeName addedExchange(String key, Map<String, AppProperties.ExchangeConfig> freshConfigs, AppProperties appProperties) {
+        ExchangeName exchange;
+        try {
+            exchange = ExchangeName.from(key);
+        } catch (ExchangeException e) {
+            if (!configs.containsKey(key)) {
+                LOG.warn("Ignoring exchange config {}: {}", key, e.getMessage());
+            }
+            return null;
+        }
+        if (clients.containsKey(exchange)) {
+            return null;
+        }
+        if (!freshConfigs.containsKey(exchange.id())) {
+            if (!configs.containsKey(key)) {
+                LOG.warn("Ignoring exchange config {}: expected it under key {}", key, exchange.id());
+            }
+            return null;
+        }
+        if (exchange == REPLAY && (appProperties.getReplay() == null || !appProperties.getReplay().isEnabled())) {
+            return null;
+        }
+        return exchange;
+    }
+
+    private void wire(ExchangeClient client, ExchangeClient previous) {
+        if (client instanceof BaseExchangeClient base) {
+            base.setOrderBookSink(orderBookSink);
+            base.setMarketDataCache(cache);
+            base.setOrderTemplates(previous instanceof BaseExchangeClient old
+                    ? old.orderTemplates()
+                    : new OrderTemplateCache(orders));
+            base.setUserData(userData);
+        }
+    }
+
+    private static Map<ExchangeName, SecretsProperties.ExchangeSecrets> secretsByExchange(SecretsProperties secretsProperties) {
+        Map<ExchangeName, SecretsProperties.ExchangeSecrets> secrets = new EnumMap<>(ExchangeName.class);
+        if (secretsProperties != null && secretsProperties.getExchanges() != null) {
+            secretsProperties.getExchanges().forEach((key, value) -> secrets.put(ExchangeName.from(key), value));
+        }
+        return secrets;
+    }
+
+    private static boolean sameJson(Object a, Object b) {
+        return Objects.equals(MAPPER.valueToTree(a), MAPPER.valueToTree(b));
     }
 
     public ExchangeClient getClient(String exchange) {
@@ -104,6 +242,14 @@ public class ExchangeRegistry {
         return secrets.containsKey(ExchangeName.from(exchange));
     }
 
+    public MarketDataCache cache() {
+        return cache;
+    }
+
+    public UserDataStore userData() {
+        return userData;
+    }
+
     public List<String> getAvailableExchanges() {
         return clients.keySet().stream()
                 .map(ExchangeName::id)
@@ -156,6 +302,8 @@ public class ExchangeRegistry {
                     map.put(exchange, new ExStub1Client(appProperties.getExchanges().get(exchange.id()), secrets.get(exchange)));
             case EXSTUB2 ->
                     map.put(exchange, new ExStub2Client(appProperties.getExchanges().get(exchange.id()), secrets.get(exchange)));
+            case REPLAY ->
+                    map.put(exchange, new ReplayClient(appProperties.getExchanges().get(exchange.id()), appProperties.getReplay(), secrets.get(exchange)));
         }
     }
 }
@@ -0,0 +1,188 @@
+package com.crypto.console.common.exchange.impl;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HedgingFilter implements ExchangeFilterFunction {
+    private static final int SAMPLES = 64;
+    private static final int MIN_SAMPLES = 10;
+    private static final long DEFAULT_HEDGE_DELAY_MILLIS = 250;
+    private static final long MIN_HEDGE_DELAY_MILLIS = 10;
+
+    private final List<Host> hosts;
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    public HedgingFilter(List<String> baseUrls) {
+        List<Host> list = new ArrayList<>(baseUrls.size());
+        for (String url : baseUrls) {
+            list.add(new Host(stripTrailingSlash(url)));
+        }
+        this.hosts = List.copyOf(list);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String url = request.url().toString();
+        Host primary = hosts.get(0);
+        if (!url.startsWith(primary.baseUrl)) {
+            return next.exchange(request);
+        }
+        if (hosts.size() < 2 || !SingleFlightFilter.isPublic(request)) {
+            return attempt(primary, primary, request, next)
+                    .onErrorResume(ErrorStatus.class, e -> Mono.just(e.response));
+        }
+        String suffix = url.substring(primary.baseUrl.length());
+        List<Host> ranked = ranked();
+        Host first = ranked.get(0);
+        Host second = ranked.get(1);
+        Sinks.One<Boolean> settled = Sinks.one();
+        Mono<ClientResponse> firstAttempt = attempt(first, primary, request, next, suffix)
+                .doOnTerminate(() -> settled.tryEmitValue(Boolean.TRUE));
+        Mono<ClientResponse> hedge = Mono.delay(Duration.ofMillis(first.hedgeDelayMillis()))
+                .takeUntilOther(settled.asMono())
+                .doOnNext(tick -> hedged.incrementAndGet())
+                .flatMap(tick -> attempt(second, primary, request, next, suffix))
+                .doOnNext(response -> hedgeWins.incrementAndGet());
+        return Mono.firstWithValue(firstAttempt, hedge)
+                .onErrorResume(NoSuchElementException.class, e -> {
+                    List<Throwable> causes = e.getCause() == null ? List.of(e) : Exceptions.unwrapMultiple(e.getCause());
+                    for (Throwable cause : causes) {
+                        if (cause instanceof ErrorStatus status) {
+                            return Mono.just(status.response);
+                        }
+                    }
+                    return Mono.error(causes.get(0));
+                });
+    }
+
+    public long hedged() {
+        return hedged.get();
+    }
+
+    public long hedgeWins() {
+        return hedgeWins.get();
+    }
+
+    List<String> ranking() {
+        return ranked().stream().map(host -> host.baseUrl).toList();
+    }
+
+    private List<Host> ranked() {
+        List<Host> ranked = new ArrayList<>(hosts);
+        ranked.sort(Comparator.comparingDouble(Host::expectedLatency));
+        return ranked;
+    }
+
+    private Mono<ClientResponse> attempt(Host host, Host primary, ClientRequest request, ExchangeFunction next) {
+        return attempt(host, primary, request, next, request.url().toString().substring(primary.baseUrl.length()));
+    }
+
+    private Mono<ClientResponse> attempt(Host host, Host primary, ClientRequest request, ExchangeFunction next, String suffix) {
+        ClientRequest routed = host == primary
+                ? request
+                : ClientRequest.from(request).url(URI.create(host.baseUrl + suffix)).build();
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return next.exchange(routed)
+                    .flatMap(response -> {
+                        if (!response.statusCode().isError()) {
+                            host.record((System.nanoTime() - started) / 1_000_000L);
+                            return Mono.just(response);
+                        }
+                        if (!response.statusCode().is5xxServerError()) {
+                            if (response.statusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                                host.recordFailure();
+                            }
+                            return Mono.just(response);
+                        }
+                        host.recordFailure();
+                        return response.bodyToMono(byte[].class)
+                                .defaultIfEmpty(new byte[0])
+                                .flatMap(body -> Mono.error(new ErrorStatus(response.mutate()
+                                        .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                                        .build())));
+                    })
+                    .doOnError(error -> {
+                        if (!(error instanceof ErrorStatus)) {
+                            host.recordFailure();
+                        }
+                    })
+                    .doOnCancel(() -> host.recordCancelled((System.nanoTime() - started) / 1_000_000L));
+        });
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static final class ErrorStatus extends RuntimeException {
+        private final transient ClientResponse response;
+
+        private ErrorStatus(ClientResponse response) {
+            super("HTTP " + response.statusCode().value(), null, false, false);
+            this.response = response;
+        }
+    }
+
+    private static final class Host {
+        private final String baseUrl;
+        private final long[] samples = new long[SAMPLES];
+        private int next;
+        private int count;
+        private double ewma = -1;
+
+        private Host(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % SAMPLES;
+            count = Math.min(count + 1, SAMPLES);
+            ewma = ewma < 0 ? millis : ewma + 0.2 * (millis - ewma);
+        }
+
+        synchronized void recordCancelled(long waitedMillis) {
+            if (waitedMillis > expectedLatency()) {
+                ewma = ewma < 0 ? waitedMillis : ewma + 0.2 * (waitedMillis - ewma);
+            }
+        }
+
+        synchronized void recordFailure() {
+            long penalty = Math.max(hedgeDelayMillis() * 2, DEFAULT_HEDGE_DELAY_MILLIS * 4);
+            ewma = ewma < 0 ? penalty : ewma + 0.2 * (penalty - ewma);
+        }
+
+        synchronized double expectedLatency() {
+            return ewma < 0 ? 0 : ewma;
+        }
+
+        synchronized long hedgeDelayMillis() {
+            if (count < MIN_SAMPLES) {
+                return DEFAULT_HEDGE_DELAY_MILLIS;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            long p95 = sorted[Math.min(count - 1, (int) Math.ceil(count * 0.95) - 1)];
+            return Math.max(MIN_HEDGE_DELAY_MILLIS, p95);
+        }
+    }
+}
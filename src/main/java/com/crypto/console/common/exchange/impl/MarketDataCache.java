@@ -0,0 +1,219 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.properties.AppProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class MarketDataCache {
+    public static final MarketDataCache DISABLED = new MarketDataCache(false, 1, Map.of());
+
+    private static final InheritableThreadLocal<Duration> ALLOWED_STALENESS = new InheritableThreadLocal<>();
+    private static final InheritableThreadLocal<AtomicLong> OLDEST_AGE = new InheritableThreadLocal<>();
+    private static final InheritableThreadLocal<Set<String>> REVALIDATED = new InheritableThreadLocal<>();
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<Endpoint, Duration> maxAge;
+    private final Map<String, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public MarketDataCache(AppProperties.CacheConfig cfg) {
+        this(cfg.isEnabled(), cfg.getMaxEntries(), toEndpointMap(cfg.getMaxAge()));
+    }
+
+    private MarketDataCache(boolean enabled, int maxEntries, Map<Endpoint, Duration> maxAge) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxAge = maxAge;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MarketDataCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static <T> T allowStale(Duration staleness, Supplier<T> call) {
+        Duration previous = ALLOWED_STALENESS.get();
+        ALLOWED_STALENESS.set(staleness);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                ALLOWED_STALENESS.remove();
+            } else {
+                ALLOWED_STALENESS.set(previous);
+            }
+        }
+    }
+
+    public static void revalidate(Runnable call) {
+        Set<String> previous = REVALIDATED.get();
+        REVALIDATED.set(ConcurrentHashMap.newKeySet());
+        try {
+            call.run();
+        } finally {
+            if (previous == null) {
+                REVALIDATED.remove();
+            } else {
+                REVALIDATED.set(previous);
+            }
+        }
+    }
+
+    public static <T> Observed<T> observe(Supplier<T> call) {
+        AtomicLong previous = OLDEST_AGE.get();
+        AtomicLong age = new AtomicLong(-1);
+        OLDEST_AGE.set(age);
+        try {
+            T value = call.get();
+            return new Observed<>(value, age.get());
+        } finally {
+            if (previous == null) {
+                OLDEST_AGE.remove();
+            } else {
+                OLDEST_AGE.set(previous);
+                previous.accumulateAndGet(age.get(), Math::max);
+            }
+        }
+    }
+
+    static void recordAge(long ageMillis) {
+        AtomicLong age = OLDEST_AGE.get();
+        if (age != null) {
+            age.accumulateAndGet(ageMillis, Math::max);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    Duration freshness(String path) {
+        Endpoint endpoint = Endpoint.classify(path);
+        if (!enabled || endpoint == null) {
+            return null;
+        }
+        Duration budget = maxAge.get(endpoint);
+        Duration stale = ALLOWED_STALENESS.get();
+        if (stale != null && (budget == null || stale.compareTo(budget) > 0)) {
+            budget = stale;
+        }
+        return budget == null || budget.isZero() || budget.isNegative() ? null : budget;
+    }
+
+    BufferedResponse get(String key, Duration budget) {
+        Set<String> revalidated = REVALIDATED.get();
+        if (revalidated != null && revalidated.add(key)) {
+            misses.incrementAndGet();
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        long ageMillis = (System.nanoTime() - entry.storedAtNanos) / 1_000_000L;
+        if (ageMillis > budget.toMillis()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        recordAge(ageMillis);
+        return entry.response;
+    }
+
+    synchronized void put(String key, BufferedResponse response) {
+        entries.put(key, new Entry(response, System.nanoTime()));
+    }
+
+    synchronized Map<String, Stored> export(Endpoint endpoint) {
+        long now = System.nanoTime();
+        Map<String, Stored> result = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> {
+            if (endpoint == Endpoint.classify(URI.create(key).getPath())) {
+                result.put(key, new Stored(entry.response, (now - entry.storedAtNanos) / 1_000_000L));
+            }
+        });
+        return result;
+    }
+
+    synchronized void restore(String key, BufferedResponse response, long ageMillis) {
+        if (enabled) {
+            entries.putIfAbsent(key, new Entry(response, System.nanoTime() - ageMillis * 1_000_000L));
+        }
+    }
+
+    Duration maxAge(Endpoint endpoint) {
+        return maxAge.get(endpoint);
+    }
+
+    private static Map<Endpoint, Duration> toEndpointMap(Map<String, Duration> configured) {
+        Map<Endpoint, Duration> result = new EnumMap<>(Endpoint.class);
+        if (configured != null) {
+            configured.forEach((name, age) -> result.put(Endpoint.valueOf(name.toUpperCase(Locale.ROOT)), age));
+        }
+        return result;
+    }
+
+    public record Observed<T>(T value, long ageMillis) {
+    }
+
+    record Stored(BufferedResponse response, long ageMillis) {
+    }
+
+    private record Entry(BufferedResponse response, long storedAtNanos) {
+    }
+
+    enum Endpoint {
+        DEPTH, TICKER, SYMBOLS;
+
+        static Endpoint classify(String path) {
+            if (path == null) {
+                return null;
+            }
+            String p = path.toLowerCase(Locale.ROOT);
+            if (p.contains("depth") || p.contains("orderbook") || p.contains("order_book")
+                    || p.contains("/books") || p.contains("level2")) {
+                return DEPTH;
+            }
+            if (p.contains("ticker") || p.contains("avgprice")) {
+                return TICKER;
+            }
+            if (p.contains("exchangeinfo") || p.contains("symbol") || p.contains("instruments")
+                    || p.contains("/markets") || p.contains("currency_pairs") || p.contains("accuracy")) {
+                return SYMBOLS;
+            }
+            return null;
+        }
+    }
+}
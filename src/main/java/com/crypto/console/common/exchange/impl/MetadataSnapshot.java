@@ -0,0 +1,283 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.model.OrderTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+public class MetadataSnapshot {
+    static final int MAGIC = 0x4D445331;
+    static final short VERSION = 1;
+
+    private static final byte RECORD_END = 0;
+    private static final byte RECORD_RESPONSE = 1;
+    private static final byte RECORD_TEMPLATE = 2;
+    private static final byte RECORD_ACCOUNT = 3;
+
+    private final ExchangeRegistry registry;
+    private final Path file;
+
+    public MetadataSnapshot(ExchangeRegistry registry, Path file) {
+        this.registry = registry;
+        this.file = file;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public Contents capture() {
+        List<Response> responses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        registry.cache().export(MarketDataCache.Endpoint.SYMBOLS).forEach((url, stored) -> {
+            String contentType = stored.response().headers().getFirst(HttpHeaders.CONTENT_TYPE);
+            responses.add(new Response(url, now - stored.ageMillis(), stored.response().status().value(),
+                    contentType, stored.response().body()));
+        });
+        List<Template> templates = new ArrayList<>();
+        List<Account> accounts = new ArrayList<>();
+        for (String exchange : registry.getAvailableExchanges()) {
+            if (!(registry.getClient(exchange) instanceof BaseExchangeClient client)) {
+                continue;
+            }
+            client.orderTemplates().templates().forEach((key, template) -> templates.add(new Template(exchange, key, template)));
+            String fingerprint = client.credentialFingerprint();
+            Map<String, String> metadata = client.accountMetadata();
+            if (fingerprint != null && !metadata.isEmpty()) {
+                accounts.add(new Account(exchange, fingerprint, metadata));
+            }
+        }
+        return new Contents(now, responses, templates, accounts);
+    }
+
+    public int save() throws IOException {
+        Contents contents = capture();
+        byte[] bytes = encode(contents);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(tmp, bytes);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return contents.size();
+    }
+
+    public Contents load() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public List<Template> restore(Contents contents, Duration maxAge) {
+        long now = System.currentTimeMillis();
+        if (maxAge != null && now - contents.createdMillis() > maxAge.toMillis()) {
+            LOG.info("Ignoring metadata snapshot {} older than {}", file.toAbsolutePath(), maxAge);
+            return List.of();
+        }
+        MarketDataCache cache = registry.cache();
+        Duration symbolsAge = cache.maxAge(MarketDataCache.Endpoint.SYMBOLS);
+        long cap = symbolsAge == null ? 0 : symbolsAge.toMillis() / 2;
+        for (Response response : contents.responses()) {
+            HttpHeaders headers = new HttpHeaders();
+            if (response.contentType() != null) {
+                headers.set(HttpHeaders.CONTENT_TYPE, response.contentType());
+            }
+            BufferedResponse buffered = new BufferedResponse(HttpStatusCode.valueOf(response.status()), headers, response.body());
+            cache.restore(response.url(), buffered, Math.min(Math.max(0, now - response.storedAtMillis()), cap));
+        }
+        long templateAge = Math.max(0, now - contents.createdMillis());
+        List<Template> restored = new ArrayList<>();
+        for (Template template : contents.templates()) {
+            if (client(template.exchange()) instanceof BaseExchangeClient client
+                    && client.orderTemplates().restore(template.key(), template.template(), templateAge)) {
+                restored.add(template);
+            }
+        }
+        for (Account account : contents.accounts()) {
+            if (client(account.exchange()) instanceof BaseExchangeClient client
+                    && Objects.equals(account.fingerprint(), client.credentialFingerprint())) {
+                client.restoreAccountMetadata(account.values());
+            }
+        }
+        return restored;
+    }
+
+    private ExchangeClient client(String exchange) {
+        return registry.getAvailableExchanges().contains(exchange) ? registry.getClient(exchange) : null;
+    }
+
+    static byte[] encode(Contents contents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(0);
+        out.writeLong(contents.createdMillis());
+        for (Response response : contents.responses()) {
+            out.writeByte(RECORD_RESPONSE);
+            writeString(out, response.url());
+            out.writeLong(response.storedAtMillis());
+            out.writeShort(response.status());
+            writeString(out, response.contentType());
+            out.writeInt(response.body().length);
+            out.write(response.body());
+        }
+        for (Template entry : contents.templates()) {
+            OrderTemplate template = entry.template();
+            out.writeByte(RECORD_TEMPLATE);
+            writeString(out, entry.exchange());
+            writeString(out, entry.key());
+            writeString(out, template.symbol);
+            writeString(out, template.rejection);
+            writeDecimal(out, template.minQty);
+            writeDecimal(out, template.maxQty);
+            writeDecimal(out, template.stepSize);
+            out.writeInt(template.basePrecision == null ? Integer.MIN_VALUE : template.basePrecision);
+            out.writeInt(template.quotePrecision == null ? Integer.MIN_VALUE : template.quotePrecision);
+            writeDecimal(out, template.minNotional);
+        }
+        for (Account account : contents.accounts()) {
+            out.writeByte(RECORD_ACCOUNT);
+            writeString(out, account.exchange());
+            writeString(out, account.fingerprint());
+            out.writeShort(account.values().size());
+            for (Map.Entry<String, String> value : account.values().entrySet()) {
+                writeString(out, value.getKey());
+                writeString(out, value.getValue());
+            }
+        }
+        out.writeByte(RECORD_END);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static Contents decode(ByteBuffer buffer) {
+        if (buffer.remaining() < 16 || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a metadata snapshot");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported metadata snapshot version: " + version);
+        }
+        buffer.getShort();
+        long createdMillis = buffer.getLong();
+        List<Response> responses = new ArrayList<>();
+        List<Template> templates = new ArrayList<>();
+        List<Account> accounts = new ArrayList<>();
+        while (true) {
+            byte type = buffer.get();
+            switch (type) {
+                case RECORD_END -> {
+                    return new Contents(createdMillis, responses, templates, accounts);
+                }
+                case RECORD_RESPONSE -> {
+                    String url = readString(buffer);
+                    long storedAt = buffer.getLong();
+                    int status = buffer.getShort();
+                    String contentType = readString(buffer);
+                    byte[] body = new byte[buffer.getInt()];
+                    buffer.get(body);
+                    responses.add(new Response(url, storedAt, status, contentType, body));
+                }
+                case RECORD_TEMPLATE -> {
+                    String exchange = readString(buffer);
+                    String key = readString(buffer);
+                    String symbol = readString(buffer);
+                    String rejection = readString(buffer);
+                    BigDecimal minQty = readDecimal(buffer);
+                    BigDecimal maxQty = readDecimal(buffer);
+                    BigDecimal stepSize = readDecimal(buffer);
+                    Integer basePrecision = readInteger(buffer);
+                    Integer quotePrecision = readInteger(buffer);
+                    BigDecimal minNotional = readDecimal(buffer);
+                    templates.add(new Template(exchange, key, new OrderTemplate(symbol, rejection, minQty, maxQty, stepSize,
+                            basePrecision, quotePrecision, minNotional)));
+                }
+                case RECORD_ACCOUNT -> {
+                    String exchange = readString(buffer);
+                    String fingerprint = readString(buffer);
+                    int count = buffer.getShort();
+                    Map<String, String> values = new LinkedHashMap<>();
+                    for (int i = 0; i < count; i++) {
+                        values.put(readString(buffer), readString(buffer));
+                    }
+                    accounts.add(new Account(exchange, fingerprint, values));
+                }
+                default -> throw new IllegalStateException("Corrupt metadata snapshot record type " + type);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        writeString(out, value == null ? null : value.toPlainString());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer buffer) {
+        String value = readString(buffer);
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        int value = buffer.getInt();
+        return value == Integer.MIN_VALUE ? null : value;
+    }
+
+    public record Contents(long createdMillis, List<Response> responses, List<Template> templates, List<Account> accounts) {
+        public int size() {
+            return responses.size() + templates.size() + accounts.size();
+        }
+    }
+
+    public record Response(String url, long storedAtMillis, int status, String contentType, byte[] body) {
+    }
+
+    public record Template(String exchange, String key, OrderTemplate template) {
+    }
+
+    public record Account(String exchange, String fingerprint, Map<String, String> values) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.crypto.console.common.exchange.impl;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public class MicroCacheFilter implements ExchangeFilterFunction {
+    private final ExchangeStrategies strategies;
+    private volatile MarketDataCache cache = MarketDataCache.DISABLED;
+
+    public MicroCacheFilter(ExchangeStrategies strategies) {
+        this.strategies = strategies;
+    }
+
+    public void setCache(MarketDataCache cache) {
+        this.cache = cache == null ? MarketDataCache.DISABLED : cache;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        MarketDataCache current = cache;
+        Duration budget = SingleFlightFilter.isPublic(request) ? current.freshness(request.url().getPath()) : null;
+        if (budget == null) {
+            return next.exchange(request);
+        }
+        String key = request.url().toString();
+        BufferedResponse cached = current.get(key, budget);
+        if (cached != null) {
+            return Mono.just(cached.toResponse(strategies));
+        }
+        MarketDataCache.recordAge(0);
+        return next.exchange(request)
+                .flatMap(BufferedResponse::buffer)
+                .doOnNext(response -> {
+                    if (response.status().is2xxSuccessful()) {
+                        current.put(key, response);
+                    }
+                })
+                .map(response -> response.toResponse(strategies));
+    }
+}
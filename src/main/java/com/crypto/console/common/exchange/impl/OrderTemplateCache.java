@@ -0,0 +1,137 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderTemplate;
+import com.crypto.console.common.properties.AppProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class OrderTemplateCache {
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+    private static final ThreadLocal<Boolean> REFRESH_AHEAD = new ThreadLocal<>();
+
+    private final long rulesTtlMillis;
+    private final long priceTtlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Timed<OrderTemplate>> templates = new ConcurrentHashMap<>();
+    private final Map<String, Timed<BigDecimal>> prices = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+
+    public OrderTemplateCache(AppProperties.OrderConfig cfg) {
+        this(cfg.getRulesTtl(), cfg.getReferencePriceTtl(), System::currentTimeMillis);
+    }
+
+    OrderTemplateCache(Duration rulesTtl, Duration priceTtl, LongSupplier clock) {
+        this.rulesTtlMillis = rulesTtl == null ? 0 : rulesTtl.toMillis();
+        this.priceTtlMillis = priceTtl == null ? 0 : priceTtl.toMillis();
+        this.clock = clock;
+    }
+
+    public static void refreshAhead(Runnable call) {
+        Boolean previous = REFRESH_AHEAD.get();
+        REFRESH_AHEAD.set(Boolean.TRUE);
+        try {
+            call.run();
+        } finally {
+            if (previous == null) {
+                REFRESH_AHEAD.remove();
+            }
+        }
+    }
+
+    public OrderTemplate template(String base, String quote, Supplier<OrderTemplate> loader) {
+        String key = key(base, quote);
+        long now = clock.getAsLong();
+        Timed<OrderTemplate> cached = templates.get(key);
+        if (cached != null && now - cached.loadedAt < ttl(rulesTtlMillis)) {
+            hits.incrementAndGet();
+            return cached.value;
+        }
+        loads.incrementAndGet();
+        OrderTemplate loaded = loader.get();
+        if (loaded != null) {
+            templates.put(key, new Timed<>(loaded, now));
+        }
+        return loaded;
+    }
+
+    public BigDecimal referencePrice(String symbol, Supplier<BigDecimal> loader) {
+        String key = symbol.toUpperCase(Locale.ROOT);
+        long now = clock.getAsLong();
+        Timed<BigDecimal> cached = prices.get(key);
+        if (cached != null && now - cached.loadedAt < ttl(priceTtlMillis)) {
+            hits.incrementAndGet();
+            return cached.value;
+        }
+        loads.incrementAndGet();
+        BigDecimal loaded = loader.get();
+        if (loaded != null && loaded.signum() > 0) {
+            prices.put(key, new Timed<>(loaded, now));
+        }
+        return loaded;
+    }
+
+    public void observe(OrderBook book) {
+        if (book == null || book.symbol == null || book.bids == null || book.asks == null
+                || book.bids.isEmpty() || book.asks.isEmpty()) {
+            return;
+        }
+        BigDecimal bid = book.bids.get(0).price;
+        BigDecimal ask = book.asks.get(0).price;
+        if (bid == null || ask == null || bid.signum() <= 0 || ask.signum() <= 0) {
+            return;
+        }
+        BigDecimal mid = bid.add(ask).divide(TWO, Math.max(bid.scale(), ask.scale()) + 1, RoundingMode.HALF_UP);
+        prices.put(book.symbol.toUpperCase(Locale.ROOT), new Timed<>(mid, clock.getAsLong()));
+    }
+
+    public void invalidate(String base, String quote) {
+        Timed<OrderTemplate> removed = templates.remove(key(base, quote));
+        if (removed != null && removed.value.symbol != null) {
+            prices.remove(removed.value.symbol.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public Map<String, OrderTemplate> templates() {
+        Map<String, OrderTemplate> result = new TreeMap<>();
+        templates.forEach((key, timed) -> result.put(key, timed.value));
+        return result;
+    }
+
+    public boolean restore(String key, OrderTemplate template, long ageMillis) {
+        if (ageMillis >= rulesTtlMillis) {
+            return false;
+        }
+        long age = Math.max(ageMillis, rulesTtlMillis / 2);
+        return templates.putIfAbsent(key.toUpperCase(Locale.ROOT), new Timed<>(template, clock.getAsLong() - age)) == null;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long loads() {
+        return loads.get();
+    }
+
+    private static long ttl(long ttlMillis) {
+        return REFRESH_AHEAD.get() == null ? ttlMillis : ttlMillis / 2;
+    }
+
+    private static String key(String base, String quote) {
+        return (base + "/" + quote).toUpperCase(Locale.ROOT);
+    }
+
+    private record Timed<T>(T value, long loadedAt) {
+    }
+}
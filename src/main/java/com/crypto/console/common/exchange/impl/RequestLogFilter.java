@@ -0,0 +1,40 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.util.LogSanitizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+public class RequestLogFilter implements ExchangeFilterFunction {
+    private static final Logger LOG = LoggerFactory.getLogger("com.crypto.console.http");
+
+    private final String exchange;
+
+    public RequestLogFilter(String exchange) {
+        this.exchange = exchange;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!LOG.isDebugEnabled()) {
+            return next.exchange(request);
+        }
+        long started = System.nanoTime();
+        return next.exchange(request)
+                .doOnNext(response -> LOG.debug("http exchange={} method={} path={} status={} elapsedMs={}",
+                        exchange, request.method(), LogSanitizer.lazy(pathAndQuery(request)),
+                        response.statusCode().value(), (System.nanoTime() - started) / 1_000_000L))
+                .doOnError(error -> LOG.debug("http exchange={} method={} path={} error=\"{}\" elapsedMs={}",
+                        exchange, request.method(), LogSanitizer.lazy(pathAndQuery(request)),
+                        LogSanitizer.lazy(error.getMessage()), (System.nanoTime() - started) / 1_000_000L));
+    }
+
+    private static String pathAndQuery(ClientRequest request) {
+        String query = request.url().getRawQuery();
+        return query == null ? request.url().getRawPath() : request.url().getRawPath() + "?" + query;
+    }
+}
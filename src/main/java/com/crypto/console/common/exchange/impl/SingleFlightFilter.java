@@ -0,0 +1,83 @@
+package com.crypto.console.common.exchange.impl;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SingleFlightFilter implements ExchangeFilterFunction {
+    private static final Set<String> PUBLIC_HEADERS = Set.of(
+            HttpHeaders.USER_AGENT.toLowerCase(),
+            HttpHeaders.ACCEPT.toLowerCase(),
+            HttpHeaders.ACCEPT_ENCODING.toLowerCase(),
+            HttpHeaders.CONTENT_TYPE.toLowerCase()
+    );
+
+    private final ExchangeStrategies strategies;
+    private final Map<String, Mono<BufferedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public SingleFlightFilter(ExchangeStrategies strategies) {
+        this.strategies = strategies;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!isPublic(request)) {
+            return next.exchange(request);
+        }
+        calls.incrementAndGet();
+        String key = request.method().name() + " " + request.url();
+        Mono<BufferedResponse> existing = inFlight.get(key);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing.map(response -> response.toResponse(strategies));
+        }
+        Mono<BufferedResponse> call = next.exchange(request)
+                .flatMap(BufferedResponse::buffer)
+                .doOnSuccess(response -> inFlight.remove(key))
+                .doOnError(error -> inFlight.remove(key))
+                .doOnCancel(() -> inFlight.remove(key))
+                .cache();
+        Mono<BufferedResponse> raced = inFlight.putIfAbsent(key, call);
+        if (raced != null) {
+            coalesced.incrementAndGet();
+            return raced.map(response -> response.toResponse(strategies));
+        }
+        return call.map(response -> response.toResponse(strategies));
+    }
+
+    public long calls() {
+        return calls.get();
+    }
+
+    public long coalesced() {
+        return coalesced.get();
+    }
+
+    static boolean isPublic(ClientRequest request) {
+        if (request.method() != HttpMethod.GET) {
+            return false;
+        }
+        String query = request.url().getRawQuery();
+        if (query != null && (query.contains("signature=") || query.contains("sign="))) {
+            return false;
+        }
+        for (String header : request.headers().keySet()) {
+            if (!PUBLIC_HEADERS.contains(header.toLowerCase())) {
+                return false;
+            }
+        }
+        return request.cookies().isEmpty();
+    }
+}
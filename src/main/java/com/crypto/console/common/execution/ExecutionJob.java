@@ -0,0 +1,122 @@
+package com.crypto.console.common.execution;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+
+public class ExecutionJob {
+    public final int id;
+    public final String exchange;
+    public final boolean buy;
+    public final String baseAsset;
+    public final String quoteAsset;
+    public final BigDecimal amount;
+    public final Strategy strategy;
+    public final int slices;
+    public final BigDecimal participation;
+    public final Duration interval;
+
+    private Status status = Status.RUNNING;
+    private BigDecimal executed = BigDecimal.ZERO;
+    private BigDecimal baseFilled = BigDecimal.ZERO;
+    private BigDecimal quoteFilled = BigDecimal.ZERO;
+    private int attempts;
+    private int orders;
+    private int failures;
+    private int skips;
+    private String note;
+    private TimerWheel.Timeout next;
+
+    public ExecutionJob(int id, String exchange, boolean buy, String baseAsset, String quoteAsset, BigDecimal amount,
+                        Strategy strategy, int slices, BigDecimal participation, Duration interval) {
+        this.id = id;
+        this.exchange = exchange;
+        this.buy = buy;
+        this.baseAsset = baseAsset;
+        this.quoteAsset = quoteAsset;
+        this.amount = amount;
+        this.strategy = strategy;
+        this.slices = slices;
+        this.participation = participation;
+        this.interval = interval;
+    }
+
+    public synchronized boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public synchronized BigDecimal remaining() {
+        return amount.subtract(executed).max(BigDecimal.ZERO);
+    }
+
+    public synchronized int attempts() {
+        return attempts;
+    }
+
+    synchronized int beginSlice() {
+        return attempts++;
+    }
+
+    synchronized void filled(BigDecimal slice, BigDecimal base, BigDecimal quote) {
+        executed = executed.add(slice);
+        baseFilled = baseFilled.add(base);
+        quoteFilled = quoteFilled.add(quote);
+        orders++;
+        failures = 0;
+        skips = 0;
+        note = null;
+    }
+
+    synchronized int skipped(String reason) {
+        note = reason;
+        return ++skips;
+    }
+
+    synchronized int failed(String error) {
+        note = error;
+        return ++failures;
+    }
+
+    synchronized void finish(Status result, String reason) {
+        if (status != Status.RUNNING) {
+            return;
+        }
+        status = result;
+        if (reason != null) {
+            note = reason;
+        }
+        if (next != null) {
+            next.cancel();
+        }
+    }
+
+    synchronized boolean scheduled(TimerWheel.Timeout timeout) {
+        if (status != Status.RUNNING) {
+            timeout.cancel();
+            return false;
+        }
+        next = timeout;
+        return true;
+    }
+
+    public synchronized Progress progress() {
+        BigDecimal averagePrice = baseFilled.signum() == 0 ? null : quoteFilled.divide(baseFilled, MathContext.DECIMAL64);
+        return new Progress(status, executed, baseFilled, quoteFilled, averagePrice, orders, attempts, note);
+    }
+
+    public enum Strategy {
+        TWAP, POV
+    }
+
+    public enum Status {
+        RUNNING, DONE, EXPIRED, CANCELLED, FAILED;
+
+        public String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    public record Progress(Status status, BigDecimal executed, BigDecimal baseFilled, BigDecimal quoteFilled,
+                           BigDecimal averagePrice, int orders, int attempts, String note) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.crypto.console.common.execution;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import com.crypto.console.common.model.OrderResult;
+import com.crypto.console.common.model.OrderTemplate;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.util.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ExecutionScheduler implements AutoCloseable {
+    private static final MathContext MC = MathContext.DECIMAL64;
+    private static final BigDecimal BPS = BigDecimal.valueOf(10_000);
+
+    private final ExchangeRegistry registry;
+    private final AppProperties.ExecutionConfig cfg;
+    private final TimerWheel wheel;
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Map<Integer, ExecutionJob> jobs = new ConcurrentSkipListMap<>();
+
+    public ExecutionScheduler(ExchangeRegistry registry, AppProperties.ExecutionConfig cfg) {
+        this(registry, cfg, new TimerWheel(cfg.getTickMillis(), cfg.getWheelSize()));
+    }
+
+    ExecutionScheduler(ExchangeRegistry registry, AppProperties.ExecutionConfig cfg, TimerWheel wheel) {
+        this.registry = registry;
+        this.cfg = cfg;
+        this.wheel = wheel;
+    }
+
+    public ExecutionJob twap(String exchange, boolean buy, String baseAsset, String quoteAsset, BigDecimal amount,
+                             Duration duration, int slices) {
+        Duration interval = duration.dividedBy(slices);
+        return submit(new ExecutionJob(ids.incrementAndGet(), exchange, buy, baseAsset, quoteAsset, amount,
+                ExecutionJob.Strategy.TWAP, slices, null, interval));
+    }
+
+    public ExecutionJob pov(String exchange, boolean buy, String baseAsset, String quoteAsset, BigDecimal amount,
+                            BigDecimal participation, Duration interval) {
+        return submit(new ExecutionJob(ids.incrementAndGet(), exchange, buy, baseAsset, quoteAsset, amount,
+                ExecutionJob.Strategy.POV, 0, participation, interval == null ? cfg.getPovInterval() : interval));
+    }
+
+    public List<ExecutionJob> jobs() {
+        return List.copyOf(jobs.values());
+    }
+
+    public ExecutionJob cancel(int id) {
+        ExecutionJob job = jobs.get(id);
+        if (job == null) {
+            throw new ExchangeException("No execution job with id " + id);
+        }
+        job.finish(ExecutionJob.Status.CANCELLED, "cancelled by user");
+        return job;
+    }
+
+    private ExecutionJob submit(ExecutionJob job) {
+        jobs.put(job.id, job);
+        LOG.info("Execution job #{} started: {} {} {} {}/{} on {}", job.id, job.strategy, job.buy ? "BUY" : "SELL",
+                job.amount, job.baseAsset, job.quoteAsset, job.exchange);
+        schedule(job, 0);
+        return job;
+    }
+
+    private void schedule(ExecutionJob job, long delayMillis) {
+        job.scheduled(wheel.schedule(() -> runSlice(job), delayMillis));
+    }
+
+    void runSlice(ExecutionJob job) {
+        if (!job.isRunning()) {
+            return;
+        }
+        int attempt = job.beginSlice();
+        try {
+            slice(job, attempt);
+        } catch (RuntimeException e) {
+            int failures = job.failed(e.getMessage());
+            LOG.warn("Execution job #{} slice {} failed: {}", job.id, attempt + 1, e.getMessage());
+            if (failures >= cfg.getMaxFailures()) {
+                job.finish(ExecutionJob.Status.FAILED, e.getMessage());
+            }
+        }
+        if (job.isRunning()) {
+            schedule(job, job.interval.toMillis());
+        } else {
+            LOG.info("Execution job #{} {}", job.id, job.progress().status().label());
+        }
+    }
+
+    private void slice(ExecutionJob job, int attempt) {
+        BigDecimal remaining = job.remaining();
+        if (job.strategy == ExecutionJob.Strategy.TWAP && attempt >= job.slices * 2) {
+            expire(job, remaining);
+            return;
+        }
+        ExchangeClient client = registry.getClient(job.exchange);
+        OrderBook book = client.getOrderBook(job.baseAsset, job.quoteAsset, cfg.getDepthLevels());
+        List<OrderBookEntry> levels = job.buy ? book.asks : book.bids;
+        if (levels == null || levels.isEmpty()) {
+            skip(job, remaining, "empty order book");
+            return;
+        }
+        BigDecimal best = levels.get(0).price;
+        BigDecimal capacity = capacity(job.buy, levels, cfg.getMaxSlippageBps());
+        BigDecimal target = job.strategy == ExecutionJob.Strategy.TWAP
+                ? remaining.divide(BigDecimal.valueOf(Math.max(1, job.slices - attempt)), MC)
+                : capacity.multiply(job.participation);
+        BigDecimal size = target.min(capacity).min(remaining);
+
+        OrderTemplate template = client.orderTemplate(job.baseAsset, job.quoteAsset);
+        BigDecimal minNotional = template == null ? null : template.minNotional;
+        if (minNotional != null) {
+            if (notional(job.buy, remaining, best).compareTo(minNotional) < 0) {
+                job.finish(ExecutionJob.Status.DONE, "remainder below minimum order size");
+                return;
+            }
+            if (notional(job.buy, size, best).compareTo(minNotional) < 0) {
+                BigDecimal allowed = remaining.min(capacity);
+                if (notional(job.buy, allowed, best).compareTo(minNotional) < 0) {
+                    skip(job, remaining, "not enough depth within " + cfg.getMaxSlippageBps() + " bps");
+                    return;
+                }
+                size = job.buy ? minNotional : minNotional.divide(best, MC).min(allowed);
+            }
+        }
+        size = size.setScale(8, RoundingMode.DOWN);
+        if (size.signum() <= 0) {
+            skip(job, remaining, "not enough depth within " + cfg.getMaxSlippageBps() + " bps");
+            return;
+        }
+
+        String side = job.buy ? "BUY" : "SELL";
+        AuditLog.orderSubmitted(client.name(), side, job.baseAsset, job.quoteAsset, size);
+        OrderResult result;
+        try {
+            result = job.buy
+                    ? client.marketBuy(job.baseAsset, job.quoteAsset, size)
+                    : client.marketSell(job.baseAsset, job.quoteAsset, size);
+        } catch (RuntimeException e) {
+            AuditLog.failed("order", client.name(), e.getMessage());
+            throw e;
+        }
+        AuditLog.orderResult(client.name(), side, job.baseAsset, job.quoteAsset, result.orderId, result.status);
+
+        OrderUpdate update = result.orderId == null ? null : registry.userData().order(job.exchange, result.orderId);
+        if (update != null && update.executedQty != null && update.executedQty.signum() > 0 && update.executedQuote != null) {
+            job.filled(size, update.executedQty, update.executedQuote);
+        } else {
+            BigDecimal[] estimate = estimate(job.buy, levels, size);
+            job.filled(size, estimate[0], estimate[1]);
+        }
+        if (job.remaining().signum() <= 0) {
+            job.finish(ExecutionJob.Status.DONE, null);
+        }
+    }
+
+    private void skip(ExecutionJob job, BigDecimal remaining, String reason) {
+        int skips = job.skipped(reason);
+        if (job.strategy == ExecutionJob.Strategy.POV && skips >= cfg.getMaxPovSkips()) {
+            expire(job, remaining);
+        }
+    }
+
+    private static void expire(ExecutionJob job, BigDecimal remaining) {
+        job.finish(ExecutionJob.Status.EXPIRED, "book too thin to finish, " + remaining.stripTrailingZeros().toPlainString() + " left");
+    }
+
+    static BigDecimal capacity(boolean buy, List<OrderBookEntry> levels, int maxSlippageBps) {
+        BigDecimal best = levels.get(0).price;
+        BigDecimal band = best.multiply(BigDecimal.valueOf(maxSlippageBps)).divide(BPS, MC);
+        BigDecimal limit = buy ? best.add(band) : best.subtract(band);
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderBookEntry level : levels) {
+            if (buy ? level.price.compareTo(limit) > 0 : level.price.compareTo(limit) < 0) {
+                break;
+            }
+            total = total.add(buy ? level.price.multiply(level.quantity) : level.quantity);
+        }
+        return total;
+    }
+
+    private static BigDecimal notional(boolean buy, BigDecimal size, BigDecimal price) {
+        return buy ? size : size.multiply(price);
+    }
+
+    private static BigDecimal[] estimate(boolean buy, List<OrderBookEntry> levels, BigDecimal size) {
+        BigDecimal remaining = size;
+        BigDecimal base = BigDecimal.ZERO;
+        BigDecimal quote = BigDecimal.ZERO;
+        for (OrderBookEntry level : levels) {
+            if (remaining.signum() <= 0) {
+                break;
+            }
+            BigDecimal take = remaining.min(buy ? level.price.multiply(level.quantity) : level.quantity);
+            base = base.add(buy ? take.divide(level.price, MC) : take);
+            quote = quote.add(buy ? take : take.multiply(level.price));
+            remaining = remaining.subtract(take);
+        }
+        return new BigDecimal[]{base, quote};
+    }
+
+    @Override
+    public void close() {
+        for (ExecutionJob job : jobs.values()) {
+            job.finish(ExecutionJob.Status.CANCELLED, "shutdown");
+        }
+        wheel.close();
+    }
+}
@@ -0,0 +1,138 @@
+package com.crypto.console.common.execution;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class TimerWheel implements AutoCloseable {
+    private final long tickMillis;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] buckets;
+    private final LongSupplier clock;
+    private final Executor executor;
+    private final long startedAt;
+    private final Thread worker;
+    private long tick;
+    private int pending;
+    private volatile boolean closed;
+
+    public TimerWheel(long tickMillis, int wheelSize) {
+        this(tickMillis, wheelSize, System::currentTimeMillis, task -> Thread.ofVirtual().name("timer-task").start(task), true);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimerWheel(long tickMillis, int wheelSize, LongSupplier clock, Executor executor, boolean startWorker) {
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.mask = size - 1;
+        this.buckets = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.clock = clock;
+        this.executor = executor;
+        this.startedAt = clock.getAsLong();
+        if (startWorker) {
+            this.worker = new Thread(this::run, "timer-wheel");
+            worker.setDaemon(true);
+            worker.start();
+        } else {
+            this.worker = null;
+        }
+    }
+
+    public Timeout schedule(Runnable task, long delayMillis) {
+        if (closed) {
+            throw new IllegalStateException("Timer wheel is closed");
+        }
+        long elapsed = clock.getAsLong() - startedAt + Math.max(0, delayMillis);
+        synchronized (this) {
+            long deadline = Math.max(tick, (elapsed + tickMillis - 1) / tickMillis);
+            Timeout timeout = new Timeout(task, deadline);
+            buckets[(int) (deadline & mask)].add(timeout);
+            pending++;
+            return timeout;
+        }
+    }
+
+    public synchronized int pending() {
+        return pending;
+    }
+
+    void advance() {
+        long now = (clock.getAsLong() - startedAt) / tickMillis;
+        List<Timeout> expired = new ArrayList<>();
+        synchronized (this) {
+            while (tick <= now) {
+                Iterator<Timeout> it = buckets[(int) (tick & mask)].iterator();
+                while (it.hasNext()) {
+                    Timeout timeout = it.next();
+                    if (timeout.cancelled) {
+                        it.remove();
+                        pending--;
+                    } else if (timeout.deadline <= tick) {
+                        it.remove();
+                        pending--;
+                        expired.add(timeout);
+                    }
+                }
+                tick++;
+            }
+        }
+        for (Timeout timeout : expired) {
+            try {
+                executor.execute(timeout.task);
+            } catch (RuntimeException e) {
+                LOG.warn("Timer task could not be started: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void run() {
+        while (!closed) {
+            advance();
+            long next;
+            synchronized (this) {
+                next = startedAt + tick * tickMillis;
+            }
+            long wait = next - clock.getAsLong();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait * 1_000_000L);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    public static final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
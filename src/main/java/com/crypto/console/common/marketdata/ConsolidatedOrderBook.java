@@ -0,0 +1,104 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+public class ConsolidatedOrderBook {
+    private final Side bids = new Side(Comparator.reverseOrder());
+    private final Side asks = new Side(Comparator.naturalOrder());
+    private final Map<String, Long> updatedAt = new HashMap<>();
+
+    public synchronized void update(String exchange, OrderBook book) {
+        bids.replace(exchange, book == null ? null : book.bids);
+        asks.replace(exchange, book == null ? null : book.asks);
+        updatedAt.put(exchange, System.currentTimeMillis());
+    }
+
+    public synchronized void remove(String exchange) {
+        bids.replace(exchange, null);
+        asks.replace(exchange, null);
+        updatedAt.remove(exchange);
+    }
+
+    public synchronized Set<String> venues() {
+        return Set.copyOf(updatedAt.keySet());
+    }
+
+    public synchronized List<Level> bids(int depth) {
+        return bids.top(depth);
+    }
+
+    public synchronized List<Level> asks(int depth) {
+        return asks.top(depth);
+    }
+
+    public synchronized Level bestBid() {
+        List<Level> top = bids.top(1);
+        return top.isEmpty() ? null : top.get(0);
+    }
+
+    public synchronized Level bestAsk() {
+        List<Level> top = asks.top(1);
+        return top.isEmpty() ? null : top.get(0);
+    }
+
+    public record Level(BigDecimal price, BigDecimal quantity, String exchange) {
+    }
+
+    private static final class Side {
+        private final NavigableMap<BigDecimal, Map<String, BigDecimal>> levels;
+        private final Map<String, List<OrderBookEntry>> byVenue = new HashMap<>();
+
+        private Side(Comparator<BigDecimal> order) {
+            this.levels = new TreeMap<>(order);
+        }
+
+        private void replace(String exchange, List<OrderBookEntry> entries) {
+            List<OrderBookEntry> previous = byVenue.remove(exchange);
+            if (previous != null) {
+                for (OrderBookEntry entry : previous) {
+                    Map<String, BigDecimal> venues = levels.get(entry.price);
+                    if (venues != null && venues.remove(exchange) != null && venues.isEmpty()) {
+                        levels.remove(entry.price);
+                    }
+                }
+            }
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+            List<OrderBookEntry> kept = new ArrayList<>(entries.size());
+            for (OrderBookEntry entry : entries) {
+                if (entry.price == null || entry.quantity == null || entry.price.signum() <= 0 || entry.quantity.signum() <= 0) {
+                    continue;
+                }
+                levels.computeIfAbsent(entry.price, price -> new TreeMap<>())
+                        .merge(exchange, entry.quantity, BigDecimal::add);
+                kept.add(entry);
+            }
+            byVenue.put(exchange, kept);
+        }
+
+        private List<Level> top(int depth) {
+            List<Level> result = new ArrayList<>(Math.max(0, depth));
+            for (Map.Entry<BigDecimal, Map<String, BigDecimal>> level : levels.entrySet()) {
+                for (Map.Entry<String, BigDecimal> venue : level.getValue().entrySet()) {
+                    if (result.size() >= depth) {
+                        return result;
+                    }
+                    result.add(new Level(level.getKey(), venue.getValue(), venue.getKey()));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.crypto.console.common.marketdata;
+
+import java.math.BigDecimal;
+
+public final class FixedPoint {
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POW10 = new long[MAX_SCALE + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private FixedPoint() {
+    }
+
+    public static int fractionDigits(CharSequence text) {
+        int length = text.length();
+        int dot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                dot = i;
+            } else if (c == 'e' || c == 'E') {
+                return -1;
+            }
+        }
+        if (dot < 0) {
+            return 0;
+        }
+        int end = length;
+        while (end > dot + 1 && text.charAt(end - 1) == '0') {
+            end--;
+        }
+        return end - dot - 1;
+    }
+
+    public static long parse(CharSequence text, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new ArithmeticException("Unsupported fixed-point scale " + scale);
+        }
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+        if (i == length) {
+            throw new NumberFormatException("Empty number: " + text);
+        }
+        long value = 0;
+        int fraction = -1;
+        boolean digits = false;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                if (fraction >= 0) {
+                    throw new NumberFormatException("Invalid number: " + text);
+                }
+                fraction = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid number: " + text);
+            }
+            digits = true;
+            if (fraction >= 0) {
+                if (fraction == scale) {
+                    if (c != '0') {
+                        throw new ArithmeticException("More than " + scale + " fraction digits: " + text);
+                    }
+                    continue;
+                }
+                fraction++;
+            }
+            value = Math.addExact(Math.multiplyExact(value, 10), c - '0');
+        }
+        if (!digits) {
+            throw new NumberFormatException("Invalid number: " + text);
+        }
+        value = Math.multiplyExact(value, POW10[scale - Math.max(fraction, 0)]);
+        return negative ? -value : value;
+    }
+
+    public static long of(BigDecimal value, int scale) {
+        return value.setScale(scale).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long unscaled, int scale) {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    public static int scaleOf(BigDecimal value) {
+        return Math.max(0, value.stripTrailingZeros().scale());
+    }
+
+    public static long pow10(int exponent) {
+        return POW10[exponent];
+    }
+}
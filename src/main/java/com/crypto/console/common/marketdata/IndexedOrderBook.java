@@ -0,0 +1,313 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class IndexedOrderBook {
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    public final String symbol;
+    private final Side bids;
+    private final Side asks;
+
+    private IndexedOrderBook(String symbol, Side bids, Side asks) {
+        this.symbol = symbol;
+        this.bids = bids;
+        this.asks = asks;
+    }
+
+    public static IndexedOrderBook of(OrderBook book) {
+        return of(book.symbol, PriceLadder.of(book.bids), PriceLadder.of(book.asks));
+    }
+
+    public static IndexedOrderBook of(String symbol, PriceLadder bids, PriceLadder asks) {
+        return new IndexedOrderBook(symbol, Side.of(bids, false), Side.of(asks, true));
+    }
+
+    public int bidLevels() {
+        return bids.size;
+    }
+
+    public int askLevels() {
+        return asks.size;
+    }
+
+    public BigDecimal bestBid() {
+        return bids.size == 0 ? null : bids.price(0);
+    }
+
+    public BigDecimal bestAsk() {
+        return asks.size == 0 ? null : asks.price(0);
+    }
+
+    public Fill buyForQuote(BigDecimal quoteAmount) {
+        return forQuote(asks, quoteAmount);
+    }
+
+    public Fill sellForQuote(BigDecimal quoteAmount) {
+        return forQuote(bids, quoteAmount);
+    }
+
+    public Fill buyForBase(BigDecimal baseAmount) {
+        return forBase(asks, baseAmount);
+    }
+
+    public Fill sellForBase(BigDecimal baseAmount) {
+        return forBase(bids, baseAmount);
+    }
+
+    public Fill maxBuyWithinSlippage(BigDecimal slippagePct) {
+        return withinSlippage(asks, slippagePct);
+    }
+
+    public Fill maxSellWithinSlippage(BigDecimal slippagePct) {
+        return withinSlippage(bids, slippagePct);
+    }
+
+    private Fill forQuote(Side side, BigDecimal quoteAmount) {
+        if (quoteAmount == null || quoteAmount.signum() <= 0) {
+            throw new ExchangeException("Quote amount must be positive");
+        }
+        requireLiquidity(side);
+        int k = side.firstQuoteAtLeast(quoteAmount);
+        if (k == side.size) {
+            return fill(side.cumBase(k - 1), side.cumQuote(k - 1), side.price(k - 1), k, false);
+        }
+        BigDecimal baseBefore = k == 0 ? BigDecimal.ZERO : side.cumBase(k - 1);
+        BigDecimal quoteBefore = k == 0 ? BigDecimal.ZERO : side.cumQuote(k - 1);
+        BigDecimal price = side.price(k);
+        BigDecimal partial = quoteAmount.subtract(quoteBefore).divide(price, 18, RoundingMode.DOWN);
+        if (partial.signum() <= 0) {
+            if (k == 0) {
+                throw new ExchangeException("No " + side.name() + " liquidity available for " + symbol);
+            }
+            return fill(baseBefore, quoteBefore, side.price(k - 1), k, true);
+        }
+        return fill(baseBefore.add(partial), quoteBefore.add(partial.multiply(price)), price, k + 1, true);
+    }
+
+    private Fill forBase(Side side, BigDecimal baseAmount) {
+        if (baseAmount == null || baseAmount.signum() <= 0) {
+            throw new ExchangeException("Base amount must be positive");
+        }
+        requireLiquidity(side);
+        int k = side.firstBaseAtLeast(baseAmount);
+        if (k == side.size) {
+            return fill(side.cumBase(k - 1), side.cumQuote(k - 1), side.price(k - 1), k, false);
+        }
+        BigDecimal baseBefore = k == 0 ? BigDecimal.ZERO : side.cumBase(k - 1);
+        BigDecimal quoteBefore = k == 0 ? BigDecimal.ZERO : side.cumQuote(k - 1);
+        BigDecimal price = side.price(k);
+        BigDecimal partial = baseAmount.subtract(baseBefore);
+        return fill(baseAmount, quoteBefore.add(partial.multiply(price)), price, k + 1, true);
+    }
+
+    private Fill withinSlippage(Side side, BigDecimal slippagePct) {
+        if (slippagePct == null || slippagePct.signum() < 0) {
+            throw new ExchangeException("Slippage must not be negative");
+        }
+        requireLiquidity(side);
+        BigDecimal factor = slippagePct.divide(HUNDRED, 18, RoundingMode.HALF_UP);
+        BigDecimal best = side.price(0);
+        BigDecimal limit = side.ascending
+                ? best.add(best.multiply(factor))
+                : best.subtract(best.multiply(factor));
+        int last = side.lastPriceWithin(limit);
+        return fill(side.cumBase(last), side.cumQuote(last), side.price(last), last + 1, true);
+    }
+
+    private void requireLiquidity(Side side) {
+        if (side.size == 0) {
+            throw new ExchangeException("No " + side.name() + " liquidity available for " + symbol);
+        }
+    }
+
+    private static Fill fill(BigDecimal base, BigDecimal quote, BigDecimal worstPrice, int levels, boolean complete) {
+        BigDecimal average = quote.divide(base, 18, RoundingMode.HALF_UP);
+        return new Fill(base, quote, average, worstPrice, levels, complete);
+    }
+
+    public record Fill(BigDecimal baseAmount, BigDecimal quoteAmount, BigDecimal averagePrice,
+                       BigDecimal worstPrice, int levels, boolean complete) {
+    }
+
+    private static final class Side {
+        private final boolean ascending;
+        private final int size;
+        private final int priceScale;
+        private final int qtyScale;
+        private final long[] prices;
+        private final long[] cumBase;
+        private final long[] cumQuote;
+        private final BigDecimal[] decimalPrices;
+        private final BigDecimal[] decimalCumBase;
+        private final BigDecimal[] decimalCumQuote;
+
+        private Side(boolean ascending, int size, int priceScale, int qtyScale, long[] prices, long[] cumBase, long[] cumQuote) {
+            this.ascending = ascending;
+            this.size = size;
+            this.priceScale = priceScale;
+            this.qtyScale = qtyScale;
+            this.prices = prices;
+            this.cumBase = cumBase;
+            this.cumQuote = cumQuote;
+            this.decimalPrices = null;
+            this.decimalCumBase = null;
+            this.decimalCumQuote = null;
+        }
+
+        private Side(boolean ascending, BigDecimal[] prices, BigDecimal[] cumBase, BigDecimal[] cumQuote) {
+            this.ascending = ascending;
+            this.size = prices.length;
+            this.priceScale = -1;
+            this.qtyScale = -1;
+            this.prices = null;
+            this.cumBase = null;
+            this.cumQuote = null;
+            this.decimalPrices = prices;
+            this.decimalCumBase = cumBase;
+            this.decimalCumQuote = cumQuote;
+        }
+
+        static Side of(PriceLadder ladder, boolean ascending) {
+            int n = ladder.size();
+            if (ladder.isFixed()) {
+                long[] prices = new long[n];
+                long[] cumBase = new long[n];
+                long[] cumQuote = new long[n];
+                try {
+                    long base = 0;
+                    long quote = 0;
+                    for (int i = 0; i < n; i++) {
+                        long price = ladder.priceUnscaled(i);
+                        long qty = ladder.qtyUnscaled(i);
+                        if (i > 0 && (ascending ? price < prices[i - 1] : price > prices[i - 1])) {
+                            throw new ExchangeException("Order book side is not sorted by price");
+                        }
+                        base = Math.addExact(base, qty);
+                        quote = Math.addExact(quote, Math.multiplyExact(price, qty));
+                        prices[i] = price;
+                        cumBase[i] = base;
+                        cumQuote[i] = quote;
+                    }
+                    return new Side(ascending, n, ladder.priceScale(), ladder.qtyScale(), prices, cumBase, cumQuote);
+                } catch (ArithmeticException e) {
+                    // sums outgrew a long at this scale; index the side with exact decimals instead
+                }
+            }
+            BigDecimal[] prices = new BigDecimal[n];
+            BigDecimal[] cumBase = new BigDecimal[n];
+            BigDecimal[] cumQuote = new BigDecimal[n];
+            BigDecimal base = BigDecimal.ZERO;
+            BigDecimal quote = BigDecimal.ZERO;
+            for (int i = 0; i < n; i++) {
+                BigDecimal price = ladder.price(i);
+                BigDecimal qty = ladder.quantity(i);
+                if (i > 0 && (ascending ? price.compareTo(prices[i - 1]) < 0 : price.compareTo(prices[i - 1]) > 0)) {
+                    throw new ExchangeException("Order book side is not sorted by price");
+                }
+                base = base.add(qty);
+                quote = quote.add(price.multiply(qty));
+                prices[i] = price;
+                cumBase[i] = base;
+                cumQuote[i] = quote;
+            }
+            return new Side(ascending, prices, cumBase, cumQuote);
+        }
+
+        String name() {
+            return ascending ? "ask" : "bid";
+        }
+
+        BigDecimal price(int i) {
+            return prices == null ? decimalPrices[i] : FixedPoint.toBigDecimal(prices[i], priceScale);
+        }
+
+        BigDecimal cumBase(int i) {
+            return cumBase == null ? decimalCumBase[i] : FixedPoint.toBigDecimal(cumBase[i], qtyScale);
+        }
+
+        BigDecimal cumQuote(int i) {
+            return cumQuote == null ? decimalCumQuote[i] : FixedPoint.toBigDecimal(cumQuote[i], priceScale + qtyScale);
+        }
+
+        int firstQuoteAtLeast(BigDecimal amount) {
+            if (cumQuote == null) {
+                return firstAtLeast(decimalCumQuote, amount);
+            }
+            return firstAtLeast(cumQuote, ceil(amount, priceScale + qtyScale));
+        }
+
+        int firstBaseAtLeast(BigDecimal amount) {
+            if (cumBase == null) {
+                return firstAtLeast(decimalCumBase, amount);
+            }
+            return firstAtLeast(cumBase, ceil(amount, qtyScale));
+        }
+
+        int lastPriceWithin(BigDecimal limit) {
+            int lo = 0;
+            int hi = size - 1;
+            if (prices != null) {
+                long bound = ascending
+                        ? limit.setScale(priceScale, RoundingMode.FLOOR).unscaledValue().longValue()
+                        : limit.setScale(priceScale, RoundingMode.CEILING).unscaledValue().longValue();
+                while (lo < hi) {
+                    int mid = (lo + hi + 1) >>> 1;
+                    if (ascending ? prices[mid] <= bound : prices[mid] >= bound) {
+                        lo = mid;
+                    } else {
+                        hi = mid - 1;
+                    }
+                }
+                return lo;
+            }
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                int cmp = decimalPrices[mid].compareTo(limit);
+                if (ascending ? cmp <= 0 : cmp >= 0) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        private static long ceil(BigDecimal amount, int scale) {
+            BigDecimal scaled = amount.setScale(scale, RoundingMode.CEILING);
+            return scaled.unscaledValue().bitLength() < 64 ? scaled.unscaledValue().longValue() : Long.MAX_VALUE;
+        }
+
+        private int firstAtLeast(long[] cumulative, long target) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] >= target) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        private int firstAtLeast(BigDecimal[] cumulative, BigDecimal target) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid].compareTo(target) >= 0) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+    }
+}
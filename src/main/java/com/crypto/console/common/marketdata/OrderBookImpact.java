@@ -0,0 +1,137 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BuyInfoResult;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class OrderBookImpact {
+
+    private OrderBookImpact() {
+    }
+
+    public static BuyInfoResult buy(OrderBook book, BigDecimal quoteAmount) {
+        return walk(book.symbol, PriceLadder.of(book.asks), quoteAmount, true);
+    }
+
+    public static BuyInfoResult sell(OrderBook book, BigDecimal quoteAmount) {
+        return walk(book.symbol, PriceLadder.of(book.bids), quoteAmount, false);
+    }
+
+    public static BuyInfoResult buy(String symbol, JsonNode asks, BigDecimal quoteAmount) {
+        return walk(symbol, PriceLadder.parse(asks, 0, 1), quoteAmount, true);
+    }
+
+    public static BuyInfoResult sell(String symbol, JsonNode bids, BigDecimal quoteAmount) {
+        return walk(symbol, PriceLadder.parse(bids, 0, 1), quoteAmount, false);
+    }
+
+    public static BuyInfoResult walk(String symbol, PriceLadder levels, BigDecimal quoteAmount, boolean buy) {
+        if (quoteAmount == null || quoteAmount.signum() <= 0) {
+            throw new ExchangeException("Quote amount must be positive");
+        }
+        if (levels.isFixed()) {
+            try {
+                return walkFixed(symbol, levels, quoteAmount, buy);
+            } catch (ArithmeticException e) {
+                // value range exceeded the fixed-point scale; fall through to the exact BigDecimal walk
+            }
+        }
+        return walkDecimal(symbol, levels.entries(), quoteAmount, buy);
+    }
+
+    private static BuyInfoResult walkFixed(String symbol, PriceLadder levels, BigDecimal quoteAmount, boolean buy) {
+        int priceScale = levels.priceScale();
+        int qtyScale = levels.qtyScale();
+        int quoteScale = priceScale + qtyScale;
+        long remainingQuote = FixedPoint.of(quoteAmount, quoteScale);
+        long filledQuote = 0;
+        long filledBase = 0;
+        BigDecimal partialBase = null;
+        BigDecimal partialQuote = null;
+        List<BuyInfoItem> affectedItems = new ArrayList<>();
+
+        for (int i = 0; i < levels.size(); i++) {
+            long price = levels.priceUnscaled(i);
+            long quantity = levels.qtyUnscaled(i);
+            long levelQuote = Math.multiplyExact(price, quantity);
+            if (remainingQuote >= levelQuote) {
+                filledBase = Math.addExact(filledBase, quantity);
+                filledQuote = Math.addExact(filledQuote, levelQuote);
+                affectedItems.add(new BuyInfoItem(levels.price(i), levels.quantity(i), FixedPoint.toBigDecimal(levelQuote, quoteScale)));
+                remainingQuote -= levelQuote;
+            } else {
+                BigDecimal levelPrice = levels.price(i);
+                BigDecimal partialQty = FixedPoint.toBigDecimal(remainingQuote, quoteScale).divide(levelPrice, 18, RoundingMode.DOWN);
+                if (partialQty.signum() > 0) {
+                    partialBase = partialQty;
+                    partialQuote = partialQty.multiply(levelPrice);
+                    affectedItems.add(new BuyInfoItem(levelPrice, partialQty, partialQuote));
+                }
+                remainingQuote = 0;
+            }
+            if (remainingQuote == 0) {
+                break;
+            }
+        }
+
+        BigDecimal base = FixedPoint.toBigDecimal(filledBase, qtyScale);
+        BigDecimal quote = FixedPoint.toBigDecimal(filledQuote, quoteScale);
+        if (partialBase != null) {
+            base = base.add(partialBase);
+            quote = quote.add(partialQuote);
+        }
+        return result(symbol, quoteAmount, quote, base, affectedItems, buy);
+    }
+
+    private static BuyInfoResult walkDecimal(String symbol, List<OrderBookEntry> levels, BigDecimal quoteAmount, boolean buy) {
+        BigDecimal remainingQuote = quoteAmount;
+        BigDecimal filledQuote = BigDecimal.ZERO;
+        BigDecimal filledBase = BigDecimal.ZERO;
+        List<BuyInfoItem> affectedItems = new ArrayList<>();
+
+        for (OrderBookEntry level : levels) {
+            BigDecimal price = level.price;
+            BigDecimal quantity = level.quantity;
+            if (price == null || quantity == null || price.signum() <= 0 || quantity.signum() <= 0) {
+                continue;
+            }
+            BigDecimal levelQuote = price.multiply(quantity);
+            if (remainingQuote.compareTo(levelQuote) >= 0) {
+                filledBase = filledBase.add(quantity);
+                filledQuote = filledQuote.add(levelQuote);
+                affectedItems.add(new BuyInfoItem(price, quantity, levelQuote));
+                remainingQuote = remainingQuote.subtract(levelQuote);
+            } else {
+                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
+                if (partialQty.signum() > 0) {
+                    BigDecimal partialQuote = partialQty.multiply(price);
+                    filledBase = filledBase.add(partialQty);
+                    filledQuote = filledQuote.add(partialQuote);
+                    affectedItems.add(new BuyInfoItem(price, partialQty, partialQuote));
+                }
+                remainingQuote = BigDecimal.ZERO;
+            }
+            if (remainingQuote.signum() == 0) {
+                break;
+            }
+        }
+        return result(symbol, quoteAmount, filledQuote, filledBase, affectedItems, buy);
+    }
+
+    private static BuyInfoResult result(String symbol, BigDecimal quoteAmount, BigDecimal filledQuote, BigDecimal filledBase,
+                                        List<BuyInfoItem> affectedItems, boolean buy) {
+        if (filledBase.signum() <= 0) {
+            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
+        }
+        BigDecimal averagePrice = filledQuote.divide(filledBase, 18, RoundingMode.HALF_UP);
+        return new BuyInfoResult(symbol, quoteAmount, filledQuote, filledBase, averagePrice, List.copyOf(affectedItems));
+    }
+}
@@ -0,0 +1,96 @@
+package com.crypto.console.common.marketdata;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class OrderBookLogFormat {
+    public static final int MAGIC = 0x4F424B31;
+    public static final short VERSION = 2;
+    public static final int HEADER_BYTES = 16;
+    public static final int INDEX_ENTRY_BYTES = 16;
+    public static final long INDEX_STREAM_MARKER = -1L;
+
+    public static final byte RECORD_END = 0;
+    public static final byte RECORD_STREAM = 1;
+    public static final byte RECORD_BOOK = 2;
+
+    public static final String SEGMENT_PREFIX = "depth-";
+    public static final String SEGMENT_SUFFIX = ".seg";
+    public static final String INDEX_SUFFIX = ".idx";
+
+    private OrderBookLogFormat() {
+    }
+
+    public static String segmentName(long startMillis, int sequence) {
+        return SEGMENT_PREFIX + startMillis + "-" + sequence + SEGMENT_SUFFIX;
+    }
+
+    public static String indexName(String segmentName) {
+        return segmentName.substring(0, segmentName.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX;
+    }
+
+    public static void writeHeader(ByteBuffer buffer, long createdMillis) {
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(createdMillis);
+    }
+
+    public static long readHeader(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("Not an order book log segment");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported order book log version: " + version);
+        }
+        buffer.getShort();
+        return buffer.getLong();
+    }
+
+    public static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static long getVarLong(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalStateException("Malformed varint in order book log");
+            }
+        }
+    }
+
+    public static void putZigZag(ByteBuffer buffer, long value) {
+        putVarLong(buffer, (value << 1) ^ (value >> 63));
+    }
+
+    public static long getZigZag(ByteBuffer buffer) {
+        long raw = getVarLong(buffer);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    public static String getString(ByteBuffer buffer) {
+        int length = (int) getVarLong(buffer);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
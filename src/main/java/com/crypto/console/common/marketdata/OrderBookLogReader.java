@@ -0,0 +1,220 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+public class OrderBookLogReader {
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final Map<String, RecordedStream> streams = new LinkedHashMap<>();
+
+    public OrderBookLogReader(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            LOG.warn("Order book recording dir not found: {}", dir.toAbsolutePath());
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(OrderBookLogFormat.SEGMENT_PREFIX) && name.endsWith(OrderBookLogFormat.SEGMENT_SUFFIX);
+                    })
+                    .sorted((a, b) -> compareSegments(a.getFileName().toString(), b.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to list order book recordings in " + dir.toAbsolutePath(), e);
+        }
+        for (Path file : files) {
+            try {
+                loadSegment(file);
+            } catch (Exception e) {
+                LOG.warn("Skipping unreadable order book segment {}: {}", file.toAbsolutePath(), e.getMessage());
+            }
+        }
+        streams.values().forEach(RecordedStream::trim);
+        LOG.info("Loaded {} order book streams from {} segments in {}", streams.size(), segments.size(), dir.toAbsolutePath());
+    }
+
+    public Collection<RecordedStream> streams() {
+        return Collections.unmodifiableCollection(streams.values());
+    }
+
+    public RecordedStream stream(String exchange, String symbol) {
+        return streams.get(key(exchange, symbol));
+    }
+
+    public OrderBook read(RecordedStream stream, int snapshot) {
+        ByteBuffer buffer = segments.get(stream.segments[snapshot]).duplicate();
+        buffer.position(stream.offsets[snapshot]);
+        if (buffer.get() != OrderBookLogFormat.RECORD_BOOK) {
+            throw new IllegalStateException("Corrupt order book record for " + stream.symbol);
+        }
+        OrderBookLogFormat.getVarLong(buffer);
+        OrderBookLogFormat.getZigZag(buffer);
+        int priceScale = buffer.get();
+        int qtyScale = buffer.get();
+        int bidCount = (int) OrderBookLogFormat.getVarLong(buffer);
+        int askCount = (int) OrderBookLogFormat.getVarLong(buffer);
+        List<OrderBookEntry> bids = readSide(buffer, bidCount, priceScale, qtyScale);
+        List<OrderBookEntry> asks = readSide(buffer, askCount, priceScale, qtyScale);
+        return new OrderBook(stream.symbol, bids, asks);
+    }
+
+    private List<OrderBookEntry> readSide(ByteBuffer buffer, int count, int priceScale, int qtyScale) {
+        List<OrderBookEntry> levels = new ArrayList<>(count);
+        long price = 0;
+        for (int i = 0; i < count; i++) {
+            price += OrderBookLogFormat.getZigZag(buffer);
+            long quantity = OrderBookLogFormat.getVarLong(buffer);
+            levels.add(new OrderBookEntry(BigDecimal.valueOf(price, priceScale), BigDecimal.valueOf(quantity, qtyScale)));
+        }
+        return List.copyOf(levels);
+    }
+
+    private void loadSegment(Path file) throws IOException {
+        Path indexFile = file.resolveSibling(OrderBookLogFormat.indexName(file.getFileName().toString()));
+        if (!Files.isRegularFile(indexFile)) {
+            throw new IllegalStateException("missing index " + indexFile.getFileName());
+        }
+        MappedByteBuffer data = map(file);
+        ByteBuffer index = map(indexFile);
+        OrderBookLogFormat.readHeader(data.duplicate());
+        OrderBookLogFormat.readHeader(index);
+
+        int segmentIndex = segments.size();
+        Map<Integer, RecordedStream> dictionary = new HashMap<>();
+        while (index.remaining() >= OrderBookLogFormat.INDEX_ENTRY_BYTES) {
+            long timestamp = index.getLong();
+            int streamId = index.getInt();
+            int offset = index.getInt();
+            if (offset == 0) {
+                break;
+            }
+            if (timestamp == OrderBookLogFormat.INDEX_STREAM_MARKER) {
+                ByteBuffer record = data.duplicate();
+                record.position(offset);
+                if (record.get() != OrderBookLogFormat.RECORD_STREAM) {
+                    throw new IllegalStateException("corrupt stream record at " + offset);
+                }
+                OrderBookLogFormat.getVarLong(record);
+                String exchange = OrderBookLogFormat.getString(record);
+                String symbol = OrderBookLogFormat.getString(record);
+                dictionary.put(streamId, streams.computeIfAbsent(key(exchange, symbol), k -> new RecordedStream(exchange, symbol)));
+                continue;
+            }
+            RecordedStream stream = dictionary.get(streamId);
+            if (stream == null) {
+                throw new IllegalStateException("unknown stream id " + streamId);
+            }
+            stream.add(timestamp, segmentIndex, offset);
+        }
+        segments.add(data);
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static int compareSegments(String a, String b) {
+        long[] left = segmentOrder(a);
+        long[] right = segmentOrder(b);
+        int cmp = Long.compare(left[0], right[0]);
+        return cmp != 0 ? cmp : Long.compare(left[1], right[1]);
+    }
+
+    private static long[] segmentOrder(String name) {
+        String core = name.substring(OrderBookLogFormat.SEGMENT_PREFIX.length(), name.length() - OrderBookLogFormat.SEGMENT_SUFFIX.length());
+        String[] parts = core.split("-");
+        try {
+            return new long[]{Long.parseLong(parts[0]), parts.length > 1 ? Long.parseLong(parts[1]) : 0};
+        } catch (NumberFormatException e) {
+            return new long[]{Long.MAX_VALUE, 0};
+        }
+    }
+
+    private static String key(String exchange, String symbol) {
+        return exchange + "|" + symbol;
+    }
+
+    public static final class RecordedStream {
+        public final String exchange;
+        public final String symbol;
+        private long[] timestamps = new long[64];
+        private int[] segments = new int[64];
+        private int[] offsets = new int[64];
+        private int size;
+
+        private RecordedStream(String exchange, String symbol) {
+            this.exchange = exchange;
+            this.symbol = symbol;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long timestamp(int snapshot) {
+            return timestamps[snapshot];
+        }
+
+        public long firstTimestamp() {
+            return size == 0 ? 0 : timestamps[0];
+        }
+
+        public long lastTimestamp() {
+            return size == 0 ? 0 : timestamps[size - 1];
+        }
+
+        public int floorSnapshot(long timestamp) {
+            int idx = Arrays.binarySearch(timestamps, 0, size, timestamp);
+            if (idx >= 0) {
+                while (idx + 1 < size && timestamps[idx + 1] == timestamp) {
+                    idx++;
+                }
+                return idx;
+            }
+            return -idx - 2;
+        }
+
+        private void add(long timestamp, int segment, int offset) {
+            if (size == timestamps.length) {
+                int capacity = size * 2;
+                timestamps = Arrays.copyOf(timestamps, capacity);
+                segments = Arrays.copyOf(segments, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+            }
+            timestamps[size] = timestamp;
+            segments[size] = segment;
+            offsets[size] = offset;
+            size++;
+        }
+
+        private void trim() {
+            timestamps = Arrays.copyOf(timestamps, size);
+            segments = Arrays.copyOf(segments, size);
+            offsets = Arrays.copyOf(offsets, size);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+public class OrderBookRecorder implements OrderBookSink, AutoCloseable {
+    private static final int MAX_SCALE = 18;
+    private static final int STREAM_RECORD_OVERHEAD = 32;
+    private static final int BOOK_RECORD_OVERHEAD = 40;
+    private static final int LEVEL_MAX_BYTES = 20;
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final long segmentMillis;
+    private final int maxLevels;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+    private long tail;
+
+    private FileChannel segmentChannel;
+    private FileChannel indexChannel;
+    private MappedByteBuffer data;
+    private MappedByteBuffer index;
+    private long segmentStartedMillis;
+    private long lastTimestamp;
+    private int segmentSequence;
+    private final Map<String, Map<String, Integer>> streams = new HashMap<>();
+    private int nextStreamId;
+
+    public OrderBookRecorder(Path dir, int segmentBytes, long segmentMillis, int queueCapacity, int maxLevels) {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.segmentMillis = segmentMillis;
+        this.maxLevels = maxLevels;
+        int capacity = Integer.highestOneBit(Math.max(2, queueCapacity - 1)) << 1;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot(i);
+        }
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create order book recording dir: " + dir.toAbsolutePath(), e);
+        }
+        this.writer = new Thread(this::runWriter, "orderbook-recorder");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        LOG.info("Recording order book snapshots to {}", dir.toAbsolutePath());
+    }
+
+    @Override
+    public void onOrderBook(String exchange, OrderBook book) {
+        if (!running || book == null) {
+            return;
+        }
+        long pos = head.get();
+        Slot slot;
+        while (true) {
+            slot = slots[(int) (pos & mask)];
+            long diff = slot.sequence - pos;
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                dropped.incrementAndGet();
+                return;
+            } else {
+                pos = head.get();
+            }
+        }
+        slot.exchange = exchange;
+        slot.timestamp = System.currentTimeMillis();
+        slot.book = book;
+        slot.sequence = pos + 1;
+    }
+
+    public long recordedCount() {
+        return recorded.get();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        try {
+            while (running) {
+                if (!drain()) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+            drain();
+        } catch (Exception e) {
+            LOG.error("Order book recorder stopped: {}", e.getMessage());
+            running = false;
+        } finally {
+            closeSegment();
+        }
+    }
+
+    private boolean drain() throws IOException {
+        boolean any = false;
+        while (true) {
+            Slot slot = slots[(int) (tail & mask)];
+            if (slot.sequence != tail + 1) {
+                return any;
+            }
+            String exchange = slot.exchange;
+            long timestamp = slot.timestamp;
+            OrderBook book = slot.book;
+            slot.exchange = null;
+            slot.book = null;
+            slot.sequence = tail + slots.length;
+            tail++;
+            any = true;
+            if (write(exchange, timestamp, book)) {
+                recorded.incrementAndGet();
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean write(String exchange, long timestamp, OrderBook book) throws IOException {
+        List<OrderBookEntry> bids = book.bids == null ? List.of() : book.bids;
+        List<OrderBookEntry> asks = book.asks == null ? List.of() : book.asks;
+        int bidCount = Math.min(bids.size(), maxLevels);
+        int askCount = Math.min(asks.size(), maxLevels);
+        int priceScale = Math.min(MAX_SCALE, Math.max(maxScale(bids, bidCount, true), maxScale(asks, askCount, true)));
+        int qtyScale = Math.min(MAX_SCALE, Math.max(maxScale(bids, bidCount, false), maxScale(asks, askCount, false)));
+
+        int bound = BOOK_RECORD_OVERHEAD + STREAM_RECORD_OVERHEAD * 4 + exchange.length() * 3 + book.symbol.length() * 3
+                + (bidCount + askCount) * LEVEL_MAX_BYTES;
+        if (bound > segmentBytes - OrderBookLogFormat.HEADER_BYTES) {
+            return false;
+        }
+        if (data == null
+                || data.remaining() < bound
+                || index.remaining() < OrderBookLogFormat.INDEX_ENTRY_BYTES * 2
+                || timestamp - segmentStartedMillis >= segmentMillis) {
+            rollSegment(timestamp);
+        }
+
+        int streamId = streamId(exchange, book.symbol);
+        int offset = data.position();
+        try {
+            data.put(OrderBookLogFormat.RECORD_BOOK);
+            OrderBookLogFormat.putVarLong(data, streamId);
+            OrderBookLogFormat.putZigZag(data, timestamp - lastTimestamp);
+            data.put((byte) priceScale);
+            data.put((byte) qtyScale);
+            OrderBookLogFormat.putVarLong(data, bidCount);
+            OrderBookLogFormat.putVarLong(data, askCount);
+            writeSide(bids, bidCount, priceScale, qtyScale);
+            writeSide(asks, askCount, priceScale, qtyScale);
+        } catch (ArithmeticException e) {
+            data.position(offset);
+            data.put(offset, OrderBookLogFormat.RECORD_END);
+            return false;
+        }
+        if (data.hasRemaining()) {
+            data.put(data.position(), OrderBookLogFormat.RECORD_END);
+        }
+        index.putLong(timestamp);
+        index.putInt(streamId);
+        index.putInt(offset);
+        lastTimestamp = timestamp;
+        return true;
+    }
+
+    private void writeSide(List<OrderBookEntry> levels, int count, int priceScale, int qtyScale) {
+        long previousPrice = 0;
+        for (int i = 0; i < count; i++) {
+            OrderBookEntry level = levels.get(i);
+            long price = unscaled(level.price, priceScale);
+            long quantity = unscaled(level.quantity, qtyScale);
+            OrderBookLogFormat.putZigZag(data, price - previousPrice);
+            OrderBookLogFormat.putVarLong(data, quantity);
+            previousPrice = price;
+        }
+    }
+
+    private int streamId(String exchange, String symbol) {
+        Map<String, Integer> symbols = streams.computeIfAbsent(exchange, k -> new HashMap<>());
+        Integer id = symbols.get(symbol);
+        if (id != null) {
+            return id;
+        }
+        int created = nextStreamId++;
+        symbols.put(symbol, created);
+        int offset = data.position();
+        data.put(OrderBookLogFormat.RECORD_STREAM);
+        OrderBookLogFormat.putVarLong(data, created);
+        OrderBookLogFormat.putString(data, exchange);
+        OrderBookLogFormat.putString(data, symbol);
+        index.putLong(OrderBookLogFormat.INDEX_STREAM_MARKER);
+        index.putInt(created);
+        index.putInt(offset);
+        return created;
+    }
+
+    private void rollSegment(long timestamp) throws IOException {
+        closeSegment();
+        String segmentName = OrderBookLogFormat.segmentName(timestamp, segmentSequence++);
+        Path segmentPath = dir.resolve(segmentName);
+        Path indexPath = dir.resolve(OrderBookLogFormat.indexName(segmentName));
+        segmentChannel = FileChannel.open(segmentPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        data = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(OrderBookLogFormat.HEADER_BYTES * 2, segmentBytes / 4));
+        OrderBookLogFormat.writeHeader(data, timestamp);
+        OrderBookLogFormat.writeHeader(index, timestamp);
+        segmentStartedMillis = timestamp;
+        lastTimestamp = timestamp;
+        streams.clear();
+        nextStreamId = 0;
+        LOG.info("Order book recorder opened segment {}", segmentPath.toAbsolutePath());
+    }
+
+    private void closeSegment() {
+        if (data != null) {
+            data.force();
+            index.force();
+        }
+        closeQuietly(segmentChannel);
+        closeQuietly(indexChannel);
+        segmentChannel = null;
+        indexChannel = null;
+        data = null;
+        index = null;
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close order book log channel: {}", e.getMessage());
+        }
+    }
+
+    private static int maxScale(List<OrderBookEntry> levels, int count, boolean price) {
+        int scale = 0;
+        for (int i = 0; i < count; i++) {
+            OrderBookEntry level = levels.get(i);
+            BigDecimal value = price ? level.price : level.quantity;
+            if (value != null) {
+                scale = Math.max(scale, value.scale());
+            }
+        }
+        return scale;
+    }
+
+    private static long unscaled(BigDecimal value, int scale) {
+        if (value == null) {
+            return 0;
+        }
+        return value.setScale(scale, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+
+    private static final class Slot {
+        private volatile long sequence;
+        private String exchange;
+        private long timestamp;
+        private OrderBook book;
+
+        private Slot(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBook;
+
+public interface OrderBookSink {
+    OrderBookSink NONE = (exchange, book) -> {
+    };
+
+    void onOrderBook(String exchange, OrderBook book);
+}
@@ -0,0 +1,192 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBookEntry;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PriceLadder {
+    private final long[] prices;
+    private final long[] quantities;
+    private final int priceScale;
+    private final int qtyScale;
+    private final int size;
+    private final List<OrderBookEntry> decimals;
+
+    private PriceLadder(long[] prices, long[] quantities, int priceScale, int qtyScale, int size) {
+        this.prices = prices;
+        this.quantities = quantities;
+        this.priceScale = priceScale;
+        this.qtyScale = qtyScale;
+        this.size = size;
+        this.decimals = null;
+    }
+
+    private PriceLadder(List<OrderBookEntry> decimals) {
+        this.prices = null;
+        this.quantities = null;
+        this.priceScale = -1;
+        this.qtyScale = -1;
+        this.size = decimals.size();
+        this.decimals = decimals;
+    }
+
+    public static PriceLadder parse(JsonNode levels, int priceIndex, int qtyIndex) {
+        if (levels == null || !levels.isArray()) {
+            return new PriceLadder(new long[0], new long[0], 0, 0, 0);
+        }
+        int minSize = Math.max(priceIndex, qtyIndex) + 1;
+        int priceScale = 0;
+        int qtyScale = 0;
+        for (JsonNode level : levels) {
+            if (!level.isArray() || level.size() < minSize) {
+                continue;
+            }
+            int p = FixedPoint.fractionDigits(text(level.get(priceIndex)));
+            int q = FixedPoint.fractionDigits(text(level.get(qtyIndex)));
+            if (p < 0 || q < 0) {
+                return parseDecimals(levels, priceIndex, qtyIndex);
+            }
+            priceScale = Math.max(priceScale, p);
+            qtyScale = Math.max(qtyScale, q);
+        }
+        if (priceScale + qtyScale > FixedPoint.MAX_SCALE) {
+            return parseDecimals(levels, priceIndex, qtyIndex);
+        }
+        long[] prices = new long[levels.size()];
+        long[] quantities = new long[levels.size()];
+        int size = 0;
+        try {
+            for (JsonNode level : levels) {
+                if (!level.isArray() || level.size() < minSize) {
+                    continue;
+                }
+                long price;
+                long qty;
+                try {
+                    price = FixedPoint.parse(text(level.get(priceIndex)), priceScale);
+                    qty = FixedPoint.parse(text(level.get(qtyIndex)), qtyScale);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                if (price <= 0 || qty <= 0) {
+                    continue;
+                }
+                prices[size] = price;
+                quantities[size] = qty;
+                size++;
+            }
+        } catch (ArithmeticException e) {
+            return parseDecimals(levels, priceIndex, qtyIndex);
+        }
+        return new PriceLadder(prices, quantities, priceScale, qtyScale, size);
+    }
+
+    public static PriceLadder of(List<OrderBookEntry> levels) {
+        List<OrderBookEntry> source = levels == null ? List.of() : levels;
+        int priceScale = 0;
+        int qtyScale = 0;
+        for (OrderBookEntry level : source) {
+            if (level.price == null || level.quantity == null) {
+                continue;
+            }
+            priceScale = Math.max(priceScale, FixedPoint.scaleOf(level.price));
+            qtyScale = Math.max(qtyScale, FixedPoint.scaleOf(level.quantity));
+        }
+        if (priceScale + qtyScale > FixedPoint.MAX_SCALE) {
+            return new PriceLadder(source);
+        }
+        long[] prices = new long[source.size()];
+        long[] quantities = new long[source.size()];
+        int size = 0;
+        try {
+            for (OrderBookEntry level : source) {
+                if (level.price == null || level.quantity == null || level.price.signum() <= 0 || level.quantity.signum() <= 0) {
+                    continue;
+                }
+                prices[size] = FixedPoint.of(level.price, priceScale);
+                quantities[size] = FixedPoint.of(level.quantity, qtyScale);
+                size++;
+            }
+        } catch (ArithmeticException e) {
+            return new PriceLadder(source);
+        }
+        return new PriceLadder(prices, quantities, priceScale, qtyScale, size);
+    }
+
+    public boolean isFixed() {
+        return decimals == null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int priceScale() {
+        return priceScale;
+    }
+
+    public int qtyScale() {
+        return qtyScale;
+    }
+
+    public long priceUnscaled(int index) {
+        return prices[index];
+    }
+
+    public long qtyUnscaled(int index) {
+        return quantities[index];
+    }
+
+    public BigDecimal price(int index) {
+        return decimals == null ? FixedPoint.toBigDecimal(prices[index], priceScale) : decimals.get(index).price;
+    }
+
+    public BigDecimal quantity(int index) {
+        return decimals == null ? FixedPoint.toBigDecimal(quantities[index], qtyScale) : decimals.get(index).quantity;
+    }
+
+    public List<OrderBookEntry> entries() {
+        if (decimals != null) {
+            return decimals;
+        }
+        List<OrderBookEntry> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            out.add(new OrderBookEntry(price(i), quantity(i)));
+        }
+        return out;
+    }
+
+    private static PriceLadder parseDecimals(JsonNode levels, int priceIndex, int qtyIndex) {
+        int minSize = Math.max(priceIndex, qtyIndex) + 1;
+        List<OrderBookEntry> out = new ArrayList<>();
+        for (JsonNode level : levels) {
+            if (!level.isArray() || level.size() < minSize) {
+                continue;
+            }
+            BigDecimal price = decimal(level.get(priceIndex));
+            BigDecimal qty = decimal(level.get(qtyIndex));
+            if (price.signum() > 0 && qty.signum() > 0) {
+                out.add(new OrderBookEntry(price, qty));
+            }
+        }
+        return new PriceLadder(out);
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        try {
+            return new BigDecimal(text(node));
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private static String text(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return "0";
+        }
+        return node.isTextual() ? node.textValue() : node.asText("0");
+    }
+}
@@ -0,0 +1,171 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.BuyInfoResult;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import com.crypto.console.common.model.OrderResult;
+import com.crypto.console.common.properties.AppProperties;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SyntheticMarket {
+    private static final int QTY_SCALE = 6;
+
+    private final String exchange;
+    private final AppProperties.SyntheticConfig cfg;
+    private final Random random;
+    private final Map<String, double[]> mids = new ConcurrentHashMap<>();
+    private final Map<String, BigDecimal> wallet = new ConcurrentHashMap<>();
+    private final boolean enforceBalances;
+    private final AtomicLong orderIds = new AtomicLong();
+
+    public SyntheticMarket(String exchange, AppProperties.SyntheticConfig cfg) {
+        this.exchange = exchange;
+        this.cfg = cfg;
+        this.random = cfg.getSeed() == 0 ? new Random() : new Random(cfg.getSeed());
+        if (cfg.getBalances() != null) {
+            cfg.getBalances().forEach((asset, amount) -> wallet.put(asset.toUpperCase(), amount));
+        }
+        this.enforceBalances = !wallet.isEmpty();
+    }
+
+    public OrderBook book(String base, String quote, int depth) {
+        delay();
+        String symbol = (base + quote).toUpperCase();
+        double mid = step(base.toUpperCase(), symbol);
+        int levels = depth <= 0 ? cfg.getLevels() : Math.min(depth, cfg.getLevels());
+        int priceScale = priceScale(mid);
+        double halfSpread = cfg.getSpreadBps().doubleValue() / 20_000.0;
+        double stepFraction = cfg.getStepBps().doubleValue() / 10_000.0;
+        List<OrderBookEntry> bids = new ArrayList<>(levels);
+        List<OrderBookEntry> asks = new ArrayList<>(levels);
+        for (int i = 0; i < levels; i++) {
+            double offset = halfSpread + stepFraction * i;
+            bids.add(new OrderBookEntry(price(mid * (1 - offset), priceScale), quantity()));
+            asks.add(new OrderBookEntry(price(mid * (1 + offset), priceScale), quantity()));
+        }
+        return new OrderBook(symbol, bids, asks);
+    }
+
+    public BuyInfoResult buyInfo(String base, String quote, BigDecimal quoteAmount) {
+        return OrderBookImpact.buy(book(base, quote, 0), quoteAmount);
+    }
+
+    public BuyInfoResult sellInfo(String base, String quote, BigDecimal quoteAmount) {
+        return OrderBookImpact.sell(book(base, quote, 0), quoteAmount);
+    }
+
+    public OrderResult marketBuy(String base, String quote, BigDecimal quoteAmount) {
+        BuyInfoResult fill = buyInfo(base, quote, quoteAmount);
+        settle(quote, fill.spentQuoteAmount.negate(), base, fill.boughtBaseAmount);
+        return new OrderResult(nextOrderId("buy"), "FILLED",
+                "bought " + fill.boughtBaseAmount.stripTrailingZeros().toPlainString() + " " + base.toUpperCase()
+                        + " for " + fill.spentQuoteAmount.stripTrailingZeros().toPlainString() + " " + quote.toUpperCase()
+                        + " avg " + fill.averagePrice.setScale(8, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString());
+    }
+
+    public OrderResult marketSell(String base, String quote, BigDecimal baseAmount) {
+        if (baseAmount == null || baseAmount.signum() <= 0) {
+            throw new ExchangeException("Base amount must be positive");
+        }
+        OrderBook book = book(base, quote, 0);
+        BigDecimal remaining = baseAmount;
+        BigDecimal proceeds = BigDecimal.ZERO;
+        for (OrderBookEntry bid : book.bids) {
+            BigDecimal filled = remaining.min(bid.quantity);
+            proceeds = proceeds.add(filled.multiply(bid.price));
+            remaining = remaining.subtract(filled);
+            if (remaining.signum() == 0) {
+                break;
+            }
+        }
+        BigDecimal sold = baseAmount.subtract(remaining);
+        if (sold.signum() <= 0) {
+            throw new ExchangeException("No bid liquidity available for " + book.symbol);
+        }
+        settle(base, sold.negate(), quote, proceeds);
+        return new OrderResult(nextOrderId("sell"), remaining.signum() == 0 ? "FILLED" : "PARTIALLY_FILLED",
+                "sold " + sold.stripTrailingZeros().toPlainString() + " " + base.toUpperCase()
+                        + " for " + proceeds.stripTrailingZeros().toPlainString() + " " + quote.toUpperCase());
+    }
+
+    public Balance balance(String asset) {
+        return new Balance(asset, wallet.getOrDefault(asset.toUpperCase(), BigDecimal.ZERO), BigDecimal.ZERO);
+    }
+
+    private synchronized void settle(String debitAsset, BigDecimal debit, String creditAsset, BigDecimal credit) {
+        String debitKey = debitAsset.toUpperCase();
+        BigDecimal available = wallet.getOrDefault(debitKey, BigDecimal.ZERO);
+        if (enforceBalances && available.add(debit).signum() < 0) {
+            throw new ExchangeException("Insufficient " + debitKey + " balance on " + exchange + ": " + available.toPlainString());
+        }
+        wallet.put(debitKey, available.add(debit));
+        wallet.merge(creditAsset.toUpperCase(), credit, BigDecimal::add);
+    }
+
+    private double step(String base, String symbol) {
+        double sigma = cfg.getVolatilityBps().doubleValue() / 10_000.0;
+        double[] state = mids.computeIfAbsent(symbol, key -> new double[]{initialMid(base)});
+        synchronized (state) {
+            if (sigma > 0) {
+                state[0] *= Math.exp(sigma * random.nextGaussian() - sigma * sigma / 2);
+            }
+            return state[0];
+        }
+    }
+
+    private double initialMid(String base) {
+        BigDecimal configured = cfg.getMids() == null ? null : cfg.getMids().get(base);
+        if (configured == null && cfg.getMids() != null) {
+            configured = cfg.getMids().get(base.toLowerCase());
+        }
+        BigDecimal mid = configured != null ? configured : cfg.getMid();
+        if (mid == null || mid.signum() <= 0) {
+            throw new ExchangeException("Synthetic mid price must be positive for " + base);
+        }
+        return mid.doubleValue();
+    }
+
+    private BigDecimal quantity() {
+        double qty = cfg.getQuantity().doubleValue() * (0.5 + random.nextDouble());
+        return BigDecimal.valueOf(qty).setScale(QTY_SCALE, RoundingMode.DOWN);
+    }
+
+    private static BigDecimal price(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    private static int priceScale(double mid) {
+        int magnitude = (int) Math.floor(Math.log10(mid));
+        return Math.max(0, Math.min(10, 6 - magnitude));
+    }
+
+    private String nextOrderId(String side) {
+        return exchange + "-" + side + "-" + orderIds.incrementAndGet();
+    }
+
+    private void delay() {
+        long millis = cfg.getDelayMillis();
+        if (cfg.getJitterMillis() > 0) {
+            millis += random.nextLong(cfg.getJitterMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeException("Interrupted while simulating " + exchange + " latency");
+        }
+    }
+}
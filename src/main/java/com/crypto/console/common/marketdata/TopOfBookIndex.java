@@ -0,0 +1,95 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.BookTicker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class TopOfBookIndex {
+    private final List<String> exchanges;
+    private final Map<String, Integer> exchangeIds = new HashMap<>();
+    private final Map<String, Integer> symbols = new HashMap<>();
+    private double[] bids;
+    private double[] asks;
+    private long[] updatedAt;
+
+    public TopOfBookIndex(List<String> exchanges) {
+        this.exchanges = List.copyOf(exchanges);
+        for (int i = 0; i < this.exchanges.size(); i++) {
+            exchangeIds.put(this.exchanges.get(i), i);
+        }
+        int slots = Math.max(1, this.exchanges.size()) * 256;
+        this.bids = new double[slots];
+        this.asks = new double[slots];
+        this.updatedAt = new long[slots];
+    }
+
+    public synchronized int update(String exchange, List<BookTicker> tickers, long now) {
+        Integer ex = exchangeIds.get(exchange);
+        if (ex == null) {
+            return 0;
+        }
+        int stride = exchanges.size();
+        int stored = 0;
+        for (BookTicker ticker : tickers) {
+            if (ticker.bid == null || ticker.ask == null || ticker.bid.signum() <= 0 || ticker.ask.signum() <= 0) {
+                continue;
+            }
+            int slot = symbol(ticker.base, ticker.quote) * stride + ex;
+            bids[slot] = ticker.bid.doubleValue();
+            asks[slot] = ticker.ask.doubleValue();
+            updatedAt[slot] = now;
+            stored++;
+        }
+        return stored;
+    }
+
+    public synchronized List<Quote> quotes(String base, String quote, long now) {
+        Integer symbol = symbols.get(key(base, quote));
+        List<Quote> result = new ArrayList<>();
+        if (symbol == null) {
+            return result;
+        }
+        int stride = exchanges.size();
+        for (int ex = 0; ex < stride; ex++) {
+            int slot = symbol * stride + ex;
+            if (updatedAt[slot] > 0) {
+                result.add(new Quote(exchanges.get(ex), bids[slot], asks[slot], now - updatedAt[slot]));
+            }
+        }
+        return result;
+    }
+
+    public synchronized int symbols() {
+        return symbols.size();
+    }
+
+    private int symbol(String base, String quote) {
+        String key = key(base, quote);
+        Integer existing = symbols.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int id = symbols.size();
+        symbols.put(key, id);
+        int needed = (id + 1) * exchanges.size();
+        if (needed > bids.length) {
+            int size = Math.max(needed, bids.length * 2);
+            bids = Arrays.copyOf(bids, size);
+            asks = Arrays.copyOf(asks, size);
+            updatedAt = Arrays.copyOf(updatedAt, size);
+        }
+        return id;
+    }
+
+    private static String key(String base, String quote) {
+        return (base + "/" + quote).toUpperCase(Locale.ROOT);
+    }
+
+    public record Quote(String exchange, double bid, double ask, long ageMillis) {
+    }
+}
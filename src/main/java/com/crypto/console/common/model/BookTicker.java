@@ -0,0 +1,17 @@
+package com.crypto.console.common.model;
+
+import java.math.BigDecimal;
+
+public class BookTicker {
+    public final String base;
+    public final String quote;
+    public final BigDecimal bid;
+    public final BigDecimal ask;
+
+    public BookTicker(String base, String quote, BigDecimal bid, BigDecimal ask) {
+        this.base = base;
+        this.quote = quote;
+        this.bid = bid;
+        this.ask = ask;
+    }
+}
@@ -0,0 +1,68 @@
+package com.crypto.console.common.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class OrderTemplate {
+    public final String symbol;
+    public final String rejection;
+    public final BigDecimal minQty;
+    public final BigDecimal maxQty;
+    public final BigDecimal stepSize;
+    public final Integer basePrecision;
+    public final Integer quotePrecision;
+    public final BigDecimal minNotional;
+
+    public OrderTemplate(
+            String symbol,
+            String rejection,
+            BigDecimal minQty,
+            BigDecimal maxQty,
+            BigDecimal stepSize,
+            Integer basePrecision,
+            Integer quotePrecision,
+            BigDecimal minNotional
+    ) {
+        this.symbol = symbol;
+        this.rejection = rejection;
+        this.minQty = minQty;
+        this.maxQty = maxQty;
+        this.stepSize = stepSize;
+        this.basePrecision = basePrecision;
+        this.quotePrecision = quotePrecision;
+        this.minNotional = minNotional;
+    }
+
+    public void requireTradable() {
+        if (rejection != null) {
+            throw new ExchangeException(rejection);
+        }
+    }
+
+    public BigDecimal roundQuantity(BigDecimal quantity) {
+        if (maxQty != null && maxQty.signum() > 0 && quantity.compareTo(maxQty) > 0) {
+            quantity = maxQty;
+        }
+        if (stepSize != null && stepSize.signum() > 0) {
+            quantity = stepSize.multiply(quantity.divide(stepSize, 0, RoundingMode.DOWN));
+        }
+        if (basePrecision != null && basePrecision >= 0) {
+            quantity = quantity.setScale(basePrecision, RoundingMode.DOWN);
+        }
+        if (minQty != null && minQty.signum() > 0 && quantity.compareTo(minQty) < 0) {
+            return BigDecimal.ZERO;
+        }
+        return quantity.signum() == 0 ? BigDecimal.ZERO : quantity.stripTrailingZeros();
+    }
+
+    public BigDecimal roundQuoteAmount(BigDecimal amount) {
+        if (quotePrecision == null || quotePrecision < 0) {
+            return amount;
+        }
+        return amount.setScale(quotePrecision, RoundingMode.DOWN).stripTrailingZeros();
+    }
+
+    public boolean belowMinNotional(BigDecimal notional) {
+        return minNotional != null && minNotional.signum() > 0 && notional.compareTo(minNotional) < 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.crypto.console.common.model;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+public class OrderUpdate {
+    public static final String NEW = "NEW";
+    public static final String PARTIALLY_FILLED = "PARTIALLY_FILLED";
+    public static final String FILLED = "FILLED";
+    public static final String CANCELED = "CANCELED";
+    public static final String REJECTED = "REJECTED";
+    public static final String EXPIRED = "EXPIRED";
+
+    private static final Set<String> TERMINAL = Set.of(FILLED, CANCELED, REJECTED, EXPIRED);
+
+    public final String exchange;
+    public final String symbol;
+    public final String orderId;
+    public final String status;
+    public final BigDecimal executedQty;
+    public final BigDecimal executedQuote;
+    public final long eventTime;
+
+    public OrderUpdate(
+            String exchange,
+            String symbol,
+            String orderId,
+            String status,
+            BigDecimal executedQty,
+            BigDecimal executedQuote,
+            long eventTime
+    ) {
+        this.exchange = exchange;
+        this.symbol = symbol;
+        this.orderId = orderId;
+        this.status = status;
+        this.executedQty = executedQty;
+        this.executedQuote = executedQuote;
+        this.eventTime = eventTime;
+    }
+
+    public boolean isTerminal() {
+        return TERMINAL.contains(status);
+    }
+}
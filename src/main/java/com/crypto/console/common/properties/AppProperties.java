@@ -1,20 +1,50 @@
 package com.crypto.console.common.properties;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @ConfigurationProperties(prefix = "app")
 @Validated
 public class AppProperties {
     @Valid
     private PollingConfig polling = new PollingConfig();
+    @Valid
+    private RecorderConfig recorder = new RecorderConfig();
+    @Valid
+    private ReplayConfig replay = new ReplayConfig();
+    @Valid
+    private CacheConfig cache = new CacheConfig();
+    @Valid
+    private HealthConfig health = new HealthConfig();
+    @Valid
+    private OrderConfig orders = new OrderConfig();
+    @Valid
+    private UserDataConfig userData = new UserDataConfig();
+    @Valid
+    private ExecutionConfig execution = new ExecutionConfig();
+    @Valid
+    private ArbitrageConfig arbitrage = new ArbitrageConfig();
+    @Valid
+    private TickersConfig tickers = new TickersConfig();
+    @Valid
+    private WatchlistConfig watchlist = new WatchlistConfig();
+    @Valid
+    private SnapshotConfig snapshot = new SnapshotConfig();
     private Map<String, List<String>> networkPriority;
     @NotEmpty
     private Map<String, @Valid ExchangeConfig> exchanges;
@@ -44,17 +74,740 @@ public class AppProperties {
         }
     }
 
+    public static class RecorderConfig {
+        private boolean enabled;
+        private String dir = "./recordings";
+        @Min(1)
+        @Max(2047)
+        private int segmentSizeMb = 64;
+        @Min(1)
+        private int segmentMinutes = 60;
+        @Min(2)
+        private int queueCapacity = 4096;
+        @Min(1)
+        private int maxLevels = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDir() {
+            return dir;
+        }
+
+        public void setDir(String dir) {
+            this.dir = dir;
+        }
+
+        public int getSegmentSizeMb() {
+            return segmentSizeMb;
+        }
+
+        public void setSegmentSizeMb(int segmentSizeMb) {
+            this.segmentSizeMb = segmentSizeMb;
+        }
+
+        public int getSegmentMinutes() {
+            return segmentMinutes;
+        }
+
+        public void setSegmentMinutes(int segmentMinutes) {
+            this.segmentMinutes = segmentMinutes;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxLevels() {
+            return maxLevels;
+        }
+
+        public void setMaxLevels(int maxLevels) {
+            this.maxLevels = maxLevels;
+        }
+    }
+
+    public static class ReplayConfig {
+        private boolean enabled;
+        private String dir = "./recordings";
+        private String speed = "1";
+        private boolean loop = true;
+        private String startAt;
+        private String sourceExchange;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDir() {
+            return dir;
+        }
+
+        public void setDir(String dir) {
+            this.dir = dir;
+        }
+
+        public String getSpeed() {
+            return speed;
+        }
+
+        public void setSpeed(String speed) {
+            this.speed = speed;
+        }
+
+        public boolean isLoop() {
+            return loop;
+        }
+
+        public void setLoop(boolean loop) {
+            this.loop = loop;
+        }
+
+        public String getStartAt() {
+            return startAt;
+        }
+
+        public void setStartAt(String startAt) {
+            this.startAt = startAt;
+        }
+
+        public String getSourceExchange() {
+            return sourceExchange;
+        }
+
+        public void setSourceExchange(String sourceExchange) {
+            this.sourceExchange = sourceExchange;
+        }
+    }
+
+    public static class CacheConfig {
+        private boolean enabled = true;
+        @Min(1)
+        private int maxEntries = 512;
+        private Map<String, Duration> maxAge = new LinkedHashMap<>(Map.of(
+                "depth", Duration.ofMillis(250),
+                "ticker", Duration.ofSeconds(1),
+                "symbols", Duration.ofHours(1)
+        ));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Map<String, Duration> getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Map<String, Duration> maxAge) {
+            this.maxAge = maxAge;
+        }
+    }
+
+    public static class OrderConfig {
+        private Duration rulesTtl = Duration.ofMinutes(10);
+        private Duration referencePriceTtl = Duration.ofSeconds(30);
+
+        public Duration getRulesTtl() {
+            return rulesTtl;
+        }
+
+        public void setRulesTtl(Duration rulesTtl) {
+            this.rulesTtl = rulesTtl;
+        }
+
+        public Duration getReferencePriceTtl() {
+            return referencePriceTtl;
+        }
+
+        public void setReferencePriceTtl(Duration referencePriceTtl) {
+            this.referencePriceTtl = referencePriceTtl;
+        }
+    }
+
+    public static class UserDataConfig {
+        private boolean enabled = true;
+        private Duration fillTimeout = Duration.ofSeconds(10);
+        private Duration reconnectMax = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getFillTimeout() {
+            return fillTimeout;
+        }
+
+        public void setFillTimeout(Duration fillTimeout) {
+            this.fillTimeout = fillTimeout;
+        }
+
+        public Duration getReconnectMax() {
+            return reconnectMax;
+        }
+
+        public void setReconnectMax(Duration reconnectMax) {
+            this.reconnectMax = reconnectMax;
+        }
+    }
+
+    public static class ExecutionConfig {
+        @Min(1)
+        private long tickMillis = 100;
+        @Min(2)
+        private int wheelSize = 512;
+        @Min(1)
+        private int depthLevels = 20;
+        @Min(1)
+        private int maxSlippageBps = 50;
+        @Min(1)
+        private int maxFailures = 3;
+        private Duration povInterval = Duration.ofSeconds(10);
+        @Min(1)
+        private int maxPovSkips = 30;
+
+        public long getTickMillis() {
+            return tickMillis;
+        }
+
+        public void setTickMillis(long tickMillis) {
+            this.tickMillis = tickMillis;
+        }
+
+        public int getWheelSize() {
+            return wheelSize;
+        }
+
+        public void setWheelSize(int wheelSize) {
+            this.wheelSize = wheelSize;
+        }
+
+        public int getDepthLevels() {
+            return depthLevels;
+        }
+
+        public void setDepthLevels(int depthLevels) {
+            this.depthLevels = depthLevels;
+        }
+
+        public int getMaxSlippageBps() {
+            return maxSlippageBps;
+        }
+
+        public void setMaxSlippageBps(int maxSlippageBps) {
+            this.maxSlippageBps = maxSlippageBps;
+        }
+
+        public int getMaxFailures() {
+            return maxFailures;
+        }
+
+        public void setMaxFailures(int maxFailures) {
+            this.maxFailures = maxFailures;
+        }
+
+        public Duration getPovInterval() {
+            return povInterval;
+        }
+
+        public void setPovInterval(Duration povInterval) {
+            this.povInterval = povInterval;
+        }
+
+        public int getMaxPovSkips() {
+            return maxPovSkips;
+        }
+
+        public void setMaxPovSkips(int maxPovSkips) {
+            this.maxPovSkips = maxPovSkips;
+        }
+    }
+
+    public static class ArbitrageConfig {
+        @DecimalMin("0")
+        private BigDecimal feeBps = BigDecimal.TEN;
+        @DecimalMin("0")
+        private BigDecimal notional = BigDecimal.valueOf(100);
+        private String notionalAsset = "USDT";
+        @Min(1)
+        private int maxCycles = 5;
+        @Min(1)
+        private int depthLevels = 20;
+
+        public BigDecimal getFeeBps() {
+            return feeBps;
+        }
+
+        public void setFeeBps(BigDecimal feeBps) {
+            this.feeBps = feeBps;
+        }
+
+        public BigDecimal getNotional() {
+            return notional;
+        }
+
+        public void setNotional(BigDecimal notional) {
+            this.notional = notional;
+        }
+
+        public String getNotionalAsset() {
+            return notionalAsset;
+        }
+
+        public void setNotionalAsset(String notionalAsset) {
+            this.notionalAsset = notionalAsset;
+        }
+
+        public int getMaxCycles() {
+            return maxCycles;
+        }
+
+        public void setMaxCycles(int maxCycles) {
+            this.maxCycles = maxCycles;
+        }
+
+        public int getDepthLevels() {
+            return depthLevels;
+        }
+
+        public void setDepthLevels(int depthLevels) {
+            this.depthLevels = depthLevels;
+        }
+    }
+
+    public static class TickersConfig {
+        private boolean enabled = true;
+        private Duration refreshInterval = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    public static class WatchlistConfig {
+        private boolean enabled = true;
+        private List<String> pairs = new ArrayList<>();
+        private List<String> exchanges = new ArrayList<>();
+        private boolean depth = false;
+        @Min(1)
+        private int depthLevels = 10;
+        private Duration interval = Duration.ofSeconds(2);
+        @Min(1)
+        private int requestsPerSecond = 2;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getPairs() {
+            return pairs;
+        }
+
+        public void setPairs(List<String> pairs) {
+            this.pairs = pairs;
+        }
+
+        public List<String> getExchanges() {
+            return exchanges;
+        }
+
+        public void setExchanges(List<String> exchanges) {
+            this.exchanges = exchanges;
+        }
+
+        public boolean isDepth() {
+            return depth;
+        }
+
+        public void setDepth(boolean depth) {
+            this.depth = depth;
+        }
+
+        public int getDepthLevels() {
+            return depthLevels;
+        }
+
+        public void setDepthLevels(int depthLevels) {
+            this.depthLevels = depthLevels;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public int getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(int requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+    }
+
+    public static class SnapshotConfig {
+        private boolean enabled = true;
+        private String file = "./cache/metadata.snap";
+        private Duration interval = Duration.ofMinutes(5);
+        private Duration maxAge = Duration.ofDays(7);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public void setFile(String file) {
+            this.file = file;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public Duration getMaxAge() {
+            return maxAge;
+        }
+
+        public void setMaxAge(Duration maxAge) {
+            this.maxAge = maxAge;
+        }
+    }
+
+    public static class HealthConfig {
+        private boolean enabled = true;
+        @Min(1)
+        private int windowSize = 20;
+        @Min(1)
+        private int minCalls = 5;
+        @Min(1)
+        private int failureRatePercent = 50;
+        @Min(1)
+        private long slowCallMillis = 3000;
+        @Min(1)
+        private long callTimeoutMillis = 5000;
+        @Min(1)
+        private int openSeconds = 30;
+        @Min(1)
+        private int probeIntervalSeconds = 5;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinCalls() {
+            return minCalls;
+        }
+
+        public void setMinCalls(int minCalls) {
+            this.minCalls = minCalls;
+        }
+
+        public int getFailureRatePercent() {
+            return failureRatePercent;
+        }
+
+        public void setFailureRatePercent(int failureRatePercent) {
+            this.failureRatePercent = failureRatePercent;
+        }
+
+        public long getSlowCallMillis() {
+            return slowCallMillis;
+        }
+
+        public void setSlowCallMillis(long slowCallMillis) {
+            this.slowCallMillis = slowCallMillis;
+        }
+
+        public long getCallTimeoutMillis() {
+            return callTimeoutMillis;
+        }
+
+        public void setCallTimeoutMillis(long callTimeoutMillis) {
+            this.callTimeoutMillis = callTimeoutMillis;
+        }
+
+        public int getOpenSeconds() {
+            return openSeconds;
+        }
+
+        public void setOpenSeconds(int openSeconds) {
+            this.openSeconds = openSeconds;
+        }
+
+        public int getProbeIntervalSeconds() {
+            return probeIntervalSeconds;
+        }
+
+        public void setProbeIntervalSeconds(int probeIntervalSeconds) {
+            this.probeIntervalSeconds = probeIntervalSeconds;
+        }
+    }
+
     public static class ExchangeConfig {
-        @NotBlank
         private String baseUrl;
+        private List<String> baseUrls = List.of();
+        private String streamUrl;
+        @Valid
+        private SyntheticConfig synthetic;
+        private boolean singleFlight = true;
+        private boolean hedge;
 
         public String getBaseUrl() {
+            if (baseUrl == null || baseUrl.isBlank()) {
+                return baseUrls.isEmpty() ? baseUrl : baseUrls.get(0);
+            }
             return baseUrl;
         }
 
         public void setBaseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
         }
+
+        public List<String> getBaseUrls() {
+            return baseUrls;
+        }
+
+        public void setBaseUrls(List<String> baseUrls) {
+            this.baseUrls = baseUrls == null ? List.of() : baseUrls;
+        }
+
+        public List<String> resolveBaseUrls() {
+            Set<String> urls = new LinkedHashSet<>();
+            if (getBaseUrl() != null && !getBaseUrl().isBlank()) {
+                urls.add(getBaseUrl());
+            }
+            for (String url : baseUrls) {
+                if (url != null && !url.isBlank()) {
+                    urls.add(url);
+                }
+            }
+            return List.copyOf(urls);
+        }
+
+        @AssertTrue(message = "baseUrl or baseUrls is required")
+        public boolean isBaseUrlConfigured() {
+            return getBaseUrl() != null && !getBaseUrl().isBlank();
+        }
+
+        public String getStreamUrl() {
+            return streamUrl;
+        }
+
+        public void setStreamUrl(String streamUrl) {
+            this.streamUrl = streamUrl;
+        }
+
+        public boolean isHedge() {
+            return hedge;
+        }
+
+        public void setHedge(boolean hedge) {
+            this.hedge = hedge;
+        }
+
+        public SyntheticConfig getSynthetic() {
+            return synthetic;
+        }
+
+        public void setSynthetic(SyntheticConfig synthetic) {
+            this.synthetic = synthetic;
+        }
+
+        public boolean isSingleFlight() {
+            return singleFlight;
+        }
+
+        public void setSingleFlight(boolean singleFlight) {
+            this.singleFlight = singleFlight;
+        }
+    }
+
+    public static class SyntheticConfig {
+        private boolean enabled;
+        @Min(1)
+        private int levels = 50;
+        private BigDecimal mid = new BigDecimal("100");
+        private Map<String, BigDecimal> mids = Map.of();
+        @DecimalMin("0")
+        private BigDecimal spreadBps = new BigDecimal("10");
+        @DecimalMin("0")
+        private BigDecimal stepBps = new BigDecimal("1");
+        @DecimalMin("0")
+        private BigDecimal volatilityBps = new BigDecimal("5");
+        @DecimalMin("0")
+        private BigDecimal quantity = BigDecimal.ONE;
+        @Min(0)
+        private long delayMillis;
+        @Min(0)
+        private long jitterMillis;
+        private long seed;
+        private Map<String, BigDecimal> balances = Map.of();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getLevels() {
+            return levels;
+        }
+
+        public void setLevels(int levels) {
+            this.levels = levels;
+        }
+
+        public BigDecimal getMid() {
+            return mid;
+        }
+
+        public void setMid(BigDecimal mid) {
+            this.mid = mid;
+        }
+
+        public Map<String, BigDecimal> getMids() {
+            return mids;
+        }
+
+        public void setMids(Map<String, BigDecimal> mids) {
+            this.mids = mids;
+        }
+
+        public BigDecimal getSpreadBps() {
+            return spreadBps;
+        }
+
+        public void setSpreadBps(BigDecimal spreadBps) {
+            this.spreadBps = spreadBps;
+        }
+
+        public BigDecimal getStepBps() {
+            return stepBps;
+        }
+
+        public void setStepBps(BigDecimal stepBps) {
+            this.stepBps = stepBps;
+        }
+
+        public BigDecimal getVolatilityBps() {
+            return volatilityBps;
+        }
+
+        public void setVolatilityBps(BigDecimal volatilityBps) {
+            this.volatilityBps = volatilityBps;
+        }
+
+        public BigDecimal getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(BigDecimal quantity) {
+            this.quantity = quantity;
+        }
+
+        public long getDelayMillis() {
+            return delayMillis;
+        }
+
+        public void setDelayMillis(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        public long getJitterMillis() {
+            return jitterMillis;
+        }
+
+        public void setJitterMillis(long jitterMillis) {
+            this.jitterMillis = jitterMillis;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(long seed) {
+            this.seed = seed;
+        }
+
+        public Map<String, BigDecimal> getBalances() {
+            return balances;
+        }
+
+        public void setBalances(Map<String, BigDecimal> balances) {
+            this.balances = balances;
+        }
     }
 
     public static class AddressConfig {
@@ -95,6 +848,94 @@ public class AppProperties {
         this.polling = polling;
     }
 
+    public RecorderConfig getRecorder() {
+        return recorder;
+    }
+
+    public void setRecorder(RecorderConfig recorder) {
+        this.recorder = recorder;
+    }
+
+    public CacheConfig getCache() {
+        return cache;
+    }
+
+    public void setCache(CacheConfig cache) {
+        this.cache = cache;
+    }
+
+    public HealthConfig getHealth() {
+        return health;
+    }
+
+    public void setHealth(HealthConfig health) {
+        this.health = health;
+    }
+
+    public OrderConfig getOrders() {
+        return orders;
+    }
+
+    public void setOrders(OrderConfig orders) {
+        this.orders = orders;
+    }
+
+    public UserDataConfig getUserData() {
+        return userData;
+    }
+
+    public void setUserData(UserDataConfig userData) {
+        this.userData = userData;
+    }
+
+    public ExecutionConfig getExecution() {
+        return execution;
+    }
+
+    public void setExecution(ExecutionConfig execution) {
+        this.execution = execution;
+    }
+
+    public ArbitrageConfig getArbitrage() {
+        return arbitrage;
+    }
+
+    public void setArbitrage(ArbitrageConfig arbitrage) {
+        this.arbitrage = arbitrage;
+    }
+
+    public TickersConfig getTickers() {
+        return tickers;
+    }
+
+    public void setTickers(TickersConfig tickers) {
+        this.tickers = tickers;
+    }
+
+    public WatchlistConfig getWatchlist() {
+        return watchlist;
+    }
+
+    public void setWatchlist(WatchlistConfig watchlist) {
+        this.watchlist = watchlist;
+    }
+
+    public SnapshotConfig getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(SnapshotConfig snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public ReplayConfig getReplay() {
+        return replay;
+    }
+
+    public void setReplay(ReplayConfig replay) {
+        this.replay = replay;
+    }
+
     public Map<String, List<String>> getNetworkPriority() {
         return networkPriority;
     }
@@ -4,20 +4,35 @@ import com.crypto.console.common.command.Command;
 import com.crypto.console.common.command.impl.AddressCommand;
 import com.crypto.console.common.command.impl.BalanceCommand;
 import com.crypto.console.common.command.impl.BalancesCommand;
+import com.crypto.console.common.command.impl.BuyBestCommand;
 import com.crypto.console.common.command.impl.BuyCommand;
 import com.crypto.console.common.command.impl.BuyInfoCommand;
 import com.crypto.console.common.command.impl.BuyInfosCommand;
+import com.crypto.console.common.command.impl.CancelJobCommand;
 import com.crypto.console.common.command.impl.SellInfoCommand;
 import com.crypto.console.common.command.impl.SellInfosCommand;
 import com.crypto.console.common.command.impl.DepositCommand;
 import com.crypto.console.common.command.impl.SpreadCommand;
+import com.crypto.console.common.command.impl.StaleCommand;
+import com.crypto.console.common.command.impl.TickersCommand;
+import com.crypto.console.common.command.impl.TriArbCommand;
 import com.crypto.console.common.command.impl.InvalidCommand;
 import com.crypto.console.common.command.impl.MoveCommand;
 import com.crypto.console.common.command.impl.OrderBookCommand;
+import com.crypto.console.common.command.impl.PingCommand;
+import com.crypto.console.common.command.impl.RebalanceCommand;
+import com.crypto.console.common.command.impl.ScheduleOrderCommand;
+import com.crypto.console.common.command.impl.SellBestCommand;
 import com.crypto.console.common.command.impl.SellCommand;
+import com.crypto.console.common.arbitrage.ArbitrageScanner;
 import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.ExchangeClient;
 import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.execution.ExecutionJob;
+import com.crypto.console.common.execution.ExecutionScheduler;
+import com.crypto.console.common.exchange.impl.MarketDataCache;
+import com.crypto.console.common.marketdata.ConsolidatedOrderBook;
+import com.crypto.console.common.marketdata.TopOfBookIndex;
 import com.crypto.console.common.model.Balance;
 import com.crypto.console.common.model.CommandResult;
 import com.crypto.console.common.model.ExchangeException;
@@ -25,32 +40,76 @@ import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.OrderBook;
 import com.crypto.console.common.model.OrderBookEntry;
 import com.crypto.console.common.model.OrderResult;
+import com.crypto.console.common.model.OrderTemplate;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.util.AuditLog;
 import com.crypto.console.common.util.LogSanitizer;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 
 @Slf4j
 public class CommandExecutor {
+    private static final int ROUTE_DEPTH = 50;
+    private static final long WARM_UP_INTERVAL_MILLIS = 5_000;
+    private static final int CHILD_PENDING = 0;
+    private static final int CHILD_SENT = 1;
+    private static final int CHILD_CANCELLED = 2;
 
     private final ExchangeRegistry registry;
     private final MoveService moveService;
     private final DepositNetworkResolver networkResolver;
+    private final RebalanceService rebalanceService;
+    private final ImpactCurveService impactCurveService;
+    private final ExchangeHealthMonitor healthMonitor;
+    private final ExecutionScheduler executionScheduler;
+    private final ArbitrageScanner arbitrageScanner;
+    private final TickerService tickerService;
+    private final LatencyProbe latencyProbe;
+    private final Map<String, ConsolidatedOrderBook> consolidatedBooks = new ConcurrentHashMap<>();
+    private final OrderRouter orderRouter = new OrderRouter();
+    private final Set<String> warmingUp = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lastWarmUp = new ConcurrentHashMap<>();
 
-    public CommandExecutor(ExchangeRegistry registry, MoveService moveService, DepositNetworkResolver networkResolver) {
+    public CommandExecutor(ExchangeRegistry registry, MoveService moveService, DepositNetworkResolver networkResolver,
+                           RebalanceService rebalanceService, ImpactCurveService impactCurveService,
+                           ExchangeHealthMonitor healthMonitor, ExecutionScheduler executionScheduler,
+                           ArbitrageScanner arbitrageScanner, TickerService tickerService, LatencyProbe latencyProbe) {
         this.registry = registry;
         this.moveService = moveService;
         this.networkResolver = networkResolver;
+        this.rebalanceService = rebalanceService;
+        this.impactCurveService = impactCurveService;
+        this.healthMonitor = healthMonitor;
+        this.executionScheduler = executionScheduler;
+        this.arbitrageScanner = arbitrageScanner;
+        this.tickerService = tickerService;
+        this.latencyProbe = latencyProbe;
     }
 
     public CommandResult execute(Command command) {
+        if (command instanceof StaleCommand stale) {
+            return MarketDataCache.allowStale(stale.maxStale, () -> execute(stale.command));
+        }
         String raw = command.raw();
-        LOG.info("COMMAND: {}", LogSanitizer.sanitize(raw));
+        LOG.info("COMMAND: {}", LogSanitizer.lazy(raw));
         try {
             return switch (command.type()) {
                 case HELP -> CommandResult.success(helpText());
@@ -58,16 +117,26 @@ public class CommandExecutor {
                 case BALANCE -> handleBalance((BalanceCommand) command);
                 case BALANCES -> handleBalances((BalancesCommand) command);
                 case ORDERBOOK -> handleOrderBook((OrderBookCommand) command);
+                case TICKERS -> handleTickers((TickersCommand) command);
                 case BUY -> handleBuy((BuyCommand) command);
+                case BUYBEST -> handleBuyBest((BuyBestCommand) command);
                 case BUYINFO -> handleBuyInfo((BuyInfoCommand) command);
                 case BUYINFOS -> handleBuyInfos((BuyInfosCommand) command);
                 case SELLINFO -> handleSellInfo((SellInfoCommand) command);
                 case SELLINFOS -> handleSellInfos((SellInfosCommand) command);
                 case SPREAD -> handleSpread((SpreadCommand) command);
+                case TRIARB -> handleTriArb((TriArbCommand) command);
                 case SELL -> handleSell((SellCommand) command);
+                case SELLBEST -> handleSellBest((SellBestCommand) command);
+                case TWAP, POV -> handleScheduleOrder((ScheduleOrderCommand) command);
+                case JOBS -> handleJobs();
+                case CANCEL -> handleCancelJob((CancelJobCommand) command);
                 case MOVE -> handleMove((MoveCommand) command);
+                case REBALANCE -> handleRebalance((RebalanceCommand) command);
                 case DEPOSIT -> handleDeposit((DepositCommand) command);
                 case ADDRESS -> handleAddress((AddressCommand) command);
+                case HEALTH -> handleHealth();
+                case PING -> handlePing((PingCommand) command);
                 default -> CommandResult.failure("Unsupported command");
             };
         } catch (ExchangeException e) {
@@ -80,7 +149,7 @@ public class CommandExecutor {
     }
 
     private static void logError(String e) {
-        LOG.error("FAILED: {}", LogSanitizer.sanitize(e));
+        LOG.error("FAILED: {}", LogSanitizer.lazy(e));
     }
 
     private CommandResult handleBalance(BalanceCommand cmd) {
@@ -96,32 +165,36 @@ public class CommandExecutor {
     private CommandResult handleBalances(BalancesCommand cmd) {
         List<BalanceRow> rows = new ArrayList<>();
         BigDecimal total = BigDecimal.ZERO;
-        for (String exchange : registry.getAvailableExchanges()) {
-            try {
-                requireSecrets(exchange);
-                ExchangeClient client = registry.getClient(exchange);
-                Balance balance = client.getBalance(cmd.asset);
-                String totalBalance = formatTotalBalance(balance);
-                rows.add(new BalanceRow(client.name(), totalBalance, "ok"));
+        List<ExchangeHealthMonitor.Outcome<Balance>> outcomes = healthMonitor.fanOut(
+                client -> registry.hasSecrets(client.name()) ? client.getBalance(cmd.asset) : null);
+        for (ExchangeHealthMonitor.Outcome<Balance> outcome : outcomes) {
+            if (outcome.ok() && outcome.value() != null) {
+                String totalBalance = formatTotalBalance(outcome.value());
+                rows.add(new BalanceRow(displayName(outcome.exchange()), totalBalance, "ok"));
                 total = total.add(parseBalanceValue(totalBalance));
-            } catch (Exception e) {
-                rows.add(new BalanceRow(exchange, "", "error"));
+            } else {
+                String status = outcome.ok() ? "error" : outcome.status().label();
+                rows.add(new BalanceRow(displayName(outcome.exchange()), "", status));
             }
         }
 
         String message = formatBalancesTable(rows, cmd.asset, total);
-        logSuccess(LogSanitizer.sanitize(message));
+        logSuccess(message);
         return CommandResult.success(message);
     }
 
     private CommandResult handleOrderBook(OrderBookCommand cmd) {
+        if (cmd.allExchanges()) {
+            return handleConsolidatedOrderBook(cmd);
+        }
         ExchangeClient client = registry.getClient(cmd.exchange);
         if (!client.capabilities().supportsOrderBook) {
             throw new ExchangeException("Order book not supported for " + cmd.exchange);
         }
-        OrderBook book = client.getOrderBook(cmd.base, cmd.quote, 10);
+        MarketDataCache.Observed<OrderBook> observed = MarketDataCache.observe(() -> client.getOrderBook(cmd.base, cmd.quote, cmd.depth));
+        OrderBook book = observed.value();
         StringBuilder sb = new StringBuilder();
-        sb.append(client.name()).append(" ").append(book.symbol).append(" order book (top 10)");
+        sb.append(client.name()).append(" ").append(book.symbol).append(" order book (top ").append(cmd.depth).append(")").append(ageSuffix(observed.ageMillis()));
         sb.append("\nBids:");
         for (OrderBookEntry entry : book.bids) {
             sb.append("\n  ").append(entry.price).append(" x ").append(entry.quantity);
@@ -130,30 +203,383 @@ public class CommandExecutor {
         for (OrderBookEntry entry : book.asks) {
             sb.append("\n  ").append(entry.price).append(" x ").append(entry.quantity);
         }
-        logSuccess(LogSanitizer.sanitize(sb.toString()));
+        logSuccess(sb.toString());
+        return CommandResult.success(sb.toString());
+    }
+
+    private CommandResult handleConsolidatedOrderBook(OrderBookCommand cmd) {
+        ConsolidatedOrderBook book = consolidatedBooks.computeIfAbsent(cmd.base + "/" + cmd.quote, key -> new ConsolidatedOrderBook());
+        List<ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<OrderBook>>> outcomes = healthMonitor.fanOut(
+                client -> client.capabilities().supportsOrderBook
+                        ? MarketDataCache.observe(() -> client.getOrderBook(cmd.base, cmd.quote, cmd.depth))
+                        : null);
+        long oldestAge = -1;
+        List<String> unavailable = new ArrayList<>();
+        for (ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<OrderBook>> outcome : outcomes) {
+            if (outcome.ok() && outcome.value() != null) {
+                book.update(outcome.exchange(), outcome.value().value());
+                oldestAge = Math.max(oldestAge, outcome.value().ageMillis());
+            } else {
+                book.remove(outcome.exchange());
+                if (!outcome.ok()) {
+                    unavailable.add(outcome.exchange() + " (" + outcome.status().label() + ")");
+                }
+            }
+        }
+        if (book.venues().isEmpty()) {
+            throw new ExchangeException("No exchange returned an order book for " + cmd.base + "/" + cmd.quote);
+        }
+
+        List<String> headers = List.of("price", "quantity", "exchange");
+        StringBuilder sb = new StringBuilder();
+        sb.append("ORDERBOOK ").append(cmd.base).append("/").append(cmd.quote)
+                .append(" across ").append(book.venues().size()).append(" exchanges (top ").append(cmd.depth).append(")")
+                .append(ageSuffix(oldestAge));
+        sb.append("\nBids:\n").append(formatTable(headers, levelCells(book.bids(cmd.depth))));
+        sb.append("\nAsks:\n").append(formatTable(headers, levelCells(book.asks(cmd.depth))));
+        if (!unavailable.isEmpty()) {
+            sb.append("\nUnavailable: ").append(String.join(", ", unavailable));
+        }
+        logSuccess(sb.toString());
         return CommandResult.success(sb.toString());
     }
 
+    private CommandResult handleTickers(TickersCommand cmd) {
+        if (tickerService.lastRefresh() == 0) {
+            tickerService.refresh();
+        }
+        List<TopOfBookIndex.Quote> quotes = new ArrayList<>(tickerService.index().quotes(cmd.base, cmd.quote, System.currentTimeMillis()));
+        if (quotes.isEmpty()) {
+            throw new ExchangeException("No ticker data for " + cmd.base + "/" + cmd.quote);
+        }
+        quotes.sort(Comparator.comparingDouble(TopOfBookIndex.Quote::ask).thenComparing(TopOfBookIndex.Quote::exchange));
+        TopOfBookIndex.Quote bestBid = quotes.stream().max(Comparator.comparingDouble(TopOfBookIndex.Quote::bid)).orElseThrow();
+        TopOfBookIndex.Quote bestAsk = quotes.get(0);
+
+        List<String> headers = List.of("exchange", "bid", "ask", "spread bps", "age");
+        List<List<String>> rows = new ArrayList<>(quotes.size());
+        for (TopOfBookIndex.Quote quote : quotes) {
+            String exchange = displayName(quote.exchange());
+            if (quote == bestBid) {
+                exchange += " (best bid)";
+            }
+            if (quote == bestAsk) {
+                exchange += " (best ask)";
+            }
+            rows.add(List.of(
+                    exchange,
+                    toDisplayValue(BigDecimal.valueOf(quote.bid())),
+                    toDisplayValue(BigDecimal.valueOf(quote.ask())),
+                    String.format("%.1f", spreadBps(quote.bid(), quote.ask())),
+                    formatAge(quote.ageMillis())));
+        }
+        String message = "TICKERS " + cmd.base + "/" + cmd.quote + " across " + quotes.size() + " exchanges"
+                + "\n" + formatTable(headers, rows)
+                + "\nBest bid " + toDisplayValue(BigDecimal.valueOf(bestBid.bid())) + " on " + displayName(bestBid.exchange())
+                + ", best ask " + toDisplayValue(BigDecimal.valueOf(bestAsk.ask())) + " on " + displayName(bestAsk.exchange())
+                + String.format(", cross spread %.1f bps", spreadBps(bestBid.bid(), bestAsk.ask()));
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private static double spreadBps(double bid, double ask) {
+        double mid = (bid + ask) / 2;
+        return mid <= 0 ? 0 : (ask - bid) / mid * 10_000;
+    }
+
+    private static List<List<String>> levelCells(List<ConsolidatedOrderBook.Level> levels) {
+        List<List<String>> cells = new ArrayList<>(levels.size());
+        for (ConsolidatedOrderBook.Level level : levels) {
+            cells.add(List.of(level.price().toPlainString(), level.quantity().toPlainString(), level.exchange()));
+        }
+        return cells;
+    }
+
     private CommandResult handleBuy(BuyCommand cmd) {
         requireSecrets(cmd.exchange);
         ExchangeClient client = registry.getClient(cmd.exchange);
         if (!client.capabilities().supportsMarketOrders) {
             throw new ExchangeException("Market orders not supported for " + cmd.exchange);
         }
-        OrderResult result = client.marketBuy(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
+        AuditLog.orderSubmitted(client.name(), "BUY", cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
+        OrderResult result;
+        try {
+            result = client.marketBuy(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
+        } catch (RuntimeException e) {
+            AuditLog.failed("order", client.name(), e.getMessage());
+            throw e;
+        }
+        AuditLog.orderResult(client.name(), "BUY", cmd.baseAsset, cmd.quoteAsset, result.orderId, result.status);
         String message = "BUY placed on " + client.name() + ": " + result.status + " id=" + result.orderId;
         logSuccess(message);
         return CommandResult.success(message);
     }
 
+    private CommandResult handleBuyBest(BuyBestCommand cmd) {
+        return handleBestOrder(true, cmd.baseAsset, cmd.quoteAmount, cmd.quoteAsset);
+    }
+
+    private CommandResult handleSellBest(SellBestCommand cmd) {
+        return handleBestOrder(false, cmd.baseAsset, cmd.baseAmount, cmd.quoteAsset);
+    }
+
+    private CommandResult handleBestOrder(boolean buy, String baseAsset, BigDecimal amount, String quoteAsset) {
+        String side = buy ? "BUY" : "SELL";
+        String fundingAsset = buy ? quoteAsset : baseAsset;
+        List<ExchangeHealthMonitor.Outcome<RouteVenue>> outcomes = healthMonitor.fanOut(client -> {
+            if (!registry.hasSecrets(client.name()) || !client.capabilities().supportsMarketOrders
+                    || !client.capabilities().supportsOrderBook) {
+                return null;
+            }
+            MarketDataCache.Observed<OrderBook> book = MarketDataCache.observe(() -> client.getOrderBook(baseAsset, quoteAsset, ROUTE_DEPTH));
+            Balance balance = registry.userData().balance(client.name(), fundingAsset);
+            if (balance == null) {
+                balance = client.getBalance(fundingAsset);
+            }
+            OrderTemplate template = client.orderTemplate(baseAsset, quoteAsset);
+            BigDecimal free = balance.free == null || (template != null && template.rejection != null) ? BigDecimal.ZERO : balance.free;
+            return new RouteVenue(book.value(), free, template == null ? null : template.minNotional, book.ageMillis());
+        });
+
+        ConsolidatedOrderBook book = consolidatedBooks.computeIfAbsent(baseAsset + "/" + quoteAsset, key -> new ConsolidatedOrderBook());
+        Map<String, BigDecimal> available = new LinkedHashMap<>();
+        Map<String, BigDecimal> minNotional = new HashMap<>();
+        List<String> unavailable = new ArrayList<>();
+        long oldestAge = -1;
+        for (ExchangeHealthMonitor.Outcome<RouteVenue> outcome : outcomes) {
+            if (outcome.ok() && outcome.value() != null) {
+                RouteVenue venue = outcome.value();
+                book.update(outcome.exchange(), venue.book());
+                available.put(outcome.exchange(), venue.available());
+                if (venue.minNotional() != null) {
+                    minNotional.put(outcome.exchange(), venue.minNotional());
+                }
+                oldestAge = Math.max(oldestAge, venue.ageMillis());
+            } else if (!outcome.ok()) {
+                book.remove(outcome.exchange());
+                unavailable.add(outcome.exchange() + " (" + outcome.status().label() + ")");
+            }
+        }
+        if (available.isEmpty()) {
+            throw new ExchangeException("No exchange with credentials and market orders returned an order book for " + baseAsset + "/" + quoteAsset);
+        }
+
+        long started = System.nanoTime();
+        int levels = book.venues().size() * ROUTE_DEPTH;
+        OrderRouter.Route route = orderRouter.route(buy, amount, buy ? book.asks(levels) : book.bids(levels), available, minNotional);
+        LOG.debug("Routed {} {} {}/{} across {} venues in {}us", side, amount, baseAsset, quoteAsset,
+                route.allocations().size(), (System.nanoTime() - started) / 1_000L);
+        if (route.allocations().isEmpty()) {
+            throw new ExchangeException("No exchange can " + side.toLowerCase() + " " + baseAsset + "/" + quoteAsset
+                    + " within available balances and minimum order sizes");
+        }
+
+        int children = route.allocations().size();
+        AtomicIntegerArray states = new AtomicIntegerArray(children);
+        OrderResult[] results = new OrderResult[children];
+        String[] errors = new String[children];
+        int cancelled = 0;
+        boolean interrupted = false;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<OrderResult>> futures = new ArrayList<>(children);
+            for (int i = 0; i < children; i++) {
+                int index = i;
+                OrderRouter.Allocation allocation = route.allocations().get(i);
+                futures.add(executor.submit(() -> {
+                    if (!states.compareAndSet(index, CHILD_PENDING, CHILD_SENT)) {
+                        throw new CancellationException();
+                    }
+                    return placeChildOrder(buy, allocation, baseAsset, quoteAsset);
+                }));
+            }
+            for (int i = 0; i < children; i++) {
+                while (results[i] == null && errors[i] == null) {
+                    try {
+                        OrderResult result = futures.get(i).get();
+                        if (result == null) {
+                            errors[i] = "error: no order result";
+                        }
+                        results[i] = result;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                        for (int j = 0; j < children; j++) {
+                            if (states.compareAndSet(j, CHILD_PENDING, CHILD_CANCELLED)) {
+                                futures.get(j).cancel(true);
+                            }
+                        }
+                    } catch (CancellationException e) {
+                        errors[i] = "cancelled, not sent";
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause() == null ? e : e.getCause();
+                        errors[i] = cause instanceof CancellationException ? "cancelled, not sent" : "error: " + cause.getMessage();
+                    }
+                }
+                if (states.get(i) == CHILD_CANCELLED) {
+                    cancelled++;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<List<String>> rows = new ArrayList<>();
+        BigDecimal filledBase = BigDecimal.ZERO;
+        BigDecimal filledQuote = BigDecimal.ZERO;
+        int placed = 0;
+        for (int i = 0; i < children; i++) {
+            OrderRouter.Allocation allocation = route.allocations().get(i);
+            OrderResult result = results[i];
+            if (result == null) {
+                rows.add(List.of(displayName(allocation.exchange()), toDisplayValue(allocation.amount()), "", "", "",
+                        errors[i], ""));
+                continue;
+            }
+            placed++;
+            OrderUpdate update = result.orderId == null ? null : registry.userData().order(allocation.exchange(), result.orderId);
+            boolean actual = update != null && update.executedQty != null && update.executedQty.signum() > 0
+                    && update.executedQuote != null;
+            BigDecimal base = actual ? update.executedQty : allocation.baseAmount();
+            BigDecimal quote = actual ? update.executedQuote : allocation.quoteAmount();
+            filledBase = filledBase.add(base);
+            filledQuote = filledQuote.add(quote);
+            rows.add(List.of(
+                    displayName(allocation.exchange()),
+                    toDisplayValue(allocation.amount()),
+                    toDisplayAmount(quote.divide(base, MathContext.DECIMAL64)),
+                    toDisplayAmount(buy ? base : quote),
+                    actual ? "actual" : "est.",
+                    result.status == null ? "" : result.status,
+                    result.orderId == null ? "" : result.orderId));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(side).append("BEST ").append(baseAsset).append("/").append(quoteAsset).append(": ")
+                .append(toDisplayValue(amount)).append(" ").append(fundingAsset)
+                .append(" routed across ").append(route.allocations().size()).append(" exchanges")
+                .append(ageSuffix(oldestAge));
+        sb.append("\n").append(formatTable(List.of(
+                "exchange",
+                (buy ? "spend " : "sell ") + fundingAsset,
+                "avg price (" + quoteAsset + ")",
+                buy ? "buy " + baseAsset : "get " + quoteAsset,
+                "fill",
+                "status",
+                "order id"), rows));
+        if (filledBase.signum() > 0) {
+            sb.append("\nBlended: ").append(buy ? "bought " : "sold ").append(toDisplayAmount(filledBase)).append(" ").append(baseAsset)
+                    .append(" for ").append(toDisplayAmount(filledQuote)).append(" ").append(quoteAsset)
+                    .append(", avg price ").append(toDisplayAmount(filledQuote.divide(filledBase, MathContext.DECIMAL64)))
+                    .append(" ").append(quoteAsset);
+        }
+        if (route.unfilled().signum() > 0) {
+            sb.append("\nUnrouted: ").append(toDisplayValue(route.unfilled())).append(" ").append(fundingAsset)
+                    .append(" (not enough depth or balance)");
+        }
+        if (!route.skipped().isEmpty()) {
+            sb.append("\nSkipped: ").append(String.join(", ", route.skipped()))
+                    .append(" (no ").append(fundingAsset).append(" balance or below minimum order size)");
+        }
+        if (!unavailable.isEmpty()) {
+            sb.append("\nUnavailable: ").append(String.join(", ", unavailable));
+        }
+        if (interrupted) {
+            sb.append("\nInterrupted: ").append(placed).append(" order(s) submitted, ")
+                    .append(cancelled).append(" cancelled before sending");
+        }
+        String message = sb.toString();
+        if (placed == 0) {
+            logError(message);
+            return CommandResult.failure(message);
+        }
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private OrderResult placeChildOrder(boolean buy, OrderRouter.Allocation allocation, String baseAsset, String quoteAsset) {
+        String side = buy ? "BUY" : "SELL";
+        ExchangeClient client = registry.getClient(allocation.exchange());
+        AuditLog.orderSubmitted(client.name(), side, baseAsset, quoteAsset, allocation.amount());
+        OrderResult result;
+        try {
+            result = buy
+                    ? client.marketBuy(baseAsset, quoteAsset, allocation.amount())
+                    : client.marketSell(baseAsset, quoteAsset, allocation.amount());
+        } catch (RuntimeException e) {
+            AuditLog.failed("order", client.name(), e.getMessage());
+            throw e;
+        }
+        AuditLog.orderResult(client.name(), side, baseAsset, quoteAsset, result.orderId, result.status);
+        return result;
+    }
+
+    private CommandResult handleScheduleOrder(ScheduleOrderCommand cmd) {
+        requireSecrets(cmd.exchange);
+        ExchangeClient client = registry.getClient(cmd.exchange);
+        if (!client.capabilities().supportsMarketOrders || !client.capabilities().supportsOrderBook) {
+            throw new ExchangeException("Scheduled execution needs market orders and order books, not supported for " + cmd.exchange);
+        }
+        prepareOrder(cmd.exchange, client, cmd.baseAsset, cmd.quoteAsset);
+        ExecutionJob job = cmd.strategy == ExecutionJob.Strategy.TWAP
+                ? executionScheduler.twap(cmd.exchange, cmd.buy, cmd.baseAsset, cmd.quoteAsset, cmd.amount, cmd.duration, cmd.slices)
+                : executionScheduler.pov(cmd.exchange, cmd.buy, cmd.baseAsset, cmd.quoteAsset, cmd.amount, cmd.participation, cmd.interval);
+        String schedule = job.strategy == ExecutionJob.Strategy.TWAP
+                ? job.slices + " slices every " + job.interval.toSeconds() + "s"
+                : toDisplayValue(job.participation.multiply(BigDecimal.valueOf(100))) + "% of depth every " + job.interval.toSeconds() + "s";
+        String message = "Job #" + job.id + " started: " + job.strategy + " " + (job.buy ? "BUY " : "SELL ")
+                + toDisplayValue(job.amount) + " " + (job.buy ? job.quoteAsset : job.baseAsset)
+                + " of " + job.baseAsset + "/" + job.quoteAsset + " on " + client.name() + ", " + schedule;
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private CommandResult handleJobs() {
+        List<ExecutionJob> jobs = executionScheduler.jobs();
+        if (jobs.isEmpty()) {
+            return CommandResult.success("No execution jobs");
+        }
+        List<String> headers = List.of("id", "exchange", "strategy", "side", "pair", "done", "avg price", "orders", "status", "note");
+        List<List<String>> rows = new ArrayList<>();
+        for (ExecutionJob job : jobs) {
+            ExecutionJob.Progress progress = job.progress();
+            rows.add(List.of(
+                    "#" + job.id,
+                    displayName(job.exchange),
+                    job.strategy.name().toLowerCase(),
+                    job.buy ? "buy" : "sell",
+                    job.baseAsset + "/" + job.quoteAsset,
+                    toDisplayValue(progress.executed()) + "/" + toDisplayValue(job.amount) + " " + (job.buy ? job.quoteAsset : job.baseAsset),
+                    toDisplayAmount(progress.averagePrice()),
+                    String.valueOf(progress.orders()),
+                    progress.status().label(),
+                    progress.note() == null ? "" : progress.note()));
+        }
+        return CommandResult.success(formatTable(headers, rows));
+    }
+
+    private CommandResult handleCancelJob(CancelJobCommand cmd) {
+        ExecutionJob job = executionScheduler.cancel(cmd.jobId);
+        ExecutionJob.Progress progress = job.progress();
+        String message = "Job #" + job.id + " " + progress.status().label() + " after " + progress.orders() + " orders, "
+                + toDisplayValue(progress.executed()) + "/" + toDisplayValue(job.amount) + " " + (job.buy ? job.quoteAsset : job.baseAsset) + " done";
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
     private CommandResult handleBuyInfo(BuyInfoCommand cmd) {
         ExchangeClient client = registry.getClient(cmd.exchange);
-        BuyInfoResult result = client.buyInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
+        if (cmd.quoteAmounts.size() > 1) {
+            return handleCurve(client, cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmounts, true);
+        }
+        prepareOrder(cmd.exchange, client, cmd.baseAsset, cmd.quoteAsset);
+        MarketDataCache.Observed<BuyInfoResult> observed = MarketDataCache.observe(() -> client.buyInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount));
+        BuyInfoResult result = observed.value();
         String message = "ASKINFO " + client.name()
                 + " " + result.symbol
                 + ": for " + result.requestedQuoteAmount + " " + cmd.quoteAsset
                 + " -> buy " + result.boughtBaseAmount + " " + cmd.baseAsset
-                + ", avg price " + result.averagePrice + " " + cmd.quoteAsset;
+                + ", avg price " + result.averagePrice + " " + cmd.quoteAsset
+                + ageSuffix(observed.ageMillis());
         if (result.affectedOrderBookItems != null && !result.affectedOrderBookItems.isEmpty()) {
             StringBuilder sb = new StringBuilder(message);
             sb.append("\nAffected asks:");
@@ -178,21 +604,26 @@ public class CommandExecutor {
     }
 
     private CommandResult handleBuyInfos(BuyInfosCommand cmd) {
+        if (cmd.quoteAmounts.size() > 1) {
+            return handleCurves(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmounts, true);
+        }
         List<BuyInfosRow> rows = new ArrayList<>();
-        for (String exchange : registry.getAvailableExchanges()) {
-            try {
-                ExchangeClient client = registry.getClient(exchange);
-                BuyInfoResult result = client.buyInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
-                rows.add(BuyInfosRow.success(
-                        client.name(),
-                        result.symbol,
-                        toDisplayValue(result.averagePrice),
-                        toDisplayValue(result.boughtBaseAmount),
-                        toDisplayValue(result.spentQuoteAmount)
-                ));
-            } catch (Exception e) {
-                rows.add(BuyInfosRow.error(exchange));
+        List<ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<BuyInfoResult>>> outcomes = healthMonitor.fanOut(
+                client -> MarketDataCache.observe(() -> client.buyInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount)));
+        for (ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<BuyInfoResult>> outcome : outcomes) {
+            if (!outcome.ok()) {
+                rows.add(BuyInfosRow.error(outcome.exchange(), outcome.status().label()));
+                continue;
             }
+            BuyInfoResult result = outcome.value().value();
+            rows.add(BuyInfosRow.success(
+                    displayName(outcome.exchange()),
+                    result.symbol,
+                    toDisplayValue(result.averagePrice),
+                    toDisplayValue(result.boughtBaseAmount),
+                    toDisplayValue(result.spentQuoteAmount),
+                    formatAge(outcome.value().ageMillis())
+            ));
         }
 
         rows.sort(Comparator
@@ -201,7 +632,7 @@ public class CommandExecutor {
                 .thenComparing(BuyInfosRow::exchange));
 
         String message = formatBuyInfosTable(rows, cmd.baseAsset, cmd.quoteAsset);
-        logSuccess(LogSanitizer.sanitize(message));
+        logSuccess(message);
         return CommandResult.success(message);
     }
 
@@ -211,7 +642,15 @@ public class CommandExecutor {
         if (!client.capabilities().supportsMarketOrders) {
             throw new ExchangeException("Market orders not supported for " + cmd.exchange);
         }
-        OrderResult result = client.marketSell(cmd.baseAsset, cmd.quoteAsset, cmd.baseAmount);
+        AuditLog.orderSubmitted(client.name(), "SELL", cmd.baseAsset, cmd.quoteAsset, cmd.baseAmount);
+        OrderResult result;
+        try {
+            result = client.marketSell(cmd.baseAsset, cmd.quoteAsset, cmd.baseAmount);
+        } catch (RuntimeException e) {
+            AuditLog.failed("order", client.name(), e.getMessage());
+            throw e;
+        }
+        AuditLog.orderResult(client.name(), "SELL", cmd.baseAsset, cmd.quoteAsset, result.orderId, result.status);
         String message = "SELL placed on " + client.name() + ": " + result.status + " id=" + result.orderId;
         logSuccess(message);
         return CommandResult.success(message);
@@ -219,12 +658,18 @@ public class CommandExecutor {
 
     private CommandResult handleSellInfo(SellInfoCommand cmd) {
         ExchangeClient client = registry.getClient(cmd.exchange);
-        BuyInfoResult result = client.sellInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
+        if (cmd.quoteAmounts.size() > 1) {
+            return handleCurve(client, cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmounts, false);
+        }
+        prepareOrder(cmd.exchange, client, cmd.baseAsset, cmd.quoteAsset);
+        MarketDataCache.Observed<BuyInfoResult> observed = MarketDataCache.observe(() -> client.sellInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount));
+        BuyInfoResult result = observed.value();
         String message = "BIDINFO " + client.name()
                 + " " + result.symbol
                 + ": for " + result.requestedQuoteAmount + " " + cmd.quoteAsset
                 + " -> sell " + result.boughtBaseAmount + " " + cmd.baseAsset
-                + ", avg price " + result.averagePrice + " " + cmd.quoteAsset;
+                + ", avg price " + result.averagePrice + " " + cmd.quoteAsset
+                + ageSuffix(observed.ageMillis());
         if (result.affectedOrderBookItems != null && !result.affectedOrderBookItems.isEmpty()) {
             StringBuilder sb = new StringBuilder(message);
             sb.append("\nAffected bids:");
@@ -249,21 +694,26 @@ public class CommandExecutor {
     }
 
     private CommandResult handleSellInfos(SellInfosCommand cmd) {
+        if (cmd.quoteAmounts.size() > 1) {
+            return handleCurves(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmounts, false);
+        }
         List<SellInfosRow> rows = new ArrayList<>();
-        for (String exchange : registry.getAvailableExchanges()) {
-            try {
-                ExchangeClient client = registry.getClient(exchange);
-                BuyInfoResult result = client.sellInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
-                rows.add(SellInfosRow.success(
-                        client.name(),
-                        result.symbol,
-                        toDisplayValue(result.averagePrice),
-                        toDisplayValue(result.boughtBaseAmount),
-                        toDisplayValue(result.spentQuoteAmount)
-                ));
-            } catch (Exception e) {
-                rows.add(SellInfosRow.error(exchange));
+        List<ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<BuyInfoResult>>> outcomes = healthMonitor.fanOut(
+                client -> MarketDataCache.observe(() -> client.sellInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount)));
+        for (ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<BuyInfoResult>> outcome : outcomes) {
+            if (!outcome.ok()) {
+                rows.add(SellInfosRow.error(outcome.exchange(), outcome.status().label()));
+                continue;
             }
+            BuyInfoResult result = outcome.value().value();
+            rows.add(SellInfosRow.success(
+                    displayName(outcome.exchange()),
+                    result.symbol,
+                    toDisplayValue(result.averagePrice),
+                    toDisplayValue(result.boughtBaseAmount),
+                    toDisplayValue(result.spentQuoteAmount),
+                    formatAge(outcome.value().ageMillis())
+            ));
         }
 
         rows.sort(Comparator
@@ -272,15 +722,115 @@ public class CommandExecutor {
                 .thenComparing(SellInfosRow::exchange));
 
         String message = formatSellInfosTable(rows, cmd.baseAsset, cmd.quoteAsset);
-        logSuccess(LogSanitizer.sanitize(message));
+        logSuccess(message);
         return CommandResult.success(message);
     }
 
+    private CommandResult handleCurve(ExchangeClient client, String baseAsset, String quoteAsset, List<BigDecimal> sizes, boolean buy) {
+        MarketDataCache.Observed<ImpactCurveService.Curve> observed = MarketDataCache.observe(
+                () -> impactCurveService.curve(client, baseAsset, quoteAsset, sizes, buy));
+        ImpactCurveService.Curve curve = observed.value();
+        List<String> headers = List.of(
+                (buy ? "spend " : "get ") + quoteAsset,
+                (buy ? "avg ask (" : "avg bid (") + quoteAsset + ")",
+                (buy ? "buy " : "sell ") + baseAsset,
+                "slippage %",
+                "levels",
+                "success");
+        List<List<String>> rows = new ArrayList<>();
+        for (ImpactCurveService.Point point : curve.points()) {
+            if (!point.ok()) {
+                rows.add(List.of(toDisplayValue(point.size()), "", "", "", "", "error"));
+                continue;
+            }
+            rows.add(List.of(
+                    toDisplayValue(point.size()),
+                    toDisplayValue(point.averagePrice()),
+                    toDisplayValue(point.baseAmount()),
+                    toDisplayValue(point.slippagePct()),
+                    String.valueOf(point.levels()),
+                    point.complete() ? "ok" : "partial"));
+        }
+        String message = (buy ? "ASKINFO " : "BIDINFO ") + client.name() + " " + curve.symbol()
+                + (curve.bestPrice() == null ? "" : ", best " + (buy ? "ask " : "bid ") + toDisplayValue(curve.bestPrice()) + " " + quoteAsset)
+                + ageSuffix(observed.ageMillis())
+                + "\n" + formatTable(headers, rows)
+                + "\n\n" + sizes.size() + " sizes from " + curve.requests() + (curve.requests() == 1 ? " request" : " requests");
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private CommandResult handleCurves(String baseAsset, String quoteAsset, List<BigDecimal> sizes, boolean buy) {
+        List<CurveRow> rows = new ArrayList<>();
+        int requests = 0;
+        List<ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<ImpactCurveService.Curve>>> outcomes = healthMonitor.fanOut(
+                client -> MarketDataCache.observe(() -> impactCurveService.curve(client, baseAsset, quoteAsset, sizes, buy)));
+        for (ExchangeHealthMonitor.Outcome<MarketDataCache.Observed<ImpactCurveService.Curve>> outcome : outcomes) {
+            if (!outcome.ok()) {
+                rows.add(CurveRow.error(outcome.exchange(), outcome.status().label()));
+                continue;
+            }
+            requests += outcome.value().value().requests();
+            rows.add(CurveRow.success(displayName(outcome.exchange()), outcome.value().value(), formatAge(outcome.value().ageMillis())));
+        }
+
+        rows.sort(Comparator
+                .comparing(CurveRow::hasPrice).reversed()
+                .thenComparing(CurveRow::firstPrice, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(CurveRow::exchange));
+
+        List<String> headers = new ArrayList<>();
+        headers.add("exchange");
+        headers.add("symbol");
+        for (BigDecimal size : sizes) {
+            headers.add("@" + toDisplayValue(size));
+        }
+        headers.add("age");
+        headers.add("success");
+        List<List<String>> cells = new ArrayList<>();
+        for (CurveRow row : rows) {
+            List<String> line = new ArrayList<>();
+            line.add(row.exchange);
+            line.add(row.curve == null ? "" : row.curve.symbol());
+            for (int i = 0; i < sizes.size(); i++) {
+                line.add(row.curve == null ? "" : curveCell(row.curve.points().get(i)));
+            }
+            line.add(row.age);
+            line.add(row.status);
+            cells.add(line);
+        }
+        String message = (buy ? "avg ask (" : "avg bid (") + quoteAsset + ") by " + (buy ? "spend " : "get ") + quoteAsset
+                + "\n" + formatTable(headers, cells)
+                + "\n\n* partial fill, - failed"
+                + "\n" + requests + " requests";
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private String curveCell(ImpactCurveService.Point point) {
+        if (!point.ok()) {
+            return "-";
+        }
+        return toDisplayValue(point.averagePrice()) + (point.complete() ? "" : "*");
+    }
+
     private CommandResult handleSpread(SpreadCommand cmd) {
         ExchangeClient ex1 = registry.getClient(cmd.exchange1);
         ExchangeClient ex2 = registry.getClient(cmd.exchange2);
-        BuyInfoResult buyInfo = ex1.buyInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
-        BuyInfoResult sellInfo = ex2.sellInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount);
+        prepareOrder(cmd.exchange1, ex1, cmd.baseAsset, cmd.quoteAsset);
+        prepareOrder(cmd.exchange2, ex2, cmd.baseAsset, cmd.quoteAsset);
+        MarketDataCache.Observed<BuyInfoResult> buyQuote;
+        MarketDataCache.Observed<BuyInfoResult> sellQuote;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<MarketDataCache.Observed<BuyInfoResult>> buyFuture = executor.submit(
+                    () -> MarketDataCache.observe(() -> ex1.buyInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount)));
+            Future<MarketDataCache.Observed<BuyInfoResult>> sellFuture = executor.submit(
+                    () -> MarketDataCache.observe(() -> ex2.sellInfo(cmd.baseAsset, cmd.quoteAsset, cmd.quoteAmount)));
+            buyQuote = await(buyFuture);
+            sellQuote = await(sellFuture);
+        }
+        BuyInfoResult buyInfo = buyQuote.value();
+        BuyInfoResult sellInfo = sellQuote.value();
         String withdrawStatus = ex1.getWithdrawStatus(cmd.baseAsset);
         java.math.BigDecimal ask = buyInfo.averagePrice;
         java.math.BigDecimal bid = sellInfo.averagePrice;
@@ -294,7 +844,7 @@ public class CommandExecutor {
         String message = "SPREAD " + ex1.name() + "->" + ex2.name()
                 + " " + cmd.baseAsset + "/" + cmd.quoteAsset
                 + " amount=" + cmd.quoteAmount + " " + cmd.quoteAsset
-                + ": ask=" + ask + " (" + ex1.name() + "), bid=" + bid + " (" + ex2.name() + ")"
+                + ": ask=" + ask + " (" + ex1.name() + ageNote(buyQuote.ageMillis()) + "), bid=" + bid + " (" + ex2.name() + ageNote(sellQuote.ageMillis()) + ")"
                 + ", spread=" + spreadPct + "%"
                 + System.lineSeparator()
                 + withdrawStatus;
@@ -302,11 +852,72 @@ public class CommandExecutor {
         return CommandResult.success(message);
     }
 
+    private CommandResult handleTriArb(TriArbCommand cmd) {
+        List<ArbitrageScanner.Scan> scans = new ArrayList<>();
+        List<String> unavailable = new ArrayList<>();
+        if (cmd.allExchanges()) {
+            for (ExchangeHealthMonitor.Outcome<ArbitrageScanner.Scan> outcome : healthMonitor.fanOut(
+                    client -> arbitrageScanner.scan(client, cmd.notional))) {
+                if (outcome.ok() && outcome.value() != null) {
+                    scans.add(outcome.value());
+                } else if (!outcome.ok()) {
+                    unavailable.add(outcome.exchange() + " (" + outcome.status().label() + ")");
+                }
+            }
+        } else {
+            ArbitrageScanner.Scan scan = arbitrageScanner.scan(registry.getClient(cmd.exchange), cmd.notional);
+            if (scan == null) {
+                throw new ExchangeException("Bulk tickers not supported for " + cmd.exchange);
+            }
+            scans.add(scan);
+        }
+        if (scans.isEmpty()) {
+            throw new ExchangeException("No exchange returned bulk tickers");
+        }
+
+        List<String> headers = List.of("exchange", "pairs", "scan us", "cycle", "ticker bps", "depth bps", "start", "note");
+        List<List<String>> rows = new ArrayList<>();
+        for (ArbitrageScanner.Scan scan : scans) {
+            if (scan.opportunities().isEmpty()) {
+                rows.add(List.of(scan.exchange(), String.valueOf(scan.pairs()), String.valueOf(scan.elapsedMicros()),
+                        "", "", "", "", "no cycle after fees"));
+                continue;
+            }
+            for (ArbitrageScanner.Opportunity opportunity : scan.opportunities()) {
+                rows.add(List.of(
+                        scan.exchange(),
+                        String.valueOf(scan.pairs()),
+                        String.valueOf(scan.elapsedMicros()),
+                        opportunity.path(),
+                        String.format("%.1f", opportunity.tickerBps()),
+                        opportunity.confirmedBps() == null ? "" : opportunity.confirmedBps().setScale(1, RoundingMode.HALF_UP).toPlainString(),
+                        toDisplayAmount(opportunity.startAmount()),
+                        opportunity.note() == null ? "" : opportunity.note()));
+            }
+        }
+        StringBuilder sb = new StringBuilder(formatTable(headers, rows));
+        if (!unavailable.isEmpty()) {
+            sb.append("\nUnavailable: ").append(String.join(", ", unavailable));
+        }
+        String message = sb.toString();
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
     private CommandResult handleMove(MoveCommand cmd) {
         requireSecrets(cmd.from);
         requireSecrets(cmd.to);
         String message = moveService.move(cmd.from, cmd.to, cmd.amount, cmd.asset);
-        logSuccess(LogSanitizer.sanitize(message));
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private CommandResult handleRebalance(RebalanceCommand cmd) {
+        for (String exchange : cmd.targets.keySet()) {
+            requireSecrets(exchange);
+        }
+        String message = rebalanceService.rebalance(cmd.asset, cmd.targets);
+        logSuccess(message);
         return CommandResult.success(message);
     }
 
@@ -318,7 +929,7 @@ public class CommandExecutor {
         sb.append("supported networks:");
         networks.stream().sorted().forEach(n -> sb.append("\n").append(n));
         String message = sb.toString();
-        logSuccess(LogSanitizer.sanitize(message));
+        logSuccess(message);
         return CommandResult.success(message);
     }
 
@@ -332,12 +943,90 @@ public class CommandExecutor {
         if (address == null || address.isBlank()) {
             throw new ExchangeException("No deposit address returned for " + cmd.exchange + " " + cmd.asset + " " + cmd.network);
         }
-        logSuccess(LogSanitizer.sanitize(address));
+        logSuccess(address);
         return CommandResult.success(address);
     }
 
+    private CommandResult handleHealth() {
+        List<String> headers = List.of("exchange", "circuit", "score", "latency ms", "failures %", "calls");
+        List<List<String>> rows = new ArrayList<>();
+        for (ExchangeHealthMonitor.Snapshot snapshot : healthMonitor.snapshots()) {
+            rows.add(List.of(
+                    snapshot.exchange(),
+                    snapshot.state().name().toLowerCase(),
+                    String.valueOf(snapshot.score()),
+                    snapshot.calls() == 0 ? "" : String.valueOf(snapshot.latencyMillis()),
+                    snapshot.calls() == 0 ? "" : String.valueOf(snapshot.failureRatePercent()),
+                    String.valueOf(snapshot.calls())));
+        }
+        return CommandResult.success(formatTable(headers, rows));
+    }
+
+    private CommandResult handlePing(PingCommand cmd) {
+        List<String> headers = List.of("exchange", "method", "min ms", "median ms", "p99 ms", "offset ms", "tls", "status");
+        List<List<String>> rows = new ArrayList<>();
+        for (LatencyProbe.Result result : latencyProbe.ping(cmd.samples)) {
+            if (!result.ok()) {
+                rows.add(List.of(result.exchange(), "", "", "", "", "", "", result.error() == null ? "error" : result.error()));
+                continue;
+            }
+            rows.add(List.of(
+                    displayName(result.exchange()),
+                    result.method(),
+                    String.valueOf(result.minMillis()),
+                    String.valueOf(result.medianMillis()),
+                    String.valueOf(result.p99Millis()),
+                    result.offsetMillis() == null ? "" : String.valueOf(result.offsetMillis()),
+                    result.connection() == null ? "-" : result.connection(),
+                    result.samples() < cmd.samples ? result.samples() + "/" + cmd.samples + " ok" : "ok"));
+        }
+        String message = "PING " + cmd.samples + " sample(s) per exchange\n" + formatTable(headers, rows);
+        logSuccess(message);
+        return CommandResult.success(message);
+    }
+
+    private String displayName(String exchange) {
+        return registry.getClient(exchange).name();
+    }
+
+    private void prepareOrder(String exchange, ExchangeClient client, String baseAsset, String quoteAsset) {
+        if (!registry.hasSecrets(exchange)) {
+            return;
+        }
+        String key = exchange + ":" + baseAsset + "/" + quoteAsset;
+        long now = System.currentTimeMillis();
+        Long last = lastWarmUp.get(key);
+        if ((last != null && now - last < WARM_UP_INTERVAL_MILLIS) || !warmingUp.add(exchange)) {
+            return;
+        }
+        lastWarmUp.put(key, now);
+        Thread.ofVirtual().name("prepare-order-" + exchange).start(() -> {
+            try {
+                client.prepareOrder(baseAsset, quoteAsset);
+            } catch (RuntimeException e) {
+                LOG.debug("Order template warm-up for {} {}/{} failed: {}", exchange, baseAsset, quoteAsset, e.getMessage());
+            } finally {
+                warmingUp.remove(exchange);
+            }
+        });
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new ExchangeException(e.getCause() == null ? e.getMessage() : e.getCause().getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeException("Interrupted", e);
+        }
+    }
+
     private static void logSuccess(String message) {
-        LOG.info("SUCCESS: {}", message);
+        LOG.info("SUCCESS: {}", LogSanitizer.lazy(message));
     }
 
     private String formatBalancesTable(List<BalanceRow> rows, String asset, BigDecimal total) {
@@ -377,6 +1066,7 @@ public class CommandExecutor {
         int avgAskWidth = avgAskHeader.length();
         int baseAmountWidth = baseAmountHeader.length();
         int spentQuoteWidth = spentQuoteHeader.length();
+        int ageWidth = "age".length();
         int statusWidth = "success".length();
 
         for (BuyInfosRow row : rows) {
@@ -385,19 +1075,21 @@ public class CommandExecutor {
             avgAskWidth = Math.max(avgAskWidth, row.averageAsk.length());
             baseAmountWidth = Math.max(baseAmountWidth, row.baseAmount.length());
             spentQuoteWidth = Math.max(spentQuoteWidth, row.spentQuote.length());
+            ageWidth = Math.max(ageWidth, row.age.length());
             statusWidth = Math.max(statusWidth, row.status.length());
         }
 
-        String format = "%-" + exchangeWidth + "s | %-" + symbolWidth + "s | %-" + avgAskWidth + "s | %-" + baseAmountWidth + "s | %-" + spentQuoteWidth + "s | %-" + statusWidth + "s";
+        String format = "%-" + exchangeWidth + "s | %-" + symbolWidth + "s | %-" + avgAskWidth + "s | %-" + baseAmountWidth + "s | %-" + spentQuoteWidth + "s | %-" + ageWidth + "s | %-" + statusWidth + "s";
         String separator = "-".repeat(exchangeWidth) + "-+-"
                 + "-".repeat(symbolWidth) + "-+-"
                 + "-".repeat(avgAskWidth) + "-+-"
                 + "-".repeat(baseAmountWidth) + "-+-"
                 + "-".repeat(spentQuoteWidth) + "-+-"
+                + "-".repeat(ageWidth) + "-+-"
                 + "-".repeat(statusWidth);
 
         StringBuilder sb = new StringBuilder();
-        sb.append(String.format(format, "exchange", "symbol", avgAskHeader, baseAmountHeader, spentQuoteHeader, "success"));
+        sb.append(String.format(format, "exchange", "symbol", avgAskHeader, baseAmountHeader, spentQuoteHeader, "age", "success"));
         sb.append("\n").append(separator);
         for (BuyInfosRow row : rows) {
             sb.append("\n").append(String.format(
@@ -407,6 +1099,7 @@ public class CommandExecutor {
                     row.averageAsk,
                     row.baseAmount,
                     row.spentQuote,
+                    row.age,
                     row.status
             ));
         }
@@ -427,6 +1120,7 @@ public class CommandExecutor {
         int avgBidWidth = avgBidHeader.length();
         int baseAmountWidth = baseAmountHeader.length();
         int proceedsWidth = proceedsHeader.length();
+        int ageWidth = "age".length();
         int statusWidth = "success".length();
 
         for (SellInfosRow row : rows) {
@@ -435,19 +1129,21 @@ public class CommandExecutor {
             avgBidWidth = Math.max(avgBidWidth, row.averageBid.length());
             baseAmountWidth = Math.max(baseAmountWidth, row.baseAmount.length());
             proceedsWidth = Math.max(proceedsWidth, row.quoteAmount.length());
+            ageWidth = Math.max(ageWidth, row.age.length());
             statusWidth = Math.max(statusWidth, row.status.length());
         }
 
-        String format = "%-" + exchangeWidth + "s | %-" + symbolWidth + "s | %-" + avgBidWidth + "s | %-" + baseAmountWidth + "s | %-" + proceedsWidth + "s | %-" + statusWidth + "s";
+        String format = "%-" + exchangeWidth + "s | %-" + symbolWidth + "s | %-" + avgBidWidth + "s | %-" + baseAmountWidth + "s | %-" + proceedsWidth + "s | %-" + ageWidth + "s | %-" + statusWidth + "s";
         String separator = "-".repeat(exchangeWidth) + "-+-"
                 + "-".repeat(symbolWidth) + "-+-"
                 + "-".repeat(avgBidWidth) + "-+-"
                 + "-".repeat(baseAmountWidth) + "-+-"
                 + "-".repeat(proceedsWidth) + "-+-"
+                + "-".repeat(ageWidth) + "-+-"
                 + "-".repeat(statusWidth);
 
         StringBuilder sb = new StringBuilder();
-        sb.append(String.format(format, "exchange", "symbol", avgBidHeader, baseAmountHeader, proceedsHeader, "success"));
+        sb.append(String.format(format, "exchange", "symbol", avgBidHeader, baseAmountHeader, proceedsHeader, "age", "success"));
         sb.append("\n").append(separator);
         for (SellInfosRow row : rows) {
             sb.append("\n").append(String.format(
@@ -457,6 +1153,7 @@ public class CommandExecutor {
                     row.averageBid,
                     row.baseAmount,
                     row.quoteAmount,
+                    row.age,
                     row.status
             ));
         }
@@ -467,6 +1164,37 @@ public class CommandExecutor {
         return sb.toString();
     }
 
+    private String formatTable(List<String> headers, List<List<String>> rows) {
+        int[] widths = new int[headers.size()];
+        for (int i = 0; i < widths.length; i++) {
+            widths[i] = headers.get(i).length();
+        }
+        for (List<String> row : rows) {
+            for (int i = 0; i < widths.length; i++) {
+                widths[i] = Math.max(widths[i], row.get(i).length());
+            }
+        }
+
+        StringBuilder format = new StringBuilder();
+        StringBuilder separator = new StringBuilder();
+        for (int i = 0; i < widths.length; i++) {
+            if (i > 0) {
+                format.append(" | ");
+                separator.append("-+-");
+            }
+            format.append("%-").append(widths[i]).append("s");
+            separator.append("-".repeat(widths[i]));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(format.toString(), headers.toArray()));
+        sb.append("\n").append(separator);
+        for (List<String> row : rows) {
+            sb.append("\n").append(String.format(format.toString(), row.toArray()));
+        }
+        return sb.toString();
+    }
+
     private void appendPriceSummary(StringBuilder sb, String priceHeader, String quoteAsset, PriceSummary summary) {
         if (summary.count == 0) {
             return;
@@ -515,10 +1243,26 @@ public class CommandExecutor {
         return new BigDecimal(value);
     }
 
+    private String formatAge(long ageMillis) {
+        return ageMillis < 0 ? "" : ageMillis + "ms";
+    }
+
+    private String ageSuffix(long ageMillis) {
+        return ageMillis < 0 ? "" : " (quote age " + formatAge(ageMillis) + ")";
+    }
+
+    private String ageNote(long ageMillis) {
+        return ageMillis < 0 ? "" : ", age " + formatAge(ageMillis);
+    }
+
     private String toDisplayValue(BigDecimal value) {
         return value == null ? "" : value.stripTrailingZeros().toPlainString();
     }
 
+    private String toDisplayAmount(BigDecimal value) {
+        return value == null ? "" : toDisplayValue(value.setScale(8, RoundingMode.HALF_UP));
+    }
+
     private void requireSecrets(String exchange) {
         if (!registry.hasSecrets(exchange)) {
             throw new ExchangeException("Missing API credentials for exchange: " + exchange);
@@ -529,23 +1273,39 @@ public class CommandExecutor {
         return String.join("\n",
                 "Commands:",
                 "  move <from> <to> <amount> <asset>",
+                "  rebalance <asset> <exchange>=<target>[,<exchange>=<target>...]",
                 "  buy <exchange> <baseAsset> <quoteAmount> <quoteAsset>",
-                "  askinfo <exchange> <baseAsset> <quoteAmount> <quoteAsset>",
-                "  askinfos <baseAsset> <quoteAmount> <quoteAsset>",
-                "  bidinfo <exchange> <baseAsset> <quoteAmount> <quoteAsset>",
-                "  bidinfos <baseAsset> <quoteAmount> <quoteAsset>",
+                "  buybest <baseAsset> <quoteAmount> <quoteAsset>",
+                "  askinfo <exchange> <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>",
+                "  askinfos <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>",
+                "  bidinfo <exchange> <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>",
+                "  bidinfos <baseAsset> <quoteAmount|a,b,c|from..to[/steps]> <quoteAsset>",
                 "  spread <ex1> <ex2> <baseAsset> <quoteAmount> <quoteAsset>",
+                "  triarb <exchange|all> [notional]",
                 "  sell <exchange> <baseAsset> <baseAmount> <quoteAsset>",
+                "  sellbest <baseAsset> <baseAmount> <quoteAsset>",
+                "  twap <exchange> <buy|sell> <baseAsset> <amount> <quoteAsset> <duration> <slices>",
+                "  pov <exchange> <buy|sell> <baseAsset> <amount> <quoteAsset> <percent> [interval]",
+                "  jobs",
+                "  cancel <jobId>",
                 "  balance <exchange> <asset>",
                 "  balances <asset>",
                 "  deposit <exchange> <asset>",
                 "  address <exchange> <asset> <network>",
-                "  orderbook <exchange> <base> <quote>",
+                "  orderbook <exchange|all> <base> <quote> [depth]",
+                "  tickers <base> <quote>",
+                "  health",
+                "  ping [samples]",
+                "  <any command> --stale=<500ms|2s|1m>   accept cached market data up to that age",
+                "  <any command> &   run in the background; Ctrl-C cancels the foreground command",
                 "  help",
                 "  exit"
         );
     }
 
+    private record RouteVenue(OrderBook book, BigDecimal available, BigDecimal minNotional, long ageMillis) {
+    }
+
     private record BalanceRow(String exchange, String balance, String status) {
     }
 
@@ -555,14 +1315,15 @@ public class CommandExecutor {
             String averageAsk,
             String baseAmount,
             String spentQuote,
+            String age,
             String status
     ) {
-        private static BuyInfosRow success(String exchange, String symbol, String averageAsk, String baseAmount, String spentQuote) {
-            return new BuyInfosRow(exchange, symbol, averageAsk, baseAmount, spentQuote, "ok");
+        private static BuyInfosRow success(String exchange, String symbol, String averageAsk, String baseAmount, String spentQuote, String age) {
+            return new BuyInfosRow(exchange, symbol, averageAsk, baseAmount, spentQuote, age, "ok");
         }
 
-        private static BuyInfosRow error(String exchange) {
-            return new BuyInfosRow(exchange, "", "", "", "", "error");
+        private static BuyInfosRow error(String exchange, String status) {
+            return new BuyInfosRow(exchange, "", "", "", "", "", status);
         }
 
         private boolean hasPrice() {
@@ -580,14 +1341,15 @@ public class CommandExecutor {
             String averageBid,
             String baseAmount,
             String quoteAmount,
+            String age,
             String status
     ) {
-        private static SellInfosRow success(String exchange, String symbol, String averageBid, String baseAmount, String quoteAmount) {
-            return new SellInfosRow(exchange, symbol, averageBid, baseAmount, quoteAmount, "ok");
+        private static SellInfosRow success(String exchange, String symbol, String averageBid, String baseAmount, String quoteAmount, String age) {
+            return new SellInfosRow(exchange, symbol, averageBid, baseAmount, quoteAmount, age, "ok");
         }
 
-        private static SellInfosRow error(String exchange) {
-            return new SellInfosRow(exchange, "", "", "", "", "error");
+        private static SellInfosRow error(String exchange, String status) {
+            return new SellInfosRow(exchange, "", "", "", "", "", status);
         }
 
         private boolean hasPrice() {
@@ -599,6 +1361,31 @@ public class CommandExecutor {
         }
     }
 
+    private record CurveRow(String exchange, ImpactCurveService.Curve curve, String age, String status) {
+        private static CurveRow success(String exchange, ImpactCurveService.Curve curve, String age) {
+            return new CurveRow(exchange, curve, age, "ok");
+        }
+
+        private static CurveRow error(String exchange, String status) {
+            return new CurveRow(exchange, null, "", status);
+        }
+
+        private boolean hasPrice() {
+            return firstPrice() != null;
+        }
+
+        private BigDecimal firstPrice() {
+            if (curve == null) {
+                return null;
+            }
+            return curve.points().stream()
+                    .filter(ImpactCurveService.Point::ok)
+                    .map(ImpactCurveService.Point::averagePrice)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
     private record PriceSummary(BigDecimal average, BigDecimal min, BigDecimal max, int count) {
     }
 }
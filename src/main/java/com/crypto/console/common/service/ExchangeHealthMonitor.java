@@ -0,0 +1,416 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+@Slf4j
+public class ExchangeHealthMonitor implements AutoCloseable {
+    private static final double LATENCY_ALPHA = 0.2;
+    private static final int MAX_BACKOFF_FACTOR = 8;
+    private static final int PROBE_TIMEOUT_FACTOR = 8;
+    private static final int PROBE_SLOW_FACTOR = 6;
+    private static final int MIN_PROBE_SAMPLES = 3;
+
+    private final ExchangeRegistry registry;
+    private final AppProperties.HealthConfig cfg;
+    private final LongSupplier clock;
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+    private final Map<String, Long> probeP99 = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService prober;
+
+    public ExchangeHealthMonitor(ExchangeRegistry registry, AppProperties.HealthConfig cfg) {
+        this(registry, cfg, System::currentTimeMillis, cfg.isEnabled());
+    }
+
+    ExchangeHealthMonitor(ExchangeRegistry registry, AppProperties.HealthConfig cfg, LongSupplier clock, boolean startProber) {
+        this.registry = registry;
+        this.cfg = cfg;
+        this.clock = clock;
+        if (startProber) {
+            this.prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "exchange-health-prober");
+                thread.setDaemon(true);
+                return thread;
+            });
+            prober.scheduleWithFixedDelay(this::probeDue, cfg.getProbeIntervalSeconds(), cfg.getProbeIntervalSeconds(), TimeUnit.SECONDS);
+        } else {
+            this.prober = null;
+        }
+    }
+
+    public <T> List<Outcome<T>> fanOut(Function<ExchangeClient, T> call) {
+        return fanOut(exchange -> true, call);
+    }
+
+    public <T> List<Outcome<T>> fanOut(Predicate<String> include, Function<ExchangeClient, T> call) {
+        List<String> exchanges = registry.getAvailableExchanges().stream().filter(include).toList();
+        List<Outcome<T>> outcomes = new ArrayList<>(exchanges.size());
+        List<Future<T>> futures = new ArrayList<>(exchanges.size());
+        List<AtomicBoolean> recorded = new ArrayList<>(exchanges.size());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (String exchange : exchanges) {
+                AtomicBoolean done = new AtomicBoolean();
+                recorded.add(done);
+                if (!allows(exchange)) {
+                    futures.add(null);
+                    continue;
+                }
+                ExchangeClient client = registry.getClient(exchange);
+                futures.add(executor.submit(() -> {
+                    long started = clock.getAsLong();
+                    try {
+                        T value = call.apply(client);
+                        if (done.compareAndSet(false, true)) {
+                            if (value == null) {
+                                release(exchange);
+                            } else {
+                                record(exchange, clock.getAsLong() - started, true);
+                            }
+                        }
+                        return value;
+                    } catch (RuntimeException e) {
+                        if (done.compareAndSet(false, true)) {
+                            if (isInterruption(e)) {
+                                release(exchange);
+                            } else {
+                                record(exchange, clock.getAsLong() - started, !isVenueFailure(e));
+                            }
+                        }
+                        throw e;
+                    }
+                }));
+            }
+
+            long started = System.nanoTime();
+            for (int i = 0; i < exchanges.size(); i++) {
+                String exchange = exchanges.get(i);
+                Future<T> future = futures.get(i);
+                if (future == null) {
+                    outcomes.add(Outcome.skipped(exchange));
+                    continue;
+                }
+                long timeout = callTimeoutMillis(exchange);
+                try {
+                    long remaining = Math.max(0, started + TimeUnit.MILLISECONDS.toNanos(timeout) - System.nanoTime());
+                    outcomes.add(Outcome.ok(exchange, future.get(remaining, TimeUnit.NANOSECONDS)));
+                } catch (TimeoutException e) {
+                    if (recorded.get(i).compareAndSet(false, true)) {
+                        record(exchange, timeout, false);
+                    }
+                    future.cancel(true);
+                    outcomes.add(Outcome.failed(exchange, Status.TIMEOUT, "No response within " + timeout + "ms"));
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    outcomes.add(Outcome.failed(exchange, Status.ERROR, cause.getMessage()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    outcomes.add(Outcome.failed(exchange, Status.ERROR, "Interrupted"));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    public boolean allows(String exchange) {
+        if (!cfg.isEnabled()) {
+            return true;
+        }
+        return breaker(exchange).allows();
+    }
+
+    public boolean isClosed(String exchange) {
+        return !cfg.isEnabled() || breaker(exchange).state() == State.CLOSED;
+    }
+
+    private void release(String exchange) {
+        if (cfg.isEnabled()) {
+            breaker(exchange).returnTrial();
+        }
+    }
+
+    public void recordProbe(String exchange, List<Long> rttMillis) {
+        if (rttMillis.size() < 2) {
+            return;
+        }
+        List<Long> warm = rttMillis.subList(1, rttMillis.size());
+        if (warm.size() >= MIN_PROBE_SAMPLES) {
+            long[] sorted = warm.stream().mapToLong(Long::longValue).sorted().toArray();
+            probeP99.put(exchange, sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.99) - 1)]);
+        }
+        for (long rtt : warm) {
+            record(exchange, rtt, true);
+        }
+    }
+
+    public long callTimeoutMillis(String exchange) {
+        Long p99 = probeP99.get(exchange);
+        return p99 == null ? cfg.getCallTimeoutMillis() : Math.max(cfg.getCallTimeoutMillis(), p99 * PROBE_TIMEOUT_FACTOR);
+    }
+
+    long slowCallMillis(String exchange) {
+        Long p99 = probeP99.get(exchange);
+        return p99 == null ? cfg.getSlowCallMillis() : Math.max(cfg.getSlowCallMillis(), p99 * PROBE_SLOW_FACTOR);
+    }
+
+    public void record(String exchange, long elapsedMillis, boolean success) {
+        Breaker breaker = breaker(exchange);
+        State before = breaker.state();
+        State after = breaker.record(elapsedMillis, slowCallMillis(exchange), success, clock.getAsLong());
+        if (before != after) {
+            LOG.warn("Circuit for {} {} -> {} (score {})", exchange, before, after, breaker.score());
+        }
+    }
+
+    public List<Snapshot> snapshots() {
+        List<Snapshot> result = new ArrayList<>();
+        for (String exchange : registry.getAvailableExchanges()) {
+            result.add(breaker(exchange).snapshot(exchange));
+        }
+        return result;
+    }
+
+    void probeDue() {
+        long now = clock.getAsLong();
+        for (Map.Entry<String, Breaker> entry : breakers.entrySet()) {
+            if (!entry.getValue().halfOpenIfDue(now)) {
+                continue;
+            }
+            String exchange = entry.getKey();
+            ExchangeClient client = registry.getClient(exchange);
+            if (!client.capabilities().supportsTimeSync && !client.capabilities().supportsOrderBook) {
+                entry.getValue().allowTrial();
+                continue;
+            }
+            Thread.ofVirtual().name("probe-" + exchange).start(() -> probe(exchange, client));
+        }
+    }
+
+    private void probe(String exchange, ExchangeClient client) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        long started = clock.getAsLong();
+        try {
+            Future<?> call = executor.submit(() -> client.capabilities().supportsTimeSync
+                    ? client.syncTime()
+                    : client.getOrderBook("BTC", "USDT", 5));
+            call.get(callTimeoutMillis(exchange), TimeUnit.MILLISECONDS);
+            record(exchange, clock.getAsLong() - started, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (isInterruption(e)) {
+                release(exchange);
+                return;
+            }
+            LOG.info("Health probe for {} failed: {}", exchange, e.getMessage());
+            record(exchange, clock.getAsLong() - started, !isVenueFailure(e));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static boolean isVenueFailure(Throwable error) {
+        if (isInterruption(error)) {
+            return false;
+        }
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof WebClientResponseException response) {
+                int code = response.getStatusCode().value();
+                return code == 429 || code >= 500;
+            }
+            if (t instanceof WebClientRequestException || t instanceof IOException
+                    || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isInterruption(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof InterruptedException || t instanceof CancellationException || t instanceof ClosedByInterruptException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Breaker breaker(String exchange) {
+        return breakers.computeIfAbsent(exchange, key -> new Breaker(cfg));
+    }
+
+    @Override
+    public void close() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public enum Status {
+        OK, ERROR, TIMEOUT, SKIPPED;
+
+        public String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    public record Outcome<T>(String exchange, T value, Status status, String error) {
+        static <T> Outcome<T> ok(String exchange, T value) {
+            return new Outcome<>(exchange, value, Status.OK, null);
+        }
+
+        static <T> Outcome<T> failed(String exchange, Status status, String error) {
+            return new Outcome<>(exchange, null, status, error);
+        }
+
+        static <T> Outcome<T> skipped(String exchange) {
+            return new Outcome<>(exchange, null, Status.SKIPPED, "circuit open");
+        }
+
+        public boolean ok() {
+            return status == Status.OK;
+        }
+    }
+
+    public record Snapshot(String exchange, State state, int score, long latencyMillis, int failureRatePercent, int calls) {
+    }
+
+    private static final class Breaker {
+        private final AppProperties.HealthConfig cfg;
+        private final boolean[] bad;
+        private int next;
+        private int count;
+        private double latencyMillis = -1;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private int opens;
+        private boolean trialAvailable;
+
+        private Breaker(AppProperties.HealthConfig cfg) {
+            this.cfg = cfg;
+            this.bad = new boolean[cfg.getWindowSize()];
+        }
+
+        synchronized State state() {
+            return state;
+        }
+
+        synchronized boolean allows() {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.HALF_OPEN && trialAvailable) {
+                trialAvailable = false;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void allowTrial() {
+            trialAvailable = true;
+        }
+
+        synchronized void returnTrial() {
+            if (state == State.HALF_OPEN) {
+                trialAvailable = true;
+            }
+        }
+
+        synchronized boolean halfOpenIfDue(long now) {
+            if (state != State.OPEN) {
+                return false;
+            }
+            long factor = Math.min(MAX_BACKOFF_FACTOR, 1L << Math.min(opens - 1, 30));
+            if (now - openedAt < cfg.getOpenSeconds() * 1000L * factor) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            return true;
+        }
+
+        synchronized State record(long elapsedMillis, long slowCallMillis, boolean success, long now) {
+            boolean failed = !success || elapsedMillis >= slowCallMillis;
+            latencyMillis = latencyMillis < 0 ? elapsedMillis : latencyMillis + LATENCY_ALPHA * (elapsedMillis - latencyMillis);
+            if (state == State.HALF_OPEN) {
+                if (failed) {
+                    open(now);
+                } else {
+                    state = State.CLOSED;
+                    opens = 0;
+                    count = 0;
+                    next = 0;
+                }
+                return state;
+            }
+            bad[next] = failed;
+            next = (next + 1) % bad.length;
+            count = Math.min(count + 1, bad.length);
+            if (state == State.CLOSED && count >= cfg.getMinCalls() && failureRatePercent() >= cfg.getFailureRatePercent()) {
+                open(now);
+            }
+            return state;
+        }
+
+        synchronized int score() {
+            if (state == State.OPEN) {
+                return 0;
+            }
+            double success = 1.0 - failureRatePercent() / 100.0;
+            double speed = latencyMillis < 0 ? 1.0 : Math.max(0.0, 1.0 - latencyMillis / (2.0 * cfg.getSlowCallMillis()));
+            return (int) Math.round(100 * success * speed);
+        }
+
+        synchronized Snapshot snapshot(String exchange) {
+            return new Snapshot(exchange, state, score(), Math.round(Math.max(0, latencyMillis)), failureRatePercent(), count);
+        }
+
+        private void open(long now) {
+            state = State.OPEN;
+            openedAt = now;
+            opens++;
+            trialAvailable = false;
+        }
+
+        private int failureRatePercent() {
+            if (count == 0) {
+                return 0;
+            }
+            int failures = 0;
+            for (int i = 0; i < count; i++) {
+                if (bad[i]) {
+                    failures++;
+                }
+            }
+            return failures * 100 / count;
+        }
+    }
+}
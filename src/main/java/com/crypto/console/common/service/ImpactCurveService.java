@@ -0,0 +1,102 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.marketdata.IndexedOrderBook;
+import com.crypto.console.common.model.BuyInfoResult;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class ImpactCurveService {
+    private static final int DEPTH = 1000;
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    public Curve curve(ExchangeClient client, String base, String quote, List<BigDecimal> sizes, boolean buy) {
+        if (client.capabilities().supportsOrderBook) {
+            return fromSnapshot(client, base, quote, sizes, buy);
+        }
+        LOG.info("{} has no order book endpoint, evaluating {} sizes one request each", client.name(), sizes.size());
+        return fromImpactCalls(client, base, quote, sizes, buy);
+    }
+
+    private Curve fromSnapshot(ExchangeClient client, String base, String quote, List<BigDecimal> sizes, boolean buy) {
+        OrderBook book = client.getOrderBook(base, quote, DEPTH);
+        IndexedOrderBook indexed = IndexedOrderBook.of(book);
+        BigDecimal best = buy ? indexed.bestAsk() : indexed.bestBid();
+        List<Point> points = new ArrayList<>(sizes.size());
+        for (BigDecimal size : sizes) {
+            try {
+                IndexedOrderBook.Fill fill = buy ? indexed.buyForQuote(size) : indexed.sellForQuote(size);
+                points.add(point(size, fill.averagePrice(), fill.baseAmount(), fill.quoteAmount(), best, fill.levels(), fill.complete(), buy));
+            } catch (ExchangeException e) {
+                points.add(Point.error(size, e.getUserMessage()));
+            }
+        }
+        return new Curve(book.symbol, best, List.copyOf(points), 1);
+    }
+
+    private Curve fromImpactCalls(ExchangeClient client, String base, String quote, List<BigDecimal> sizes, boolean buy) {
+        String symbol = (base + quote).toUpperCase();
+        BigDecimal best = null;
+        List<BuyInfoResult> results = new ArrayList<>(sizes.size());
+        List<String> errors = new ArrayList<>(sizes.size());
+        for (BigDecimal size : sizes) {
+            try {
+                BuyInfoResult result = buy ? client.buyInfo(base, quote, size) : client.sellInfo(base, quote, size);
+                symbol = result.symbol;
+                if (best == null && result.affectedOrderBookItems != null && !result.affectedOrderBookItems.isEmpty()) {
+                    best = result.affectedOrderBookItems.get(0).price;
+                }
+                results.add(result);
+                errors.add(null);
+            } catch (ExchangeException e) {
+                results.add(null);
+                errors.add(e.getUserMessage());
+            }
+        }
+        List<Point> points = new ArrayList<>(sizes.size());
+        for (int i = 0; i < sizes.size(); i++) {
+            BuyInfoResult result = results.get(i);
+            BigDecimal size = sizes.get(i);
+            if (result == null) {
+                points.add(Point.error(size, errors.get(i)));
+                continue;
+            }
+            boolean complete = size.subtract(result.spentQuoteAmount).compareTo(size.movePointLeft(8)) <= 0;
+            int levels = result.affectedOrderBookItems == null ? 0 : result.affectedOrderBookItems.size();
+            points.add(point(size, result.averagePrice, result.boughtBaseAmount, result.spentQuoteAmount, best, levels, complete, buy));
+        }
+        return new Curve(symbol, best, List.copyOf(points), sizes.size());
+    }
+
+    private static Point point(BigDecimal size, BigDecimal average, BigDecimal baseAmount, BigDecimal quoteAmount,
+                               BigDecimal best, int levels, boolean complete, boolean buy) {
+        BigDecimal slippage = null;
+        if (best != null && best.signum() > 0 && average != null) {
+            BigDecimal diff = buy ? average.subtract(best) : best.subtract(average);
+            slippage = diff.multiply(HUNDRED).divide(best, 4, RoundingMode.HALF_UP);
+        }
+        return new Point(size, average, baseAmount, quoteAmount, slippage, levels, complete, null);
+    }
+
+    public record Curve(String symbol, BigDecimal bestPrice, List<Point> points, int requests) {
+    }
+
+    public record Point(BigDecimal size, BigDecimal averagePrice, BigDecimal baseAmount, BigDecimal quoteAmount,
+                        BigDecimal slippagePct, int levels, boolean complete, String error) {
+
+        static Point error(BigDecimal size, String error) {
+            return new Point(size, null, null, null, null, 0, false, error);
+        }
+
+        public boolean ok() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.exchange.impl.MarketDataCache;
+import com.crypto.console.common.model.ExchangeCapabilities;
+import com.crypto.console.common.model.ExchangeTime;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+public class LatencyProbe {
+    private static final String PROBE_BASE = "BTC";
+    private static final String PROBE_QUOTE = "USDT";
+
+    private final ExchangeRegistry registry;
+    private final ExchangeHealthMonitor healthMonitor;
+
+    public LatencyProbe(ExchangeRegistry registry, ExchangeHealthMonitor healthMonitor) {
+        this.registry = registry;
+        this.healthMonitor = healthMonitor;
+    }
+
+    public List<Result> ping(int samples) {
+        List<String> exchanges = registry.getAvailableExchanges();
+        List<Future<Result>> futures = new ArrayList<>(exchanges.size());
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (String exchange : exchanges) {
+                futures.add(executor.submit(() -> probe(exchange, samples)));
+            }
+            long started = System.nanoTime();
+            List<Result> results = new ArrayList<>(exchanges.size());
+            for (int i = 0; i < exchanges.size(); i++) {
+                String exchange = exchanges.get(i);
+                long budget = healthMonitor.callTimeoutMillis(exchange) * samples;
+                try {
+                    long remaining = Math.max(0, started + TimeUnit.MILLISECONDS.toNanos(budget) - System.nanoTime());
+                    results.add(futures.get(i).get(remaining, TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    futures.get(i).cancel(true);
+                    results.add(Result.failed(exchange, "no response within " + budget + "ms"));
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() == null ? e : e.getCause();
+                    results.add(Result.failed(exchange, cause.getMessage()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(Result.failed(exchange, "Interrupted"));
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result probe(String exchange, int samples) {
+        ExchangeClient client = registry.getClient(exchange);
+        ExchangeCapabilities capabilities = client.capabilities();
+        boolean time = capabilities.supportsTimeSync;
+        if (!time && !capabilities.supportsOrderBook) {
+            return Result.failed(exchange, "no public endpoint to probe");
+        }
+        List<Long> rtts = new ArrayList<>(samples);
+        long bestRtt = Long.MAX_VALUE;
+        Long offset = null;
+        String error = null;
+        for (int i = 0; i < samples; i++) {
+            long sentAt = System.currentTimeMillis();
+            long started = System.nanoTime();
+            try {
+                ExchangeTime serverTime = null;
+                if (time) {
+                    serverTime = client.syncTime();
+                } else {
+                    MarketDataCache.revalidate(() -> client.getOrderBook(PROBE_BASE, PROBE_QUOTE, 5));
+                }
+                long rtt = (System.nanoTime() - started) / 1_000_000L;
+                rtts.add(rtt);
+                if (serverTime != null && rtt < bestRtt) {
+                    bestRtt = rtt;
+                    offset = serverTime.serverTimeMillis - (sentAt + rtt / 2);
+                }
+            } catch (RuntimeException e) {
+                error = e.getMessage();
+                if (!ExchangeHealthMonitor.isVenueFailure(e)) {
+                    break;
+                }
+                healthMonitor.record(exchange, (System.nanoTime() - started) / 1_000_000L, false);
+            }
+        }
+        healthMonitor.recordProbe(exchange, rtts);
+        LOG.debug("Ping {} via {}: {} ok of {} samples", exchange, time ? "time" : "depth", rtts.size(), samples);
+        if (rtts.isEmpty()) {
+            return Result.failed(exchange, error);
+        }
+        return Result.of(exchange, time ? "time" : "depth", rtts, offset, error);
+    }
+
+    public record Result(String exchange, String method, int samples, long minMillis, long medianMillis, long p99Millis,
+                         Long offsetMillis, String connection, String error) {
+
+        static Result failed(String exchange, String error) {
+            return new Result(exchange, null, 0, 0, 0, 0, null, null, error);
+        }
+
+        static Result of(String exchange, String method, List<Long> rtts, Long offsetMillis, String error) {
+            long[] sorted = rtts.stream().mapToLong(Long::longValue).sorted().toArray();
+            int n = sorted.length;
+            long median = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2;
+            long p99 = sorted[Math.min(n - 1, (int) Math.ceil(n * 0.99) - 1)];
+            return new Result(exchange, method, n, sorted[0], median, p99, offsetMillis, connection(rtts), error);
+        }
+
+        private static String connection(List<Long> rtts) {
+            if (rtts.size() < 2) {
+                return null;
+            }
+            long[] rest = rtts.subList(1, rtts.size()).stream().mapToLong(Long::longValue).sorted().toArray();
+            long typical = rest[rest.length / 2];
+            return rtts.get(0) > typical * 3 / 2 + 20 ? "new" : "reused";
+        }
+
+        public boolean ok() {
+            return samples > 0;
+        }
+    }
+}
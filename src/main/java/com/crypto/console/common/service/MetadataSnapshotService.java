@@ -0,0 +1,102 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.exchange.impl.MarketDataCache;
+import com.crypto.console.common.exchange.impl.MetadataSnapshot;
+import com.crypto.console.common.exchange.impl.OrderTemplateCache;
+import com.crypto.console.common.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class MetadataSnapshotService implements AutoCloseable {
+    private final ExchangeRegistry registry;
+    private final MetadataSnapshot snapshot;
+    private final ScheduledExecutorService writer;
+
+    public MetadataSnapshotService(ExchangeRegistry registry, AppProperties.SnapshotConfig cfg) {
+        this.registry = registry;
+        this.snapshot = new MetadataSnapshot(registry, Path.of(cfg.getFile()));
+        if (!cfg.isEnabled()) {
+            this.writer = null;
+            return;
+        }
+        load(cfg);
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metadata-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = cfg.getInterval().toMillis();
+        writer.scheduleWithFixedDelay(this::save, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void load(AppProperties.SnapshotConfig cfg) {
+        long started = System.nanoTime();
+        MetadataSnapshot.Contents contents;
+        try {
+            contents = snapshot.load();
+        } catch (Exception e) {
+            LOG.warn("Ignoring unreadable metadata snapshot {}: {}", snapshot.file().toAbsolutePath(), e.getMessage());
+            return;
+        }
+        if (contents == null) {
+            return;
+        }
+        List<MetadataSnapshot.Template> restored = snapshot.restore(contents, cfg.getMaxAge());
+        LOG.info("Restored {} metadata entries from {} in {}ms", contents.size(), snapshot.file().toAbsolutePath(),
+                (System.nanoTime() - started) / 1_000_000L);
+        if (!restored.isEmpty()) {
+            Thread.ofVirtual().name("snapshot-revalidate").start(() -> revalidate(restored));
+        }
+    }
+
+    private void revalidate(List<MetadataSnapshot.Template> restored) {
+        Map<String, List<MetadataSnapshot.Template>> byExchange = new LinkedHashMap<>();
+        for (MetadataSnapshot.Template template : restored) {
+            byExchange.computeIfAbsent(template.exchange(), key -> new ArrayList<>()).add(template);
+        }
+        byExchange.forEach((exchange, templates) -> {
+            ExchangeClient client = registry.getClient(exchange);
+            MarketDataCache.revalidate(() -> {
+                for (MetadataSnapshot.Template template : templates) {
+                    String[] pair = template.key().split("/", 2);
+                    try {
+                        OrderTemplateCache.refreshAhead(() -> client.orderTemplate(pair[0], pair[1]));
+                    } catch (RuntimeException e) {
+                        LOG.debug("Revalidating {} {} failed: {}", exchange, template.key(), e.getMessage());
+                    }
+                }
+            });
+        });
+        LOG.info("Revalidated {} restored order templates", restored.size());
+    }
+
+    public int save() {
+        try {
+            int saved = snapshot.save();
+            LOG.debug("Saved {} metadata entries to {}", saved, snapshot.file().toAbsolutePath());
+            return saved;
+        } catch (Exception e) {
+            LOG.warn("Failed to save metadata snapshot {}: {}", snapshot.file().toAbsolutePath(), e.getMessage());
+            return 0;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writer != null) {
+            writer.shutdownNow();
+            save();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.crypto.console.common.model.Balance;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.util.AuditLog;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -40,6 +41,14 @@ public class MoveService {
     }
 
     public String move(String from, String to, BigDecimal amount, String asset) {
+        MovePlan plan = prepare(from, to, amount, asset, true);
+        if (!confirmTransfer(plan)) {
+            throw new ExchangeException("Transfer cancelled by user");
+        }
+        return execute(plan);
+    }
+
+    public MovePlan prepare(String from, String to, BigDecimal amount, String asset, boolean interactive) {
         ExchangeClient sender = registry.getClient(from);
         ExchangeClient recipient = registry.getClient(to);
 
@@ -49,8 +58,8 @@ public class MoveService {
         Set<String> recipientNetworks = networkResolver.resolveDepositNetworks(recipient, to, asset);
         Set<String> senderNetworks = resolveSenderNetworks(sender, recipientNetworks, asset);
 
-        String selectedRecipientNetwork = selectNetwork(to, asset, recipientNetworks);
-        String selectedSenderNetwork = selectNetwork(from, asset, senderNetworks);
+        String selectedRecipientNetwork = selectNetwork(to, asset, recipientNetworks, interactive);
+        String selectedSenderNetwork = selectNetwork(from, asset, senderNetworks, interactive);
 
         String recipientNetwork = selectedRecipientNetwork;
         if (recipient instanceof DepositNetworkNormalizer normalizer) {
@@ -73,26 +82,60 @@ public class MoveService {
             throw new ExchangeException("Memo/tag required for " + asset + " on " + selectedRecipientNetwork + " but missing in config");
         }
 
-        if (!confirmTransfer(from, to, asset, amount, selectedSenderNetwork, selectedRecipientNetwork, senderNetwork, recipientNetwork, address, memo)) {
-            throw new ExchangeException("Transfer cancelled by user");
-        }
+        return new MovePlan(from, to, asset, amount, selectedSenderNetwork, selectedRecipientNetwork,
+                senderNetwork, recipientNetwork, address, memo, baselineFree);
+    }
+
+    public MovePlan rebaseline(MovePlan plan) {
+        Balance baseline = registry.getClient(plan.to()).getBalance(plan.asset());
+        BigDecimal baselineFree = baseline == null || baseline.free == null ? BigDecimal.ZERO : baseline.free;
+        return new MovePlan(plan.from(), plan.to(), plan.asset(), plan.amount(), plan.selectedSenderNetwork(),
+                plan.selectedRecipientNetwork(), plan.senderNetwork(), plan.recipientNetwork(), plan.address(), plan.memo(),
+                baselineFree);
+    }
+
+    public String execute(MovePlan plan) {
+        ExchangeClient sender = registry.getClient(plan.from());
+        ExchangeClient recipient = registry.getClient(plan.to());
 
-        LOG.info("Withdrawing {} {} via {} (senderNetwork={}) to {} (memo={})", amount, asset, selectedSenderNetwork, senderNetwork, address, memo);
-        WithdrawResult result = sender.withdraw(asset, amount, senderNetwork, address, memo);
+        LOG.info("Withdrawing {} {} via {} (senderNetwork={}) to {} (memo={})", plan.amount(), plan.asset(),
+                plan.selectedSenderNetwork(), plan.senderNetwork(), plan.address(), plan.memo());
+        AuditLog.withdrawalSubmitted(plan.from(), plan.asset(), plan.amount(), plan.senderNetwork(), plan.address());
+        WithdrawResult result;
+        try {
+            result = sender.withdraw(plan.asset(), plan.amount(), plan.senderNetwork(), plan.address(), plan.memo());
+        } catch (RuntimeException e) {
+            AuditLog.failed("withdrawal", plan.from(), e.getMessage());
+            throw e;
+        }
         String withdrawalId = result == null ? "" : result.withdrawalId;
+        AuditLog.withdrawalResult(plan.from(), plan.asset(), withdrawalId, result == null ? "" : result.status);
 
         boolean success = pollForDeposit(
                 recipient,
-                asset,
-                baselineFree,
+                plan.asset(),
+                plan.baselineFree(),
                 config.getPolling().getIntervalSeconds(),
                 config.getPolling().getMaxWaitSeconds()
         );
         if (!success) {
-            throw new ExchangeException("Deposit not detected within timeout on " + to + " for " + asset);
+            throw new ExchangeException("Deposit not detected within timeout on " + plan.to() + " for " + plan.asset());
         }
 
-        return "Move submitted. WithdrawalId=" + withdrawalId + " network=" + selectedSenderNetwork + " to=" + to;
+        return "Move submitted. WithdrawalId=" + withdrawalId + " network=" + plan.selectedSenderNetwork() + " to=" + plan.to();
+    }
+
+    public boolean confirmBatch(List<MovePlan> plans) {
+        System.out.println("Transfer batch (" + plans.size() + "):");
+        for (int i = 0; i < plans.size(); i++) {
+            MovePlan plan = plans.get(i);
+            System.out.println("  " + (i + 1) + ") " + plan.from() + " -> " + plan.to()
+                    + " " + plan.amount().stripTrailingZeros().toPlainString() + " " + plan.asset()
+                    + " via " + plan.selectedSenderNetwork() + "/" + plan.selectedRecipientNetwork()
+                    + " address=" + plan.address()
+                    + (plan.memo() == null ? "" : " memo=" + plan.memo()));
+        }
+        return readApproval("Approve all " + plans.size() + " transfers?");
     }
 
     private boolean pollForDeposit(ExchangeClient recipient, String asset, BigDecimal baseline, int intervalSeconds, int maxWaitSeconds) {
@@ -112,7 +155,7 @@ public class MoveService {
         return false;
     }
 
-    private String selectNetwork(String exchange, String asset, Set<String> networks) {
+    private String selectNetwork(String exchange, String asset, Set<String> networks, boolean interactive) {
         List<String> candidates = new ArrayList<>(networks);
         if (candidates.isEmpty()) {
             throw new ExchangeException("No deposit networks available for " + asset);
@@ -123,6 +166,9 @@ public class MoveService {
                 .comparing((String n) -> priorityIndex(priority, n))
                 .thenComparing(String::compareTo));
 
+        if (!interactive) {
+            return candidates.getFirst();
+        }
         return networkSelector.selectNetwork(exchange, asset, candidates);
     }
 
@@ -164,22 +210,23 @@ public class MoveService {
         return fallback;
     }
 
-    private boolean confirmTransfer(String from, String to, String asset, BigDecimal amount,
-                                    String selectedSenderNetwork, String selectedRecipientNetwork,
-                                    String senderNetwork, String recipientNetwork,
-                                    String address, String memo) {
+    private boolean confirmTransfer(MovePlan plan) {
+        System.out.println("Transfer details:");
+        System.out.println("  from: " + plan.from());
+        System.out.println("  to: " + plan.to());
+        System.out.println("  asset: " + plan.asset());
+        System.out.println("  amount: " + plan.amount());
+        System.out.println("  sender network: " + plan.selectedSenderNetwork() + " (normalized=" + plan.senderNetwork() + ")");
+        System.out.println("  recipient network: " + plan.selectedRecipientNetwork() + " (normalized=" + plan.recipientNetwork() + ")");
+        System.out.println("  address: " + plan.address());
+        System.out.println("  memo: " + (plan.memo() == null ? "" : plan.memo()));
+        return readApproval("Approve transfer?");
+    }
+
+    private boolean readApproval(String question) {
         String y = ThreadLocalRandom.current().nextBoolean() ? "Y" : "y";
         String n = "Y".equals(y) ? "n" : "N";
-        System.out.println("Transfer details:");
-        System.out.println("  from: " + from);
-        System.out.println("  to: " + to);
-        System.out.println("  asset: " + asset);
-        System.out.println("  amount: " + amount);
-        System.out.println("  sender network: " + selectedSenderNetwork + " (normalized=" + senderNetwork + ")");
-        System.out.println("  recipient network: " + selectedRecipientNetwork + " (normalized=" + recipientNetwork + ")");
-        System.out.println("  address: " + address);
-        System.out.println("  memo: " + (memo == null ? "" : memo));
-        System.out.print("Approve transfer? [" + y + "/" + n + "]: ");
+        System.out.print(question + " [" + y + "/" + n + "]: ");
         try {
             BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
             String line = reader.readLine();
@@ -203,4 +250,18 @@ public class MoveService {
         }
     }
 
+    public record MovePlan(
+            String from,
+            String to,
+            String asset,
+            BigDecimal amount,
+            String selectedSenderNetwork,
+            String selectedRecipientNetwork,
+            String senderNetwork,
+            String recipientNetwork,
+            String address,
+            String memo,
+            BigDecimal baselineFree
+    ) {
+    }
 }
@@ -5,9 +5,7 @@ import com.crypto.console.common.util.ConsoleOutput;
 import org.apache.commons.lang3.StringUtils;
 import org.jline.terminal.Attributes;
 import org.jline.terminal.Terminal;
-import org.jline.terminal.TerminalBuilder;
 
-import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.List;
 
@@ -16,8 +14,8 @@ import static org.apache.commons.lang3.StringUtils.upperCase;
 public class NetworkSelector {
     private final Terminal terminal;
 
-    public NetworkSelector() {
-        this.terminal = buildTerminal();
+    public NetworkSelector(Terminal terminal) {
+        this.terminal = terminal;
     }
 
     public String selectNetwork(String exchange, String asset, List<String> networks) {
@@ -122,18 +120,6 @@ public class NetworkSelector {
         return networks.get(selected);
     }
 
-    private Terminal buildTerminal() {
-        try {
-            return TerminalBuilder.builder()
-                    .system(true)
-                    .jna(true)
-                    .jansi(true)
-                    .build();
-        } catch (IOException e) {
-            return null;
-        }
-    }
-
     private void renderMenu(PrintWriter out, List<String> networks, int selected) {
         for (String network : networks) {
             out.println(ConsoleOutput.green(" " + network));
@@ -0,0 +1,104 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.marketdata.ConsolidatedOrderBook;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class OrderRouter {
+    private static final MathContext MC = MathContext.DECIMAL64;
+
+    public Route route(boolean buy, BigDecimal amount, List<ConsolidatedOrderBook.Level> ladder,
+                       Map<String, BigDecimal> available, Map<String, BigDecimal> minNotional) {
+        Set<String> excluded = new HashSet<>();
+        for (Map.Entry<String, BigDecimal> venue : available.entrySet()) {
+            if (venue.getValue() == null || venue.getValue().signum() <= 0) {
+                excluded.add(venue.getKey());
+            }
+        }
+        while (true) {
+            Map<String, Fill> fills = walk(buy, amount, ladder, available, excluded);
+            boolean changed = false;
+            for (Map.Entry<String, Fill> fill : fills.entrySet()) {
+                BigDecimal min = minNotional.get(fill.getKey());
+                if (min != null && fill.getValue().quote.compareTo(min) < 0) {
+                    excluded.add(fill.getKey());
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                return toRoute(buy, amount, fills, excluded);
+            }
+        }
+    }
+
+    private Map<String, Fill> walk(boolean buy, BigDecimal amount, List<ConsolidatedOrderBook.Level> ladder,
+                                   Map<String, BigDecimal> available, Set<String> excluded) {
+        Map<String, BigDecimal> left = new HashMap<>(available);
+        Map<String, Fill> fills = new LinkedHashMap<>();
+        BigDecimal remaining = amount;
+        for (ConsolidatedOrderBook.Level level : ladder) {
+            if (remaining.signum() <= 0) {
+                break;
+            }
+            String exchange = level.exchange();
+            BigDecimal cap = left.get(exchange);
+            if (cap == null || cap.signum() <= 0 || excluded.contains(exchange)) {
+                continue;
+            }
+            BigDecimal depth = buy ? level.price().multiply(level.quantity()) : level.quantity();
+            BigDecimal take = remaining.min(cap).min(depth);
+            BigDecimal base = buy ? take.divide(level.price(), MC) : take;
+            BigDecimal quote = buy ? take : take.multiply(level.price());
+            fills.computeIfAbsent(exchange, key -> new Fill()).add(take, base, quote);
+            left.put(exchange, cap.subtract(take));
+            remaining = remaining.subtract(take);
+        }
+        return fills;
+    }
+
+    private Route toRoute(boolean buy, BigDecimal amount, Map<String, Fill> fills, Set<String> excluded) {
+        List<Allocation> allocations = new ArrayList<>(fills.size());
+        BigDecimal routed = BigDecimal.ZERO;
+        BigDecimal base = BigDecimal.ZERO;
+        BigDecimal quote = BigDecimal.ZERO;
+        for (Map.Entry<String, Fill> entry : fills.entrySet()) {
+            Fill fill = entry.getValue();
+            allocations.add(new Allocation(entry.getKey(), fill.amount, fill.base, fill.quote, fill.quote.divide(fill.base, MC)));
+            routed = routed.add(fill.amount);
+            base = base.add(fill.base);
+            quote = quote.add(fill.quote);
+        }
+        allocations.sort((a, b) -> b.amount().compareTo(a.amount()));
+        BigDecimal averagePrice = base.signum() == 0 ? null : quote.divide(base, MC);
+        List<String> skipped = excluded.stream().sorted().toList();
+        return new Route(buy, List.copyOf(allocations), base, quote, averagePrice, amount.subtract(routed), skipped);
+    }
+
+    public record Allocation(String exchange, BigDecimal amount, BigDecimal baseAmount, BigDecimal quoteAmount,
+                             BigDecimal averagePrice) {
+    }
+
+    public record Route(boolean buy, List<Allocation> allocations, BigDecimal baseAmount, BigDecimal quoteAmount,
+                        BigDecimal averagePrice, BigDecimal unfilled, List<String> skipped) {
+    }
+
+    private static final class Fill {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private BigDecimal base = BigDecimal.ZERO;
+        private BigDecimal quote = BigDecimal.ZERO;
+
+        private void add(BigDecimal amount, BigDecimal base, BigDecimal quote) {
+            this.amount = this.amount.add(amount);
+            this.base = this.base.add(base);
+            this.quote = this.quote.add(quote);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.crypto.console.common.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class RebalancePlanner {
+
+    public Plan plan(Map<String, BigDecimal> balances, Map<String, BigDecimal> targets, Map<String, BigDecimal> senderFees) {
+        List<Position> donors = new ArrayList<>();
+        List<Position> receivers = new ArrayList<>();
+        for (Map.Entry<String, BigDecimal> target : targets.entrySet()) {
+            String exchange = target.getKey();
+            BigDecimal balance = balances.getOrDefault(exchange, BigDecimal.ZERO);
+            BigDecimal diff = balance.subtract(target.getValue());
+            BigDecimal fee = senderFees.getOrDefault(exchange, BigDecimal.ZERO);
+            if (diff.signum() > 0) {
+                donors.add(new Position(exchange, diff, fee));
+            } else if (diff.signum() < 0) {
+                receivers.add(new Position(exchange, diff.negate(), fee));
+            }
+        }
+
+        Position[] senders = donors.toArray(Position[]::new);
+        Position[] recipients = receivers.toArray(Position[]::new);
+        Arrays.sort(senders, Comparator
+                .comparing(Position::fee)
+                .thenComparing(Position::amount, Comparator.reverseOrder())
+                .thenComparing(Position::exchange));
+        Arrays.sort(recipients, Comparator
+                .comparing(Position::amount, Comparator.reverseOrder())
+                .thenComparing(Position::exchange));
+
+        BigDecimal[] available = new BigDecimal[senders.length];
+        for (int i = 0; i < senders.length; i++) {
+            available[i] = senders[i].amount();
+        }
+        BigDecimal[] missing = new BigDecimal[recipients.length];
+        for (int i = 0; i < recipients.length; i++) {
+            missing[i] = recipients[i].amount();
+        }
+
+        List<Transfer> transfers = new ArrayList<>();
+        BigDecimal totalFees = BigDecimal.ZERO;
+        int r = 0;
+        for (int s = 0; s < senders.length && r < recipients.length; s++) {
+            BigDecimal fee = senders[s].fee();
+            while (available[s].compareTo(fee) > 0 && r < recipients.length) {
+                if (missing[r].compareTo(fee) <= 0) {
+                    r++;
+                    continue;
+                }
+                int exact = findExactMatch(missing, r, available[s]);
+                int target = exact >= 0 ? exact : r;
+                BigDecimal amount = available[s].min(missing[target]);
+                transfers.add(new Transfer(senders[s].exchange(), recipients[target].exchange(), amount, fee));
+                totalFees = totalFees.add(fee);
+                available[s] = available[s].subtract(amount);
+                missing[target] = missing[target].subtract(amount);
+            }
+        }
+
+        BigDecimal shortfall = BigDecimal.ZERO;
+        for (BigDecimal value : missing) {
+            shortfall = shortfall.add(value);
+        }
+        return new Plan(List.copyOf(transfers), totalFees, shortfall);
+    }
+
+    private int findExactMatch(BigDecimal[] missing, int from, BigDecimal amount) {
+        for (int i = from; i < missing.length; i++) {
+            if (missing[i].compareTo(amount) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public record Transfer(String from, String to, BigDecimal amount, BigDecimal fee) {
+    }
+
+    public record Plan(List<Transfer> transfers, BigDecimal totalFees, BigDecimal shortfall) {
+    }
+
+    private record Position(String exchange, BigDecimal amount, BigDecimal fee) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.ExchangeException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public class RebalanceService {
+    private final ExchangeRegistry registry;
+    private final MoveService moveService;
+    private final WithdrawalFeeCache feeCache;
+    private final RebalancePlanner planner;
+
+    public RebalanceService(ExchangeRegistry registry, MoveService moveService, WithdrawalFeeCache feeCache, RebalancePlanner planner) {
+        this.registry = registry;
+        this.moveService = moveService;
+        this.feeCache = feeCache;
+        this.planner = planner;
+    }
+
+    public String rebalance(String asset, Map<String, BigDecimal> targets) {
+        Map<String, BigDecimal> balances = new LinkedHashMap<>();
+        Map<String, BigDecimal> fees = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Map<String, Future<BigDecimal>> balanceFutures = new LinkedHashMap<>();
+            Map<String, Future<BigDecimal>> feeFutures = new LinkedHashMap<>();
+            for (String exchange : targets.keySet()) {
+                ExchangeClient client = registry.getClient(exchange);
+                balanceFutures.put(exchange, executor.submit(() -> freeBalance(client, asset)));
+                feeFutures.put(exchange, executor.submit(() -> feeCache.preferredNetworkFee(exchange, asset)));
+            }
+            for (String exchange : targets.keySet()) {
+                balances.put(exchange, await(balanceFutures.get(exchange), "balance on " + exchange));
+                fees.put(exchange, await(feeFutures.get(exchange), "withdrawal fee on " + exchange));
+            }
+        }
+
+        RebalancePlanner.Plan plan = planner.plan(balances, targets, fees);
+        if (plan.transfers().isEmpty()) {
+            return formatPlan(asset, balances, targets, plan) + "\nNothing to transfer.";
+        }
+        List<MoveService.MovePlan> moves = prepare(plan, asset);
+        Map<String, BigDecimal> networkFees = networkFees(moves, asset);
+        if (!networkFees.entrySet().stream().allMatch(fee -> fee.getValue().compareTo(fees.get(fee.getKey())) == 0)) {
+            fees.putAll(networkFees);
+            plan = planner.plan(balances, targets, fees);
+            if (plan.transfers().isEmpty()) {
+                return formatPlan(asset, balances, targets, plan) + "\nNothing to transfer.";
+            }
+            moves = prepare(plan, asset);
+        }
+
+        System.out.println(formatPlan(asset, balances, targets, plan));
+        if (!moveService.confirmBatch(moves)) {
+            throw new ExchangeException("Rebalance cancelled by user");
+        }
+
+        Map<String, List<Integer>> byRecipient = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            byRecipient.computeIfAbsent(moves.get(i).to(), to -> new ArrayList<>()).add(i);
+        }
+        String[] results = new String[moves.size()];
+        List<MoveService.MovePlan> planned = moves;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<Integer> indexes : byRecipient.values()) {
+                futures.add(executor.submit(() -> {
+                    for (int i : indexes) {
+                        results[i] = transfer(planned.get(i), asset);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                await(future, "transfers");
+            }
+        }
+        return "Rebalance " + asset + " finished:\n" + String.join("\n", results);
+    }
+
+    private String transfer(MoveService.MovePlan move, String asset) {
+        String prefix = move.from() + " -> " + move.to() + " " + move.amount().stripTrailingZeros().toPlainString() + " " + asset + ": ";
+        try {
+            return prefix + moveService.execute(moveService.rebaseline(move));
+        } catch (RuntimeException e) {
+            LOG.error("Rebalance transfer {} failed: {}", prefix, e.getMessage());
+            return prefix + "FAILED " + e.getMessage();
+        }
+    }
+
+    private List<MoveService.MovePlan> prepare(RebalancePlanner.Plan plan, String asset) {
+        List<MoveService.MovePlan> moves = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<MoveService.MovePlan>> futures = new ArrayList<>();
+            for (RebalancePlanner.Transfer transfer : plan.transfers()) {
+                futures.add(executor.submit(() -> moveService.prepare(transfer.from(), transfer.to(), transfer.amount(), asset, false)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                RebalancePlanner.Transfer transfer = plan.transfers().get(i);
+                moves.add(await(futures.get(i), "transfer " + transfer.from() + "->" + transfer.to()));
+            }
+        }
+        return moves;
+    }
+
+    private Map<String, BigDecimal> networkFees(List<MoveService.MovePlan> moves, String asset) {
+        Map<String, BigDecimal> fees = new LinkedHashMap<>();
+        for (MoveService.MovePlan move : moves) {
+            BigDecimal fee = feeCache.networkFee(move.from(), asset, move.selectedSenderNetwork());
+            fees.merge(move.from(), fee, BigDecimal::max);
+        }
+        return fees;
+    }
+
+    private BigDecimal freeBalance(ExchangeClient client, String asset) {
+        Balance balance = client.getBalance(asset);
+        return balance == null || balance.free == null ? BigDecimal.ZERO : balance.free;
+    }
+
+    private <T> T await(Future<T> future, String what) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new ExchangeException("Failed to load " + what + ": " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExchangeException("Rebalance interrupted", e);
+        }
+    }
+
+    private String formatPlan(String asset, Map<String, BigDecimal> balances, Map<String, BigDecimal> targets, RebalancePlanner.Plan plan) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Rebalance ").append(asset).append(":");
+        for (Map.Entry<String, BigDecimal> target : targets.entrySet()) {
+            sb.append("\n  ").append(target.getKey())
+                    .append(" balance=").append(toDisplayValue(balances.get(target.getKey())))
+                    .append(" target=").append(toDisplayValue(target.getValue()));
+        }
+        sb.append("\nPlanned transfers:");
+        for (RebalancePlanner.Transfer transfer : plan.transfers()) {
+            sb.append("\n  ").append(transfer.from()).append(" -> ").append(transfer.to())
+                    .append(" ").append(toDisplayValue(transfer.amount())).append(" ").append(asset)
+                    .append(" (fee ~").append(toDisplayValue(transfer.fee())).append(")");
+        }
+        sb.append("\nEstimated fees: ").append(toDisplayValue(plan.totalFees())).append(" ").append(asset);
+        if (plan.shortfall().signum() > 0) {
+            sb.append("\nUnfilled targets: ").append(toDisplayValue(plan.shortfall())).append(" ").append(asset);
+        }
+        return sb.toString();
+    }
+
+    private String toDisplayValue(BigDecimal value) {
+        return value == null ? "" : value.stripTrailingZeros().toPlainString();
+    }
+}
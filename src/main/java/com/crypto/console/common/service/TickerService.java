@@ -0,0 +1,82 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.marketdata.TopOfBookIndex;
+import com.crypto.console.common.model.BookTicker;
+import com.crypto.console.common.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class TickerService implements AutoCloseable {
+    private final TopOfBookIndex index;
+    private final ExchangeHealthMonitor healthMonitor;
+    private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService refresher;
+    private volatile long lastRefresh;
+
+    public TickerService(ExchangeRegistry registry, ExchangeHealthMonitor healthMonitor, AppProperties.TickersConfig cfg) {
+        this.index = new TopOfBookIndex(registry.getAvailableExchanges());
+        this.healthMonitor = healthMonitor;
+        if (cfg.isEnabled()) {
+            this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ticker-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = cfg.getRefreshInterval().toMillis();
+            refresher.scheduleWithFixedDelay(this::refreshQuietly, 0, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.refresher = null;
+        }
+    }
+
+    public TopOfBookIndex index() {
+        return index;
+    }
+
+    public long lastRefresh() {
+        return lastRefresh;
+    }
+
+    public int refresh() {
+        List<ExchangeHealthMonitor.Outcome<List<BookTicker>>> outcomes = healthMonitor.fanOut(
+                exchange -> !unsupported.contains(exchange), ExchangeClient::getBookTickers);
+        long now = System.currentTimeMillis();
+        int stored = 0;
+        for (ExchangeHealthMonitor.Outcome<List<BookTicker>> outcome : outcomes) {
+            if (outcome.ok() && outcome.value() == null) {
+                unsupported.add(outcome.exchange());
+            } else if (outcome.ok()) {
+                stored += index.update(outcome.exchange(), outcome.value(), now);
+            } else if (outcome.status() != ExchangeHealthMonitor.Status.SKIPPED) {
+                LOG.debug("Ticker refresh for {} failed: {}", outcome.exchange(), outcome.error());
+            }
+        }
+        lastRefresh = now;
+        return stored;
+    }
+
+    private void refreshQuietly() {
+        try {
+            int stored = refresh();
+            LOG.debug("Ticker index refreshed: {} quotes, {} symbols", stored, index.symbols());
+        } catch (RuntimeException e) {
+            LOG.warn("Ticker refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.userdata.UserDataStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class UserDataService implements AutoCloseable {
+    private final ExchangeRegistry registry;
+    private final boolean enabled;
+    private final Map<String, UserDataStream> streams = new ConcurrentHashMap<>();
+
+    public UserDataService(ExchangeRegistry registry, AppProperties.UserDataConfig cfg) {
+        this.registry = registry;
+        this.enabled = cfg != null && cfg.isEnabled();
+        if (!enabled) {
+            return;
+        }
+        registry.getAvailableExchanges().forEach(this::start);
+        if (!streams.isEmpty()) {
+            LOG.info("Started {} user data stream(s)", streams.size());
+        }
+    }
+
+    public void restart(List<String> exchanges) {
+        if (!enabled) {
+            return;
+        }
+        for (String exchange : exchanges) {
+            UserDataStream previous = streams.remove(exchange);
+            if (previous != null) {
+                previous.close();
+            }
+            start(exchange);
+        }
+    }
+
+    private void start(String exchange) {
+        if (!registry.hasSecrets(exchange) || !(registry.getClient(exchange) instanceof BaseExchangeClient client)) {
+            return;
+        }
+        try {
+            UserDataStream stream = client.userDataStream();
+            if (stream != null) {
+                stream.start();
+                streams.put(exchange, stream);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Could not start user data stream for {}: {}", exchange, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        streams.values().forEach(UserDataStream::close);
+    }
+}
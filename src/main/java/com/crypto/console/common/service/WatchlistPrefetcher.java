@@ -0,0 +1,143 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.exchange.impl.OrderTemplateCache;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class WatchlistPrefetcher implements AutoCloseable {
+    private final ExchangeRegistry registry;
+    private final ExchangeHealthMonitor healthMonitor;
+    private final AppProperties.WatchlistConfig cfg;
+    private final List<Pair> pairs;
+    private final Set<String> unlisted = ConcurrentHashMap.newKeySet();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public WatchlistPrefetcher(ExchangeRegistry registry, ExchangeHealthMonitor healthMonitor, AppProperties.WatchlistConfig cfg) {
+        this.registry = registry;
+        this.healthMonitor = healthMonitor;
+        this.cfg = cfg;
+        this.pairs = parsePairs(cfg.getPairs());
+        if (!cfg.isEnabled() || pairs.isEmpty()) {
+            return;
+        }
+        long roundMillis = roundMillis(pairs.size());
+        for (String exchange : exchanges()) {
+            workers.add(Thread.ofVirtual().name("watchlist-" + exchange).start(() -> loop(exchange)));
+        }
+        LOG.info("Watchlist prefetch for {} pair(s) on {} exchange(s), one round every {}ms", pairs.size(), workers.size(), roundMillis);
+    }
+
+    private void loop(String exchange) {
+        long pace = 1_000L / cfg.getRequestsPerSecond();
+        while (running) {
+            long started = System.currentTimeMillis();
+            for (Pair pair : pairs) {
+                if (!running || !healthMonitor.isClosed(exchange) || !registry.getAvailableExchanges().contains(exchange)) {
+                    break;
+                }
+                String key = exchange + ":" + pair;
+                if (unlisted.contains(key)) {
+                    continue;
+                }
+                ExchangeClient client = registry.getClient(exchange);
+                warm(exchange, key, () -> OrderTemplateCache.refreshAhead(() -> client.prepareOrder(pair.base(), pair.quote())));
+                if (cfg.isDepth()) {
+                    sleep(pace);
+                    warm(exchange, key, () -> client.getOrderBook(pair.base(), pair.quote(), cfg.getDepthLevels()));
+                }
+                sleep(pace);
+            }
+            sleep(Math.max(0, roundMillis(pairs.size()) - (System.currentTimeMillis() - started)));
+        }
+    }
+
+    private void warm(String exchange, String key, Runnable call) {
+        long started = System.currentTimeMillis();
+        try {
+            call.run();
+        } catch (ExchangeException e) {
+            if (ExchangeHealthMonitor.isVenueFailure(e)) {
+                healthMonitor.record(exchange, System.currentTimeMillis() - started, false);
+                LOG.debug("Watchlist prefetch {} failed: {}", key, e.getMessage());
+            } else if (unlisted.add(key)) {
+                LOG.info("Watchlist pair {} dropped: {}", key, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            if (ExchangeHealthMonitor.isVenueFailure(e)) {
+                healthMonitor.record(exchange, System.currentTimeMillis() - started, false);
+            }
+            LOG.debug("Watchlist prefetch {} failed: {}", key, e.getMessage());
+        }
+    }
+
+    private long roundMillis(int pairCount) {
+        int calls = pairCount * (cfg.isDepth() ? 2 : 1);
+        long budget = calls * 1_000L / cfg.getRequestsPerSecond();
+        return Math.max(cfg.getInterval().toMillis(), budget);
+    }
+
+    private List<String> exchanges() {
+        List<String> available = registry.getAvailableExchanges();
+        if (cfg.getExchanges() == null || cfg.getExchanges().isEmpty()) {
+            return available;
+        }
+        return cfg.getExchanges().stream()
+                .map(exchange -> exchange.toLowerCase(Locale.ROOT))
+                .filter(available::contains)
+                .toList();
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0 || !running) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    static List<Pair> parsePairs(List<String> configured) {
+        List<Pair> result = new ArrayList<>();
+        if (configured == null) {
+            return result;
+        }
+        for (String value : configured) {
+            String[] parts = value.trim().toUpperCase(Locale.ROOT).split("[/\\-_ ]");
+            if (parts.length != 2 || parts[0].isBlank() || parts[1].isBlank()) {
+                throw new IllegalStateException("Watchlist pair must look like BTC/USDT: " + value);
+            }
+            Pair pair = new Pair(parts[0], parts[1]);
+            if (!result.contains(pair)) {
+                result.add(pair);
+            }
+        }
+        return List.copyOf(result);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    public record Pair(String base, String quote) {
+        @Override
+        public String toString() {
+            return base + "/" + quote;
+        }
+    }
+}
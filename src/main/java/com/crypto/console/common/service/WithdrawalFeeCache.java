@@ -0,0 +1,99 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.model.WithdrawalFees;
+import com.crypto.console.common.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class WithdrawalFeeCache {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final ExchangeRegistry registry;
+    private final AppProperties config;
+    private final Map<String, CachedFees> cache = new ConcurrentHashMap<>();
+
+    public WithdrawalFeeCache(ExchangeRegistry registry, AppProperties config) {
+        this.registry = registry;
+        this.config = config;
+    }
+
+    public BigDecimal preferredNetworkFee(String exchange, String asset) {
+        return pickFee(asset, fees(exchange, asset));
+    }
+
+    public BigDecimal networkFee(String exchange, String asset, String network) {
+        Map<String, BigDecimal> fees = fees(exchange, asset);
+        BigDecimal fee = network == null ? null : fees.get(network.toUpperCase());
+        return fee == null ? pickFee(asset, fees) : fee;
+    }
+
+    private Map<String, BigDecimal> fees(String exchange, String asset) {
+        String key = exchange + ":" + asset;
+        long now = System.currentTimeMillis();
+        CachedFees cached = cache.get(key);
+        if (cached != null && now - cached.loadedAtMillis < TTL.toMillis()) {
+            return cached.fees;
+        }
+        Map<String, BigDecimal> fees = Map.copyOf(loadFees(exchange, asset));
+        cache.put(key, new CachedFees(fees, now));
+        return fees;
+    }
+
+    private Map<String, BigDecimal> loadFees(String exchange, String asset) {
+        Map<String, BigDecimal> fees = new HashMap<>(fallbackFees(exchange, asset));
+        try {
+            ExchangeClient client = registry.getClient(exchange);
+            if (client.capabilities().supportsWithdrawalFees) {
+                WithdrawalFees fromApi = client.getWithdrawalFees(asset);
+                if (fromApi != null && fromApi.feeByNetwork != null) {
+                    fromApi.feeByNetwork.forEach((network, fee) -> fees.put(network.toUpperCase(), fee));
+                }
+            }
+        } catch (Exception e) {
+            LOG.info("Withdrawal fees unavailable from {} for {}: {}", exchange, asset, e.getMessage());
+        }
+        return fees;
+    }
+
+    private Map<String, BigDecimal> fallbackFees(String exchange, String asset) {
+        if (config.getWithdrawFeesFallback() == null) {
+            return Map.of();
+        }
+        Map<String, Map<String, String>> exchangeMap = config.getWithdrawFeesFallback().get(exchange);
+        Map<String, String> assetMap = exchangeMap == null ? null : exchangeMap.get(asset);
+        if (assetMap == null) {
+            return Map.of();
+        }
+        Map<String, BigDecimal> fees = new HashMap<>();
+        assetMap.forEach((network, fee) -> fees.put(network.toUpperCase(), new BigDecimal(fee)));
+        return fees;
+    }
+
+    private BigDecimal pickFee(String asset, Map<String, BigDecimal> fees) {
+        if (fees.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        List<String> priority = config.getNetworkPriority() == null ? null : config.getNetworkPriority().get(asset);
+        if (priority != null) {
+            for (String network : priority) {
+                BigDecimal fee = fees.get(network.toUpperCase());
+                if (fee != null) {
+                    return fee;
+                }
+            }
+        }
+        return fees.values().stream().min(BigDecimal::compareTo).orElse(BigDecimal.ZERO);
+    }
+
+    private record CachedFees(Map<String, BigDecimal> fees, long loadedAtMillis) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.crypto.console.common.userdata;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.properties.AppProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class UserDataStore {
+    private static final int MAX_ORDERS = 1024;
+
+    private final Duration fillTimeout;
+    private final Duration reconnectMax;
+    private final Map<String, Tracked> orders = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Tracked> eldest) {
+            return size() > MAX_ORDERS;
+        }
+    };
+    private final Map<String, Map<String, Balance>> balances = new ConcurrentHashMap<>();
+    private final Set<String> connected = ConcurrentHashMap.newKeySet();
+    private final AtomicLong events = new AtomicLong();
+
+    public UserDataStore(AppProperties.UserDataConfig cfg) {
+        this(cfg.getFillTimeout(), cfg.getReconnectMax());
+    }
+
+    UserDataStore(Duration fillTimeout, Duration reconnectMax) {
+        this.fillTimeout = fillTimeout;
+        this.reconnectMax = reconnectMax;
+    }
+
+    public void onOrderUpdate(OrderUpdate update) {
+        if (update == null || update.orderId == null) {
+            return;
+        }
+        events.incrementAndGet();
+        Tracked tracked = tracked(update.exchange, update.orderId);
+        synchronized (tracked) {
+            OrderUpdate current = tracked.latest;
+            if (current != null && (current.isTerminal() || current.eventTime > update.eventTime)) {
+                return;
+            }
+            tracked.latest = update;
+        }
+        if (update.isTerminal()) {
+            tracked.terminal.complete(update);
+        }
+    }
+
+    public void onBalance(String exchange, Balance balance) {
+        if (balance == null || balance.asset == null) {
+            return;
+        }
+        events.incrementAndGet();
+        balances.computeIfAbsent(exchange, key -> new ConcurrentHashMap<>())
+                .put(balance.asset.toUpperCase(Locale.ROOT), balance);
+    }
+
+    public OrderUpdate awaitTerminal(String exchange, String orderId) {
+        return awaitTerminal(exchange, orderId, fillTimeout);
+    }
+
+    public OrderUpdate awaitTerminal(String exchange, String orderId, Duration timeout) {
+        CompletableFuture<OrderUpdate> terminal = tracked(exchange, orderId).terminal;
+        try {
+            return terminal.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    public OrderUpdate order(String exchange, String orderId) {
+        Tracked tracked;
+        synchronized (orders) {
+            tracked = orders.get(key(exchange, orderId));
+        }
+        if (tracked == null) {
+            return null;
+        }
+        synchronized (tracked) {
+            return tracked.latest;
+        }
+    }
+
+    public Balance balance(String exchange, String asset) {
+        if (!isConnected(exchange)) {
+            return null;
+        }
+        Map<String, Balance> assets = balances.get(exchange);
+        return assets == null ? null : assets.get(asset.toUpperCase(Locale.ROOT));
+    }
+
+    public void setConnected(String exchange, boolean live) {
+        if (live) {
+            connected.add(exchange);
+        } else if (connected.remove(exchange)) {
+            balances.remove(exchange);
+        }
+    }
+
+    public boolean isConnected(String exchange) {
+        return connected.contains(exchange);
+    }
+
+    public Duration reconnectMax() {
+        return reconnectMax;
+    }
+
+    public long events() {
+        return events.get();
+    }
+
+    private Tracked tracked(String exchange, String orderId) {
+        synchronized (orders) {
+            return orders.computeIfAbsent(key(exchange, orderId), key -> new Tracked());
+        }
+    }
+
+    private static String key(String exchange, String orderId) {
+        return exchange + "|" + orderId;
+    }
+
+    private static final class Tracked {
+        private final CompletableFuture<OrderUpdate> terminal = new CompletableFuture<>();
+        private OrderUpdate latest;
+    }
+}
@@ -0,0 +1,139 @@
+package com.crypto.console.common.userdata;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.WebsocketClientSpec;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+@Slf4j
+public abstract class UserDataStream implements AutoCloseable {
+    private static final long MIN_BACKOFF_MILLIS = 1000;
+    private static final long STABLE_SESSION_MILLIS = 60_000;
+
+    protected final String exchange;
+    protected final UserDataStore store;
+    private final ReactorNettyWebSocketClient client = new ReactorNettyWebSocketClient(
+            HttpClient.create(), () -> WebsocketClientSpec.builder().maxFramePayloadLength(1 << 20));
+    private final Sinks.Empty<Void> stop = Sinks.empty();
+    private volatile boolean closed;
+    private volatile Thread worker;
+
+    protected UserDataStream(String exchange, UserDataStore store) {
+        this.exchange = exchange;
+        this.store = store;
+    }
+
+    public void start() {
+        worker = Thread.ofVirtual().name("user-data-" + exchange).start(this::run);
+    }
+
+    public boolean isConnected() {
+        return store.isConnected(exchange);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        stop.tryEmitEmpty();
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    protected abstract URI connectUri();
+
+    protected abstract void onMessage(String text, Consumer<String> send);
+
+    protected void onOpen(Consumer<String> send) {
+    }
+
+    protected Duration pingInterval() {
+        return null;
+    }
+
+    protected String pingMessage() {
+        return null;
+    }
+
+    protected Duration maintenanceInterval() {
+        return null;
+    }
+
+    protected void maintain() {
+    }
+
+    protected void live() {
+        if (!store.isConnected(exchange)) {
+            LOG.info("{} user data stream live", exchange);
+        }
+        store.setConnected(exchange, true);
+    }
+
+    private void run() {
+        long backoff = MIN_BACKOFF_MILLIS;
+        long maxBackoff = Math.max(MIN_BACKOFF_MILLIS, store.reconnectMax().toMillis());
+        while (!closed) {
+            long started = System.currentTimeMillis();
+            try {
+                Mono.firstWithSignal(session(connectUri()), stop.asMono()).block();
+                if (!closed) {
+                    LOG.info("{} user data stream closed by server", exchange);
+                }
+            } catch (RuntimeException e) {
+                if (!closed) {
+                    LOG.warn("{} user data stream failed: {}", exchange, e.getMessage());
+                }
+            } finally {
+                store.setConnected(exchange, false);
+            }
+            if (closed) {
+                return;
+            }
+            if (System.currentTimeMillis() - started > STABLE_SESSION_MILLIS) {
+                backoff = MIN_BACKOFF_MILLIS;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = Math.min(backoff * 2, maxBackoff);
+        }
+    }
+
+    private Mono<Void> session(URI uri) {
+        return client.execute(uri, session -> {
+            Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+            Consumer<String> send = text -> outbound.emitNext(text, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+            Duration ping = pingInterval();
+            Flux<String> pings = ping == null
+                    ? Flux.never()
+                    : Flux.interval(ping, ping).map(tick -> pingMessage());
+            Duration upkeep = maintenanceInterval();
+            Mono<Void> maintenance = upkeep == null
+                    ? Mono.never()
+                    : Flux.interval(upkeep, upkeep)
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(tick -> maintain())
+                            .then();
+            Mono<Void> out = session.send(Flux.merge(outbound.asFlux(), pings).map(session::textMessage));
+            Mono<Void> in = session.receive()
+                    .map(WebSocketMessage::getPayloadAsText)
+                    .doOnNext(text -> onMessage(text, send))
+                    .then();
+            onOpen(send);
+            return Mono.firstWithSignal(in, out, maintenance);
+        });
+    }
+}
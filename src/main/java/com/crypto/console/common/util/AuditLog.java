@@ -0,0 +1,41 @@
+package com.crypto.console.common.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+
+public final class AuditLog {
+    private static final Logger AUDIT = LoggerFactory.getLogger("AUDIT");
+
+    private AuditLog() {
+    }
+
+    public static void orderSubmitted(String exchange, String side, String base, String quote, BigDecimal amount) {
+        AUDIT.info("event=order.submitted exchange={} side={} base={} quote={} amount={}",
+                exchange, side, base, quote, plain(amount));
+    }
+
+    public static void orderResult(String exchange, String side, String base, String quote, String orderId, String status) {
+        AUDIT.info("event=order.result exchange={} side={} base={} quote={} orderId={} status={}",
+                exchange, side, base, quote, orderId, status);
+    }
+
+    public static void withdrawalSubmitted(String exchange, String asset, BigDecimal amount, String network, String address) {
+        AUDIT.info("event=withdrawal.submitted exchange={} asset={} amount={} network={} address={}",
+                exchange, asset, plain(amount), network, address);
+    }
+
+    public static void withdrawalResult(String exchange, String asset, String withdrawalId, String status) {
+        AUDIT.info("event=withdrawal.result exchange={} asset={} withdrawalId={} status={}",
+                exchange, asset, withdrawalId, status);
+    }
+
+    public static void failed(String event, String exchange, String error) {
+        AUDIT.warn("event={}.failed exchange={} error=\"{}\"", event, exchange, LogSanitizer.lazy(error));
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount == null ? "" : amount.stripTrailingZeros().toPlainString();
+    }
+}
@@ -1,20 +1,56 @@
 package com.crypto.console.common.util;
 
-import java.util.regex.Pattern;
-
 public final class LogSanitizer {
-    private static final Pattern SECRET_PATTERN = Pattern.compile("(?i)(apiKey|apiSecret|passphrase|memo|signature|sign|secret)=[^\s]+" );
+    private static final String[] SECRET_KEYS = {"apikey", "apisecret", "passphrase", "memo", "signature", "sign", "secret"};
+    private static final String MASK = "***";
 
     private LogSanitizer() {
     }
 
     public static String sanitize(String value) {
-        if (value == null) {
-            return null;
+        if (value == null || value.indexOf('=') < 0) {
+            return value;
+        }
+        StringBuilder sb = null;
+        int copied = 0;
+        int length = value.length();
+        for (int i = value.indexOf('='); i >= 0 && i < length - 1; i = value.indexOf('=', i + 1)) {
+            if (Character.isWhitespace(value.charAt(i + 1)) || !endsWithSecretKey(value, i)) {
+                continue;
+            }
+            int end = i + 1;
+            while (end < length && !Character.isWhitespace(value.charAt(end))) {
+                end++;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(length);
+            }
+            sb.append(value, copied, i + 1).append(MASK);
+            copied = end;
+            i = end - 1;
+        }
+        if (sb == null) {
+            return value;
         }
-        return SECRET_PATTERN.matcher(value).replaceAll("$1=***");
+        return sb.append(value, copied, length).toString();
     }
-}
-
 
+    public static Object lazy(String value) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return sanitize(value);
+            }
+        };
+    }
 
+    private static boolean endsWithSecretKey(String value, int equalsIndex) {
+        for (String key : SECRET_KEYS) {
+            int start = equalsIndex - key.length();
+            if (start >= 0 && value.regionMatches(true, start, key, 0, key.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -4,10 +4,10 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -79,7 +79,39 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
 
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /api/pro/v1/depth (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        ProductInfo product = resolveProduct(base, quote);
+        JsonNode data = requireOk(publicGet("/api/pro/v1/depth?symbol=" + product.symbol + "&n=200"), "depth");
+        JsonNode book = data.has("data") ? data.get("data") : data;
+        JsonNode levels = book != null && book.has("data") ? book.get("data") : book;
+        if (levels == null || !levels.path("bids").isArray() || !levels.path("asks").isArray()) {
+            throw new ExchangeException("Unexpected response from AscendEX depth API");
+        }
+        List<OrderBookEntry> bids = PriceLadder.parse(levels.get("bids"), 0, 1).entries();
+        List<OrderBookEntry> asks = PriceLadder.parse(levels.get("asks"), 0, 1).entries();
+        if (depth > 0) {
+            bids = bids.subList(0, Math.min(depth, bids.size()));
+            asks = asks.subList(0, Math.min(depth, asks.size()));
+        }
+        return publish(new OrderBook(product.symbol, bids, asks));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = requireOk(publicGet("/api/pro/v1/spot/ticker"), "ticker");
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from AscendEX ticker API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String[] pair = row.path("symbol").asText("").split("/");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], topPrice(row.get("bid")), topPrice(row.get("ask"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
@@ -102,49 +134,7 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
             throw new ExchangeException("Unexpected response from AscendEX depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : asks) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(depth.get("bids"), 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -167,49 +157,7 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
             throw new ExchangeException("Unexpected response from AscendEX depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : bids) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(depth.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -340,7 +288,7 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, false, false, true);
+        return new ExchangeCapabilities(true, false, true, true, false, false, true);
     }
 
     @Override
@@ -535,6 +483,10 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
         return null;
     }
 
+    private BigDecimal topPrice(JsonNode level) {
+        return toDecimal(level != null && level.isArray() ? level.get(0) : level);
+    }
+
     private BigDecimal applyLotSize(ProductInfo info, BigDecimal quantity) {
         if (info == null || quantity == null) {
             return quantity;
@@ -646,6 +598,20 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
         return new java.util.ArrayList<>(candidates);
     }
 
+    @Override
+    public Map<String, String> accountMetadata() {
+        String group = cachedAccountGroup;
+        return group == null ? Map.of() : Map.of("accountGroup", group);
+    }
+
+    @Override
+    public void restoreAccountMetadata(Map<String, String> metadata) {
+        String group = metadata.get("accountGroup");
+        if (StringUtils.isNotBlank(group) && cachedAccountGroup == null) {
+            cachedAccountGroup = group;
+        }
+    }
+
     private String getAccountGroup(String apiKey, String apiSecret) {
         if (cachedAccountGroup != null) {
             return cachedAccountGroup;
@@ -668,7 +634,6 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
     private JsonNode signedGet(String uri, String apiPath, String apiKey, String apiSecret) {
         String timestamp = String.valueOf(System.currentTimeMillis());
         String signature = sign(apiSecret, timestamp + "+" + apiPath);
-        LOG.info("ascendex GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -691,7 +656,6 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
     private JsonNode signedPost(String uri, String apiPath, String body, String apiKey, String apiSecret) {
         String timestamp = String.valueOf(System.currentTimeMillis());
         String signature = sign(apiSecret, timestamp + "+" + apiPath);
-        LOG.info("ascendex POST {}", LogSanitizer.sanitize(uri));
         return webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -714,7 +678,6 @@ public class AscendExClient extends BaseExchangeClient implements DepositNetwork
     }
 
     private JsonNode publicGet(String uri) {
-        LOG.info("ascendex GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -6,9 +6,10 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
-import com.crypto.console.common.util.LogSanitizer;
+import com.crypto.console.common.userdata.UserDataStream;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -18,13 +19,17 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 
 @Slf4j
 public class BinanceClient extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider, DepositNetworkNormalizer {
+    private volatile Map<String, String[]> symbolAssets = Map.of();
+
     public BinanceClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("binance", cfg, secrets);
     }
@@ -45,7 +50,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String signature = sign(query, apiSecret);
         String uri = "/api/v3/account?" + query + "&signature=" + signature;
 
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -79,7 +83,81 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
 
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /api/v3/depth (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        String symbol = resolveSymbol(base, quote);
+        if (symbol == null) {
+            throw new ExchangeException("Invalid symbol: " + (base + quote).toUpperCase() + ". Check base/quote assets.");
+        }
+        int limit = depth <= 0 ? 100 : Math.min(depth, 5000);
+        String uri = "/api/v3/depth?symbol=" + symbol + "&limit=" + limit;
+        JsonNode response = webClient.get()
+                .uri(uri)
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (response == null || !response.path("bids").isArray() || !response.path("asks").isArray()) {
+            throw new ExchangeException("Unexpected response from Binance depth API");
+        }
+        return publish(new OrderBook(symbol,
+                PriceLadder.parse(response.get("bids"), 0, 1).entries(),
+                PriceLadder.parse(response.get("asks"), 0, 1).entries()));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode response = webClient.get()
+                .uri("/api/v3/ticker/bookTicker")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (response == null || !response.isArray()) {
+            throw new ExchangeException("Unexpected response from Binance bookTicker API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(response.size());
+        for (JsonNode row : response) {
+            String symbol = row.path("symbol").asText("");
+            String[] pair = assets.get(symbol);
+            if (pair == null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            BigDecimal bid = toDecimal(row.get("bidPrice"));
+            BigDecimal ask = toDecimal(row.get("askPrice"));
+            if (pair != null && bid.signum() > 0 && ask.signum() > 0) {
+                tickers.add(new BookTicker(pair[0], pair[1], bid, ask));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode full = webClient.get()
+                .uri("/api/v3/exchangeInfo")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (full == null || !full.path("symbols").isArray()) {
+            throw new ExchangeException("Unexpected response from Binance exchangeInfo API");
+        }
+        Map<String, String[]> assets = new HashMap<>(full.get("symbols").size() * 2);
+        for (JsonNode symbolNode : full.get("symbols")) {
+            String symbol = symbolNode.path("symbol").asText("");
+            String baseAsset = symbolNode.path("baseAsset").asText("");
+            String quoteAsset = symbolNode.path("quoteAsset").asText("");
+            if (!symbol.isEmpty() && !baseAsset.isEmpty() && !quoteAsset.isEmpty()) {
+                assets.put(symbol, new String[]{baseAsset, quoteAsset});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -97,7 +175,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         }
 
         String uri = "/api/v3/depth?symbol=" + symbol + "&limit=1000";
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -109,48 +186,7 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
             throw new ExchangeException("Unexpected response from Binance depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : response.get("asks")) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    boughtBase = boughtBase.add(partialQty);
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(response.get("bids"), 0, 1), PriceLadder.parse(response.get("asks"), 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -168,7 +204,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         }
 
         String uri = "/api/v3/depth?symbol=" + symbol + "&limit=1000";
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -180,48 +215,7 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
             throw new ExchangeException("Unexpected response from Binance depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : response.get("bids")) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(response.get("bids"), 0, 1), PriceLadder.parse(response.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -293,7 +287,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String signature = sign(query.toString(), apiSecret);
         String uri = "/sapi/v1/capital/withdraw/apply?" + query + "&signature=" + signature;
 
-        LOG.info("binance POST {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -336,7 +329,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String signature = sign(query, apiSecret);
         String uri = "/sapi/v1/capital/config/getall?" + query + "&signature=" + signature;
 
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -386,7 +378,17 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
 
     @Override
     public ExchangeTime syncTime() {
-        throw notImplemented("GET /api/v3/time (public)");
+        JsonNode response = webClient.get()
+                .uri("/api/v3/time")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (response == null || !response.path("serverTime").canConvertToLong()) {
+            throw new ExchangeException("Unexpected response from Binance time API");
+        }
+        long serverTime = response.get("serverTime").asLong();
+        return new ExchangeTime(serverTime, serverTime - System.currentTimeMillis());
     }
 
     @Override
@@ -405,7 +407,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String signature = sign(query, apiSecret);
         String uri = "/sapi/v1/capital/config/getall?" + query + "&signature=" + signature;
 
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -462,7 +463,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String signature = sign(query.toString(), apiSecret);
         String uri = "/sapi/v1/capital/deposit/address?" + query + "&signature=" + signature;
 
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -480,7 +480,7 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, true, true, true, true, false, true);
+        return new ExchangeCapabilities(true, true, true, true, true, true, true);
     }
 
     private void transferFundingToSpot(String apiKey, String apiSecret, String asset, BigDecimal amount) {
@@ -500,7 +500,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
                 + "&recvWindow=5000";
         String signature = sign(query, apiSecret);
         String uri = "/sapi/v1/asset/transfer?" + query + "&signature=" + signature;
-        LOG.info("binance POST {}", LogSanitizer.sanitize(uri));
         JsonNode resp = webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -546,7 +545,6 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String query = "symbol=" + symbol + "&orderId=" + orderId + "&timestamp=" + ts + "&recvWindow=5000";
         String signature = sign(query, apiSecret);
         String uri = "/api/v3/order?" + query + "&signature=" + signature;
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode resp = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -565,6 +563,48 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
     private record OrderStatusResult(String status, BigDecimal executedQty) {
     }
 
+    @Override
+    public UserDataStream userDataStream() {
+        return new BinanceUserDataStream(userData(), streamUrl, this::createListenKey, this::keepAliveListenKey);
+    }
+
+    private String createListenKey() {
+        String apiKey = secrets == null ? null : secrets.getApiKey();
+        if (StringUtils.isBlank(apiKey)) {
+            throw new ExchangeException("Missing API credentials for binance");
+        }
+        JsonNode resp = webClient.post()
+                .uri("/api/v3/userDataStream")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .header("X-MBX-APIKEY", apiKey)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (resp == null || !resp.hasNonNull("listenKey")) {
+            throw new ExchangeException("Unexpected response from Binance userDataStream API");
+        }
+        return resp.get("listenKey").asText();
+    }
+
+    private void keepAliveListenKey(String listenKey) {
+        String apiKey = secrets == null ? null : secrets.getApiKey();
+        webClient.put()
+                .uri("/api/v3/userDataStream?listenKey=" + listenKey)
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .header("X-MBX-APIKEY", apiKey)
+                .retrieve()
+                .toBodilessEntity()
+                .block();
+    }
+
+    @Override
+    public void prepareOrder(String base, String quote) {
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template != null) {
+            referencePrice(template.symbol);
+        }
+    }
+
     private OrderResult executeMarketOrder(OrderSide side, String base, String quote, BigDecimal amount, boolean isQuoteAmount) {
         String apiKey = secrets == null ? null : secrets.getApiKey();
         String apiSecret = secrets == null ? null : secrets.getApiSecret();
@@ -572,45 +612,46 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
             throw new ExchangeException("Missing API credentials for binance");
         }
 
-        // 1) Resolve symbol and place market order.
-        String symbol = resolveSymbol(base, quote);
-        if (symbol == null) {
+        // 1) Validate against the cached order template so the happy path is a single signed POST.
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template == null) {
             throw new ExchangeException("Invalid symbol: " + (base + quote).toUpperCase() + ". Check base/quote assets.");
         }
-        long ts = System.currentTimeMillis();
-        StringBuilder orderQuery = new StringBuilder();
-        orderQuery.append("symbol=").append(symbol)
-                .append("&side=").append(side.name())
-                .append("&type=MARKET");
+        String symbol = template.symbol;
         if (isQuoteAmount) {
-            orderQuery.append("&quoteOrderQty=").append(amount.toPlainString());
-        } else {
-            BigDecimal spotFree = getSpotFreeBalance(apiKey, apiSecret, base);
-            BigDecimal rawQty = spotFree.min(amount);
-            BigDecimal qty = applyLotSize(symbol, rawQty);
-            if (qty.signum() <= 0) {
-                throw new ExchangeException("Sell quantity below minimum lot size for " + symbol);
-            }
-            BigDecimal minNotional = getMinNotional(symbol);
-            if (minNotional != null && minNotional.signum() > 0) {
-                BigDecimal price = getAvgPrice(symbol);
-                if (price != null && price.signum() > 0) {
-                    BigDecimal notional = qty.multiply(price);
-                    if (notional.compareTo(minNotional) < 0) {
-                        throw new ExchangeException("Order value " + notional + " below min notional " + minNotional + " for " + symbol);
-                    }
-                }
+            return placeMarketOrder(apiKey, apiSecret, side, base, quote, symbol, "&quoteOrderQty=" + amount.toPlainString());
+        }
+        BigDecimal qty = sellQuantity(template, amount);
+        try {
+            return placeMarketOrder(apiKey, apiSecret, side, base, quote, symbol, "&quantity=" + qty.toPlainString());
+        } catch (ExchangeException e) {
+            if (!isInsufficientBalance(e)) {
+                throw e;
             }
-            orderQuery.append("&quantity=").append(qty.toPlainString());
         }
-        orderQuery.append("&newOrderRespType=RESULT")
-                .append("&timestamp=").append(ts)
-                .append("&recvWindow=5000");
 
-        String orderSignature = sign(orderQuery.toString(), apiSecret);
+        // The order was rejected before it reached the book; retry once with the free spot balance.
+        Balance streamed = userData() == null ? null : userData().balance(name, base);
+        BigDecimal spotFree = streamed != null ? streamed.free : getSpotFreeBalance(apiKey, apiSecret, base);
+        BigDecimal retryQty = sellQuantity(template, spotFree.min(amount));
+        LOG.info("binance sell of {} {} exceeds free balance, retrying with {}", qty, base, retryQty);
+        return placeMarketOrder(apiKey, apiSecret, side, base, quote, symbol, "&quantity=" + retryQty.toPlainString());
+    }
+
+    private OrderResult placeMarketOrder(String apiKey, String apiSecret, OrderSide side, String base, String quote,
+                                         String symbol, String amountParam) {
+        long ts = System.currentTimeMillis();
+        String orderQuery = "symbol=" + symbol
+                + "&side=" + side.name()
+                + "&type=MARKET"
+                + amountParam
+                + "&newOrderRespType=RESULT"
+                + "&timestamp=" + ts
+                + "&recvWindow=5000";
+
+        String orderSignature = sign(orderQuery, apiSecret);
         String orderUri = "/api/v3/order?" + orderQuery + "&signature=" + orderSignature;
 
-        LOG.info("binance POST {}", LogSanitizer.sanitize(orderUri));
         JsonNode orderResp = webClient.post()
                 .uri(orderUri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -623,6 +664,9 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
                     if (body != null && !body.isBlank()) {
                         msg = msg + " body=" + body;
                     }
+                    if (body != null && body.contains("Filter failure")) {
+                        orderTemplates().invalidate(base, quote);
+                    }
                     return reactor.core.publisher.Mono.error(new ExchangeException(msg, ex));
                 })
                 .block();
@@ -635,9 +679,12 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         String status = orderResp.hasNonNull("status") ? orderResp.get("status").asText() : "NEW";
         BigDecimal executedQty = toDecimal(orderResp.get("executedQty"));
 
-        // 2) Wait until filled.
+        // 2) Wait until filled: the user data stream pushes the fill, polling is the fallback.
         if (!"FILLED".equalsIgnoreCase(status)) {
-            OrderStatusResult finalStatus = pollOrderStatus(apiKey, apiSecret, symbol, orderId);
+            OrderUpdate update = awaitOrderUpdate(String.valueOf(orderId));
+            OrderStatusResult finalStatus = update != null
+                    ? new OrderStatusResult(update.status, update.executedQty)
+                    : pollOrderStatus(apiKey, apiSecret, symbol, orderId);
             status = finalStatus.status;
             executedQty = finalStatus.executedQty;
         }
@@ -661,90 +708,38 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         SELL
     }
 
-    private BigDecimal applyLotSize(String symbol, BigDecimal quantity) {
-        LotSize lot = getLotSize(symbol);
-        if (lot == null) {
-            return quantity;
+    private BigDecimal sellQuantity(OrderTemplate template, BigDecimal amount) {
+        BigDecimal qty = template.roundQuantity(amount);
+        if (qty.signum() <= 0) {
+            throw new ExchangeException("Sell quantity below minimum lot size for " + template.symbol);
         }
-        BigDecimal minQty = lot.minQty;
-        BigDecimal maxQty = lot.maxQty;
-        BigDecimal step = lot.stepSize;
-
-        if (maxQty != null && maxQty.signum() > 0 && quantity.compareTo(maxQty) > 0) {
-            quantity = maxQty;
-        }
-        if (minQty != null && minQty.signum() > 0 && quantity.compareTo(minQty) < 0) {
-            return BigDecimal.ZERO;
-        }
-        if (step == null || step.signum() <= 0) {
-            return quantity;
-        }
-        BigDecimal steps = quantity.divide(step, 0, java.math.RoundingMode.DOWN);
-        BigDecimal adjusted = step.multiply(steps);
-        if (minQty != null && minQty.signum() > 0 && adjusted.compareTo(minQty) < 0) {
-            return BigDecimal.ZERO;
+        if (template.minNotional != null && template.minNotional.signum() > 0) {
+            BigDecimal price = referencePrice(template.symbol);
+            if (price != null && price.signum() > 0) {
+                BigDecimal notional = qty.multiply(price);
+                if (template.belowMinNotional(notional)) {
+                    throw new ExchangeException("Order value " + notional + " below min notional " + template.minNotional + " for " + template.symbol);
+                }
+            }
         }
-        return adjusted.stripTrailingZeros();
+        return qty;
     }
 
-    private LotSize getLotSize(String symbol) {
-        LOG.info("binance GET {}", LogSanitizer.sanitize("/api/v3/exchangeInfo?symbol=" + symbol));
-        JsonNode info = webClient.get()
-                .uri("/api/v3/exchangeInfo?symbol=" + symbol)
-                .header(HttpHeaders.USER_AGENT, "crypto-console")
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .onErrorResume(e -> reactor.core.publisher.Mono.empty())
-                .block();
-        if (info == null || !info.has("symbols") || !info.get("symbols").isArray()) {
-            return null;
-        }
-        JsonNode first = info.get("symbols").size() > 0 ? info.get("symbols").get(0) : null;
-        if (first == null || !first.has("filters") || !first.get("filters").isArray()) {
-            return null;
-        }
-        for (JsonNode filter : first.get("filters")) {
-            String type = filter.hasNonNull("filterType") ? filter.get("filterType").asText() : null;
-            if ("LOT_SIZE".equalsIgnoreCase(type)) {
-                BigDecimal minQty = toDecimal(filter.get("minQty"));
-                BigDecimal maxQty = toDecimal(filter.get("maxQty"));
-                BigDecimal stepSize = toDecimal(filter.get("stepSize"));
-                return new LotSize(minQty, maxQty, stepSize);
-            }
-        }
-        return null;
+    private static boolean isInsufficientBalance(ExchangeException e) {
+        String message = e.getMessage();
+        return message != null && message.contains("-2010") && message.toLowerCase().contains("insufficient balance");
     }
 
-    private BigDecimal getMinNotional(String symbol) {
-        LOG.info("binance GET {}", LogSanitizer.sanitize("/api/v3/exchangeInfo?symbol=" + symbol));
-        JsonNode info = webClient.get()
-                .uri("/api/v3/exchangeInfo?symbol=" + symbol)
-                .header(HttpHeaders.USER_AGENT, "crypto-console")
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .onErrorResume(e -> reactor.core.publisher.Mono.empty())
-                .block();
-        if (info == null || !info.has("symbols") || !info.get("symbols").isArray()) {
-            return null;
-        }
-        JsonNode first = info.get("symbols").size() > 0 ? info.get("symbols").get(0) : null;
-        if (first == null || !first.has("filters") || !first.get("filters").isArray()) {
-            return null;
-        }
-        for (JsonNode filter : first.get("filters")) {
-            String type = filter.hasNonNull("filterType") ? filter.get("filterType").asText() : null;
-            if ("NOTIONAL".equalsIgnoreCase(type)) {
-                return toDecimal(filter.get("minNotional"));
-            }
-            if ("MIN_NOTIONAL".equalsIgnoreCase(type)) {
-                return toDecimal(filter.get("minNotional"));
-            }
-        }
-        return null;
+    @Override
+    public OrderTemplate orderTemplate(String base, String quote) {
+        return orderTemplates().template(base, quote, () -> loadOrderTemplate(base, quote));
+    }
+
+    private BigDecimal referencePrice(String symbol) {
+        return orderTemplates().referencePrice(symbol, () -> getAvgPrice(symbol));
     }
 
     private BigDecimal getAvgPrice(String symbol) {
-        LOG.info("binance GET {}", LogSanitizer.sanitize("/api/v3/avgPrice?symbol=" + symbol));
         JsonNode resp = webClient.get()
                 .uri("/api/v3/avgPrice?symbol=" + symbol)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -758,15 +753,11 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         return toDecimal(resp.get("price"));
     }
 
-    private record LotSize(BigDecimal minQty, BigDecimal maxQty, BigDecimal stepSize) {
-    }
-
     private BigDecimal getSpotFreeBalance(String apiKey, String apiSecret, String asset) {
         long ts = System.currentTimeMillis();
         String query = "timestamp=" + ts + "&recvWindow=5000";
         String signature = sign(query, apiSecret);
         String uri = "/api/v3/account?" + query + "&signature=" + signature;
-        LOG.info("binance GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -787,8 +778,12 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
     }
 
     private String resolveSymbol(String base, String quote) {
+        OrderTemplate template = orderTemplate(base, quote);
+        return template == null ? null : template.symbol;
+    }
+
+    private OrderTemplate loadOrderTemplate(String base, String quote) {
         String candidate = (base + quote).toUpperCase();
-        LOG.info("binance GET {}", LogSanitizer.sanitize("/api/v3/exchangeInfo?symbol=" + candidate));
         JsonNode direct = webClient.get()
                 .uri("/api/v3/exchangeInfo?symbol=" + candidate)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -799,11 +794,10 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
         if (direct != null && direct.has("symbols") && direct.get("symbols").isArray()) {
             JsonNode first = direct.get("symbols").size() > 0 ? direct.get("symbols").get(0) : null;
             if (first != null && first.hasNonNull("symbol")) {
-                return first.get("symbol").asText();
+                return toOrderTemplate(first);
             }
         }
 
-        LOG.info("binance GET /api/v3/exchangeInfo");
         JsonNode full = webClient.get()
                 .uri("/api/v3/exchangeInfo")
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -820,12 +814,52 @@ public class BinanceClient extends BaseExchangeClient implements DepositNetworkP
             if (baseAsset != null && quoteAsset != null
                     && baseAsset.equalsIgnoreCase(base)
                     && quoteAsset.equalsIgnoreCase(quote)) {
-                return symbolNode.get("symbol").asText();
+                return toOrderTemplate(symbolNode);
             }
         }
         return null;
     }
 
+    private OrderTemplate toOrderTemplate(JsonNode symbolNode) {
+        String symbol = symbolNode.get("symbol").asText();
+        BigDecimal minQty = null;
+        BigDecimal maxQty = null;
+        BigDecimal stepSize = null;
+        BigDecimal minNotional = null;
+        JsonNode filters = symbolNode.get("filters");
+        if (filters != null && filters.isArray()) {
+            for (JsonNode filter : filters) {
+                String type = filter.hasNonNull("filterType") ? filter.get("filterType").asText() : null;
+                if ("LOT_SIZE".equalsIgnoreCase(type)) {
+                    minQty = toDecimal(filter.get("minQty"));
+                    maxQty = toDecimal(filter.get("maxQty"));
+                    stepSize = toDecimal(filter.get("stepSize"));
+                } else if ("NOTIONAL".equalsIgnoreCase(type) || "MIN_NOTIONAL".equalsIgnoreCase(type)) {
+                    minNotional = toDecimal(filter.get("minNotional"));
+                }
+            }
+        }
+        String status = symbolNode.path("status").asText("TRADING");
+        String rejection = null;
+        if (!"TRADING".equalsIgnoreCase(status)) {
+            rejection = "Binance symbol not trading: " + symbol + " (" + status + ")";
+        } else if (!symbolNode.path("isSpotTradingAllowed").asBoolean(true)) {
+            rejection = "Binance symbol does not allow spot trading: " + symbol;
+        } else if (symbolNode.path("orderTypes").isArray() && !containsText(symbolNode.get("orderTypes"), "MARKET")) {
+            rejection = "Binance symbol does not support MARKET orders: " + symbol;
+        }
+        return new OrderTemplate(symbol, rejection, minQty, maxQty, stepSize, null, null, minNotional);
+    }
+
+    private static boolean containsText(JsonNode array, String value) {
+        for (JsonNode item : array) {
+            if (value.equalsIgnoreCase(item.asText())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String sign(String data, String secret) {
         try {
             Mac mac = Mac.getInstance("HmacSHA256");
@@ -0,0 +1,96 @@
+package com.crypto.console.exchanges.binance;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.userdata.UserDataStore;
+import com.crypto.console.common.userdata.UserDataStream;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+class BinanceUserDataStream extends UserDataStream {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String DEFAULT_URL = "wss://stream.binance.com:9443/ws/";
+
+    private final String streamUrl;
+    private final Supplier<String> listenKeys;
+    private final Consumer<String> keepAlive;
+    private volatile String listenKey;
+
+    BinanceUserDataStream(UserDataStore store, String streamUrl, Supplier<String> listenKeys, Consumer<String> keepAlive) {
+        super("binance", store);
+        this.streamUrl = streamUrl == null || streamUrl.isBlank() ? DEFAULT_URL : streamUrl;
+        this.listenKeys = listenKeys;
+        this.keepAlive = keepAlive;
+    }
+
+    @Override
+    protected URI connectUri() {
+        listenKey = listenKeys.get();
+        return URI.create(streamUrl.endsWith("/") ? streamUrl + listenKey : streamUrl + "/" + listenKey);
+    }
+
+    @Override
+    protected void onOpen(Consumer<String> send) {
+        live();
+    }
+
+    @Override
+    protected Duration maintenanceInterval() {
+        return Duration.ofMinutes(30);
+    }
+
+    @Override
+    protected void maintain() {
+        keepAlive.accept(listenKey);
+    }
+
+    @Override
+    protected void onMessage(String text, Consumer<String> send) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(text);
+        } catch (IOException e) {
+            throw new ExchangeException("Invalid binance user data message", e);
+        }
+        switch (node.path("e").asText()) {
+            case "executionReport" -> store.onOrderUpdate(toOrderUpdate(node));
+            case "outboundAccountPosition" -> {
+                for (JsonNode balance : node.path("B")) {
+                    store.onBalance(exchange, new Balance(balance.path("a").asText(),
+                            decimal(balance.get("f")), decimal(balance.get("l"))));
+                }
+            }
+            case "listenKeyExpired" -> throw new ExchangeException("binance listenKey expired");
+            default -> {
+            }
+        }
+    }
+
+    static OrderUpdate toOrderUpdate(JsonNode node) {
+        String status = node.path("X").asText();
+        return new OrderUpdate(
+                "binance",
+                node.path("s").asText(),
+                node.path("i").asText(),
+                "PENDING_CANCEL".equals(status) ? OrderUpdate.CANCELED : status,
+                decimal(node.get("z")),
+                decimal(node.get("Z")),
+                node.path("E").asLong()
+        );
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null || node.isNull() || node.asText().isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(node.asText());
+    }
+}
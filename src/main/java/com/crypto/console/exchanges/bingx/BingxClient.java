@@ -4,10 +4,10 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -55,16 +55,34 @@ public class BingxClient extends BaseExchangeClient implements DepositNetworkPro
         SymbolMeta symbol = resolveSymbol(base, quote);
         JsonNode d = requireOk(publicGet("/openApi/spot/v1/market/depth", Map.of("symbol", symbol.symbol, "limit", String.valueOf(Math.max(5, Math.min(depth, 1000))))), "depth");
         boolean priceFirst = detectPriceFirst(symbol.symbol, arr(d, "bids", "bid"), arr(d, "asks", "ask"));
-        return new OrderBook(symbol.symbol, side(d, "bids", "bid", priceFirst), side(d, "asks", "ask", priceFirst));
+        return publish(new OrderBook(symbol.symbol, side(d, "bids", "bid", priceFirst), side(d, "asks", "ask", priceFirst)));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode d = requireOk(publicGet("/openApi/spot/v1/ticker/24hr", Map.of("timestamp", String.valueOf(System.currentTimeMillis()))), "24hr ticker");
+        if (d == null || !d.isArray()) {
+            throw new ExchangeException("Unexpected response from BingX 24hr ticker API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(d.size());
+        for (JsonNode row : d) {
+            String symbol = textOf(row, "symbol");
+            String[] parts = symbol == null ? null : split(symbol);
+            if (parts != null && parts.length == 2) {
+                tickers.add(new BookTicker(parts[0], parts[1], dec(row.get("bidPrice")), dec(row.get("askPrice"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
     public BuyInfoResult buyInfo(String base, String quote, BigDecimal quoteAmount) {
         SymbolMeta symbol = resolveSymbol(base, quote);
         JsonNode d = requireOk(publicGet("/openApi/spot/v1/market/depth", Map.of("symbol", symbol.symbol, "limit", "1000")), "depth");
+        JsonNode bids = arr(d, "bids", "bid");
         JsonNode asks = arr(d, "asks", "ask");
-        boolean priceFirst = detectPriceFirst(symbol.symbol, arr(d, "bids", "bid"), asks);
-        return impact(symbol.symbol, quoteAmount, asks, true, priceFirst);
+        boolean priceFirst = detectPriceFirst(symbol.symbol, bids, asks);
+        return impact(symbol.symbol, quoteAmount, bids, asks, true, priceFirst);
     }
 
     @Override
@@ -72,8 +90,9 @@ public class BingxClient extends BaseExchangeClient implements DepositNetworkPro
         SymbolMeta symbol = resolveSymbol(base, quote);
         JsonNode d = requireOk(publicGet("/openApi/spot/v1/market/depth", Map.of("symbol", symbol.symbol, "limit", "1000")), "depth");
         JsonNode bids = arr(d, "bids", "bid");
-        boolean priceFirst = detectPriceFirst(symbol.symbol, bids, arr(d, "asks", "ask"));
-        return impact(symbol.symbol, quoteAmount, bids, false, priceFirst);
+        JsonNode asks = arr(d, "asks", "ask");
+        boolean priceFirst = detectPriceFirst(symbol.symbol, bids, asks);
+        return impact(symbol.symbol, quoteAmount, bids, asks, false, priceFirst);
     }
 
     @Override
@@ -261,19 +280,16 @@ public class BingxClient extends BaseExchangeClient implements DepositNetworkPro
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = uri(path, params);
-        LOG.info("bingx GET {}", LogSanitizer.sanitize(uri));
         return json(webClient.get().uri(uri).header(HttpHeaders.USER_AGENT, "crypto-console").retrieve().bodyToMono(String.class).block(), "public");
     }
 
     private JsonNode signedGet(String path, Map<String, String> params) {
         String uri = signUri(path, params);
-        LOG.info("bingx GET {}", LogSanitizer.sanitize(uri));
         return json(webClient.get().uri(uri).header(HttpHeaders.USER_AGENT, "crypto-console").header("X-BX-APIKEY", key()).retrieve().bodyToMono(String.class).block(), "signed GET");
     }
 
     private JsonNode signedPost(String path, Map<String, String> params) {
         String uri = signUri(path, params);
-        LOG.info("bingx POST {}", LogSanitizer.sanitize(uri));
         return json(webClient.post().uri(uri).header(HttpHeaders.USER_AGENT, "crypto-console").header("X-BX-APIKEY", key()).retrieve().bodyToMono(String.class).block(), "signed POST");
     }
 
@@ -291,26 +307,11 @@ public class BingxClient extends BaseExchangeClient implements DepositNetworkPro
         return r;
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal qQuote, JsonNode levels, boolean buy, boolean priceFirst) {
+    private BuyInfoResult impact(String symbol, BigDecimal qQuote, JsonNode bids, JsonNode asks, boolean buy, boolean priceFirst) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) throw new ExchangeException("Unexpected response from BingX depth API");
-        BigDecimal rem = qQuote, q = BigDecimal.ZERO, b = BigDecimal.ZERO;
-        List<BuyInfoItem> aff = new ArrayList<>();
-        for (JsonNode l : levels) {
-            if (!l.isArray() || l.size() < 2) continue;
-            BigDecimal p = dec(l.get(priceFirst ? 0 : 1));
-            BigDecimal qty = dec(l.get(priceFirst ? 1 : 0));
-            if (p.signum() <= 0 || qty.signum() <= 0) continue;
-            BigDecimal v = p.multiply(qty);
-            if (rem.compareTo(v) >= 0) {
-                b = b.add(qty); q = q.add(v); rem = rem.subtract(v); aff.add(new BuyInfoItem(p, qty, v));
-            } else {
-                BigDecimal part = rem.divide(p, 18, RoundingMode.DOWN);
-                if (part.signum() > 0) { BigDecimal pv = part.multiply(p); b = b.add(part); q = q.add(pv); aff.add(new BuyInfoItem(p, part, pv)); }
-                rem = BigDecimal.ZERO; break;
-            }
-        }
-        if (b.signum() <= 0) throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        return new BuyInfoResult(symbol, qQuote, q, b, q.divide(b, 18, RoundingMode.HALF_UP), List.copyOf(aff));
+        int p = priceFirst ? 0 : 1, q = priceFirst ? 1 : 0;
+        return walkAndPublish(symbol, PriceLadder.parse(bids, p, q), PriceLadder.parse(asks, p, q), qQuote, buy);
     }
 
     private List<OrderBookEntry> side(JsonNode d, String k1, String k2, boolean priceFirst) {
@@ -4,8 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.Balance;
-import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BookTicker;
 import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
@@ -17,7 +18,6 @@ import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.model.WithdrawalFees;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +34,7 @@ import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -46,6 +47,8 @@ import java.util.UUID;
 public class BitgetClient extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider, DepositNetworkNormalizer {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    private volatile Map<String, String[]> symbolAssets = Map.of();
+
     public BitgetClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("bitget", cfg, secrets);
     }
@@ -77,7 +80,49 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
         SymbolInfo s = resolveSymbol(base, quote);
         int limit = depth <= 0 ? 150 : Math.min(depth, 150);
         JsonNode data = requireOk(publicGet("/api/v2/spot/market/orderbook", Map.of("symbol", s.symbol, "type", "step0", "limit", String.valueOf(limit))), "orderbook");
-        return new OrderBook(s.symbol, parseSide(data.get("bids")), parseSide(data.get("asks")));
+        return publish(new OrderBook(s.symbol, parseSide(data.get("bids")), parseSide(data.get("asks"))));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = requireOk(publicGet("/api/v2/spot/market/tickers", Map.of()), "tickers");
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from Bitget tickers API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String symbol = textOf(row, "symbol");
+            String[] pair = symbol == null ? null : assets.get(symbol);
+            if (pair == null && symbol != null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            if (pair != null) {
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.get("bidPr")), dec(row.get("askPr"))));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode data = requireOk(publicGet("/api/v2/spot/public/symbols", Map.of()), "symbols");
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from Bitget symbols API");
+        }
+        Map<String, String[]> assets = new HashMap<>(data.size() * 2);
+        for (JsonNode item : data) {
+            String symbol = textOf(item, "symbol");
+            String b = textOf(item, "baseCoin");
+            String q = textOf(item, "quoteCoin");
+            if (StringUtils.isNotBlank(symbol) && StringUtils.isNotBlank(b) && StringUtils.isNotBlank(q)) {
+                assets.put(symbol, new String[]{b, q});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -87,7 +132,7 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
         }
         SymbolInfo s = resolveSymbol(base, quote);
         JsonNode data = requireOk(publicGet("/api/v2/spot/market/orderbook", Map.of("symbol", s.symbol, "type", "step0", "limit", "150")), "orderbook");
-        return impact(s.symbol, quoteAmount, data.get("asks"), true);
+        return impact(s.symbol, quoteAmount, data.get("bids"), data.get("asks"), true);
     }
 
     @Override
@@ -97,7 +142,7 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
         }
         SymbolInfo s = resolveSymbol(base, quote);
         JsonNode data = requireOk(publicGet("/api/v2/spot/market/orderbook", Map.of("symbol", s.symbol, "type", "step0", "limit", "150")), "orderbook");
-        return impact(s.symbol, quoteAmount, data.get("bids"), false);
+        return impact(s.symbol, quoteAmount, data.get("bids"), data.get("asks"), false);
     }
 
     @Override
@@ -375,7 +420,6 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = buildUri(path, params);
-        LOG.info("bitget GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -396,7 +440,6 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
         String uri = query.isEmpty() ? path : path + "?" + query;
         String ts = String.valueOf(System.currentTimeMillis());
         String sign = sign(ts, "GET", path, query, "");
-        LOG.info("bitget GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -417,7 +460,6 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
         String body = toJson(bodyParams);
         String ts = String.valueOf(System.currentTimeMillis());
         String sign = sign(ts, "POST", path, "", body);
-        LOG.info("bitget POST {}", LogSanitizer.sanitize(path + "?" + body));
         String response = webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -480,46 +522,12 @@ public class BitgetClient extends BaseExchangeClient implements DepositNetworkPr
         return root.get("data");
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode levels, boolean buy) {
+    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode bids, JsonNode asks, boolean buy) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) {
             throw new ExchangeException("Unexpected response from Bitget orderbook API");
         }
-        BigDecimal remaining = quoteAmount;
-        BigDecimal spentOrReceived = BigDecimal.ZERO;
-        BigDecimal baseAmount = BigDecimal.ZERO;
-        List<BuyInfoItem> affected = new ArrayList<>();
-        for (JsonNode level : levels) {
-            if (level == null || !level.isArray() || level.size() < 2) {
-                continue;
-            }
-            BigDecimal price = dec(level.get(0));
-            BigDecimal qty = dec(level.get(1));
-            if (price.signum() <= 0 || qty.signum() <= 0) {
-                continue;
-            }
-            BigDecimal value = price.multiply(qty);
-            if (remaining.compareTo(value) >= 0) {
-                spentOrReceived = spentOrReceived.add(value);
-                baseAmount = baseAmount.add(qty);
-                remaining = remaining.subtract(value);
-                affected.add(new BuyInfoItem(price, qty, value));
-            } else {
-                BigDecimal partialBase = remaining.divide(price, 18, RoundingMode.DOWN);
-                if (partialBase.signum() > 0) {
-                    BigDecimal partialValue = partialBase.multiply(price);
-                    spentOrReceived = spentOrReceived.add(partialValue);
-                    baseAmount = baseAmount.add(partialBase);
-                    affected.add(new BuyInfoItem(price, partialBase, partialValue));
-                }
-                remaining = BigDecimal.ZERO;
-                break;
-            }
-        }
-        if (baseAmount.signum() <= 0) {
-            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        }
-        BigDecimal avg = spentOrReceived.divide(baseAmount, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, spentOrReceived, baseAmount, avg, List.copyOf(affected));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, buy);
     }
 
     private List<OrderBookEntry> parseSide(JsonNode side) {
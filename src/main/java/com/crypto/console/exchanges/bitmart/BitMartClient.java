@@ -8,7 +8,6 @@ import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -68,6 +67,22 @@ public class BitMartClient extends BaseExchangeClient implements DepositNetworkP
         throw notImplemented("GET /spot/quotation/v3/books (public)");
     }
 
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = requireOk(getJson("/spot/quotation/v3/tickers", null), "tickers").get("data");
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from BitMart tickers API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String[] pair = row.path(0).asText("").split("_");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], toDecimal(row.get(8)), toDecimal(row.get(10))));
+            }
+        }
+        return tickers;
+    }
+
     @Override
     public BuyInfoResult buyInfo(String base, String quote, BigDecimal quoteAmount) {
         if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
@@ -320,7 +335,12 @@ public class BitMartClient extends BaseExchangeClient implements DepositNetworkP
 
     @Override
     public ExchangeTime syncTime() {
-        throw notImplemented("TODO: verify BitMart server time endpoint");
+        JsonNode response = getJson("/system/time", null);
+        JsonNode serverTime = response.path("data").path("server_time");
+        if (!serverTime.canConvertToLong()) {
+            throw new ExchangeException("Unexpected response from BitMart time API");
+        }
+        return new ExchangeTime(serverTime.asLong(), serverTime.asLong() - System.currentTimeMillis());
     }
 
     @Override
@@ -387,7 +407,7 @@ public class BitMartClient extends BaseExchangeClient implements DepositNetworkP
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, true, false, true);
+        return new ExchangeCapabilities(true, false, false, true, true, true, true);
     }
 
     @Override
@@ -637,7 +657,6 @@ public class BitMartClient extends BaseExchangeClient implements DepositNetworkP
     }
 
     private JsonNode getJson(String uri, String apiKey) {
-        LOG.info("bitmart GET {}", LogSanitizer.sanitize(uri));
         org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec<?> req = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console");
@@ -670,7 +689,6 @@ public class BitMartClient extends BaseExchangeClient implements DepositNetworkP
         String signPayload = timestamp + "#" + apiMemo + "#" + bodyJson;
         String signature = sign(signPayload, apiSecret);
 
-        LOG.info("bitmart POST {}", LogSanitizer.sanitize(path));
         String body = webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
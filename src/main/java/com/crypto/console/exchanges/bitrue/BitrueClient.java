@@ -4,8 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.Balance;
-import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BookTicker;
 import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
@@ -17,7 +18,6 @@ import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.model.WithdrawalFees;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -31,6 +31,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -40,6 +41,7 @@ import java.util.UUID;
 
 @Slf4j
 public class BitrueClient extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider, DepositNetworkNormalizer {
+    private volatile Map<String, String[]> symbolAssets = Map.of();
 
     public BitrueClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("bitrue", cfg, secrets);
@@ -73,7 +75,50 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
         if (ob == null) {
             throw new ExchangeException("Unexpected response from Bitrue depth API");
         }
-        return new OrderBook(s.symbol, parseSide(ob.get("bids")), parseSide(ob.get("asks")));
+        return publish(new OrderBook(s.symbol, parseSide(ob.get("bids")), parseSide(ob.get("asks"))));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = publicGet("/api/v1/ticker/24hr", Map.of());
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from Bitrue tickers API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String symbol = StringUtils.upperCase(textOf(row, "symbol"));
+            String[] pair = symbol == null ? null : assets.get(symbol);
+            if (pair == null && symbol != null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            if (pair != null) {
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.get("bidPrice")), dec(row.get("askPrice"))));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode info = publicGet("/api/v1/exchangeInfo", Map.of());
+        JsonNode symbols = info == null ? null : info.get("symbols");
+        if (symbols == null || !symbols.isArray()) {
+            throw new ExchangeException("Unexpected response from Bitrue exchangeInfo API");
+        }
+        Map<String, String[]> assets = new HashMap<>(symbols.size() * 2);
+        for (JsonNode item : symbols) {
+            String symbol = StringUtils.upperCase(textOf(item, "symbol"));
+            String b = textOf(item, "baseAsset");
+            String q = textOf(item, "quoteAsset");
+            if (StringUtils.isNotBlank(symbol) && StringUtils.isNotBlank(b) && StringUtils.isNotBlank(q)) {
+                assets.put(symbol, new String[]{b, q});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -83,7 +128,7 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
         }
         SymbolInfo s = resolveSymbol(base, quote);
         JsonNode ob = publicGet("/api/v1/depth", Map.of("symbol", s.symbol, "limit", "1000"));
-        return impact(s.symbol, quoteAmount, ob == null ? null : ob.get("asks"), true);
+        return impact(s.symbol, quoteAmount, ob == null ? null : ob.get("bids"), ob == null ? null : ob.get("asks"), true);
     }
 
     @Override
@@ -93,7 +138,7 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
         }
         SymbolInfo s = resolveSymbol(base, quote);
         JsonNode ob = publicGet("/api/v1/depth", Map.of("symbol", s.symbol, "limit", "1000"));
-        return impact(s.symbol, quoteAmount, ob == null ? null : ob.get("bids"), false);
+        return impact(s.symbol, quoteAmount, ob == null ? null : ob.get("bids"), ob == null ? null : ob.get("asks"), false);
     }
 
     @Override
@@ -370,7 +415,6 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = buildUri(path, params);
-        LOG.info("bitrue GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -385,7 +429,6 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
         String query = signedQuery(params);
         String signature = sign(query, apiSecret());
         String uri = path + "?" + query + "&signature=" + signature;
-        LOG.info("bitrue GET {}", LogSanitizer.sanitize(uri));
         JsonNode r = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -403,7 +446,6 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
         String query = signedQuery(params);
         String signature = sign(query, apiSecret());
         String uri = path + "?" + query + "&signature=" + signature;
-        LOG.info("bitrue POST {}", LogSanitizer.sanitize(uri));
         JsonNode r = webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -471,45 +513,12 @@ public class BitrueClient extends BaseExchangeClient implements DepositNetworkPr
         }
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode levels, boolean buy) {
+    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode bids, JsonNode asks, boolean buy) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) {
             throw new ExchangeException("Unexpected response from Bitrue depth API");
         }
-        BigDecimal rem = quoteAmount;
-        BigDecimal quote = BigDecimal.ZERO;
-        BigDecimal base = BigDecimal.ZERO;
-        List<BuyInfoItem> items = new ArrayList<>();
-        for (JsonNode l : levels) {
-            if (!l.isArray() || l.size() < 2) {
-                continue;
-            }
-            BigDecimal p = dec(l.get(0));
-            BigDecimal q = dec(l.get(1));
-            if (p.signum() <= 0 || q.signum() <= 0) {
-                continue;
-            }
-            BigDecimal v = p.multiply(q);
-            if (rem.compareTo(v) >= 0) {
-                base = base.add(q);
-                quote = quote.add(v);
-                rem = rem.subtract(v);
-                items.add(new BuyInfoItem(p, q, v));
-            } else {
-                BigDecimal part = rem.divide(p, 18, RoundingMode.DOWN);
-                if (part.signum() > 0) {
-                    BigDecimal pv = part.multiply(p);
-                    base = base.add(part);
-                    quote = quote.add(pv);
-                    items.add(new BuyInfoItem(p, part, pv));
-                }
-                rem = BigDecimal.ZERO;
-                break;
-            }
-        }
-        if (base.signum() <= 0) {
-            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        }
-        return new BuyInfoResult(symbol, quoteAmount, quote, base, quote.divide(base, 18, RoundingMode.HALF_UP), List.copyOf(items));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, buy);
     }
 
     private List<OrderBookEntry> parseSide(JsonNode side) {
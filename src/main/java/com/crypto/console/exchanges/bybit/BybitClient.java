@@ -4,8 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.Balance;
-import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BookTicker;
 import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
@@ -17,7 +18,7 @@ import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.model.WithdrawalFees;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
+import com.crypto.console.common.userdata.UserDataStream;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +35,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -47,6 +49,8 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final String RECV_WINDOW = "5000";
 
+    private volatile Map<String, String[]> symbolAssets = Map.of();
+
     public BybitClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("bybit", cfg, secrets);
     }
@@ -87,7 +91,51 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         SymbolMeta s = resolveSymbol(base, quote);
         int limit = depth <= 0 ? 50 : Math.min(depth, 200);
         JsonNode result = requireOk(publicGet("/v5/market/orderbook", Map.of("category", "spot", "symbol", s.symbol, "limit", String.valueOf(limit))), "orderbook");
-        return new OrderBook(s.symbol, parseSide(result.get("b")), parseSide(result.get("a")));
+        return publish(new OrderBook(s.symbol, parseSide(result.get("b")), parseSide(result.get("a"))));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode result = requireOk(publicGet("/v5/market/tickers", Map.of("category", "spot")), "tickers");
+        JsonNode list = result == null ? null : result.get("list");
+        if (list == null || !list.isArray()) {
+            throw new ExchangeException("Unexpected response from Bybit tickers API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(list.size());
+        for (JsonNode row : list) {
+            String symbol = textOf(row, "symbol");
+            String[] pair = symbol == null ? null : assets.get(symbol);
+            if (pair == null && symbol != null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            if (pair != null) {
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.get("bid1Price")), dec(row.get("ask1Price"))));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode result = requireOk(publicGet("/v5/market/instruments-info", Map.of("category", "spot")), "instruments info");
+        JsonNode list = result == null ? null : result.get("list");
+        if (list == null || !list.isArray()) {
+            throw new ExchangeException("Unexpected response from Bybit instruments info API");
+        }
+        Map<String, String[]> assets = new HashMap<>(list.size() * 2);
+        for (JsonNode s : list) {
+            String symbol = textOf(s, "symbol");
+            String b = textOf(s, "baseCoin");
+            String q = textOf(s, "quoteCoin");
+            if (StringUtils.isNotBlank(symbol) && StringUtils.isNotBlank(b) && StringUtils.isNotBlank(q)) {
+                assets.put(symbol, new String[]{b, q});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -97,7 +145,7 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         }
         SymbolMeta s = resolveSymbol(base, quote);
         JsonNode result = requireOk(publicGet("/v5/market/orderbook", Map.of("category", "spot", "symbol", s.symbol, "limit", "200")), "orderbook");
-        return impact(s.symbol, quoteAmount, result.get("a"), true);
+        return impact(s.symbol, quoteAmount, result.get("b"), result.get("a"), true);
     }
 
     @Override
@@ -107,7 +155,12 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         }
         SymbolMeta s = resolveSymbol(base, quote);
         JsonNode result = requireOk(publicGet("/v5/market/orderbook", Map.of("category", "spot", "symbol", s.symbol, "limit", "200")), "orderbook");
-        return impact(s.symbol, quoteAmount, result.get("b"), false);
+        return impact(s.symbol, quoteAmount, result.get("b"), result.get("a"), false);
+    }
+
+    @Override
+    public UserDataStream userDataStream() {
+        return new BybitUserDataStream(userData(), streamUrl, apiKey(), apiSecret());
     }
 
     @Override
@@ -132,7 +185,7 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         if (StringUtils.isBlank(orderId)) {
             throw new ExchangeException("Missing order id from Bybit order API");
         }
-        return new OrderResult(orderId, "SUBMITTED", "market buy submitted");
+        return confirmOrder(orderId, "market buy submitted");
     }
 
     @Override
@@ -163,7 +216,7 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         if (StringUtils.isBlank(orderId)) {
             throw new ExchangeException("Missing order id from Bybit order API");
         }
-        return new OrderResult(orderId, "SUBMITTED", "market sell submitted");
+        return confirmOrder(orderId, "market sell submitted");
     }
 
     @Override
@@ -418,45 +471,12 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         return BigDecimal.ZERO;
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode levels, boolean buy) {
+    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode bids, JsonNode asks, boolean buy) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) {
             throw new ExchangeException("Unexpected response from Bybit orderbook API");
         }
-        BigDecimal rem = quoteAmount;
-        BigDecimal quote = BigDecimal.ZERO;
-        BigDecimal base = BigDecimal.ZERO;
-        List<BuyInfoItem> items = new ArrayList<>();
-        for (JsonNode level : levels) {
-            if (!level.isArray() || level.size() < 2) {
-                continue;
-            }
-            BigDecimal p = dec(level.get(0));
-            BigDecimal q = dec(level.get(1));
-            if (p.signum() <= 0 || q.signum() <= 0) {
-                continue;
-            }
-            BigDecimal v = p.multiply(q);
-            if (rem.compareTo(v) >= 0) {
-                base = base.add(q);
-                quote = quote.add(v);
-                rem = rem.subtract(v);
-                items.add(new BuyInfoItem(p, q, v));
-            } else {
-                BigDecimal part = rem.divide(p, 18, RoundingMode.DOWN);
-                if (part.signum() > 0) {
-                    BigDecimal pv = part.multiply(p);
-                    base = base.add(part);
-                    quote = quote.add(pv);
-                    items.add(new BuyInfoItem(p, part, pv));
-                }
-                rem = BigDecimal.ZERO;
-                break;
-            }
-        }
-        if (base.signum() <= 0) {
-            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        }
-        return new BuyInfoResult(symbol, quoteAmount, quote, base, quote.divide(base, 18, RoundingMode.HALF_UP), List.copyOf(items));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, buy);
     }
 
     private List<OrderBookEntry> parseSide(JsonNode levels) {
@@ -490,7 +510,6 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = buildUri(path, params);
-        LOG.info("bybit GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -506,7 +525,6 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
         String query = qs(new TreeMap<>(params == null ? Map.of() : params));
         String uri = query.isEmpty() ? path : path + "?" + query;
         Auth auth = sign("GET", path, query, "");
-        LOG.info("bybit GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -526,7 +544,6 @@ public class BybitClient extends BaseExchangeClient implements DepositNetworkPro
     private JsonNode signedPost(String path, Map<String, Object> payload) {
         String bodyJson = toJson(payload);
         Auth auth = sign("POST", path, "", bodyJson);
-        LOG.info("bybit POST {}", LogSanitizer.sanitize(path + "?" + bodyJson));
         String body = webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -0,0 +1,126 @@
+package com.crypto.console.exchanges.bybit;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.userdata.UserDataStore;
+import com.crypto.console.common.userdata.UserDataStream;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+class BybitUserDataStream extends UserDataStream {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String DEFAULT_URL = "wss://stream.bybit.com/v5/private";
+
+    private final String streamUrl;
+    private final String apiKey;
+    private final String apiSecret;
+
+    BybitUserDataStream(UserDataStore store, String streamUrl, String apiKey, String apiSecret) {
+        super("bybit", store);
+        this.streamUrl = streamUrl == null || streamUrl.isBlank() ? DEFAULT_URL : streamUrl;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+    }
+
+    @Override
+    protected URI connectUri() {
+        return URI.create(streamUrl);
+    }
+
+    @Override
+    protected void onOpen(Consumer<String> send) {
+        long expires = System.currentTimeMillis() + 10_000;
+        ObjectNode auth = MAPPER.createObjectNode().put("op", "auth");
+        auth.putArray("args").add(apiKey).add(expires).add(sign("GET/realtime" + expires));
+        send.accept(auth.toString());
+    }
+
+    @Override
+    protected Duration pingInterval() {
+        return Duration.ofSeconds(20);
+    }
+
+    @Override
+    protected String pingMessage() {
+        return "{\"op\":\"ping\"}";
+    }
+
+    @Override
+    protected void onMessage(String text, Consumer<String> send) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(text);
+        } catch (IOException e) {
+            throw new ExchangeException("Invalid bybit user data message", e);
+        }
+        String op = node.path("op").asText();
+        if ("auth".equals(op)) {
+            if (!node.path("success").asBoolean()) {
+                throw new ExchangeException("bybit user data auth failed: " + node.path("ret_msg").asText());
+            }
+            ObjectNode subscribe = MAPPER.createObjectNode().put("op", "subscribe");
+            subscribe.putArray("args").add("order").add("wallet");
+            send.accept(subscribe.toString());
+            return;
+        }
+        if ("subscribe".equals(op)) {
+            if (node.path("success").asBoolean()) {
+                live();
+            }
+            return;
+        }
+        String topic = node.path("topic").asText();
+        for (JsonNode row : node.path("data")) {
+            if ("order".equals(topic) && "spot".equalsIgnoreCase(row.path("category").asText("spot"))) {
+                store.onOrderUpdate(toOrderUpdate(row));
+            } else if ("wallet".equals(topic)) {
+                for (JsonNode coin : row.path("coin")) {
+                    BigDecimal total = decimal(coin.get("walletBalance"));
+                    BigDecimal locked = decimal(coin.get("locked"));
+                    store.onBalance(exchange, new Balance(coin.path("coin").asText(), total.subtract(locked), locked));
+                }
+            }
+        }
+    }
+
+    static OrderUpdate toOrderUpdate(JsonNode row) {
+        String status = switch (row.path("orderStatus").asText()) {
+            case "Filled" -> OrderUpdate.FILLED;
+            case "PartiallyFilled" -> OrderUpdate.PARTIALLY_FILLED;
+            case "Cancelled", "PartiallyFilledCanceled", "Deactivated" -> OrderUpdate.CANCELED;
+            case "Rejected" -> OrderUpdate.REJECTED;
+            default -> OrderUpdate.NEW;
+        };
+        return new OrderUpdate("bybit", row.path("symbol").asText(), row.path("orderId").asText(), status,
+                decimal(row.get("cumExecQty")), decimal(row.get("cumExecValue")), row.path("updatedTime").asLong());
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new ExchangeException("Failed to sign Bybit auth", e);
+        }
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null || node.isNull() || node.asText().isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(node.asText());
+    }
+}
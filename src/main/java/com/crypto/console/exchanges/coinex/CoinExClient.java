@@ -4,11 +4,11 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +29,7 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
     private static final ObjectMapper MAPPER = new ObjectMapper();
     private static final String API_PREFIX = "/v2";
     private static final String ALGORITHM = "HmacSHA256";
+    private static final int[] DEPTH_LIMITS = {5, 10, 20, 50};
 
     public CoinExClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("coinex", cfg, secrets);
@@ -66,9 +67,44 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
         throw notImplemented("GET /assets/deposit-withdraw-config?ccy= (public)");
     }
 
+    private static int depthLimit(int depth) {
+        for (int limit : DEPTH_LIMITS) {
+            if (depth > 0 && depth <= limit) {
+                return limit;
+            }
+        }
+        return DEPTH_LIMITS[DEPTH_LIMITS.length - 1];
+    }
+
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /spot/depth (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        String market = (base + quote).toUpperCase();
+        MarketInfo info = getMarketInfo(market);
+        if (info == null) {
+            throw new ExchangeException("Invalid symbol: " + market);
+        }
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("market", market);
+        params.put("limit", String.valueOf(depthLimit(depth)));
+        params.put("interval", "0");
+        JsonNode data = requireOk(publicGet("/spot/depth?" + buildQueryString(params)), "order book").path("data");
+        JsonNode book = data.get("depth");
+        if (book == null || book.isNull()) {
+            book = data;
+        }
+        if (!book.path("bids").isArray() || !book.path("asks").isArray()) {
+            throw new ExchangeException("Unexpected response from CoinEx order book API");
+        }
+        List<OrderBookEntry> bids = PriceLadder.parse(book.get("bids"), 0, 1).entries();
+        List<OrderBookEntry> asks = PriceLadder.parse(book.get("asks"), 0, 1).entries();
+        if (depth > 0) {
+            bids = bids.subList(0, Math.min(depth, bids.size()));
+            asks = asks.subList(0, Math.min(depth, asks.size()));
+        }
+        return publish(new OrderBook(market, bids, asks));
     }
 
     @Override
@@ -102,48 +138,7 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
             throw new ExchangeException("Unexpected response from CoinEx order book API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : asks) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + market);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(market, quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(market, PriceLadder.parse(depth.get("bids"), 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -177,48 +172,7 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
             throw new ExchangeException("Unexpected response from CoinEx order book API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : bids) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + market);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(market, quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(market, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(depth.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -362,7 +316,7 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, true, true, true);
+        return new ExchangeCapabilities(true, false, true, true, true, true, true);
     }
 
     @Override
@@ -403,32 +357,21 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
             throw new ExchangeException("Missing API credentials for coinex");
         }
 
-        String market = (base + quote).toUpperCase();
-        MarketInfo info = getMarketInfo(market);
-        if (info == null || !info.apiTradingAvailable) {
-            throw new ExchangeException("Invalid symbol or API trading not available: " + market);
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template == null) {
+            throw new ExchangeException("Invalid symbol or API trading not available: " + (base + quote).toUpperCase());
         }
+        template.requireTradable();
+        String market = template.symbol;
 
         if (isQuoteAmount) {
-            if (info.quotePrecision != null && info.quotePrecision >= 0) {
-                amount = amount.setScale(info.quotePrecision, java.math.RoundingMode.DOWN).stripTrailingZeros();
-            }
+            amount = template.roundQuoteAmount(amount);
         } else {
-            BigDecimal qty = applyLotSize(info, amount);
+            // min_amount is denominated in base, so the lot-size check already covers the notional floor.
+            BigDecimal qty = template.roundQuantity(amount);
             if (qty.signum() <= 0) {
                 throw new ExchangeException("Sell quantity below minimum lot size for " + market);
             }
-            BigDecimal minAmount = info.minAmount;
-            if (minAmount != null && minAmount.signum() > 0) {
-                BigDecimal price = getLatestPrice(market);
-                if (price != null && price.signum() > 0) {
-                    BigDecimal notional = qty.multiply(price);
-                    BigDecimal minNotional = minAmount.multiply(price);
-                    if (notional.compareTo(minNotional) < 0) {
-                        throw new ExchangeException("Order value " + notional + " below min notional " + minNotional + " for " + market);
-                    }
-                }
-            }
             amount = qty;
         }
 
@@ -466,31 +409,23 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
         return new MarketInfo(minAmount, basePrecision, quotePrecision, apiTradingAvailable);
     }
 
-    private BigDecimal getLatestPrice(String market) {
-        Map<String, String> params = new LinkedHashMap<>();
-        params.put("market", market);
-        String uri = "/spot/ticker?" + buildQueryString(params);
-        JsonNode response = publicGet(uri);
-        JsonNode data = requireOk(response, "ticker").path("data");
-        if (data.isArray() && !data.isEmpty()) {
-            return toDecimal(data.get(0).get("last"));
-        }
-        return null;
+    @Override
+    public void prepareOrder(String base, String quote) {
+        orderTemplate(base, quote);
     }
 
-    private BigDecimal applyLotSize(MarketInfo info, BigDecimal quantity) {
-        if (info == null) {
-            return quantity;
-        }
-        BigDecimal min = info.minAmount;
-        Integer precision = info.basePrecision;
-        if (precision != null && precision >= 0) {
-            quantity = quantity.setScale(precision, java.math.RoundingMode.DOWN);
-        }
-        if (min != null && min.signum() > 0 && quantity.compareTo(min) < 0) {
-            return BigDecimal.ZERO;
-        }
-        return quantity.stripTrailingZeros();
+    @Override
+    public OrderTemplate orderTemplate(String base, String quote) {
+        return orderTemplates().template(base, quote, () -> {
+            String market = (base + quote).toUpperCase();
+            MarketInfo info = getMarketInfo(market);
+            if (info == null) {
+                return null;
+            }
+            String rejection = info.apiTradingAvailable ? null : "Invalid symbol or API trading not available: " + market;
+            return new OrderTemplate(market, rejection, info.minAmount, null, null,
+                    info.basePrecision, info.quotePrecision, null);
+        });
     }
 
     private DepositWithdrawConfig getDepositWithdrawConfig(String asset) {
@@ -597,7 +532,6 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
         String requestPath = query.isEmpty() ? API_PREFIX + path : API_PREFIX + path + "?" + query;
         String timestamp = String.valueOf(System.currentTimeMillis());
         String signature = sign("GET", requestPath, "", timestamp, apiSecret);
-        LOG.info("coinex GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -631,7 +565,6 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
         String timestamp = String.valueOf(System.currentTimeMillis());
         String signature = sign("POST", requestPath, jsonBody, timestamp, apiSecret);
         String uri = API_PREFIX + path;
-        LOG.info("coinex POST {}", LogSanitizer.sanitize(uri));
         String respBody = webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -656,7 +589,6 @@ public class CoinExClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode publicGet(String uri) {
         String full = API_PREFIX + uri;
-        LOG.info("coinex GET {}", LogSanitizer.sanitize(full));
         String body = webClient.get()
                 .uri(full)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
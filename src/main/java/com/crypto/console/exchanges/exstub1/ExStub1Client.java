@@ -3,7 +3,10 @@ package com.crypto.console.exchanges.exstub1;
 import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.OrderBookImpact;
+import com.crypto.console.common.marketdata.SyntheticMarket;
 import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeTime;
 import com.crypto.console.common.model.OrderBook;
@@ -21,13 +24,21 @@ import java.util.Set;
 
 @Slf4j
 public class ExStub1Client extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider {
+    private final SyntheticMarket market;
+
     public ExStub1Client(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("exstub1", cfg, secrets);
+        this.market = cfg.getSynthetic() == null || !cfg.getSynthetic().isEnabled()
+                ? null
+                : new SyntheticMarket("exstub1", cfg.getSynthetic());
     }
 
     @Override
     public Balance getBalance(String asset) {
         LOG.info("exstub1 getBalance asset={}", asset);
+        if (market != null) {
+            return market.balance(asset);
+        }
         return new Balance(asset, BigDecimal.ZERO, BigDecimal.ZERO);
     }
 
@@ -43,18 +54,45 @@ public class ExStub1Client extends BaseExchangeClient implements DepositNetworkP
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
         LOG.info("exstub1 getOrderBook base={} quote={} depth={}", base, quote, depth);
+        if (market != null) {
+            return publish(market.book(base, quote, depth));
+        }
         return new OrderBook(base + quote, List.of(), List.of());
     }
 
+    @Override
+    public BuyInfoResult buyInfo(String base, String quote, BigDecimal quoteAmount) {
+        LOG.info("exstub1 buyInfo base={} quote={} quoteAmount={}", base, quote, quoteAmount);
+        if (market != null) {
+            return OrderBookImpact.buy(publish(market.book(base, quote, 0)), quoteAmount);
+        }
+        return super.buyInfo(base, quote, quoteAmount);
+    }
+
+    @Override
+    public BuyInfoResult sellInfo(String base, String quote, BigDecimal quoteAmount) {
+        LOG.info("exstub1 sellInfo base={} quote={} quoteAmount={}", base, quote, quoteAmount);
+        if (market != null) {
+            return OrderBookImpact.sell(publish(market.book(base, quote, 0)), quoteAmount);
+        }
+        return super.sellInfo(base, quote, quoteAmount);
+    }
+
     @Override
     public OrderResult marketBuy(String base, String quote, BigDecimal quoteAmount) {
         LOG.info("exstub1 marketBuy base={} quote={} quoteAmount={}", base, quote, quoteAmount);
+        if (market != null) {
+            return market.marketBuy(base, quote, quoteAmount);
+        }
         return new OrderResult("stub-buy-1", "STUB", "stub order");
     }
 
     @Override
     public OrderResult marketSell(String base, String quote, BigDecimal baseAmount) {
         LOG.info("exstub1 marketSell base={} quote={} baseAmount={}", base, quote, baseAmount);
+        if (market != null) {
+            return market.marketSell(base, quote, baseAmount);
+        }
         return new OrderResult("stub-sell-1", "STUB", "stub order");
     }
 
@@ -4,11 +4,11 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -70,7 +70,39 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
 
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /spot/order_book (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        String currencyPair = (base + "_" + quote).toUpperCase();
+        if (getCurrencyPairInfo(currencyPair) == null) {
+            throw new ExchangeException("Invalid symbol: " + currencyPair);
+        }
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("currency_pair", currencyPair);
+        params.put("limit", String.valueOf(depth <= 0 ? 100 : Math.min(depth, 1000)));
+        JsonNode response = publicGet("/spot/order_book", params);
+        if (response == null || !response.path("bids").isArray() || !response.path("asks").isArray()) {
+            throw new ExchangeException("Unexpected response from Gate.io order book API");
+        }
+        return publish(new OrderBook(currencyPair,
+                PriceLadder.parse(response.get("bids"), 0, 1).entries(),
+                PriceLadder.parse(response.get("asks"), 0, 1).entries()));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode response = publicGet("/spot/tickers", null);
+        if (response == null || !response.isArray()) {
+            throw new ExchangeException("Unexpected response from Gate.io tickers API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(response.size());
+        for (JsonNode row : response) {
+            String[] pair = row.path("currency_pair").asText("").split("_");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], toDecimal(row.get("highest_bid")), toDecimal(row.get("lowest_ask"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
@@ -99,48 +131,7 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
             throw new ExchangeException("Unexpected response from Gate.io order book API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : response.get("asks")) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + currencyPair);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(currencyPair, quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(currencyPair, PriceLadder.parse(response.get("bids"), 0, 1), PriceLadder.parse(response.get("asks"), 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -169,48 +160,7 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
             throw new ExchangeException("Unexpected response from Gate.io order book API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : response.get("bids")) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + currencyPair);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(currencyPair, quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(currencyPair, PriceLadder.parse(response.get("bids"), 0, 1), PriceLadder.parse(response.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -381,7 +331,7 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, true, true, true);
+        return new ExchangeCapabilities(true, false, true, true, true, true, true);
     }
 
     @Override
@@ -419,35 +369,28 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
             throw new ExchangeException("Missing API credentials for gateio");
         }
 
-        String currencyPair = (base + "_" + quote).toUpperCase();
-        CurrencyPairInfo info = getCurrencyPairInfo(currencyPair);
-        if (info == null) {
-            throw new ExchangeException("Invalid symbol: " + currencyPair);
-        }
-        if (!info.tradable) {
-            throw new ExchangeException("Gate.io symbol not tradable: " + currencyPair);
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template == null) {
+            throw new ExchangeException("Invalid symbol: " + (base + "_" + quote).toUpperCase());
         }
+        template.requireTradable();
+        String currencyPair = template.symbol;
 
         if (isQuoteAmount) {
-            if (info.minQuoteAmount != null && info.minQuoteAmount.signum() > 0
-                    && amount.compareTo(info.minQuoteAmount) < 0) {
-                throw new ExchangeException("Order value " + amount + " below min notional " + info.minQuoteAmount + " for " + currencyPair);
+            if (template.belowMinNotional(amount)) {
+                throw new ExchangeException("Order value " + amount + " below min notional " + template.minNotional + " for " + currencyPair);
             }
         } else {
-            BigDecimal qty = applyAmountPrecision(info, amount);
+            BigDecimal qty = template.roundQuantity(amount);
             if (qty.signum() <= 0) {
-                throw new ExchangeException("Sell quantity below minimum lot size for " + currencyPair);
+                throw new ExchangeException("Sell quantity below minimum lot size " + template.minQty + " for " + currencyPair);
             }
-            if (info.minBaseAmount != null && info.minBaseAmount.signum() > 0
-                    && qty.compareTo(info.minBaseAmount) < 0) {
-                throw new ExchangeException("Sell quantity " + qty + " below min lot size " + info.minBaseAmount + " for " + currencyPair);
-            }
-            if (info.minQuoteAmount != null && info.minQuoteAmount.signum() > 0) {
-                BigDecimal price = getLastPrice(currencyPair);
+            if (template.minNotional != null && template.minNotional.signum() > 0) {
+                BigDecimal price = orderTemplates().referencePrice(currencyPair, () -> getLastPrice(currencyPair));
                 if (price != null && price.signum() > 0) {
                     BigDecimal notional = qty.multiply(price);
-                    if (notional.compareTo(info.minQuoteAmount) < 0) {
-                        throw new ExchangeException("Order value " + notional + " below min notional " + info.minQuoteAmount + " for " + currencyPair);
+                    if (template.belowMinNotional(notional)) {
+                        throw new ExchangeException("Order value " + notional + " below min notional " + template.minNotional + " for " + currencyPair);
                     }
                 }
             }
@@ -498,15 +441,26 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
         return null;
     }
 
-    private BigDecimal applyAmountPrecision(CurrencyPairInfo info, BigDecimal quantity) {
-        if (info == null || quantity == null) {
-            return quantity;
-        }
-        Integer precision = info.amountPrecision;
-        if (precision != null && precision >= 0) {
-            quantity = quantity.setScale(precision, java.math.RoundingMode.DOWN);
+    @Override
+    public void prepareOrder(String base, String quote) {
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template != null && template.minNotional != null) {
+            orderTemplates().referencePrice(template.symbol, () -> getLastPrice(template.symbol));
         }
-        return quantity.stripTrailingZeros();
+    }
+
+    @Override
+    public OrderTemplate orderTemplate(String base, String quote) {
+        return orderTemplates().template(base, quote, () -> {
+            String currencyPair = (base + "_" + quote).toUpperCase();
+            CurrencyPairInfo info = getCurrencyPairInfo(currencyPair);
+            if (info == null) {
+                return null;
+            }
+            String rejection = info.tradable ? null : "Gate.io symbol not tradable: " + currencyPair;
+            return new OrderTemplate(currencyPair, rejection, info.minBaseAmount, null, null,
+                    info.amountPrecision, null, info.minQuoteAmount);
+        });
     }
 
     private List<ChainInfo> getCurrencyChains(String asset) {
@@ -614,7 +568,6 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
         String requestPath = API_PREFIX + path;
         String timestamp = String.valueOf(System.currentTimeMillis() / 1000L);
         String signature = sign("GET", requestPath, query, "", timestamp, apiSecret);
-        LOG.info("gateio GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -648,7 +601,6 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
         String requestPath = API_PREFIX + path;
         String timestamp = String.valueOf(System.currentTimeMillis() / 1000L);
         String signature = sign("POST", requestPath, "", jsonBody, timestamp, apiSecret);
-        LOG.info("gateio POST {}", LogSanitizer.sanitize(uri));
         return webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -673,7 +625,6 @@ public class GateIoClient extends BaseExchangeClient implements DepositNetworkPr
     private JsonNode publicGet(String path, Map<String, String> params) {
         String query = params == null ? "" : buildQueryString(params);
         String uri = query.isEmpty() ? API_PREFIX + path : API_PREFIX + path + "?" + query;
-        LOG.info("gateio GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
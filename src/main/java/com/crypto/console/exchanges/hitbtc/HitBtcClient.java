@@ -7,7 +7,6 @@ import com.crypto.console.common.exchange.impl.BaseExchangeClient;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -20,6 +19,7 @@ import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -28,6 +28,7 @@ import java.util.Set;
 
 @Slf4j
 public class HitBtcClient extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider, DepositNetworkNormalizer {
+    private volatile Map<String, String[]> symbolAssets = Map.of();
 
     public HitBtcClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("hitbtc", cfg, secrets);
@@ -63,7 +64,49 @@ public class HitBtcClient extends BaseExchangeClient implements DepositNetworkPr
         JsonNode response = publicGet("/public/orderbook/" + symbol.symbol, Map.of("limit", String.valueOf(limit)));
         List<OrderBookEntry> bids = parseOrderBookSide(response == null ? null : response.get("bid"));
         List<OrderBookEntry> asks = parseOrderBookSide(response == null ? null : response.get("ask"));
-        return new OrderBook(symbol.symbol, bids, asks);
+        return publish(new OrderBook(symbol.symbol, bids, asks));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = publicGet("/public/ticker", null);
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from HitBTC tickers API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String symbol = textOf(row, "symbol");
+            String[] pair = symbol == null ? null : assets.get(symbol);
+            if (pair == null && symbol != null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            if (pair != null) {
+                tickers.add(new BookTicker(pair[0], pair[1], toDecimal(row.get("bid")), toDecimal(row.get("ask"))));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode list = publicGet("/public/symbol", null);
+        if (list == null || !list.isArray()) {
+            throw new ExchangeException("Unexpected response from HitBTC symbols API");
+        }
+        Map<String, String[]> assets = new HashMap<>(list.size() * 2);
+        for (JsonNode item : list) {
+            String symbol = textOf(item, "id");
+            String b = StringUtils.upperCase(textOf(item, "baseCurrency"));
+            String q = StringUtils.upperCase(textOf(item, "quoteCurrency"));
+            if (StringUtils.isNotBlank(symbol) && StringUtils.isNotBlank(b) && StringUtils.isNotBlank(q)) {
+                assets.put(symbol, new String[]{b, q});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -77,6 +120,7 @@ public class HitBtcClient extends BaseExchangeClient implements DepositNetworkPr
         if (asks == null || !asks.isArray()) {
             throw new ExchangeException("Unexpected response from HitBTC orderbook API");
         }
+        publish(new OrderBook(symbol.symbol, parseOrderBookSide(response.get("bid")), parseOrderBookSide(asks)));
 
         BigDecimal remainingQuote = quoteAmount;
         BigDecimal spentQuote = BigDecimal.ZERO;
@@ -126,6 +170,7 @@ public class HitBtcClient extends BaseExchangeClient implements DepositNetworkPr
         if (bids == null || !bids.isArray()) {
             throw new ExchangeException("Unexpected response from HitBTC orderbook API");
         }
+        publish(new OrderBook(symbol.symbol, parseOrderBookSide(bids), parseOrderBookSide(response.get("ask"))));
 
         BigDecimal remainingQuote = quoteAmount;
         BigDecimal receivedQuote = BigDecimal.ZERO;
@@ -609,7 +654,6 @@ public class HitBtcClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = buildUri(path, params);
-        LOG.info("hitbtc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -630,7 +674,6 @@ public class HitBtcClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode privateGet(String path, Map<String, String> params) {
         String uri = buildUri(path, params);
-        LOG.info("hitbtc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -652,7 +695,6 @@ public class HitBtcClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode privatePostForm(String path, Map<String, String> form) {
         String uri = buildUri(path, null);
-        LOG.info("hitbtc POST {}", LogSanitizer.sanitize(uri + "?" + buildFormBody(form)));
         JsonNode response = webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -4,6 +4,7 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.properties.AppProperties;
@@ -41,6 +42,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
     private volatile long lastTimeSyncMillis;
     private volatile WebClient altWebClient;
     private volatile String altBaseUrl;
+    private volatile Map<String, String[]> symbolAssets = Map.of();
 
     public HtxClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("htx", cfg, secrets);
@@ -101,7 +103,49 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         int maxDepth = depth > 0 ? depth : 10;
         List<OrderBookEntry> bids = toOrderBookEntries(bidsNode, maxDepth);
         List<OrderBookEntry> asks = toOrderBookEntries(asksNode, maxDepth);
-        return new OrderBook(symbol.toUpperCase(), bids, asks);
+        return publish(new OrderBook(symbol.toUpperCase(), bids, asks));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = requireOk(publicGet("/market/tickers"), "tickers").path("data");
+        if (!data.isArray()) {
+            throw new ExchangeException("Unexpected response from HTX tickers API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String symbol = StringUtils.lowerCase(row.path("symbol").asText(null));
+            String[] pair = symbol == null ? null : assets.get(symbol);
+            if (pair == null && symbol != null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            if (pair != null) {
+                tickers.add(new BookTicker(pair[0], pair[1], toDecimal(row.get("bid")), toDecimal(row.get("ask"))));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode data = requireOk(publicGet("/v1/common/symbols"), "symbols").path("data");
+        if (!data.isArray()) {
+            throw new ExchangeException("Unexpected response from HTX symbols API");
+        }
+        Map<String, String[]> assets = new HashMap<>(data.size() * 2);
+        for (JsonNode item : data) {
+            String symbol = StringUtils.lowerCase(item.path("symbol").asText(null));
+            String b = StringUtils.upperCase(item.path("base-currency").asText(null));
+            String q = StringUtils.upperCase(item.path("quote-currency").asText(null));
+            if (StringUtils.isNotBlank(symbol) && StringUtils.isNotBlank(b) && StringUtils.isNotBlank(q)) {
+                assets.put(symbol, new String[]{b, q});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -114,53 +158,12 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         }
 
         String symbol = resolveSymbol(base, quote);
-        JsonNode asks = fetchDepthTick(symbol).path("asks");
-        if (!asks.isArray()) {
+        JsonNode tick = fetchDepthTick(symbol);
+        if (!tick.path("asks").isArray()) {
             throw new ExchangeException("Unexpected response from HTX depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : asks) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + symbol.toUpperCase());
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol.toUpperCase(), quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol.toUpperCase(), PriceLadder.parse(tick.get("bids"), 0, 1), PriceLadder.parse(tick.get("asks"), 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -173,53 +176,12 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         }
 
         String symbol = resolveSymbol(base, quote);
-        JsonNode bids = fetchDepthTick(symbol).path("bids");
-        if (!bids.isArray()) {
+        JsonNode tick = fetchDepthTick(symbol);
+        if (!tick.path("bids").isArray()) {
             throw new ExchangeException("Unexpected response from HTX depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : bids) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + symbol.toUpperCase());
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol.toUpperCase(), quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol.toUpperCase(), PriceLadder.parse(tick.get("bids"), 0, 1), PriceLadder.parse(tick.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -549,7 +511,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
 
     private List<ChainInfo> getChainInfo(String asset, String apiKey, String apiSecret) {
         String uri = "/v1/settings/common/chains?currency=" + encodeQuery(asset.toLowerCase());
-        LOG.info("htx GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = publicGet(uri);
         JsonNode data = requireOk(response, "chains").path("data");
         if (!data.isArray()) {
@@ -583,6 +544,20 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         return "allowed".equalsIgnoreCase(status) || "true".equalsIgnoreCase(status) || "1".equals(status);
     }
 
+    @Override
+    public Map<String, String> accountMetadata() {
+        String id = cachedSpotAccountId;
+        return StringUtils.isBlank(id) ? Map.of() : Map.of("spotAccountId", id);
+    }
+
+    @Override
+    public void restoreAccountMetadata(Map<String, String> metadata) {
+        String id = metadata.get("spotAccountId");
+        if (StringUtils.isNotBlank(id) && StringUtils.isBlank(cachedSpotAccountId)) {
+            cachedSpotAccountId = id;
+        }
+    }
+
     private String getSpotAccountId(String apiKey, String apiSecret) {
         if (StringUtils.isNotBlank(cachedSpotAccountId)) {
             return cachedSpotAccountId;
@@ -609,7 +584,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
     }
 
     private SymbolInfo getSymbolInfo(String symbol) {
-        LOG.info("htx GET {}", LogSanitizer.sanitize("/v1/common/symbols"));
         JsonNode response = publicGet("/v1/common/symbols");
         JsonNode data = requireOk(response, "symbols").path("data");
         if (!data.isArray()) {
@@ -638,7 +612,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
 
     private JsonNode fetchDepthTick(String symbol) {
         String uri = "/market/depth?symbol=" + encodeQuery(symbol.toLowerCase()) + "&type=step0";
-        LOG.info("htx GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = publicGet(uri);
         JsonNode tick = requireOk(response, "depth").path("tick");
         if (tick.isMissingNode() || tick.isNull()) {
@@ -683,7 +656,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
 
     private BigDecimal getMergedPrice(String symbol) {
         String uri = "/market/detail/merged?symbol=" + encodeQuery(symbol.toLowerCase());
-        LOG.info("htx GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = publicGet(uri);
         JsonNode tick = requireOk(response, "merged price").path("tick");
         return toDecimal(tick.get("close"));
@@ -726,7 +698,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String signHost = getHost();
         LOG.info("htx signHost={} requestHost={}", signHost, getRequestHost());
         String uri = buildSignedUri("GET", path, params, apiKey, apiSecret, null);
-        LOG.info("htx GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(webClient, uri, false, null, signHost);
         logFailedAttempt("GET", uri, response, "primary");
         if (isSignatureError(response)) {
@@ -734,14 +705,12 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
             LOG.info("htx signHost={} requestHost={}", retryHost, getRequestHost());
             String retryUri = buildSignedUri("GET", path, params, apiKey, apiSecret, retryHost);
             if (!retryUri.equals(uri)) {
-                LOG.info("htx GET {}", LogSanitizer.sanitize(retryUri));
                 response = getJson(webClient, retryUri, false, null, retryHost);
                 logFailedAttempt("GET", retryUri, response, "host+port");
             }
         }
         if (isSignatureError(response)) {
             String rawUri = buildSignedUriRaw("GET", path, params, apiKey, apiSecret, null);
-            LOG.info("htx GET {}", LogSanitizer.sanitize(rawUri));
             response = getJson(webClient, rawUri, false, null, signHost);
             logFailedAttempt("GET", rawUri, response, "raw");
         }
@@ -750,7 +719,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
             String altHost = getAltHost();
             LOG.info("htx retry on altBaseUrl={} signHost={}", getAltBaseUrl(), altHost);
             String altUri = buildSignedUri("GET", path, params, apiKey, apiSecret, altHost);
-            LOG.info("htx GET {}", LogSanitizer.sanitize(altUri));
             response = getJson(alt, altUri, false, null, altHost);
             logFailedAttempt("GET", altUri, response, "altBaseUrl");
         }
@@ -761,7 +729,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String signHost = getHost();
         LOG.info("htx signHost={} requestHost={}", signHost, getRequestHost());
         String uri = buildSignedUriAuthOnly("GET", path, params, apiKey, apiSecret, null);
-        LOG.info("htx GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(webClient, uri, false, null, signHost);
         logFailedAttempt("GET", uri, response, "primary");
         if (isSignatureError(response)) {
@@ -769,14 +736,12 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
             LOG.info("htx signHost={} requestHost={}", retryHost, getRequestHost());
             String retryUri = buildSignedUriAuthOnly("GET", path, params, apiKey, apiSecret, retryHost);
             if (!retryUri.equals(uri)) {
-                LOG.info("htx GET {}", LogSanitizer.sanitize(retryUri));
                 response = getJson(webClient, retryUri, false, null, retryHost);
                 logFailedAttempt("GET", retryUri, response, "host+port");
             }
         }
         if (isSignatureError(response)) {
             String rawUri = buildSignedUriAuthOnlyRaw("GET", path, params, apiKey, apiSecret, null);
-            LOG.info("htx GET {}", LogSanitizer.sanitize(rawUri));
             response = getJson(webClient, rawUri, false, null, signHost);
             logFailedAttempt("GET", rawUri, response, "raw");
         }
@@ -785,7 +750,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
             String altHost = getAltHost();
             LOG.info("htx retry on altBaseUrl={} signHost={}", getAltBaseUrl(), altHost);
             String altUri = buildSignedUriAuthOnly("GET", path, params, apiKey, apiSecret, altHost);
-            LOG.info("htx GET {}", LogSanitizer.sanitize(altUri));
             response = getJson(alt, altUri, false, null, altHost);
             logFailedAttempt("GET", altUri, response, "altBaseUrl");
         }
@@ -796,7 +760,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String signHost = getHost();
         LOG.info("htx signHost={} requestHost={}", signHost, getRequestHost());
         String uri = buildSignedUri("POST", path, params, apiKey, apiSecret, null);
-        LOG.info("htx POST {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(webClient, uri, true, body, signHost);
         logFailedAttempt("POST", uri, response, "primary");
         if (isSignatureError(response)) {
@@ -804,14 +767,12 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
             LOG.info("htx signHost={} requestHost={}", retryHost, getRequestHost());
             String retryUri = buildSignedUri("POST", path, params, apiKey, apiSecret, retryHost);
             if (!retryUri.equals(uri)) {
-                LOG.info("htx POST {}", LogSanitizer.sanitize(retryUri));
                 response = getJson(webClient, retryUri, true, body, retryHost);
                 logFailedAttempt("POST", retryUri, response, "host+port");
             }
         }
         if (isSignatureError(response)) {
             String rawUri = buildSignedUriRaw("POST", path, params, apiKey, apiSecret, null);
-            LOG.info("htx POST {}", LogSanitizer.sanitize(rawUri));
             response = getJson(webClient, rawUri, true, body, signHost);
             logFailedAttempt("POST", rawUri, response, "raw");
         }
@@ -820,7 +781,6 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
             String altHost = getAltHost();
             LOG.info("htx retry on altBaseUrl={} signHost={}", getAltBaseUrl(), altHost);
             String altUri = buildSignedUri("POST", path, params, apiKey, apiSecret, altHost);
-            LOG.info("htx POST {}", LogSanitizer.sanitize(altUri));
             response = getJson(alt, altUri, true, body, altHost);
             logFailedAttempt("POST", altUri, response, "altBaseUrl");
         }
@@ -923,6 +883,10 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         if (altBaseUrl != null) {
             return altBaseUrl;
         }
+        if (baseUrls.size() > 1) {
+            altBaseUrl = baseUrls.get(1);
+            return altBaseUrl;
+        }
         String host = getHost();
         if (host.contains("huobi.pro")) {
             altBaseUrl = "https://api.htx.com";
@@ -980,7 +944,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String encodedQuery = buildQueryString(signedParams);
         String signature = sign(method, path, encodedQuery, apiSecret, hostOverride);
         String signHost = StringUtils.isNotBlank(hostOverride) ? hostOverride : getHost();
-        LOG.info("htx signString=\n{}", sanitizeCanonical(method, signHost, path, encodedQuery));
+        LOG.debug("htx signString=\n{}", sanitizeCanonical(method, signHost, path, encodedQuery));
         return path + "?" + encodedQuery + "&Signature=" + encodeQuery(signature);
     }
 
@@ -991,7 +955,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         }
         new HuobiApiSignature().createSignature(apiKey, apiSecret, "GET", getHost(), path, builder);
         String canonicalQuery = builder.buildSignature();
-        LOG.info("htx signString=\n{}", sanitizeCanonical("GET", getHost(), path, canonicalQuery));
+        LOG.debug("htx signString=\n{}", sanitizeCanonical("GET", getHost(), path, canonicalQuery));
         return path + builder.buildUrl();
     }
 
@@ -1005,7 +969,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String authQuery = buildQueryString(signedParams);
         String signature = sign(method, path, authQuery, apiSecret, hostOverride);
         String signHost = StringUtils.isNotBlank(hostOverride) ? hostOverride : getHost();
-        LOG.info("htx signString=\n{}", sanitizeCanonical(method, signHost, path, authQuery));
+        LOG.debug("htx signString=\n{}", sanitizeCanonical(method, signHost, path, authQuery));
         String fullQuery = params == null || params.isEmpty()
                 ? authQuery
                 : authQuery + "&" + buildQueryString(params);
@@ -1022,7 +986,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String rawAuthQuery = buildRawQueryString(signedParams);
         String signature = sign(method, path, rawAuthQuery, apiSecret, hostOverride);
         String signHost = StringUtils.isNotBlank(hostOverride) ? hostOverride : getHost();
-        LOG.info("htx signString=\n{}", sanitizeCanonical(method, signHost, path, rawAuthQuery));
+        LOG.debug("htx signString=\n{}", sanitizeCanonical(method, signHost, path, rawAuthQuery));
         String fullQuery = params == null || params.isEmpty()
                 ? rawAuthQuery
                 : rawAuthQuery + "&" + buildQueryString(params);
@@ -1042,7 +1006,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String rawQuery = buildRawQueryString(signedParams);
         String signature = sign(method, path, rawQuery, apiSecret, hostOverride);
         String signHost = StringUtils.isNotBlank(hostOverride) ? hostOverride : getHost();
-        LOG.info("htx signString=\n{}", sanitizeCanonical(method, signHost, path, rawQuery));
+        LOG.debug("htx signString=\n{}", sanitizeCanonical(method, signHost, path, rawQuery));
         return path + "?" + rawQuery + "&Signature=" + encodeQuery(signature);
     }
 
@@ -1249,7 +1213,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
 
     private void logFailedAttempt(String method, String uri, JsonNode response, String attempt) {
         if (response == null) {
-            LOG.warn("htx {} {} attempt={} failed: empty response", method, LogSanitizer.sanitize(uri), attempt);
+            LOG.warn("htx {} {} attempt={} failed: empty response", method, LogSanitizer.lazy(uri), attempt);
             return;
         }
         if (response.hasNonNull("status") && "ok".equalsIgnoreCase(response.get("status").asText())) {
@@ -1264,7 +1228,7 @@ public class HtxClient extends BaseExchangeClient implements DepositNetworkProvi
         String msg = response.hasNonNull("err-msg") ? response.get("err-msg").asText()
                 : (response.hasNonNull("message") ? response.get("message").asText() : null);
         LOG.warn("htx {} {} attempt={} failed: status={} code={} msg={}",
-                method, LogSanitizer.sanitize(uri), attempt, status, code, msg);
+                method, LogSanitizer.lazy(uri), attempt, status, code, msg);
     }
 
     private String getApiKey() {
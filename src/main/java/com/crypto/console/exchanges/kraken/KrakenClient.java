@@ -4,8 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.Balance;
-import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BookTicker;
 import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
@@ -17,7 +18,6 @@ import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.model.WithdrawalFees;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +36,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -48,6 +49,8 @@ import java.util.TreeMap;
 public class KrakenClient extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider, DepositNetworkNormalizer {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    private volatile Map<String, String[]> symbolAssets = Map.of();
+
     public KrakenClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("kraken", cfg, secrets);
     }
@@ -79,7 +82,53 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
         int count = depth <= 0 ? 100 : Math.min(500, depth);
         JsonNode result = publicGet("/0/public/Depth", Map.of("pair", s.altName, "count", String.valueOf(count)));
         JsonNode book = firstBook(result);
-        return new OrderBook(s.altName, parseSide(book.get("bids")), parseSide(book.get("asks")));
+        return publish(new OrderBook(s.altName, parseSide(book.get("bids")), parseSide(book.get("asks"))));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode result = publicGet("/0/public/Ticker", Map.of());
+        if (!result.isObject()) {
+            throw new ExchangeException("Unexpected response from Kraken Ticker API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(result.size());
+        Iterator<Map.Entry<String, JsonNode>> it = result.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            String[] pair = assets.get(entry.getKey());
+            if (pair == null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(entry.getKey());
+            }
+            if (pair != null) {
+                JsonNode row = entry.getValue();
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.path("b").get(0)), dec(row.path("a").get(0))));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode result = publicGet("/0/public/AssetPairs", Map.of());
+        if (!result.isObject()) {
+            throw new ExchangeException("Unexpected response from Kraken AssetPairs API");
+        }
+        Map<String, String[]> assets = new HashMap<>(result.size() * 2);
+        Iterator<Map.Entry<String, JsonNode>> it = result.fields();
+        while (it.hasNext()) {
+            Map.Entry<String, JsonNode> entry = it.next();
+            JsonNode pair = entry.getValue();
+            String pBase = StringUtils.defaultIfBlank(wsnameBase(textOf(pair, "wsname")), normalizePairAsset(textOf(pair, "base")));
+            String pQuote = StringUtils.defaultIfBlank(wsnameQuote(textOf(pair, "wsname")), normalizePairAsset(textOf(pair, "quote")));
+            if (StringUtils.isNotBlank(pBase) && StringUtils.isNotBlank(pQuote)) {
+                assets.put(entry.getKey(), new String[]{displayAsset(pBase), displayAsset(pQuote)});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -90,7 +139,7 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
         SymbolMeta s = resolveSymbol(base, quote);
         JsonNode result = publicGet("/0/public/Depth", Map.of("pair", s.altName, "count", "500"));
         JsonNode book = firstBook(result);
-        return impact(s.altName, quoteAmount, book.get("asks"), true);
+        return impact(s.altName, quoteAmount, book.get("bids"), book.get("asks"), true);
     }
 
     @Override
@@ -101,7 +150,7 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
         SymbolMeta s = resolveSymbol(base, quote);
         JsonNode result = publicGet("/0/public/Depth", Map.of("pair", s.altName, "count", "500"));
         JsonNode book = firstBook(result);
-        return impact(s.altName, quoteAmount, book.get("bids"), false);
+        return impact(s.altName, quoteAmount, book.get("bids"), book.get("asks"), false);
     }
 
     @Override
@@ -453,45 +502,12 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
         return BigDecimal.ZERO;
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode levels, boolean buy) {
+    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode bids, JsonNode asks, boolean buy) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) {
             throw new ExchangeException("Unexpected response from Kraken order book API");
         }
-        BigDecimal rem = quoteAmount;
-        BigDecimal quote = BigDecimal.ZERO;
-        BigDecimal base = BigDecimal.ZERO;
-        List<BuyInfoItem> items = new ArrayList<>();
-        for (JsonNode level : levels) {
-            if (!level.isArray() || level.size() < 2) {
-                continue;
-            }
-            BigDecimal p = dec(level.get(0));
-            BigDecimal q = dec(level.get(1));
-            if (p.signum() <= 0 || q.signum() <= 0) {
-                continue;
-            }
-            BigDecimal v = p.multiply(q);
-            if (rem.compareTo(v) >= 0) {
-                base = base.add(q);
-                quote = quote.add(v);
-                rem = rem.subtract(v);
-                items.add(new BuyInfoItem(p, q, v));
-            } else {
-                BigDecimal part = rem.divide(p, 18, RoundingMode.DOWN);
-                if (part.signum() > 0) {
-                    BigDecimal pv = part.multiply(p);
-                    base = base.add(part);
-                    quote = quote.add(pv);
-                    items.add(new BuyInfoItem(p, part, pv));
-                }
-                rem = BigDecimal.ZERO;
-                break;
-            }
-        }
-        if (base.signum() <= 0) {
-            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        }
-        return new BuyInfoResult(symbol, quoteAmount, quote, base, quote.divide(base, 18, RoundingMode.HALF_UP), List.copyOf(items));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, buy);
     }
 
     private List<OrderBookEntry> parseSide(JsonNode levels) {
@@ -549,6 +565,10 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
         return normalizePairAsset(wsname.split("/")[1]);
     }
 
+    private static String displayAsset(String pairAsset) {
+        return "XBT".equals(pairAsset) ? "BTC" : pairAsset;
+    }
+
     private String normalizePairAsset(String asset) {
         String a = normalizeAssetCode(asset);
         return switch (a) {
@@ -583,7 +603,6 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = params == null || params.isEmpty() ? path : path + "?" + qs(params);
-        LOG.info("kraken GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -610,7 +629,6 @@ public class KrakenClient extends BaseExchangeClient implements DepositNetworkPr
         body.put("nonce", nonce);
         String postData = qs(body);
         String signature = signKraken(path, nonce, postData);
-        LOG.info("kraken POST {}", LogSanitizer.sanitize(path + "?" + postData));
         String resp = webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -4,8 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.Balance;
-import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BookTicker;
 import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
@@ -17,7 +18,7 @@ import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.model.WithdrawalFees;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
+import com.crypto.console.common.userdata.UserDataStream;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -81,7 +82,23 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         }
         List<OrderBookEntry> bids = parseSide(data.get("bids"), depth);
         List<OrderBookEntry> asks = parseSide(data.get("asks"), depth);
-        return new OrderBook(symbol.symbol, bids, asks);
+        return publish(new OrderBook(symbol.symbol, bids, asks));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = requireOk(publicGet("/api/v1/market/allTickers", Map.of()), "tickers").path("data").get("ticker");
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from KuCoin tickers API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String[] pair = row.path("symbol").asText("").split("-");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.get("buy")), dec(row.get("sell"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
@@ -91,7 +108,7 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         }
         SymbolMeta symbol = resolveSymbol(base, quote);
         JsonNode data = requireOk(publicGet("/api/v1/market/orderbook/level2_100", Map.of("symbol", symbol.symbol)), "orderbook").get("data");
-        return impact(symbol.symbol, quoteAmount, data == null ? null : data.get("asks"), true);
+        return impact(symbol.symbol, quoteAmount, data == null ? null : data.get("bids"), data == null ? null : data.get("asks"), true);
     }
 
     @Override
@@ -101,7 +118,23 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         }
         SymbolMeta symbol = resolveSymbol(base, quote);
         JsonNode data = requireOk(publicGet("/api/v1/market/orderbook/level2_100", Map.of("symbol", symbol.symbol)), "orderbook").get("data");
-        return impact(symbol.symbol, quoteAmount, data == null ? null : data.get("bids"), false);
+        return impact(symbol.symbol, quoteAmount, data == null ? null : data.get("bids"), data == null ? null : data.get("asks"), false);
+    }
+
+    @Override
+    public UserDataStream userDataStream() {
+        return new KuCoinUserDataStream(userData(), this::privateBullet);
+    }
+
+    private KuCoinUserDataStream.Bullet privateBullet() {
+        JsonNode data = requireOk(signedPost("/api/v1/bullet-private", Map.of()), "bullet-private").path("data");
+        JsonNode server = data.path("instanceServers").path(0);
+        String endpoint = textOf(server, "endpoint");
+        String token = textOf(data, "token");
+        if (StringUtils.isBlank(endpoint) || StringUtils.isBlank(token)) {
+            throw new ExchangeException("Unexpected response from KuCoin bullet-private API");
+        }
+        return new KuCoinUserDataStream.Bullet(endpoint, token, server.path("pingInterval").asLong(0));
     }
 
     @Override
@@ -121,7 +154,7 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         body.put("funds", quoteAmount.toPlainString());
         JsonNode data = placeOrder(body);
         String orderId = textOf(data, "orderId");
-        return new OrderResult(orderId, "SUBMITTED", "market buy submitted");
+        return confirmOrder(orderId, "market buy submitted");
     }
 
     @Override
@@ -148,7 +181,7 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         body.put("size", qty.toPlainString());
         JsonNode data = placeOrder(body);
         String orderId = textOf(data, "orderId");
-        return new OrderResult(orderId, "SUBMITTED", "market sell submitted");
+        return confirmOrder(orderId, "market sell submitted");
     }
 
     @Override
@@ -476,45 +509,12 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         return dec(data == null ? null : data.get("price"));
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode levels, boolean buy) {
+    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode bids, JsonNode asks, boolean buy) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) {
             throw new ExchangeException("Unexpected response from KuCoin orderbook API");
         }
-        BigDecimal rem = quoteAmount;
-        BigDecimal quote = BigDecimal.ZERO;
-        BigDecimal base = BigDecimal.ZERO;
-        List<BuyInfoItem> items = new ArrayList<>();
-        for (JsonNode level : levels) {
-            if (!level.isArray() || level.size() < 2) {
-                continue;
-            }
-            BigDecimal price = dec(level.get(0));
-            BigDecimal qty = dec(level.get(1));
-            if (price.signum() <= 0 || qty.signum() <= 0) {
-                continue;
-            }
-            BigDecimal value = price.multiply(qty);
-            if (rem.compareTo(value) >= 0) {
-                base = base.add(qty);
-                quote = quote.add(value);
-                rem = rem.subtract(value);
-                items.add(new BuyInfoItem(price, qty, value));
-            } else {
-                BigDecimal part = rem.divide(price, 18, RoundingMode.DOWN);
-                if (part.signum() > 0) {
-                    BigDecimal partial = part.multiply(price);
-                    base = base.add(part);
-                    quote = quote.add(partial);
-                    items.add(new BuyInfoItem(price, part, partial));
-                }
-                rem = BigDecimal.ZERO;
-                break;
-            }
-        }
-        if (base.signum() <= 0) {
-            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        }
-        return new BuyInfoResult(symbol, quoteAmount, quote, base, quote.divide(base, 18, RoundingMode.HALF_UP), List.copyOf(items));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, buy);
     }
 
     private List<OrderBookEntry> parseSide(JsonNode levels, int depth) {
@@ -621,7 +621,6 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String requestPath = params == null || params.isEmpty() ? path : path + "?" + qs(params);
-        LOG.info("kucoin GET {}", LogSanitizer.sanitize(requestPath));
         String body = webClient.get()
                 .uri(requestPath)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -641,7 +640,6 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
         String query = qs(sorted);
         String requestPath = query.isEmpty() ? path : path + "?" + query;
         Auth auth = sign("GET", requestPath, "");
-        LOG.info("kucoin GET {}", LogSanitizer.sanitize(requestPath));
         String body = webClient.get()
                 .uri(requestPath)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -661,7 +659,6 @@ public class KuCoinClient extends BaseExchangeClient implements DepositNetworkPr
     private JsonNode signedPost(String path, Map<String, Object> payload) {
         String json = toJson(payload);
         Auth auth = sign("POST", path, json);
-        LOG.info("kucoin POST {} body={}", LogSanitizer.sanitize(path), LogSanitizer.sanitize(json));
         String body = webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
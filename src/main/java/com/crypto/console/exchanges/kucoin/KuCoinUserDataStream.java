@@ -0,0 +1,107 @@
+package com.crypto.console.exchanges.kucoin;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.userdata.UserDataStore;
+import com.crypto.console.common.userdata.UserDataStream;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+class KuCoinUserDataStream extends UserDataStream {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] TOPICS = {"/spotMarket/tradeOrders", "/account/balance"};
+
+    private final Supplier<Bullet> bullets;
+    private volatile Duration pingInterval = Duration.ofSeconds(18);
+
+    KuCoinUserDataStream(UserDataStore store, Supplier<Bullet> bullets) {
+        super("kucoin", store);
+        this.bullets = bullets;
+    }
+
+    @Override
+    protected URI connectUri() {
+        Bullet bullet = bullets.get();
+        if (bullet.pingIntervalMillis > 0) {
+            pingInterval = Duration.ofMillis(bullet.pingIntervalMillis);
+        }
+        return URI.create(bullet.endpoint + "?token=" + bullet.token + "&connectId=" + UUID.randomUUID());
+    }
+
+    @Override
+    protected Duration pingInterval() {
+        return pingInterval;
+    }
+
+    @Override
+    protected String pingMessage() {
+        return "{\"id\":\"" + System.currentTimeMillis() + "\",\"type\":\"ping\"}";
+    }
+
+    @Override
+    protected void onMessage(String text, Consumer<String> send) {
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(text);
+        } catch (IOException e) {
+            throw new ExchangeException("Invalid kucoin user data message", e);
+        }
+        switch (node.path("type").asText()) {
+            case "welcome" -> {
+                for (String topic : TOPICS) {
+                    send.accept(MAPPER.createObjectNode()
+                            .put("id", topic)
+                            .put("type", "subscribe")
+                            .put("topic", topic)
+                            .put("privateChannel", true)
+                            .put("response", true)
+                            .toString());
+                }
+            }
+            case "ack" -> live();
+            case "error" -> throw new ExchangeException("kucoin user data stream error: " + node.path("data").asText());
+            case "message" -> {
+                JsonNode data = node.path("data");
+                if (TOPICS[0].equals(node.path("topic").asText())) {
+                    store.onOrderUpdate(toOrderUpdate(data));
+                } else if (TOPICS[1].equals(node.path("topic").asText())) {
+                    store.onBalance(exchange, new Balance(data.path("currency").asText(),
+                            decimal(data.get("available")), decimal(data.get("hold"))));
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    static OrderUpdate toOrderUpdate(JsonNode data) {
+        String type = data.path("type").asText();
+        String status = switch (type) {
+            case "filled" -> OrderUpdate.FILLED;
+            case "canceled" -> OrderUpdate.CANCELED;
+            case "match" -> OrderUpdate.PARTIALLY_FILLED;
+            default -> "done".equals(data.path("status").asText()) ? OrderUpdate.FILLED : OrderUpdate.NEW;
+        };
+        return new OrderUpdate("kucoin", data.path("symbol").asText(), data.path("orderId").asText(), status,
+                decimal(data.get("filledSize")), null, data.path("ts").asLong());
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null || node.isNull() || node.asText().isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(node.asText());
+    }
+
+    record Bullet(String endpoint, String token, long pingIntervalMillis) {
+    }
+}
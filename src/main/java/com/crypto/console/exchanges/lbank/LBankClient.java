@@ -4,10 +4,10 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -74,7 +74,21 @@ public class LBankClient extends BaseExchangeClient implements DepositNetworkPro
 
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /v2/depth.do (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        String symbol = (base + "_" + quote).toLowerCase();
+        int size = depth <= 0 ? 100 : Math.min(depth, 200);
+        JsonNode response = publicGet("/v2/depth.do?symbol=" + symbol + "&size=" + size);
+        JsonNode data = requireSuccess(response, "depth");
+        JsonNode bids = data.has("bids") ? data.get("bids") : response.get("bids");
+        JsonNode asks = data.has("asks") ? data.get("asks") : response.get("asks");
+        if (bids == null || !bids.isArray() || asks == null || !asks.isArray()) {
+            throw new ExchangeException("Unexpected response from LBank depth API");
+        }
+        return publish(new OrderBook(symbol,
+                PriceLadder.parse(bids, 0, 1).entries(),
+                PriceLadder.parse(asks, 0, 1).entries()));
     }
 
     @Override
@@ -90,54 +104,13 @@ public class LBankClient extends BaseExchangeClient implements DepositNetworkPro
         String uri = "/v2/depth.do?symbol=" + symbol + "&size=200";
         JsonNode response = publicGet(uri);
         JsonNode data = requireSuccess(response, "depth");
+        JsonNode bids = data.has("bids") ? data.get("bids") : response.get("bids");
         JsonNode asks = data.has("asks") ? data.get("asks") : response.get("asks");
         if (asks == null || !asks.isArray()) {
             throw new ExchangeException("Unexpected response from LBank depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : asks) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -154,53 +127,12 @@ public class LBankClient extends BaseExchangeClient implements DepositNetworkPro
         JsonNode response = publicGet(uri);
         JsonNode data = requireSuccess(response, "depth");
         JsonNode bids = data.has("bids") ? data.get("bids") : response.get("bids");
+        JsonNode asks = data.has("asks") ? data.get("asks") : response.get("asks");
         if (bids == null || !bids.isArray()) {
             throw new ExchangeException("Unexpected response from LBank depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : bids) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -351,7 +283,7 @@ public class LBankClient extends BaseExchangeClient implements DepositNetworkPro
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, true, true, true);
+        return new ExchangeCapabilities(true, false, true, true, true, true, true);
     }
 
     @Override
@@ -677,7 +609,6 @@ public class LBankClient extends BaseExchangeClient implements DepositNetworkPro
     private JsonNode signedPost(String path, Map<String, String> params, String apiKey, String apiSecret) {
         SignedPayload payload = buildSignedPayload(params, apiKey, apiSecret);
         String uri = path + "?" + payload.body;
-        LOG.info("lbank POST {}", LogSanitizer.sanitize(uri));
         return webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -700,7 +631,6 @@ public class LBankClient extends BaseExchangeClient implements DepositNetworkPro
     }
 
     private JsonNode publicGet(String uri) {
-        LOG.info("lbank GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -4,9 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
-import com.crypto.console.common.util.LogSanitizer;
 import lombok.extern.slf4j.Slf4j;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
@@ -16,10 +16,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpHeaders;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -33,6 +33,8 @@ import javax.crypto.spec.SecretKeySpec;
 public class MexcClient extends BaseExchangeClient implements DepositNetworkProvider, DepositAddressProvider, DepositNetworkNormalizer {
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
+    private volatile Map<String, String[]> symbolAssets = Map.of();
+
     public MexcClient(AppProperties.ExchangeConfig cfg, SecretsProperties.ExchangeSecrets secrets) {
         super("mexc", cfg, secrets);
     }
@@ -55,7 +57,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/account?" + query;
 
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(uri, apiKey);
 
         if (response == null || response.get("balances") == null || !response.get("balances").isArray()) {
@@ -83,7 +84,81 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /api/v3/depth (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        String symbol = resolveSymbol(base, quote);
+        if (symbol == null) {
+            throw new ExchangeException("Invalid symbol: " + (base + quote).toUpperCase() + ". Check base/quote assets.");
+        }
+        int limit = depth <= 0 ? 100 : Math.min(depth, 5000);
+        String uri = "/api/v3/depth?symbol=" + symbol + "&limit=" + limit;
+        JsonNode response = webClient.get()
+                .uri(uri)
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (response == null || !response.path("bids").isArray() || !response.path("asks").isArray()) {
+            throw new ExchangeException("Unexpected response from MEXC depth API");
+        }
+        return publish(new OrderBook(symbol,
+                PriceLadder.parse(response.get("bids"), 0, 1).entries(),
+                PriceLadder.parse(response.get("asks"), 0, 1).entries()));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode response = webClient.get()
+                .uri("/api/v3/ticker/bookTicker")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (response == null || !response.isArray()) {
+            throw new ExchangeException("Unexpected response from MEXC bookTicker API");
+        }
+        Map<String, String[]> assets = symbolAssets;
+        boolean reloaded = false;
+        List<BookTicker> tickers = new ArrayList<>(response.size());
+        for (JsonNode row : response) {
+            String symbol = row.path("symbol").asText("");
+            String[] pair = assets.get(symbol);
+            if (pair == null && !reloaded) {
+                assets = loadSymbolAssets();
+                reloaded = true;
+                pair = assets.get(symbol);
+            }
+            BigDecimal bid = toDecimal(row.get("bidPrice"));
+            BigDecimal ask = toDecimal(row.get("askPrice"));
+            if (pair != null && bid.signum() > 0 && ask.signum() > 0) {
+                tickers.add(new BookTicker(pair[0], pair[1], bid, ask));
+            }
+        }
+        return tickers;
+    }
+
+    private Map<String, String[]> loadSymbolAssets() {
+        JsonNode full = webClient.get()
+                .uri("/api/v3/exchangeInfo")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (full == null || !full.path("symbols").isArray()) {
+            throw new ExchangeException("Unexpected response from MEXC exchangeInfo API");
+        }
+        Map<String, String[]> assets = new HashMap<>(full.get("symbols").size() * 2);
+        for (JsonNode symbolNode : full.get("symbols")) {
+            String symbol = symbolNode.path("symbol").asText("");
+            String baseAsset = symbolNode.path("baseAsset").asText("");
+            String quoteAsset = symbolNode.path("quoteAsset").asText("");
+            if (!symbol.isEmpty() && !baseAsset.isEmpty() && !quoteAsset.isEmpty()) {
+                assets.put(symbol, new String[]{baseAsset, quoteAsset});
+            }
+        }
+        symbolAssets = assets;
+        return assets;
     }
 
     @Override
@@ -101,7 +176,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         }
 
         String uri = "/api/v3/depth?symbol=" + symbol + "&limit=1000";
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -113,49 +187,7 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
             throw new ExchangeException("Unexpected response from MEXC depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : response.get("asks")) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(response.get("bids"), 0, 1), PriceLadder.parse(response.get("asks"), 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -173,7 +205,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         }
 
         String uri = "/api/v3/depth?symbol=" + symbol + "&limit=1000";
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -185,49 +216,7 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
             throw new ExchangeException("Unexpected response from MEXC depth API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : response.get("bids")) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + symbol);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(symbol, quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(symbol, PriceLadder.parse(response.get("bids"), 0, 1), PriceLadder.parse(response.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -256,7 +245,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/order?" + query;
-        LOG.info("mexc POST {}", LogSanitizer.sanitize(uri));
 
         JsonNode response = webClient.post()
                 .uri(uri)
@@ -307,7 +295,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/order?" + query;
-        LOG.info("mexc POST {}", LogSanitizer.sanitize(uri));
 
         JsonNode response = webClient.post()
                 .uri(uri)
@@ -377,7 +364,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         params.put("recvWindow", "5000");
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/capital/config/getall?" + query;
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(uri, apiKey);
         if (response == null || !response.isArray()) {
             throw new ExchangeException("Unexpected response from MEXC config API");
@@ -436,7 +422,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/capital/withdraw?" + query;
-        LOG.info("mexc POST {}", LogSanitizer.sanitize(uri));
 
         JsonNode response = webClient.post()
                 .uri(uri)
@@ -475,7 +460,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         params.put("recvWindow", "5000");
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/capital/config/getall?" + query;
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(uri, apiKey);
         if (response == null || !response.isArray()) {
             throw new ExchangeException("Unexpected response from MEXC config API");
@@ -525,7 +509,17 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
     @Override
     public ExchangeTime syncTime() {
-        throw notImplemented("GET /api/v3/time (public)");
+        JsonNode response = webClient.get()
+                .uri("/api/v3/time")
+                .header(HttpHeaders.USER_AGENT, "crypto-console")
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        if (response == null || !response.path("serverTime").canConvertToLong()) {
+            throw new ExchangeException("Unexpected response from MEXC time API");
+        }
+        long serverTime = response.get("serverTime").asLong();
+        return new ExchangeTime(serverTime, serverTime - System.currentTimeMillis());
     }
 
     @Override
@@ -549,7 +543,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         params.put("recvWindow", "5000");
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/capital/deposit/address?" + query;
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode addressResponse = getJson(uri, apiKey);
         if (addressResponse != null && addressResponse.isArray()) {
             for (JsonNode item : addressResponse) {
@@ -571,7 +564,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
         params2.put("recvWindow", "5000");
         String query2 = signQuery(params2, apiSecret);
         String uri2 = "/api/v3/capital/config/getall?" + query2;
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri2));
         JsonNode response = getJson(uri2, apiKey);
         if (response == null || !response.isArray()) {
             throw new ExchangeException("Unexpected response from MEXC config API");
@@ -619,7 +611,7 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, false, false, true);
+        return new ExchangeCapabilities(true, false, true, true, false, true, true);
     }
 
     private String sign(String data, String secret) {
@@ -687,7 +679,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
     private String resolveSymbol(String base, String quote) {
         String candidate = (base + quote).toUpperCase();
-        LOG.info("mexc GET {}", LogSanitizer.sanitize("/api/v3/exchangeInfo?symbol=" + candidate));
         JsonNode direct = webClient.get()
                 .uri("/api/v3/exchangeInfo?symbol=" + candidate)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -702,7 +693,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
             }
         }
 
-        LOG.info("mexc GET /api/v3/exchangeInfo");
         JsonNode full = webClient.get()
                 .uri("/api/v3/exchangeInfo")
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -737,7 +727,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
     }
 
     private JsonNode getJson(String uri, String apiKey) {
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -775,7 +764,6 @@ public class MexcClient extends BaseExchangeClient implements DepositNetworkProv
 
         String query = signQuery(params, apiSecret);
         String uri = "/api/v3/capital/deposit/address?" + query;
-        LOG.info("mexc GET {}", LogSanitizer.sanitize(uri));
         JsonNode response = getJson(uri, apiKey);
         if (response == null) {
             return null;
@@ -4,8 +4,9 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.Balance;
-import com.crypto.console.common.model.BuyInfoItem;
+import com.crypto.console.common.model.BookTicker;
 import com.crypto.console.common.model.BuyInfoResult;
 import com.crypto.console.common.model.ExchangeCapabilities;
 import com.crypto.console.common.model.ExchangeException;
@@ -17,7 +18,7 @@ import com.crypto.console.common.model.WithdrawResult;
 import com.crypto.console.common.model.WithdrawalFees;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
+import com.crypto.console.common.userdata.UserDataStream;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -93,7 +94,23 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
             throw new ExchangeException("Unexpected response from OKX books API");
         }
         JsonNode book = list.get(0);
-        return new OrderBook(symbol.instId, parseSide(book.get("bids")), parseSide(book.get("asks")));
+        return publish(new OrderBook(symbol.instId, parseSide(book.get("bids")), parseSide(book.get("asks"))));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode data = requireOk(publicGet("/api/v5/market/tickers", Map.of("instType", "SPOT")), "tickers").get("data");
+        if (data == null || !data.isArray()) {
+            throw new ExchangeException("Unexpected response from OKX tickers API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(data.size());
+        for (JsonNode row : data) {
+            String[] pair = row.path("instId").asText("").split("-");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.get("bidPx")), dec(row.get("askPx"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
@@ -107,7 +124,7 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         if (list == null || !list.isArray() || list.isEmpty()) {
             throw new ExchangeException("Unexpected response from OKX books API");
         }
-        return impact(symbol.instId, quoteAmount, list.get(0).get("asks"), true);
+        return impact(symbol.instId, quoteAmount, list.get(0).get("bids"), list.get(0).get("asks"), true);
     }
 
     @Override
@@ -121,7 +138,12 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         if (list == null || !list.isArray() || list.isEmpty()) {
             throw new ExchangeException("Unexpected response from OKX books API");
         }
-        return impact(symbol.instId, quoteAmount, list.get(0).get("bids"), false);
+        return impact(symbol.instId, quoteAmount, list.get(0).get("bids"), list.get(0).get("asks"), false);
+    }
+
+    @Override
+    public UserDataStream userDataStream() {
+        return new OkxUserDataStream(userData(), streamUrl, apiKey(), apiSecret(), passphrase());
     }
 
     @Override
@@ -151,7 +173,7 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         if (StringUtils.isBlank(ordId)) {
             throw new ExchangeException("Missing order id from OKX order API");
         }
-        return new OrderResult(ordId, "SUBMITTED", "market buy submitted");
+        return confirmOrder(ordId, "market buy submitted");
     }
 
     @Override
@@ -188,7 +210,7 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         if (StringUtils.isBlank(ordId)) {
             throw new ExchangeException("Missing order id from OKX order API");
         }
-        return new OrderResult(ordId, "SUBMITTED", "market sell submitted");
+        return confirmOrder(ordId, "market sell submitted");
     }
 
     @Override
@@ -432,45 +454,12 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         return BigDecimal.ZERO;
     }
 
-    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode levels, boolean buy) {
+    private BuyInfoResult impact(String symbol, BigDecimal quoteAmount, JsonNode bids, JsonNode asks, boolean buy) {
+        JsonNode levels = buy ? asks : bids;
         if (levels == null || !levels.isArray()) {
             throw new ExchangeException("Unexpected response from OKX orderbook API");
         }
-        BigDecimal rem = quoteAmount;
-        BigDecimal quote = BigDecimal.ZERO;
-        BigDecimal base = BigDecimal.ZERO;
-        List<BuyInfoItem> items = new ArrayList<>();
-        for (JsonNode level : levels) {
-            if (!level.isArray() || level.size() < 2) {
-                continue;
-            }
-            BigDecimal p = dec(level.get(0));
-            BigDecimal q = dec(level.get(1));
-            if (p.signum() <= 0 || q.signum() <= 0) {
-                continue;
-            }
-            BigDecimal v = p.multiply(q);
-            if (rem.compareTo(v) >= 0) {
-                base = base.add(q);
-                quote = quote.add(v);
-                rem = rem.subtract(v);
-                items.add(new BuyInfoItem(p, q, v));
-            } else {
-                BigDecimal part = rem.divide(p, 18, RoundingMode.DOWN);
-                if (part.signum() > 0) {
-                    BigDecimal pv = part.multiply(p);
-                    base = base.add(part);
-                    quote = quote.add(pv);
-                    items.add(new BuyInfoItem(p, part, pv));
-                }
-                rem = BigDecimal.ZERO;
-                break;
-            }
-        }
-        if (base.signum() <= 0) {
-            throw new ExchangeException("No " + (buy ? "ask" : "bid") + " liquidity available for " + symbol);
-        }
-        return new BuyInfoResult(symbol, quoteAmount, quote, base, quote.divide(base, 18, RoundingMode.HALF_UP), List.copyOf(items));
+        return walkAndPublish(symbol, PriceLadder.parse(bids, 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, buy);
     }
 
     private List<OrderBookEntry> parseSide(JsonNode levels) {
@@ -507,7 +496,6 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         if (params != null && !params.isEmpty()) {
             uri = uri + "?" + qs(params);
         }
-        LOG.info("okx GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -527,7 +515,6 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
         String query = qs(sorted);
         String requestPath = query.isEmpty() ? path : path + "?" + query;
         Auth auth = sign("GET", requestPath, "");
-        LOG.info("okx GET {}", LogSanitizer.sanitize(requestPath));
         String body = webClient.get()
                 .uri(requestPath)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -546,7 +533,6 @@ public class OkxClient extends BaseExchangeClient implements DepositNetworkProvi
     private JsonNode signedPost(String path, Map<String, Object> payload) {
         String bodyText = toJson(payload);
         Auth auth = sign("POST", path, bodyText);
-        LOG.info("okx POST {}", LogSanitizer.sanitize(path + "?" + bodyText));
         String body = webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -0,0 +1,136 @@
+package com.crypto.console.exchanges.okx;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.userdata.UserDataStore;
+import com.crypto.console.common.userdata.UserDataStream;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+class OkxUserDataStream extends UserDataStream {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String DEFAULT_URL = "wss://ws.okx.com:8443/ws/v5/private";
+
+    private final String streamUrl;
+    private final String apiKey;
+    private final String apiSecret;
+    private final String passphrase;
+
+    OkxUserDataStream(UserDataStore store, String streamUrl, String apiKey, String apiSecret, String passphrase) {
+        super("okx", store);
+        this.streamUrl = streamUrl == null || streamUrl.isBlank() ? DEFAULT_URL : streamUrl;
+        this.apiKey = apiKey;
+        this.apiSecret = apiSecret;
+        this.passphrase = passphrase;
+    }
+
+    @Override
+    protected URI connectUri() {
+        return URI.create(streamUrl);
+    }
+
+    @Override
+    protected void onOpen(Consumer<String> send) {
+        String ts = String.valueOf(System.currentTimeMillis() / 1000);
+        ObjectNode login = MAPPER.createObjectNode().put("op", "login");
+        login.putArray("args").addObject()
+                .put("apiKey", apiKey)
+                .put("passphrase", passphrase)
+                .put("timestamp", ts)
+                .put("sign", sign(ts + "GET/users/self/verify"));
+        send.accept(login.toString());
+    }
+
+    @Override
+    protected Duration pingInterval() {
+        return Duration.ofSeconds(25);
+    }
+
+    @Override
+    protected String pingMessage() {
+        return "ping";
+    }
+
+    @Override
+    protected void onMessage(String text, Consumer<String> send) {
+        if ("pong".equals(text)) {
+            return;
+        }
+        JsonNode node;
+        try {
+            node = MAPPER.readTree(text);
+        } catch (IOException e) {
+            throw new ExchangeException("Invalid okx user data message", e);
+        }
+        String event = node.path("event").asText();
+        if ("login".equals(event)) {
+            ObjectNode subscribe = MAPPER.createObjectNode().put("op", "subscribe");
+            ArrayNode args = subscribe.putArray("args");
+            args.addObject().put("channel", "orders").put("instType", "SPOT");
+            args.addObject().put("channel", "account");
+            send.accept(subscribe.toString());
+            return;
+        }
+        if ("subscribe".equals(event)) {
+            live();
+            return;
+        }
+        if ("error".equals(event)) {
+            throw new ExchangeException("okx user data stream error: code=" + node.path("code").asText() + " " + node.path("msg").asText());
+        }
+        String channel = node.path("arg").path("channel").asText();
+        for (JsonNode row : node.path("data")) {
+            if ("orders".equals(channel)) {
+                store.onOrderUpdate(toOrderUpdate(row));
+            } else if ("account".equals(channel)) {
+                for (JsonNode detail : row.path("details")) {
+                    store.onBalance(exchange, new Balance(detail.path("ccy").asText(),
+                            decimal(detail.get("availBal")), decimal(detail.get("frozenBal"))));
+                }
+            }
+        }
+    }
+
+    static OrderUpdate toOrderUpdate(JsonNode row) {
+        BigDecimal filled = decimal(row.get("accFillSz"));
+        BigDecimal avgPx = decimal(row.get("avgPx"));
+        String status = switch (row.path("state").asText()) {
+            case "filled" -> OrderUpdate.FILLED;
+            case "partially_filled" -> OrderUpdate.PARTIALLY_FILLED;
+            case "canceled", "mmp_canceled" -> OrderUpdate.CANCELED;
+            default -> OrderUpdate.NEW;
+        };
+        return new OrderUpdate("okx", row.path("instId").asText(), row.path("ordId").asText(), status,
+                filled, filled.multiply(avgPx), row.path("uTime").asLong());
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getEncoder().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new ExchangeException("Failed to sign OKX login", e);
+        }
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node == null || node.isNull() || node.asText().isBlank()) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(node.asText());
+    }
+}
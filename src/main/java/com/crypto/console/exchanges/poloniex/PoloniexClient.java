@@ -7,7 +7,6 @@ import com.crypto.console.common.exchange.impl.BaseExchangeClient;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -69,7 +68,23 @@ public class PoloniexClient extends BaseExchangeClient implements DepositNetwork
         SymbolMeta s = resolveSymbol(base, quote);
         int limit = depth <= 0 ? 50 : Math.min(depth, 150);
         JsonNode ob = publicGet("/markets/" + s.symbol + "/orderBook", Map.of("limit", String.valueOf(limit)));
-        return new OrderBook(s.symbol, parseFlatOrderSide(ob.get("bids")), parseFlatOrderSide(ob.get("asks")));
+        return publish(new OrderBook(s.symbol, parseFlatOrderSide(ob.get("bids")), parseFlatOrderSide(ob.get("asks"))));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode rows = publicGet("/markets/ticker24h", Map.of());
+        if (rows == null || !rows.isArray()) {
+            throw new ExchangeException("Unexpected response from Poloniex ticker24h API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(rows.size());
+        for (JsonNode row : rows) {
+            String[] pair = row.path("symbol").asText("").split("_");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], dec(row.get("bid")), dec(row.get("ask"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
@@ -79,7 +94,9 @@ public class PoloniexClient extends BaseExchangeClient implements DepositNetwork
         }
         SymbolMeta s = resolveSymbol(base, quote);
         JsonNode ob = publicGet("/markets/" + s.symbol + "/orderBook", Map.of("limit", "150"));
-        return bookImpact(s.symbol, quoteAmount, ob == null ? null : ob.get("asks"), true);
+        BuyInfoResult result = bookImpact(s.symbol, quoteAmount, ob == null ? null : ob.get("asks"), true);
+        publish(new OrderBook(s.symbol, parseFlatOrderSide(ob.get("bids")), parseFlatOrderSide(ob.get("asks"))));
+        return result;
     }
 
     @Override
@@ -89,7 +106,9 @@ public class PoloniexClient extends BaseExchangeClient implements DepositNetwork
         }
         SymbolMeta s = resolveSymbol(base, quote);
         JsonNode ob = publicGet("/markets/" + s.symbol + "/orderBook", Map.of("limit", "150"));
-        return bookImpact(s.symbol, quoteAmount, ob == null ? null : ob.get("bids"), false);
+        BuyInfoResult result = bookImpact(s.symbol, quoteAmount, ob == null ? null : ob.get("bids"), false);
+        publish(new OrderBook(s.symbol, parseFlatOrderSide(ob.get("bids")), parseFlatOrderSide(ob.get("asks"))));
+        return result;
     }
 
     @Override
@@ -406,7 +425,6 @@ public class PoloniexClient extends BaseExchangeClient implements DepositNetwork
 
     private JsonNode publicGet(String path, Map<String, String> params) {
         String uri = params == null || params.isEmpty() ? path : path + "?" + qs(params);
-        LOG.info("poloniex GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get().uri(uri).header(HttpHeaders.USER_AGENT, "crypto-console").retrieve().bodyToMono(String.class)
                 .onErrorResume(org.springframework.web.reactive.function.client.WebClientResponseException.class, ex -> reactor.core.publisher.Mono.error(new ExchangeException("Poloniex request failed: HTTP " + ex.getStatusCode().value() + " body=" + ex.getResponseBodyAsString(), ex)))
                 .block();
@@ -417,7 +435,6 @@ public class PoloniexClient extends BaseExchangeClient implements DepositNetwork
         String query = params == null || params.isEmpty() ? "" : qs(new TreeMap<>(params));
         String uri = query.isEmpty() ? path : path + "?" + query;
         Auth a = sign("GET", path, query, null);
-        LOG.info("poloniex GET {}", LogSanitizer.sanitize(uri));
         String body = webClient.get().uri(uri).header(HttpHeaders.USER_AGENT, "crypto-console").header("key", key()).header("signatureMethod", "HmacSHA256").header("signatureVersion", "2").header("signTimestamp", a.ts).header("recvWindow", "5000").header("signature", a.sig).retrieve().bodyToMono(String.class)
                 .onErrorResume(org.springframework.web.reactive.function.client.WebClientResponseException.class, ex -> reactor.core.publisher.Mono.error(new ExchangeException("Poloniex request failed: HTTP " + ex.getStatusCode().value() + " body=" + ex.getResponseBodyAsString(), ex)))
                 .block();
@@ -427,7 +444,6 @@ public class PoloniexClient extends BaseExchangeClient implements DepositNetwork
     private JsonNode privatePost(String path, Map<String, Object> body) {
         String json = toJson(body);
         Auth a = sign("POST", path, "", json);
-        LOG.info("poloniex POST {}", LogSanitizer.sanitize(path + "?requestBody=" + json));
         String resp = webClient.post().uri(path).header(HttpHeaders.USER_AGENT, "crypto-console").header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).header("key", key()).header("signatureMethod", "HmacSHA256").header("signatureVersion", "2").header("signTimestamp", a.ts).header("recvWindow", "5000").header("signature", a.sig).bodyValue(json).retrieve().bodyToMono(String.class)
                 .onErrorResume(org.springframework.web.reactive.function.client.WebClientResponseException.class, ex -> reactor.core.publisher.Mono.error(new ExchangeException("Poloniex request failed: HTTP " + ex.getStatusCode().value() + " body=" + ex.getResponseBodyAsString(), ex)))
                 .block();
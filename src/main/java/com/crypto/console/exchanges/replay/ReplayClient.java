@@ -0,0 +1,219 @@
+package com.crypto.console.exchanges.replay;
+
+import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.OrderBookImpact;
+import com.crypto.console.common.marketdata.OrderBookLogReader;
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.BuyInfoResult;
+import com.crypto.console.common.model.ExchangeCapabilities;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.ExchangeTime;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderResult;
+import com.crypto.console.common.model.WithdrawResult;
+import com.crypto.console.common.model.WithdrawalFees;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.properties.SecretsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplayClient extends BaseExchangeClient {
+    private final OrderBookLogReader reader;
+    private final boolean loop;
+    private final String sourceExchange;
+    private final long firstTimestamp;
+    private final long lastTimestamp;
+    private final Map<String, OrderBookLogReader.RecordedStream> resolved = new ConcurrentHashMap<>();
+    private final Map<OrderBookLogReader.RecordedStream, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private final Map<OrderBookLogReader.RecordedStream, Decoded> decoded = new ConcurrentHashMap<>();
+    private volatile double speed;
+    private volatile long anchorWallMillis;
+    private volatile long anchorLogMillis;
+
+    public ReplayClient(AppProperties.ExchangeConfig cfg, AppProperties.ReplayConfig replay, SecretsProperties.ExchangeSecrets secrets) {
+        super("replay", cfg, secrets);
+        AppProperties.ReplayConfig settings = replay == null ? new AppProperties.ReplayConfig() : replay;
+        this.reader = new OrderBookLogReader(Path.of(settings.getDir()));
+        this.loop = settings.isLoop();
+        this.sourceExchange = StringUtils.trimToNull(settings.getSourceExchange());
+        this.firstTimestamp = reader.streams().stream()
+                .mapToLong(OrderBookLogReader.RecordedStream::firstTimestamp)
+                .min()
+                .orElse(0L);
+        this.lastTimestamp = reader.streams().stream()
+                .mapToLong(OrderBookLogReader.RecordedStream::lastTimestamp)
+                .max()
+                .orElse(0L);
+        this.speed = parseSpeed(settings.getSpeed());
+        seek(StringUtils.isBlank(settings.getStartAt()) ? firstTimestamp : parseTime(settings.getStartAt()));
+    }
+
+    public void seek(long logMillis) {
+        anchorLogMillis = logMillis;
+        anchorWallMillis = System.currentTimeMillis();
+        cursors.clear();
+        LOG.info("replay seek to {}", Instant.ofEpochMilli(logMillis));
+    }
+
+    public void setSpeed(String value) {
+        long now = currentLogMillis();
+        this.speed = parseSpeed(value);
+        seek(now);
+    }
+
+    public String status() {
+        return "replay streams=" + reader.streams().size()
+                + " range=" + Instant.ofEpochMilli(firstTimestamp) + ".." + Instant.ofEpochMilli(lastTimestamp)
+                + " speed=" + (Double.isInfinite(speed) ? "max" : BigDecimal.valueOf(speed).stripTrailingZeros().toPlainString() + "x")
+                + " loop=" + loop
+                + " at=" + Instant.ofEpochMilli(currentLogMillis());
+    }
+
+    public static long parseTime(String value) {
+        String trimmed = value.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            return Long.parseLong(trimmed);
+        }
+        try {
+            return Instant.parse(trimmed).toEpochMilli();
+        } catch (Exception e) {
+            throw new ExchangeException("Invalid replay time: " + value + " (use epoch millis or ISO-8601 instant)");
+        }
+    }
+
+    @Override
+    public Balance getBalance(String asset) {
+        throw notImplemented("balances are not recorded");
+    }
+
+    @Override
+    public WithdrawalFees getWithdrawalFees(String asset) {
+        throw notImplemented("withdrawal fees are not recorded");
+    }
+
+    @Override
+    public OrderBook getOrderBook(String base, String quote, int depth) {
+        OrderBook book = snapshot(base, quote);
+        if (depth <= 0 || (book.bids.size() <= depth && book.asks.size() <= depth)) {
+            return book;
+        }
+        return new OrderBook(book.symbol,
+                book.bids.subList(0, Math.min(depth, book.bids.size())),
+                book.asks.subList(0, Math.min(depth, book.asks.size())));
+    }
+
+    @Override
+    public BuyInfoResult buyInfo(String base, String quote, BigDecimal quoteAmount) {
+        return OrderBookImpact.buy(snapshot(base, quote), quoteAmount);
+    }
+
+    @Override
+    public BuyInfoResult sellInfo(String base, String quote, BigDecimal quoteAmount) {
+        return OrderBookImpact.sell(snapshot(base, quote), quoteAmount);
+    }
+
+    @Override
+    public OrderResult marketBuy(String base, String quote, BigDecimal quoteAmount) {
+        throw notImplemented("orders are not supported on recorded data");
+    }
+
+    @Override
+    public OrderResult marketSell(String base, String quote, BigDecimal baseAmount) {
+        throw notImplemented("orders are not supported on recorded data");
+    }
+
+    @Override
+    public WithdrawResult withdraw(String asset, BigDecimal amount, String network, String address, String memoOrNull) {
+        throw notImplemented("withdrawals are not supported on recorded data");
+    }
+
+    @Override
+    public ExchangeTime syncTime() {
+        long logMillis = currentLogMillis();
+        return new ExchangeTime(logMillis, logMillis - System.currentTimeMillis());
+    }
+
+    @Override
+    public ExchangeCapabilities capabilities() {
+        return new ExchangeCapabilities(false, false, true, false, false, true, false);
+    }
+
+    private OrderBook snapshot(String base, String quote) {
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        OrderBookLogReader.RecordedStream stream = resolve(base, quote);
+        int index;
+        if (Double.isInfinite(speed)) {
+            int step = cursors.computeIfAbsent(stream, s -> new AtomicInteger(Math.max(0, s.floorSnapshot(anchorLogMillis))))
+                    .getAndIncrement();
+            index = loop ? Math.floorMod(step, stream.size()) : Math.min(step, stream.size() - 1);
+        } else {
+            index = Math.max(0, stream.floorSnapshot(currentLogMillis()));
+        }
+        Decoded cached = decoded.get(stream);
+        if (cached != null && cached.index == index) {
+            return cached.book;
+        }
+        OrderBook book = reader.read(stream, index);
+        decoded.put(stream, new Decoded(index, book));
+        return book;
+    }
+
+    private long currentLogMillis() {
+        if (Double.isInfinite(speed)) {
+            return anchorLogMillis;
+        }
+        long elapsed = System.currentTimeMillis() - anchorWallMillis;
+        long logMillis = anchorLogMillis + (long) (elapsed * speed);
+        if (loop && lastTimestamp > firstTimestamp && logMillis > lastTimestamp) {
+            logMillis = firstTimestamp + (logMillis - firstTimestamp) % (lastTimestamp - firstTimestamp + 1);
+        }
+        return logMillis;
+    }
+
+    private OrderBookLogReader.RecordedStream resolve(String base, String quote) {
+        String wanted = normalize(base + quote);
+        OrderBookLogReader.RecordedStream stream = resolved.computeIfAbsent(wanted, key -> reader.streams().stream()
+                .filter(s -> s.size() > 0)
+                .filter(s -> sourceExchange == null || sourceExchange.equalsIgnoreCase(s.exchange))
+                .filter(s -> normalize(s.symbol).equals(key))
+                .findFirst()
+                .orElse(null));
+        if (stream == null) {
+            resolved.remove(wanted);
+            throw new ExchangeException("No recorded order books for " + base.toUpperCase() + "/" + quote.toUpperCase());
+        }
+        return stream;
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.replaceAll("[^A-Za-z0-9]", "").toUpperCase();
+    }
+
+    private static double parseSpeed(String value) {
+        if (StringUtils.isBlank(value) || "max".equalsIgnoreCase(value.trim())) {
+            return Double.POSITIVE_INFINITY;
+        }
+        try {
+            double parsed = Double.parseDouble(StringUtils.removeEndIgnoreCase(value.trim(), "x"));
+            if (parsed <= 0) {
+                throw new ExchangeException("Replay speed must be positive: " + value);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new ExchangeException("Invalid replay speed: " + value + " (use a multiplier like 10 or 'max')");
+        }
+    }
+
+    private record Decoded(int index, OrderBook book) {
+    }
+}
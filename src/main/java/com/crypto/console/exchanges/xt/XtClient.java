@@ -4,11 +4,11 @@ import com.crypto.console.common.exchange.DepositAddressProvider;
 import com.crypto.console.common.exchange.DepositNetworkNormalizer;
 import com.crypto.console.common.exchange.DepositNetworkProvider;
 import com.crypto.console.common.exchange.impl.BaseExchangeClient;
+import com.crypto.console.common.marketdata.PriceLadder;
 import com.crypto.console.common.model.*;
 import com.crypto.console.common.model.ExchangeException;
 import com.crypto.console.common.properties.AppProperties;
 import com.crypto.console.common.properties.SecretsProperties;
-import com.crypto.console.common.util.LogSanitizer;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -70,7 +70,41 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
 
     @Override
     public OrderBook getOrderBook(String base, String quote, int depth) {
-        throw notImplemented("GET /v4/public/depth (public)");
+        if (StringUtils.isBlank(base) || StringUtils.isBlank(quote)) {
+            throw new ExchangeException("Base and quote assets are required");
+        }
+        String symbol = (base + "_" + quote).toLowerCase();
+        SymbolInfo symbolInfo = getSymbolInfo(symbol);
+        if (symbolInfo == null) {
+            throw new ExchangeException("Invalid symbol: " + symbol);
+        }
+        String resolvedSymbol = StringUtils.isNotBlank(symbolInfo.symbol) ? symbolInfo.symbol : symbol;
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("symbol", resolvedSymbol);
+        params.put("limit", String.valueOf(depth <= 0 ? 100 : Math.min(depth, 500)));
+        JsonNode result = requireOk(publicGet("/v4/public/depth?" + buildQueryString(params)), "order book").path("result");
+        if (!result.path("bids").isArray() || !result.path("asks").isArray()) {
+            throw new ExchangeException("Unexpected response from XT order book API");
+        }
+        return publish(new OrderBook(resolvedSymbol.toUpperCase(),
+                PriceLadder.parse(result.get("bids"), 0, 1).entries(),
+                PriceLadder.parse(result.get("asks"), 0, 1).entries()));
+    }
+
+    @Override
+    public List<BookTicker> getBookTickers() {
+        JsonNode result = requireOk(publicGet("/v4/public/ticker/book"), "book ticker").path("result");
+        if (!result.isArray()) {
+            throw new ExchangeException("Unexpected response from XT book ticker API");
+        }
+        List<BookTicker> tickers = new ArrayList<>(result.size());
+        for (JsonNode row : result) {
+            String[] pair = row.path("s").asText("").toUpperCase().split("_");
+            if (pair.length == 2) {
+                tickers.add(new BookTicker(pair[0], pair[1], toDecimal(row.get("bp")), toDecimal(row.get("ap"))));
+            }
+        }
+        return tickers;
     }
 
     @Override
@@ -103,48 +137,7 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
             throw new ExchangeException("Unexpected response from XT order book API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal spentQuote = BigDecimal.ZERO;
-        BigDecimal boughtBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode ask : asks) {
-            if (ask == null || !ask.isArray() || ask.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(ask.get(0));
-            BigDecimal quantity = toDecimal(ask.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteCost = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteCost) >= 0) {
-                boughtBase = boughtBase.add(quantity);
-                spentQuote = spentQuote.add(levelQuoteCost);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteCost));
-                remainingQuote = remainingQuote.subtract(levelQuoteCost);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialCost = partialQty.multiply(price);
-                    boughtBase = boughtBase.add(partialQty);
-                    spentQuote = spentQuote.add(partialCost);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialCost));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (boughtBase.signum() <= 0) {
-            throw new ExchangeException("No ask liquidity available for " + resolvedSymbol);
-        }
-
-        BigDecimal averagePrice = spentQuote.divide(boughtBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(resolvedSymbol.toUpperCase(), quoteAmount, spentQuote, boughtBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(resolvedSymbol.toUpperCase(), PriceLadder.parse(result.get("bids"), 0, 1), PriceLadder.parse(asks, 0, 1), quoteAmount, true);
     }
 
     @Override
@@ -177,48 +170,7 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
             throw new ExchangeException("Unexpected response from XT order book API");
         }
 
-        BigDecimal remainingQuote = quoteAmount;
-        BigDecimal receivedQuote = BigDecimal.ZERO;
-        BigDecimal soldBase = BigDecimal.ZERO;
-        List<BuyInfoItem> affectedItems = new ArrayList<>();
-
-        for (JsonNode bid : bids) {
-            if (bid == null || !bid.isArray() || bid.size() < 2) {
-                continue;
-            }
-            BigDecimal price = toDecimal(bid.get(0));
-            BigDecimal quantity = toDecimal(bid.get(1));
-            if (price.signum() <= 0 || quantity.signum() <= 0) {
-                continue;
-            }
-            BigDecimal levelQuoteValue = price.multiply(quantity);
-            if (remainingQuote.compareTo(levelQuoteValue) >= 0) {
-                soldBase = soldBase.add(quantity);
-                receivedQuote = receivedQuote.add(levelQuoteValue);
-                affectedItems.add(new BuyInfoItem(price, quantity, levelQuoteValue));
-                remainingQuote = remainingQuote.subtract(levelQuoteValue);
-            } else {
-                BigDecimal partialQty = remainingQuote.divide(price, 18, RoundingMode.DOWN);
-                if (partialQty.signum() > 0) {
-                    BigDecimal partialValue = partialQty.multiply(price);
-                    soldBase = soldBase.add(partialQty);
-                    receivedQuote = receivedQuote.add(partialValue);
-                    affectedItems.add(new BuyInfoItem(price, partialQty, partialValue));
-                }
-                remainingQuote = BigDecimal.ZERO;
-                break;
-            }
-            if (remainingQuote.signum() == 0) {
-                break;
-            }
-        }
-
-        if (soldBase.signum() <= 0) {
-            throw new ExchangeException("No bid liquidity available for " + resolvedSymbol);
-        }
-
-        BigDecimal averagePrice = receivedQuote.divide(soldBase, 18, RoundingMode.HALF_UP);
-        return new BuyInfoResult(resolvedSymbol.toUpperCase(), quoteAmount, receivedQuote, soldBase, averagePrice, List.copyOf(affectedItems));
+        return walkAndPublish(resolvedSymbol.toUpperCase(), PriceLadder.parse(bids, 0, 1), PriceLadder.parse(result.get("asks"), 0, 1), quoteAmount, false);
     }
 
     @Override
@@ -368,7 +320,7 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
 
     @Override
     public ExchangeCapabilities capabilities() {
-        return new ExchangeCapabilities(true, false, false, true, true, true, true);
+        return new ExchangeCapabilities(true, false, true, true, true, true, true);
     }
 
     @Override
@@ -404,39 +356,28 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
             throw new ExchangeException("Missing API credentials for xt");
         }
 
-        String symbol = (base + "_" + quote).toLowerCase();
-        SymbolInfo symbolInfo = getSymbolInfo(symbol);
-        if (symbolInfo == null) {
-            throw new ExchangeException("Invalid symbol: " + symbol);
-        }
-        String resolvedSymbol = StringUtils.isNotBlank(symbolInfo.symbol) ? symbolInfo.symbol : symbol;
-        if (!symbolInfo.tradingEnabled) {
-            throw new ExchangeException("XT symbol not tradable: " + resolvedSymbol);
-        }
-        if (!symbolInfo.openapiEnabled) {
-            throw new ExchangeException("XT symbol does not support API trading: " + resolvedSymbol);
-        }
-        if (!symbolInfo.orderTypes.contains("MARKET")) {
-            throw new ExchangeException("XT symbol does not support MARKET orders: " + resolvedSymbol);
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template == null) {
+            throw new ExchangeException("Invalid symbol: " + (base + "_" + quote).toLowerCase());
         }
+        template.requireTradable();
+        String resolvedSymbol = template.symbol;
 
         if (isQuoteAmount) {
-            BigDecimal minQuote = symbolInfo.minQuoteQty;
-            if (minQuote != null && minQuote.signum() > 0 && amount.compareTo(minQuote) < 0) {
-                throw new ExchangeException("Order value " + amount + " below min notional " + minQuote + " for " + symbol);
+            if (template.belowMinNotional(amount)) {
+                throw new ExchangeException("Order value " + amount + " below min notional " + template.minNotional + " for " + resolvedSymbol);
             }
         } else {
-            BigDecimal qty = applyLotSize(symbolInfo, amount);
+            BigDecimal qty = template.roundQuantity(amount);
             if (qty.signum() <= 0) {
-                throw new ExchangeException("Sell quantity below minimum lot size for " + symbol);
+                throw new ExchangeException("Sell quantity below minimum lot size for " + resolvedSymbol);
             }
-            BigDecimal minQuote = symbolInfo.minQuoteQty;
-            if (minQuote != null && minQuote.signum() > 0) {
-                BigDecimal price = getLatestPrice(resolvedSymbol);
+            if (template.minNotional != null && template.minNotional.signum() > 0) {
+                BigDecimal price = orderTemplates().referencePrice(resolvedSymbol, () -> getLatestPrice(resolvedSymbol));
                 if (price != null && price.signum() > 0) {
                     BigDecimal notional = qty.multiply(price);
-                    if (notional.compareTo(minQuote) < 0) {
-                        throw new ExchangeException("Order value " + notional + " below min notional " + minQuote + " for " + resolvedSymbol);
+                    if (template.belowMinNotional(notional)) {
+                        throw new ExchangeException("Order value " + notional + " below min notional " + template.minNotional + " for " + resolvedSymbol);
                     }
                 }
             }
@@ -524,35 +465,40 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
         return null;
     }
 
-    private BigDecimal applyLotSize(SymbolInfo info, BigDecimal quantity) {
-        if (info == null) {
-            return quantity;
-        }
-        BigDecimal minQty = info.minQty;
-        BigDecimal maxQty = info.maxQty;
-        BigDecimal step = info.stepSize;
-        if (maxQty != null && maxQty.signum() > 0 && quantity.compareTo(maxQty) > 0) {
-            quantity = maxQty;
-        }
-        if (minQty != null && minQty.signum() > 0 && quantity.compareTo(minQty) < 0) {
-            return BigDecimal.ZERO;
-        }
-        if (step == null || step.signum() <= 0) {
-            return quantity;
-        }
-        BigDecimal steps = quantity.divide(step, 0, java.math.RoundingMode.DOWN);
-        BigDecimal adjusted = step.multiply(steps);
-        if (minQty != null && minQty.signum() > 0 && adjusted.compareTo(minQty) < 0) {
-            return BigDecimal.ZERO;
+    @Override
+    public void prepareOrder(String base, String quote) {
+        OrderTemplate template = orderTemplate(base, quote);
+        if (template != null && template.minNotional != null) {
+            orderTemplates().referencePrice(template.symbol, () -> getLatestPrice(template.symbol));
         }
-        return adjusted.stripTrailingZeros();
+    }
+
+    @Override
+    public OrderTemplate orderTemplate(String base, String quote) {
+        return orderTemplates().template(base, quote, () -> {
+            String symbol = (base + "_" + quote).toLowerCase();
+            SymbolInfo info = getSymbolInfo(symbol);
+            if (info == null) {
+                return null;
+            }
+            String resolvedSymbol = StringUtils.isNotBlank(info.symbol) ? info.symbol : symbol;
+            String rejection = null;
+            if (!info.tradingEnabled) {
+                rejection = "XT symbol not tradable: " + resolvedSymbol;
+            } else if (!info.openapiEnabled) {
+                rejection = "XT symbol does not support API trading: " + resolvedSymbol;
+            } else if (!info.orderTypes.contains("MARKET")) {
+                rejection = "XT symbol does not support MARKET orders: " + resolvedSymbol;
+            }
+            return new OrderTemplate(resolvedSymbol, rejection, info.minQty, info.maxQty, info.stepSize,
+                    null, null, info.minQuoteQty);
+        });
     }
 
     private JsonNode signedGet(String path, Map<String, String> params, String apiKey, String apiSecret) {
         String query = params == null ? "" : buildSortedQueryString(params);
         String uri = query.isEmpty() ? path : path + "?" + query;
         SignedHeaders headers = signRequest("GET", path, query, null, apiKey, apiSecret);
-        LOG.info("xt GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -585,7 +531,6 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
             throw new ExchangeException("Failed to serialize XT request body", e);
         }
         SignedHeaders headers = signRequest("POST", path, "", jsonBody, apiKey, apiSecret);
-        LOG.info("xt POST {}", LogSanitizer.sanitize(path));
         return webClient.post()
                 .uri(path)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -610,7 +555,6 @@ public class XtClient extends BaseExchangeClient implements DepositNetworkProvid
     }
 
     private JsonNode publicGet(String uri) {
-        LOG.info("xt GET {}", LogSanitizer.sanitize(uri));
         return webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.USER_AGENT, "crypto-console")
@@ -7,44 +7,151 @@ import com.crypto.console.common.model.CommandResult;
 import com.crypto.console.common.service.CommandExecutor;
 import com.crypto.console.common.util.ConsoleOutput;
 import lombok.extern.slf4j.Slf4j;
+import org.jline.reader.EndOfFileException;
+import org.jline.reader.LineReader;
+import org.jline.reader.LineReaderBuilder;
+import org.jline.reader.UserInterruptException;
+import org.jline.terminal.Terminal;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 public class ReplRunner {
 
     public static final String INPUT_LINE = "#####> ";
+    private static final Set<CommandType> INTERACTIVE = Set.of(CommandType.MOVE, CommandType.REBALANCE);
+    private static final Set<CommandType> FOREGROUND_ONLY = Set.of(CommandType.HELP, CommandType.EXIT, CommandType.INVALID,
+            CommandType.MOVE, CommandType.REBALANCE);
+
+    private final Terminal terminal;
     private final CommandParser parser;
     private final CommandExecutor executor;
+    private final ExecutorService commands = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("command-", 1).factory());
+    private final Map<Integer, Command> background = new ConcurrentHashMap<>();
+    private final AtomicInteger backgroundIds = new AtomicInteger();
+    private volatile Future<CommandResult> foreground;
+    private volatile Command interactive;
+    private LineReader reader;
 
-    public ReplRunner(CommandParser parser, CommandExecutor executor) {
+    public ReplRunner(Terminal terminal, CommandParser parser, CommandExecutor executor) {
+        this.terminal = terminal;
         this.parser = parser;
         this.executor = executor;
     }
 
     public void run() {
-        ConsoleOutput.printlnGreen("Crypto Console REPL. Type 'help' for commands, 'exit' to quit.");
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(System.in))) {
+        reader = LineReaderBuilder.builder().terminal(terminal).build();
+        terminal.handle(Terminal.Signal.INT, signal -> cancelForeground());
+        print("Crypto Console REPL. Type 'help' for commands, 'exit' to quit. Append '&' to run a command in the background, Ctrl-C cancels the running one.");
+        try {
             while (true) {
-                ConsoleOutput.printBlue(INPUT_LINE);
-                String line = reader.readLine();
-                if (line == null) {
+                String line;
+                try {
+                    line = reader.readLine(ConsoleOutput.blue(INPUT_LINE));
+                } catch (UserInterruptException e) {
+                    continue;
+                } catch (EndOfFileException e) {
                     break;
                 }
-                Command command = parser.parse(line);
+                String trimmed = line.trim();
+                boolean detach = trimmed.endsWith("&");
+                if (detach) {
+                    trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+                }
+                Command command = parser.parse(trimmed);
                 if (command.type() == CommandType.EXIT) {
-                    ConsoleOutput.printlnGreen("Bye.");
+                    print("Bye.");
                     break;
                 }
-                CommandResult result = executor.execute(command);
-                if (result != null && result.message != null && !result.message.isEmpty()) {
-                    ConsoleOutput.printlnGreen(result.message);
+                if (detach && FOREGROUND_ONLY.contains(command.type())) {
+                    print(command.type() == CommandType.INVALID ? executor.execute(command).message
+                            : command.type().name().toLowerCase() + " cannot run in the background");
+                } else if (detach) {
+                    startBackground(command);
+                } else {
+                    runForeground(command);
                 }
             }
         } catch (Exception e) {
             LOG.error("REPL failed: {}", e.getMessage());
             System.err.println("REPL failed: " + e.getMessage());
+        } finally {
+            if (!background.isEmpty()) {
+                LOG.info("Cancelling {} background command(s) on exit", background.size());
+            }
+            commands.shutdownNow();
+        }
+    }
+
+    private void runForeground(Command command) {
+        Future<CommandResult> task = commands.submit(() -> executor.execute(command));
+        if (INTERACTIVE.contains(command.type())) {
+            interactive = command;
+        } else {
+            foreground = task;
+        }
+        try {
+            print(task.get());
+        } catch (CancellationException e) {
+            LOG.info("COMMAND cancelled: {}", command.type());
+            print("Cancelled.");
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            print("FAILED: " + e.getCause().getMessage());
+        } finally {
+            foreground = null;
+            interactive = null;
+        }
+    }
+
+    private void startBackground(Command command) {
+        int id = backgroundIds.incrementAndGet();
+        background.put(id, command);
+        print("[" + id + "] started: " + command.raw());
+        commands.submit(() -> {
+            try {
+                CommandResult result = executor.execute(command);
+                print("[" + id + "] done: " + command.raw());
+                print(result);
+            } finally {
+                background.remove(id);
+            }
+        });
+    }
+
+    private void cancelForeground() {
+        Future<CommandResult> task = foreground;
+        Command waiting = interactive;
+        if (task != null) {
+            task.cancel(true);
+        } else if (waiting != null) {
+            print(waiting.type().name().toLowerCase() + " cannot be cancelled once started; answer the prompt to finish it");
+        }
+    }
+
+    private void print(CommandResult result) {
+        if (result != null && result.message != null && !result.message.isEmpty()) {
+            print(result.message);
+        }
+    }
+
+    private void print(String message) {
+        String text = ConsoleOutput.green(message);
+        if (reader != null && reader.isReading()) {
+            reader.printAbove(text);
+        } else {
+            terminal.writer().println(text);
+            terminal.writer().flush();
         }
     }
 }
@@ -0,0 +1,64 @@
+package com.crypto.console.common.arbitrage;
+
+import com.crypto.console.common.model.BookTicker;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateGraphTest {
+
+    @Test
+    void findsProfitableTriangleNetOfFees() {
+        RateGraph graph = new RateGraph();
+        graph.update(List.of(
+                ticker("BTC", "USDT", "60000", "60001"),
+                ticker("ETH", "USDT", "3000", "3000.5"),
+                ticker("ETH", "BTC", "0.0505", "0.0506")
+        ), 0.001);
+
+        List<RateGraph.Cycle> cycles = graph.findCycles(5);
+
+        assertEquals(1, cycles.size());
+        RateGraph.Cycle cycle = cycles.get(0);
+        assertEquals(3, cycle.legs().size());
+        assertTrue(cycle.profit() > 0.005 && cycle.profit() < 0.007);
+        assertEquals(cycle.legs().get(0).from(), cycle.legs().get(2).to());
+    }
+
+    @Test
+    void rescansIncrementallyUntilAPriceMoveOpensACycle() {
+        RateGraph graph = new RateGraph();
+        graph.update(List.of(
+                ticker("BTC", "USDT", "60000", "60001"),
+                ticker("ETH", "USDT", "3000", "3000.5"),
+                ticker("ETH", "BTC", "0.05", "0.05001")
+        ), 0.001);
+        assertEquals(List.of(), graph.findCycles(5));
+
+        graph.update(List.of(
+                ticker("BTC", "USDT", "60000", "60001"),
+                ticker("ETH", "USDT", "3000", "3000.5"),
+                ticker("ETH", "BTC", "0.05", "0.050005")
+        ), 0.001);
+        assertEquals(List.of(), graph.findCycles(5));
+        assertEquals(1, graph.fullScans());
+        assertEquals(1, graph.incrementalScans());
+
+        graph.update(List.of(
+                ticker("BTC", "USDT", "60000", "60001"),
+                ticker("ETH", "USDT", "3100", "3100.5"),
+                ticker("ETH", "BTC", "0.05", "0.050005")
+        ), 0.001);
+        List<RateGraph.Cycle> cycles = graph.findCycles(5);
+        assertEquals(1, cycles.size());
+        assertEquals(2, graph.incrementalScans());
+    }
+
+    private static BookTicker ticker(String base, String quote, String bid, String ask) {
+        return new BookTicker(base, quote, new BigDecimal(bid), new BigDecimal(ask));
+    }
+}
@@ -0,0 +1,52 @@
+package com.crypto.console.common.command.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class CommandParserTest {
+
+    private final CommandParser parser = new CommandParser();
+
+    @Test
+    void singleSizeKeepsQuoteAmount() {
+        BuyInfoCommand cmd = (BuyInfoCommand) parser.parse("askinfo binance btc 1000 usdt");
+        assertEquals(new BigDecimal("1000"), cmd.quoteAmount);
+        assertEquals(List.of(new BigDecimal("1000")), cmd.quoteAmounts);
+    }
+
+    @Test
+    void parsesSizeList() {
+        BuyInfosCommand cmd = (BuyInfosCommand) parser.parse("askinfos btc 1000,10000,100000 usdt");
+        assertEquals(List.of(new BigDecimal("1000"), new BigDecimal("10000"), new BigDecimal("100000")), cmd.quoteAmounts);
+        assertEquals(new BigDecimal("1000"), cmd.quoteAmount);
+    }
+
+    @Test
+    void parsesGeometricRange() {
+        SellInfoCommand cmd = (SellInfoCommand) parser.parse("bidinfo okx btc 1000..100000/3 usdt");
+        assertEquals(3, cmd.quoteAmounts.size());
+        assertEquals(0, new BigDecimal("10000").compareTo(cmd.quoteAmounts.get(1)));
+        assertEquals(new BigDecimal("100000"), cmd.quoteAmounts.get(2));
+    }
+
+    @Test
+    void wrapsCommandWithStaleBudget() {
+        StaleCommand cmd = (StaleCommand) parser.parse("askinfos btc 1000 usdt --stale=2s");
+        assertEquals(Duration.ofSeconds(2), cmd.maxStale);
+        assertEquals(new BigDecimal("1000"), ((BuyInfosCommand) cmd.command).quoteAmount);
+        assertInstanceOf(InvalidCommand.class, parser.parse("askinfos btc 1000 usdt --stale=soon"));
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertInstanceOf(InvalidCommand.class, parser.parse("bidinfos btc 1000,-5 usdt"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("bidinfos btc 5000..1000 usdt"));
+        assertInstanceOf(InvalidCommand.class, parser.parse("bidinfos btc 1000..5000/1 usdt"));
+    }
+}
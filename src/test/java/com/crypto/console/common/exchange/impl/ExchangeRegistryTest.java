@@ -0,0 +1,80 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.ExchangeName;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.properties.SecretsProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ExchangeRegistryTest {
+
+    @Test
+    void reloadRebuildsOnlyChangedClients() {
+        ExchangeRegistry registry = ExchangeRegistry.create(properties("http://localhost:1"), secrets("key-1"));
+        ExchangeClient stub1 = registry.getClient("exstub1");
+        ExchangeClient stub2 = registry.getClient("exstub2");
+        ExchangeClient binance = registry.getClient("binance");
+
+        assertEquals(List.of(), registry.reload(properties("http://localhost:1"), secrets("key-1")));
+
+        AppProperties changed = properties("http://localhost:1");
+        changed.getExchanges().get("exstub2").setBaseUrl("http://localhost:2");
+        List<String> rebuilt = registry.reload(changed, secrets("key-2"));
+
+        assertEquals(List.of("exstub1", "exstub2"), rebuilt);
+        assertNotSame(stub1, registry.getClient("exstub1"));
+        assertNotSame(stub2, registry.getClient("exstub2"));
+        assertSame(binance, registry.getClient("binance"));
+        assertSame(((BaseExchangeClient) stub1).orderTemplates(), ((BaseExchangeClient) registry.getClient("exstub1")).orderTemplates());
+        assertNotSame(((BaseExchangeClient) stub2).orderTemplates(), ((BaseExchangeClient) registry.getClient("exstub2")).orderTemplates());
+    }
+
+    @Test
+    void reloadAddsClientsForNewExchangeConfigs(@TempDir Path recordings) {
+        ExchangeRegistry registry = ExchangeRegistry.create(properties("http://localhost:1"), secrets("key-1"));
+        AppProperties added = properties("http://localhost:1");
+        AppProperties.ExchangeConfig replay = new AppProperties.ExchangeConfig();
+        replay.setBaseUrl("http://localhost:1");
+        added.getExchanges().put("replay", replay);
+        added.getReplay().setEnabled(true);
+        added.getReplay().setDir(recordings.toString());
+
+        assertEquals(List.of("replay"), registry.reload(added, secrets("key-1")));
+        assertEquals(true, registry.getAvailableExchanges().contains("replay"));
+        assertEquals(List.of(), registry.reload(added, secrets("key-1")));
+    }
+
+    private static AppProperties properties(String baseUrl) {
+        Map<String, AppProperties.ExchangeConfig> exchanges = new HashMap<>();
+        for (ExchangeName name : ExchangeName.values()) {
+            if (name == ExchangeName.REPLAY) {
+                continue;
+            }
+            AppProperties.ExchangeConfig cfg = new AppProperties.ExchangeConfig();
+            cfg.setBaseUrl(baseUrl);
+            exchanges.put(name.id(), cfg);
+        }
+        AppProperties appProperties = new AppProperties();
+        appProperties.setExchanges(exchanges);
+        return appProperties;
+    }
+
+    private static SecretsProperties secrets(String apiKey) {
+        SecretsProperties.ExchangeSecrets stub = new SecretsProperties.ExchangeSecrets();
+        stub.setApiKey(apiKey);
+        stub.setApiSecret("secret");
+        SecretsProperties secrets = new SecretsProperties();
+        secrets.setExchanges(Map.of("exstub1", stub));
+        return secrets;
+    }
+}
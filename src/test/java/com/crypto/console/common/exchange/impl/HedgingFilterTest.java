@@ -0,0 +1,107 @@
+package com.crypto.console.common.exchange.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HedgingFilterTest {
+
+    private final ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final ExchangeFunction upstream = request -> {
+        calls.incrementAndGet();
+        String host = request.url().getHost();
+        long delay = host.startsWith("slow") ? 400 : 5;
+        HttpStatus status = switch (host) {
+            case "broken.example" -> HttpStatus.SERVICE_UNAVAILABLE;
+            case "limited.example", "slow-limited.example" -> HttpStatus.TOO_MANY_REQUESTS;
+            default -> HttpStatus.OK;
+        };
+        return Mono.delay(Duration.ofMillis(delay))
+                .map(tick -> ClientResponse.create(status, strategies).body(host + request.url().getRawPath()).build());
+    };
+
+    @Test
+    void hedgesSlowPrimaryAndLearnsFasterHost() {
+        HedgingFilter filter = new HedgingFilter(List.of("https://slow.example", "https://fast.example/"));
+        ClientRequest depth = ClientRequest.create(HttpMethod.GET, URI.create("https://slow.example/api/v3/depth?symbol=BTCUSDT")).build();
+
+        assertEquals("fast.example/api/v3/depth", body(filter, depth));
+        assertEquals(1, filter.hedged());
+        assertEquals(1, filter.hedgeWins());
+
+        body(filter, depth);
+        assertEquals(List.of("https://fast.example", "https://slow.example"), filter.ranking());
+    }
+
+    @Test
+    void keepsSignedRequestsOnPrimaryHost() {
+        HedgingFilter filter = new HedgingFilter(List.of("https://slow.example", "https://fast.example"));
+        ClientRequest signed = ClientRequest.create(HttpMethod.GET, URI.create("https://slow.example/api/v3/account?timestamp=1"))
+                .header("X-MBX-APIKEY", "key")
+                .build();
+
+        assertEquals("slow.example/api/v3/account", body(filter, signed));
+        assertEquals(0, filter.hedged());
+    }
+
+    @Test
+    void fastErrorFromMirrorDoesNotBeatHealthyPrimary() {
+        HedgingFilter filter = new HedgingFilter(List.of("https://slow.example", "https://broken.example"));
+        ClientRequest depth = ClientRequest.create(HttpMethod.GET, URI.create("https://slow.example/api/v3/depth?symbol=BTCUSDT")).build();
+
+        assertEquals("slow.example/api/v3/depth", body(filter, depth));
+        assertEquals(1, filter.hedged());
+        assertEquals(0, filter.hedgeWins());
+    }
+
+    @Test
+    void returnsErrorResponseWhenEveryHostFails() {
+        HedgingFilter filter = new HedgingFilter(List.of("https://broken.example", "https://broken.example"));
+        ClientRequest depth = ClientRequest.create(HttpMethod.GET, URI.create("https://broken.example/api/v3/depth?symbol=BTCUSDT")).build();
+
+        ClientResponse response = filter.filter(depth, upstream).block();
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.statusCode());
+        assertEquals("broken.example/api/v3/depth", response.bodyToMono(String.class).block());
+    }
+
+    @Test
+    void neverResendsAfterClientErrorOrServerErrorWithinHedgeDelay() {
+        HedgingFilter limited = new HedgingFilter(List.of("https://limited.example", "https://fast.example"));
+        ClientRequest depth = ClientRequest.create(HttpMethod.GET, URI.create("https://limited.example/api/v3/depth?symbol=BTCUSDT")).build();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.filter(depth, upstream).block().statusCode());
+        HedgingFilter broken = new HedgingFilter(List.of("https://broken.example", "https://fast.example"));
+        ClientRequest brokenDepth = ClientRequest.create(HttpMethod.GET, URI.create("https://broken.example/api/v3/depth?symbol=BTCUSDT")).build();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, broken.filter(brokenDepth, upstream).block().statusCode());
+        assertEquals(0, limited.hedged() + broken.hedged());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void clientErrorFromOutstandingFirstAttemptCancelsHedge() {
+        HedgingFilter filter = new HedgingFilter(List.of("https://slow-limited.example", "https://slow.example"));
+        ClientRequest depth = ClientRequest.create(HttpMethod.GET, URI.create("https://slow-limited.example/api/v3/depth?symbol=BTCUSDT")).build();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, filter.filter(depth, upstream).block().statusCode());
+        assertEquals(1, filter.hedged());
+        assertEquals(0, filter.hedgeWins());
+    }
+
+    private String body(HedgingFilter filter, ClientRequest request) {
+        return filter.filter(request, upstream).flatMap(response -> response.bodyToMono(String.class)).block();
+    }
+}
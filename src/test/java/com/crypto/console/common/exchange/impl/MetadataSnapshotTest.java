@@ -0,0 +1,56 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.model.OrderTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetadataSnapshotTest {
+
+    @Test
+    void roundTripsAllRecordTypes() throws Exception {
+        byte[] body = "{\"symbols\":[]}".getBytes(StandardCharsets.UTF_8);
+        OrderTemplate template = new OrderTemplate("BTCUSDT", null, new BigDecimal("0.00001"), null,
+                new BigDecimal("0.00001"), 5, null, new BigDecimal("5"));
+        MetadataSnapshot.Contents contents = new MetadataSnapshot.Contents(1_700_000_000_000L,
+                List.of(new MetadataSnapshot.Response("https://api.binance.com/api/v3/exchangeInfo?symbol=BTCUSDT",
+                        1_699_999_990_000L, 200, "application/json", body)),
+                List.of(new MetadataSnapshot.Template("binance", "BTC/USDT", template)),
+                List.of(new MetadataSnapshot.Account("htx", "0011223344556677", Map.of("spotAccountId", "12345"))));
+
+        MetadataSnapshot.Contents decoded = MetadataSnapshot.decode(ByteBuffer.wrap(MetadataSnapshot.encode(contents)));
+
+        assertEquals(contents.createdMillis(), decoded.createdMillis());
+        MetadataSnapshot.Response response = decoded.responses().get(0);
+        assertEquals("https://api.binance.com/api/v3/exchangeInfo?symbol=BTCUSDT", response.url());
+        assertEquals(1_699_999_990_000L, response.storedAtMillis());
+        assertEquals("application/json", response.contentType());
+        assertArrayEquals(body, response.body());
+        OrderTemplate restored = decoded.templates().get(0).template();
+        assertEquals("BTC/USDT", decoded.templates().get(0).key());
+        assertEquals(new BigDecimal("0.00001"), restored.stepSize);
+        assertEquals(5, restored.basePrecision);
+        assertNull(restored.quotePrecision);
+        assertNull(restored.maxQty);
+        assertEquals(new BigDecimal("5"), restored.minNotional);
+        assertEquals(contents.accounts(), decoded.accounts());
+    }
+
+    @Test
+    void rejectsOtherVersions() {
+        ByteBuffer buffer = ByteBuffer.allocate(17);
+        buffer.putInt(MetadataSnapshot.MAGIC).putShort((short) (MetadataSnapshot.VERSION + 1)).putShort((short) 0).putLong(0).put((byte) 0);
+        buffer.flip();
+
+        assertThrows(IllegalStateException.class, () -> MetadataSnapshot.decode(buffer));
+    }
+}
@@ -0,0 +1,87 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.properties.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MicroCacheFilterTest {
+
+    private final ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ExchangeFunction upstream = request -> Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK, strategies)
+            .body("call-" + upstreamCalls.incrementAndGet())
+            .build());
+
+    @Test
+    void servesRepeatedDepthFromCacheWithinBudget() throws InterruptedException {
+        MicroCacheFilter filter = filter(Duration.ofMillis(50), 16);
+        ClientRequest depth = get("https://x/api/v3/depth?symbol=BTCUSDT&limit=1000");
+
+        assertEquals("call-1", body(filter, depth));
+        MarketDataCache.Observed<String> cached = MarketDataCache.observe(() -> body(filter, depth));
+        assertEquals("call-1", cached.value());
+        assertTrue(cached.ageMillis() >= 0 && cached.ageMillis() < 50);
+
+        Thread.sleep(80);
+        assertEquals("call-2", body(filter, depth));
+        assertEquals("call-2", MarketDataCache.allowStale(Duration.ofSeconds(5), () -> body(filter, depth)));
+    }
+
+    @Test
+    void skipsUnclassifiedAndSignedRequests() {
+        MicroCacheFilter filter = filter(Duration.ofSeconds(10), 16);
+        ClientRequest time = get("https://x/api/v3/time");
+        ClientRequest signed = ClientRequest.create(HttpMethod.GET, URI.create("https://x/api/v3/depth?symbol=BTCUSDT"))
+                .header("X-MBX-APIKEY", "key")
+                .build();
+
+        body(filter, time);
+        body(filter, time);
+        body(filter, signed);
+        body(filter, signed);
+
+        assertEquals(4, upstreamCalls.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxEntries() {
+        MicroCacheFilter filter = filter(Duration.ofSeconds(10), 1);
+
+        body(filter, get("https://x/api/v3/depth?symbol=BTCUSDT"));
+        body(filter, get("https://x/api/v3/depth?symbol=ETHUSDT"));
+        body(filter, get("https://x/api/v3/depth?symbol=BTCUSDT"));
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    private MicroCacheFilter filter(Duration depthAge, int maxEntries) {
+        AppProperties.CacheConfig cfg = new AppProperties.CacheConfig();
+        cfg.setMaxEntries(maxEntries);
+        cfg.setMaxAge(Map.of("depth", depthAge));
+        MicroCacheFilter filter = new MicroCacheFilter(strategies);
+        filter.setCache(new MarketDataCache(cfg));
+        return filter;
+    }
+
+    private static ClientRequest get(String url) {
+        return ClientRequest.create(HttpMethod.GET, URI.create(url)).build();
+    }
+
+    private String body(MicroCacheFilter filter, ClientRequest request) {
+        return filter.filter(request, upstream).flatMap(response -> response.bodyToMono(String.class)).block();
+    }
+}
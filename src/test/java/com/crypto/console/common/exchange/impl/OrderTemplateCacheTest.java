@@ -0,0 +1,106 @@
+package com.crypto.console.common.exchange.impl;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import com.crypto.console.common.model.OrderTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderTemplateCacheTest {
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final OrderTemplateCache cache = new OrderTemplateCache(Duration.ofMinutes(10), Duration.ofSeconds(30), now::get);
+
+    @Test
+    void reusesTemplateUntilRulesExpire() {
+        AtomicInteger loads = new AtomicInteger();
+        OrderTemplate first = cache.template("btc", "usdt", () -> {
+            loads.incrementAndGet();
+            return template();
+        });
+        assertSame(first, cache.template("BTC", "USDT", () -> {
+            loads.incrementAndGet();
+            return template();
+        }));
+        assertEquals(1, loads.get());
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        cache.template("BTC", "USDT", () -> {
+            loads.incrementAndGet();
+            return template();
+        });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void refreshAheadReloadsInSecondHalfOfTtl() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.referencePrice("BTCUSDT", () -> BigDecimal.valueOf(loads.incrementAndGet()));
+
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+        OrderTemplateCache.refreshAhead(() -> cache.referencePrice("BTCUSDT", () -> BigDecimal.valueOf(loads.incrementAndGet())));
+        assertEquals(1, loads.get());
+
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+        assertEquals(BigDecimal.ONE, cache.referencePrice("BTCUSDT", () -> BigDecimal.valueOf(loads.incrementAndGet())));
+        OrderTemplateCache.refreshAhead(() -> cache.referencePrice("BTCUSDT", () -> BigDecimal.valueOf(loads.incrementAndGet())));
+        assertEquals(2, loads.get());
+        assertEquals(BigDecimal.TWO, cache.referencePrice("BTCUSDT", () -> BigDecimal.TEN));
+    }
+
+    @Test
+    void restoredTemplatesAgeFromSnapshot() {
+        assertFalse(cache.restore("ETH/USDT", template(), Duration.ofMinutes(10).toMillis()));
+        assertTrue(cache.restore("BTC/USDT", template(), Duration.ofMinutes(8).toMillis()));
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.template("BTC", "USDT", () -> {
+            loads.incrementAndGet();
+            return template();
+        });
+        assertEquals(0, loads.get());
+
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        cache.template("BTC", "USDT", () -> {
+            loads.incrementAndGet();
+            return template();
+        });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void publishedBooksRefreshReferencePrice() {
+        cache.template("BTC", "USDT", this::template);
+        cache.observe(new OrderBook("btcusdt",
+                List.of(new OrderBookEntry(new BigDecimal("100"), BigDecimal.ONE)),
+                List.of(new OrderBookEntry(new BigDecimal("101"), BigDecimal.ONE))));
+
+        assertEquals(0, new BigDecimal("100.5").compareTo(cache.referencePrice("BTCUSDT", () -> BigDecimal.TEN)));
+
+        cache.invalidate("BTC", "USDT");
+        assertEquals(BigDecimal.TEN, cache.referencePrice("BTCUSDT", () -> BigDecimal.TEN));
+    }
+
+    @Test
+    void roundsQuantityToStepAndMinimum() {
+        OrderTemplate template = template();
+
+        assertEquals(new BigDecimal("1.23"), template.roundQuantity(new BigDecimal("1.23789")));
+        assertEquals(BigDecimal.ZERO, template.roundQuantity(new BigDecimal("0.009")));
+        assertEquals(new BigDecimal("5E+1"), template.roundQuantity(new BigDecimal("75")));
+    }
+
+    private OrderTemplate template() {
+        return new OrderTemplate("BTCUSDT", null, new BigDecimal("0.01"), new BigDecimal("50"),
+                new BigDecimal("0.01"), null, null, new BigDecimal("5"));
+    }
+}
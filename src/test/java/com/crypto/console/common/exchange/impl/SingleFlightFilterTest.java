@@ -0,0 +1,58 @@
+package com.crypto.console.common.exchange.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SingleFlightFilterTest {
+
+    private final ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final ExchangeFunction upstream = request -> Mono.delay(Duration.ofMillis(100))
+            .map(tick -> {
+                upstreamCalls.incrementAndGet();
+                return ClientResponse.create(HttpStatus.OK, strategies).body("{\"bids\":[]}").build();
+            });
+
+    @Test
+    void concurrentPublicRequestsShareOneCall() {
+        SingleFlightFilter filter = new SingleFlightFilter(strategies);
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://x/api/v3/depth?symbol=BTCUSDT")).build();
+
+        Mono<String> first = filter.filter(request, upstream).flatMap(r -> r.bodyToMono(String.class));
+        Mono<String> second = filter.filter(request, upstream).flatMap(r -> r.bodyToMono(String.class));
+        var bodies = Mono.zip(first, second).block();
+
+        assertEquals("{\"bids\":[]}", bodies.getT1());
+        assertEquals("{\"bids\":[]}", bodies.getT2());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, filter.coalesced());
+
+        filter.filter(request, upstream).flatMap(r -> r.bodyToMono(String.class)).block();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void signedRequestsAreNotShared() {
+        SingleFlightFilter filter = new SingleFlightFilter(strategies);
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("https://x/api/v3/account?timestamp=1"))
+                .header("X-MBX-APIKEY", "key")
+                .build();
+
+        Mono.zip(filter.filter(request, upstream), filter.filter(request, upstream)).block();
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, filter.coalesced());
+    }
+}
@@ -0,0 +1,52 @@
+package com.crypto.console.common.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimerWheelTest {
+
+    @Test
+    void firesTasksOnTheFirstTickAtOrAfterTheirDelay() {
+        AtomicLong now = new AtomicLong();
+        List<String> fired = new ArrayList<>();
+        TimerWheel wheel = new TimerWheel(100, 8, now::get, Runnable::run, false);
+        wheel.schedule(() -> fired.add("a"), 250);
+        wheel.schedule(() -> fired.add("b"), 100);
+        wheel.schedule(() -> fired.add("c"), 0);
+
+        wheel.advance();
+        assertEquals(List.of("c"), fired);
+
+        now.set(299);
+        wheel.advance();
+        assertEquals(List.of("c", "b"), fired);
+
+        now.set(300);
+        wheel.advance();
+        assertEquals(List.of("c", "b", "a"), fired);
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void keepsTasksBeyondOneRotationAndDropsCancelled() {
+        AtomicLong now = new AtomicLong();
+        List<String> fired = new ArrayList<>();
+        TimerWheel wheel = new TimerWheel(100, 8, now::get, Runnable::run, false);
+        wheel.schedule(() -> fired.add("late"), 1_000);
+        wheel.schedule(() -> fired.add("cancelled"), 200).cancel();
+
+        now.set(900);
+        wheel.advance();
+        assertEquals(List.of(), fired);
+        assertEquals(1, wheel.pending());
+
+        now.set(1_000);
+        wheel.advance();
+        assertEquals(List.of("late"), fired);
+    }
+}
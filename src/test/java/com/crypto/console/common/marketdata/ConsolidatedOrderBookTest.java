@@ -0,0 +1,51 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ConsolidatedOrderBookTest {
+
+    @Test
+    void mergesVenuesIntoOneLadderAndStopsAtDepth() {
+        ConsolidatedOrderBook book = new ConsolidatedOrderBook();
+        book.update("binance", book(List.of(level("100", "1"), level("99", "2")), List.of(level("101", "1"), level("103", "1"))));
+        book.update("okx", book(List.of(level("100.5", "3"), level("98", "1")), List.of(level("102", "2"), level("101", "4"))));
+
+        assertEquals(List.of(
+                new ConsolidatedOrderBook.Level(new BigDecimal("100.5"), new BigDecimal("3"), "okx"),
+                new ConsolidatedOrderBook.Level(new BigDecimal("100"), new BigDecimal("1"), "binance"),
+                new ConsolidatedOrderBook.Level(new BigDecimal("99"), new BigDecimal("2"), "binance")
+        ), book.bids(3));
+        assertEquals(List.of("binance", "okx", "okx"), book.asks(3).stream().map(ConsolidatedOrderBook.Level::exchange).toList());
+    }
+
+    @Test
+    void replacingOneVenueLeavesOthersIntact() {
+        ConsolidatedOrderBook book = new ConsolidatedOrderBook();
+        book.update("binance", book(List.of(level("100", "1")), List.of(level("101", "1"))));
+        book.update("okx", book(List.of(level("99", "1")), List.of(level("102", "1"))));
+
+        book.update("binance", book(List.of(level("98", "5")), List.of(level("104", "1"))));
+
+        assertEquals("okx", book.bestBid().exchange());
+        assertEquals(new BigDecimal("102"), book.bestAsk().price());
+        assertEquals(2, book.bids(10).size());
+
+        book.remove("okx");
+        assertEquals(new BigDecimal("98"), book.bestBid().price());
+    }
+
+    private static OrderBook book(List<OrderBookEntry> bids, List<OrderBookEntry> asks) {
+        return new OrderBook("BTCUSDT", bids, asks);
+    }
+
+    private static OrderBookEntry level(String price, String quantity) {
+        return new OrderBookEntry(new BigDecimal(price), new BigDecimal(quantity));
+    }
+}
@@ -0,0 +1,60 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.BuyInfoResult;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import com.crypto.console.common.properties.AppProperties;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndexedOrderBookTest {
+
+    @Test
+    void quoteQueriesMatchLinearWalk() {
+        AppProperties.SyntheticConfig cfg = new AppProperties.SyntheticConfig();
+        cfg.setLevels(200);
+        cfg.setMids(Map.of("BTC", new BigDecimal("65000")));
+        cfg.setSeed(11);
+        OrderBook book = new SyntheticMarket("test", cfg).book("BTC", "USDT", 0);
+        IndexedOrderBook indexed = IndexedOrderBook.of(book);
+
+        for (String size : List.of("10", "1000", "65000.5", "250000", "1000000")) {
+            BigDecimal amount = new BigDecimal(size);
+            BuyInfoResult buy = OrderBookImpact.buy(book, amount);
+            BuyInfoResult sell = OrderBookImpact.sell(book, amount);
+            IndexedOrderBook.Fill buyFill = indexed.buyForQuote(amount);
+            IndexedOrderBook.Fill sellFill = indexed.sellForQuote(amount);
+            assertEquals(0, buy.averagePrice.compareTo(buyFill.averagePrice()), size);
+            assertEquals(0, buy.boughtBaseAmount.compareTo(buyFill.baseAmount()), size);
+            assertEquals(0, sell.averagePrice.compareTo(sellFill.averagePrice()), size);
+            assertEquals(0, sell.spentQuoteAmount.compareTo(sellFill.quoteAmount()), size);
+        }
+    }
+
+    @Test
+    void baseAndSlippageQueries() {
+        OrderBook book = new OrderBook("ETHUSDT",
+                List.of(new OrderBookEntry(new BigDecimal("99"), new BigDecimal("1")),
+                        new OrderBookEntry(new BigDecimal("98"), new BigDecimal("2"))),
+                List.of(new OrderBookEntry(new BigDecimal("100"), new BigDecimal("1")),
+                        new OrderBookEntry(new BigDecimal("101"), new BigDecimal("2")),
+                        new OrderBookEntry(new BigDecimal("103"), new BigDecimal("5"))));
+        IndexedOrderBook indexed = IndexedOrderBook.of(book);
+
+        IndexedOrderBook.Fill twoBase = indexed.buyForBase(new BigDecimal("2"));
+        assertEquals(0, new BigDecimal("201").compareTo(twoBase.quoteAmount()));
+        assertEquals(0, new BigDecimal("100.5").compareTo(twoBase.averagePrice()));
+
+        IndexedOrderBook.Fill withinOnePct = indexed.maxBuyWithinSlippage(BigDecimal.ONE);
+        assertEquals(0, new BigDecimal("3").compareTo(withinOnePct.baseAmount()));
+        assertEquals(2, withinOnePct.levels());
+
+        IndexedOrderBook.Fill sellWithin = indexed.maxSellWithinSlippage(new BigDecimal("0.5"));
+        assertEquals(0, BigDecimal.ONE.compareTo(sellWithin.baseAmount()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.BuyInfoResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderBookImpactTest {
+
+    @Test
+    void parsesFixedPointText() {
+        assertEquals(6500012L, FixedPoint.parse("65000.12", 2));
+        assertEquals(123000L, FixedPoint.parse("0.00123000", 8));
+        assertEquals(-150L, FixedPoint.parse("-1.5", 2));
+        assertEquals(4, FixedPoint.fractionDigits("0.00120000"));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.parse("1.234", 2));
+    }
+
+    @Test
+    void fixedPointWalkMatchesDecimalValues() throws Exception {
+        JsonNode asks = new ObjectMapper().readTree(
+                "[[\"65000.10000000\",\"0.50000000\"],[\"65000.2\",\"0.25\"],[\"bad\",\"1\"],[\"65001\",\"3.123456\"]]");
+
+        BuyInfoResult result = OrderBookImpact.buy("BTCUSDT", asks, new BigDecimal("60000"));
+
+        BigDecimal expectedPartial = new BigDecimal("11249.9").divide(new BigDecimal("65001"), 18, RoundingMode.DOWN);
+        assertEquals(0, new BigDecimal("0.75").add(expectedPartial).compareTo(result.boughtBaseAmount));
+        assertEquals(0, new BigDecimal("48750.1").add(expectedPartial.multiply(new BigDecimal("65001"))).compareTo(result.spentQuoteAmount));
+        assertEquals(3, result.affectedOrderBookItems.size());
+        assertEquals(0, new BigDecimal("0.75").compareTo(result.affectedOrderBookItems.get(0).filledBaseAmount
+                .add(result.affectedOrderBookItems.get(1).filledBaseAmount)));
+        assertEquals(0, expectedPartial.compareTo(result.affectedOrderBookItems.get(2).filledBaseAmount));
+    }
+}
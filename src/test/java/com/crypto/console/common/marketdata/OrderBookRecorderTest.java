@@ -0,0 +1,55 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderBookRecorderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordedBooksReadBackUnchanged() {
+        try (OrderBookRecorder recorder = new OrderBookRecorder(dir, 1 << 20, 60_000, 64, 100)) {
+            recorder.onOrderBook("okx", book("BTC-USDT", "65000.1", "65000.2"));
+            recorder.onOrderBook("okx", book("BTC-USDT", "65001.15", "65001.3"));
+            recorder.onOrderBook("bybit", book("ETHUSDT", "3200.5", "3200.6"));
+        }
+
+        OrderBookLogReader reader = new OrderBookLogReader(dir);
+        assertEquals(2, reader.streams().size());
+        OrderBookLogReader.RecordedStream btc = reader.stream("okx", "BTC-USDT");
+        assertEquals(2, btc.size());
+
+        OrderBook second = reader.read(btc, 1);
+        assertEquals(0, new BigDecimal("65001.15").compareTo(second.bids.get(0).price));
+        assertEquals(0, new BigDecimal("1.5").compareTo(second.bids.get(0).quantity));
+        assertEquals(0, new BigDecimal("65001.3").compareTo(second.asks.get(0).price));
+        assertEquals(2, second.asks.size());
+    }
+
+    @Test
+    void rejectsSegmentsFromOtherFormatVersions() {
+        ByteBuffer header = ByteBuffer.allocate(OrderBookLogFormat.HEADER_BYTES);
+        header.putInt(OrderBookLogFormat.MAGIC).putShort((short) 1).putShort((short) 0).putLong(0).flip();
+        assertThrows(IllegalStateException.class, () -> OrderBookLogFormat.readHeader(header));
+    }
+
+    private static OrderBook book(String symbol, String bid, String ask) {
+        return new OrderBook(symbol,
+                List.of(new OrderBookEntry(new BigDecimal(bid), new BigDecimal("1.5")),
+                        new OrderBookEntry(new BigDecimal(bid).subtract(BigDecimal.ONE), new BigDecimal("0.25"))),
+                List.of(new OrderBookEntry(new BigDecimal(ask), new BigDecimal("0.75")),
+                        new OrderBookEntry(new BigDecimal(ask).add(BigDecimal.ONE), new BigDecimal("3"))));
+    }
+}
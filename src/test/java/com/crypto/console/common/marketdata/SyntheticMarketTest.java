@@ -0,0 +1,37 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.properties.AppProperties;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticMarketTest {
+
+    @Test
+    void generatesOrderedBookAndSettlesFills() {
+        AppProperties.SyntheticConfig cfg = new AppProperties.SyntheticConfig();
+        cfg.setLevels(20);
+        cfg.setMids(Map.of("BTC", new BigDecimal("65000")));
+        cfg.setSeed(7);
+        cfg.setBalances(Map.of("USDT", new BigDecimal("1000")));
+        SyntheticMarket market = new SyntheticMarket("exstub1", cfg);
+
+        OrderBook book = market.book("btc", "usdt", 5);
+        assertEquals(5, book.bids.size());
+        assertEquals(5, book.asks.size());
+        assertTrue(book.bids.get(0).price.compareTo(book.asks.get(0).price) < 0);
+        assertTrue(book.asks.get(0).price.compareTo(book.asks.get(4).price) < 0);
+        assertTrue(book.bids.get(0).price.compareTo(book.bids.get(4).price) > 0);
+
+        market.marketBuy("BTC", "USDT", new BigDecimal("600"));
+        assertTrue(market.balance("BTC").free.signum() > 0);
+        assertThrows(ExchangeException.class, () -> market.marketBuy("BTC", "USDT", new BigDecimal("600")));
+    }
+}
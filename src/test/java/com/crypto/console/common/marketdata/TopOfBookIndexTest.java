@@ -0,0 +1,35 @@
+package com.crypto.console.common.marketdata;
+
+import com.crypto.console.common.model.BookTicker;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TopOfBookIndexTest {
+
+    @Test
+    void servesLatestQuotePerExchangeAcrossGrowth() {
+        TopOfBookIndex index = new TopOfBookIndex(List.of("binance", "okx", "kucoin"));
+        List<BookTicker> many = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            many.add(new BookTicker("T" + i, "USDT", BigDecimal.ONE, BigDecimal.TEN));
+        }
+        many.add(new BookTicker("BTC", "USDT", new BigDecimal("60000"), new BigDecimal("60001")));
+        index.update("okx", many, 1_000);
+        index.update("kucoin", List.of(new BookTicker("btc", "usdt", new BigDecimal("60002"), new BigDecimal("60003"))), 1_500);
+        index.update("okx", List.of(new BookTicker("BTC", "USDT", new BigDecimal("59999"), new BigDecimal("60000"))), 2_000);
+
+        List<TopOfBookIndex.Quote> quotes = index.quotes("BTC", "USDT", 2_500);
+
+        assertEquals(List.of(
+                new TopOfBookIndex.Quote("okx", 59999, 60000, 500),
+                new TopOfBookIndex.Quote("kucoin", 60002, 60003, 1_000)
+        ), quotes);
+        assertEquals(1_001, index.symbols());
+        assertEquals(List.of(), index.quotes("ETH", "USDT", 2_500));
+    }
+}
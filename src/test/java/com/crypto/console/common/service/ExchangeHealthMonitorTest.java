@@ -0,0 +1,130 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.exchange.ExchangeName;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.model.ExchangeException;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.properties.SecretsProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExchangeHealthMonitorTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    @Test
+    void opensAfterFailuresAndSkipsInFanOut() {
+        ExchangeHealthMonitor monitor = monitor(stubRegistry());
+        for (int i = 0; i < 3; i++) {
+            monitor.record("exstub1", 10, false);
+        }
+        assertFalse(monitor.allows("exstub1"));
+        assertTrue(monitor.allows("exstub2"));
+
+        Map<String, ExchangeHealthMonitor.Outcome<String>> outcomes = monitor.fanOut(client -> client.name()).stream()
+                .collect(Collectors.toMap(ExchangeHealthMonitor.Outcome::exchange, Function.identity()));
+
+        assertEquals(ExchangeHealthMonitor.Status.SKIPPED, outcomes.get("exstub1").status());
+        assertEquals("exstub2", outcomes.get("exstub2").value());
+        assertEquals(0, snapshot(monitor, "exstub1").score());
+
+        int calls = snapshot(monitor, "exstub2").calls();
+        monitor.fanOut(client -> null);
+        assertEquals(calls, snapshot(monitor, "exstub2").calls());
+        assertTrue(monitor.fanOut(exchange -> !exchange.equals("exstub2"), client -> client.name()).stream()
+                .noneMatch(outcome -> outcome.exchange().equals("exstub2")));
+    }
+
+    @Test
+    void halfOpenProbeClosesCircuit() throws InterruptedException {
+        ExchangeHealthMonitor monitor = monitor(stubRegistry());
+        for (int i = 0; i < 3; i++) {
+            monitor.record("exstub2", 10, false);
+        }
+        now.addAndGet(1_000);
+        monitor.probeDue();
+        assertFalse(monitor.allows("exstub2"));
+
+        now.addAndGet(30_000);
+        monitor.probeDue();
+        for (int i = 0; i < 100 && snapshot(monitor, "exstub2").state() != ExchangeHealthMonitor.State.CLOSED; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(ExchangeHealthMonitor.State.CLOSED, snapshot(monitor, "exstub2").state());
+        assertTrue(monitor.allows("exstub2"));
+    }
+
+    @Test
+    void slowCallsCountAsFailuresButApplicationErrorsDoNot() {
+        ExchangeHealthMonitor monitor = monitor(stubRegistry());
+        for (int i = 0; i < 3; i++) {
+            monitor.record("exstub1", 5_000, true);
+        }
+        assertFalse(monitor.allows("exstub1"));
+
+        assertFalse(ExchangeHealthMonitor.isVenueFailure(new ExchangeException("Invalid symbol: FOOUSDT")));
+        assertTrue(ExchangeHealthMonitor.isVenueFailure(new ExchangeException("HTTP request failed",
+                WebClientResponseException.create(HttpStatus.BAD_GATEWAY.value(), "Bad Gateway", null, null, null))));
+        assertFalse(ExchangeHealthMonitor.isVenueFailure(new ExchangeException("HTTP request failed",
+                new WebClientRequestException(new InterruptedException(), HttpMethod.GET, URI.create("http://localhost:1"), new HttpHeaders()))));
+    }
+
+    @Test
+    void probedLatencyStretchesTimeoutAndSlowThreshold() {
+        ExchangeHealthMonitor monitor = monitor(stubRegistry());
+        monitor.recordProbe("exstub1", List.of(4_000L, 900L, 1_000L, 950L));
+        monitor.recordProbe("okx", List.of(4_000L, 2_000L));
+        assertEquals(8_000, monitor.callTimeoutMillis("exstub1"));
+        assertEquals(5_000, monitor.callTimeoutMillis("exstub2"));
+        assertEquals(5_000, monitor.callTimeoutMillis("okx"));
+
+        for (int i = 0; i < 3; i++) {
+            monitor.record("exstub1", 1_500, true);
+            monitor.record("exstub2", 1_500, true);
+        }
+        assertTrue(monitor.allows("exstub1"));
+        assertFalse(monitor.allows("exstub2"));
+    }
+
+    private ExchangeHealthMonitor monitor(ExchangeRegistry registry) {
+        AppProperties.HealthConfig cfg = new AppProperties.HealthConfig();
+        cfg.setMinCalls(3);
+        cfg.setSlowCallMillis(1_000);
+        return new ExchangeHealthMonitor(registry, cfg, now::get, false);
+    }
+
+    private static ExchangeHealthMonitor.Snapshot snapshot(ExchangeHealthMonitor monitor, String exchange) {
+        return monitor.snapshots().stream().filter(s -> s.exchange().equals(exchange)).findFirst().orElseThrow();
+    }
+
+    private static ExchangeRegistry stubRegistry() {
+        Map<String, AppProperties.ExchangeConfig> exchanges = new HashMap<>();
+        for (ExchangeName name : ExchangeName.values()) {
+            if (name == ExchangeName.REPLAY) {
+                continue;
+            }
+            AppProperties.ExchangeConfig cfg = new AppProperties.ExchangeConfig();
+            cfg.setBaseUrl("http://localhost:1");
+            exchanges.put(name.id(), cfg);
+        }
+        AppProperties appProperties = new AppProperties();
+        appProperties.setExchanges(exchanges);
+        return ExchangeRegistry.create(appProperties, new SecretsProperties());
+    }
+}
@@ -0,0 +1,61 @@
+package com.crypto.console.common.service;
+
+import com.crypto.console.common.marketdata.ConsolidatedOrderBook;
+import com.crypto.console.common.model.OrderBook;
+import com.crypto.console.common.model.OrderBookEntry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderRouterTest {
+
+    private final OrderRouter router = new OrderRouter();
+
+    @Test
+    void splitsBuyAcrossCheapestAsksWithinBalances() {
+        ConsolidatedOrderBook book = new ConsolidatedOrderBook();
+        book.update("binance", asks(level("100", "1"), level("103", "10")));
+        book.update("okx", asks(level("101", "1"), level("102", "10")));
+
+        OrderRouter.Route route = router.route(true, new BigDecimal("400"), book.asks(10),
+                Map.of("binance", new BigDecimal("1000"), "okx", new BigDecimal("250")), Map.of());
+
+        assertEquals(2, route.allocations().size());
+        assertEquals("okx", route.allocations().get(0).exchange());
+        assertEquals(0, route.allocations().get(0).amount().compareTo(new BigDecimal("250")));
+        assertEquals(0, route.allocations().get(1).amount().compareTo(new BigDecimal("150")));
+        assertEquals(0, route.unfilled().signum());
+    }
+
+    @Test
+    void dropsVenuesBelowMinNotionalAndReroutes() {
+        ConsolidatedOrderBook book = new ConsolidatedOrderBook();
+        book.update("binance", bids(level("100", "0.05"), level("90", "10")));
+        book.update("mexc", bids(level("95", "10")));
+
+        OrderRouter.Route route = router.route(false, new BigDecimal("1"), book.bids(10),
+                Map.of("binance", new BigDecimal("5"), "mexc", new BigDecimal("5")),
+                Map.of("binance", new BigDecimal("10")));
+
+        assertEquals(1, route.allocations().size());
+        assertEquals("mexc", route.allocations().get(0).exchange());
+        assertEquals(0, route.quoteAmount().compareTo(new BigDecimal("95")));
+        assertEquals(List.of("binance"), route.skipped());
+    }
+
+    private static OrderBook asks(OrderBookEntry... levels) {
+        return new OrderBook("BTCUSDT", List.of(), List.of(levels));
+    }
+
+    private static OrderBook bids(OrderBookEntry... levels) {
+        return new OrderBook("BTCUSDT", List.of(levels), List.of());
+    }
+
+    private static OrderBookEntry level(String price, String quantity) {
+        return new OrderBookEntry(new BigDecimal(price), new BigDecimal(quantity));
+    }
+}
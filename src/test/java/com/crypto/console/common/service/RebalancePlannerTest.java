@@ -0,0 +1,56 @@
+package com.crypto.console.common.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RebalancePlannerTest {
+
+    private final RebalancePlanner planner = new RebalancePlanner();
+
+    @Test
+    void plansCheapestSenderAndExactMatchesOnGrossAmounts() {
+        Map<String, BigDecimal> balances = Map.of(
+                "binance", new BigDecimal("1500"),
+                "okx", new BigDecimal("1300"),
+                "kucoin", new BigDecimal("200")
+        );
+        Map<String, BigDecimal> targets = new LinkedHashMap<>();
+        targets.put("binance", new BigDecimal("1000"));
+        targets.put("okx", new BigDecimal("1000"));
+        targets.put("kucoin", new BigDecimal("1000"));
+        Map<String, BigDecimal> fees = Map.of(
+                "binance", new BigDecimal("1"),
+                "okx", new BigDecimal("0.8"),
+                "kucoin", new BigDecimal("1")
+        );
+
+        RebalancePlanner.Plan plan = planner.plan(balances, targets, fees);
+
+        assertEquals(2, plan.transfers().size());
+        assertEquals(new RebalancePlanner.Transfer("okx", "kucoin", new BigDecimal("300"), new BigDecimal("0.8")), plan.transfers().get(0));
+        assertEquals(new RebalancePlanner.Transfer("binance", "kucoin", new BigDecimal("500"), new BigDecimal("1")), plan.transfers().get(1));
+        assertEquals(0, plan.shortfall().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    void skipsTransfersNotWorthTheFeeAndReportsShortfall() {
+        Map<String, BigDecimal> balances = Map.of(
+                "binance", new BigDecimal("100.5"),
+                "mexc", new BigDecimal("50")
+        );
+        Map<String, BigDecimal> targets = new LinkedHashMap<>();
+        targets.put("binance", new BigDecimal("100"));
+        targets.put("mexc", new BigDecimal("80"));
+        Map<String, BigDecimal> fees = Map.of("binance", BigDecimal.ONE, "mexc", BigDecimal.ONE);
+
+        RebalancePlanner.Plan plan = planner.plan(balances, targets, fees);
+
+        assertEquals(0, plan.transfers().size());
+        assertEquals(0, plan.shortfall().compareTo(new BigDecimal("30")));
+    }
+}
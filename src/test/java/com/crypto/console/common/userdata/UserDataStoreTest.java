@@ -0,0 +1,58 @@
+package com.crypto.console.common.userdata;
+
+import com.crypto.console.common.model.Balance;
+import com.crypto.console.common.model.OrderUpdate;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UserDataStoreTest {
+    private final UserDataStore store = new UserDataStore(Duration.ofSeconds(2), Duration.ofSeconds(30));
+
+    @Test
+    void returnsFillThatArrivedBeforeTheWaiter() {
+        store.onOrderUpdate(update("1", OrderUpdate.FILLED, "0.5", 10));
+
+        OrderUpdate filled = store.awaitTerminal("binance", "1");
+
+        assertEquals(OrderUpdate.FILLED, filled.status);
+        assertEquals(new BigDecimal("0.5"), filled.executedQty);
+    }
+
+    @Test
+    void wakesWaiterWhenFillArrives() throws Exception {
+        CompletableFuture<OrderUpdate> waiter = CompletableFuture.supplyAsync(() -> store.awaitTerminal("binance", "2"));
+        store.onOrderUpdate(update("2", OrderUpdate.PARTIALLY_FILLED, "0.2", 10));
+        store.onOrderUpdate(update("2", OrderUpdate.FILLED, "1", 20));
+
+        assertEquals(OrderUpdate.FILLED, waiter.get().status);
+    }
+
+    @Test
+    void ignoresUpdatesAfterTerminalStateAndTimesOut() {
+        store.onOrderUpdate(update("3", OrderUpdate.FILLED, "1", 20));
+        store.onOrderUpdate(update("3", OrderUpdate.PARTIALLY_FILLED, "0.4", 30));
+
+        assertEquals(OrderUpdate.FILLED, store.order("binance", "3").status);
+        assertNull(store.awaitTerminal("binance", "4", Duration.ofMillis(20)));
+    }
+
+    @Test
+    void servesBalancesOnlyWhileConnected() {
+        store.setConnected("binance", true);
+        store.onBalance("binance", new Balance("usdt", BigDecimal.TEN, BigDecimal.ZERO));
+        assertEquals(BigDecimal.TEN, store.balance("binance", "USDT").free);
+
+        store.setConnected("binance", false);
+        assertNull(store.balance("binance", "USDT"));
+    }
+
+    private static OrderUpdate update(String orderId, String status, String qty, long time) {
+        return new OrderUpdate("binance", "BTCUSDT", orderId, status, new BigDecimal(qty), null, time);
+    }
+}
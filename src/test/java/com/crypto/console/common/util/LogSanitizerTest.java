@@ -0,0 +1,31 @@
+package com.crypto.console.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LogSanitizerTest {
+
+    @Test
+    void returnsSameInstanceWhenNothingToMask() {
+        String table = "exchange | avg ask (USDT)\nbinance  | 100.5";
+        assertSame(table, LogSanitizer.sanitize(table));
+        String query = "/api/v3/depth?symbol=BTCUSDT&limit=1000";
+        assertSame(query, LogSanitizer.sanitize(query));
+    }
+
+    @Test
+    void masksSecretValuesUpToWhitespace() {
+        assertEquals("/api/v3/account?timestamp=1&recvWindow=5000&signature=***",
+                LogSanitizer.sanitize("/api/v3/account?timestamp=1&recvWindow=5000&signature=abcdef"));
+        assertEquals("apiKey=*** memo=*** rest", LogSanitizer.sanitize("apiKey=k1 memo=42 rest"));
+        assertEquals("x?Sign=***", LogSanitizer.sanitize("x?Sign=ab&c=d"));
+        assertEquals("secret= spaced", LogSanitizer.sanitize("secret= spaced"));
+    }
+
+    @Test
+    void lazyValueSanitizesOnFormat() {
+        assertEquals("passphrase=***", LogSanitizer.lazy("passphrase=p").toString());
+    }
+}
@@ -0,0 +1,54 @@
+package com.crypto.console.exchanges.binance;
+
+import com.crypto.console.common.model.BookTicker;
+import com.crypto.console.common.properties.AppProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinanceClientTest {
+
+    @Test
+    void splitsBookTickersWithExchangeInfoAssets() {
+        String tickers = "[{\"symbol\":\"BTCUSDT\",\"bidPrice\":\"60000.1\",\"askPrice\":\"60000.2\"},"
+                + "{\"symbol\":\"ETHBTC\",\"bidPrice\":\"0.05\",\"askPrice\":\"0.0501\"},"
+                + "{\"symbol\":\"OLDUSDT\",\"bidPrice\":\"0.00000000\",\"askPrice\":\"0.00000000\"}]";
+        String exchangeInfo = "{\"symbols\":[{\"symbol\":\"BTCUSDT\",\"baseAsset\":\"BTC\",\"quoteAsset\":\"USDT\"},"
+                + "{\"symbol\":\"ETHBTC\",\"baseAsset\":\"ETH\",\"quoteAsset\":\"BTC\"},"
+                + "{\"symbol\":\"OLDUSDT\",\"baseAsset\":\"OLD\",\"quoteAsset\":\"USDT\"}]}";
+        AtomicInteger infoRequests = new AtomicInteger();
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/api/v3/ticker/bookTicker", (req, res) -> res.header("Content-Type", "application/json").sendString(Mono.just(tickers)))
+                        .get("/api/v3/exchangeInfo", (req, res) -> {
+                            infoRequests.incrementAndGet();
+                            return res.header("Content-Type", "application/json").sendString(Mono.just(exchangeInfo));
+                        }))
+                .bindNow();
+        AppProperties.ExchangeConfig cfg = new AppProperties.ExchangeConfig();
+        cfg.setBaseUrl("http://localhost:" + server.port());
+        try {
+            BinanceClient client = new BinanceClient(cfg, null);
+            List<BookTicker> result = client.getBookTickers();
+            client.getBookTickers();
+
+            assertEquals(2, result.size());
+            assertEquals("BTC", result.get(0).base);
+            assertEquals("USDT", result.get(0).quote);
+            assertEquals(new BigDecimal("60000.1"), result.get(0).bid);
+            assertEquals("ETH", result.get(1).base);
+            assertEquals(new BigDecimal("0.0501"), result.get(1).ask);
+            assertEquals(1, infoRequests.get());
+        } finally {
+            server.disposeNow();
+        }
+    }
+}
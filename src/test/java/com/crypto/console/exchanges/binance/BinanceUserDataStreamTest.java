@@ -0,0 +1,46 @@
+package com.crypto.console.exchanges.binance;
+
+import com.crypto.console.common.model.OrderUpdate;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.userdata.UserDataStore;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinanceUserDataStreamTest {
+
+    @Test
+    void pushesExecutionReportsIntoStore() {
+        String report = "{\"e\":\"executionReport\",\"E\":1700000000000,\"s\":\"BTCUSDT\",\"i\":42,"
+                + "\"X\":\"FILLED\",\"z\":\"0.25\",\"Z\":\"10000.5\"}";
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.ws("/ws/key-1", (in, out) ->
+                        out.sendString(Mono.just(report)).then(Mono.never())))
+                .bindNow();
+        AtomicInteger listenKeys = new AtomicInteger();
+        UserDataStore store = new UserDataStore(new AppProperties.UserDataConfig());
+        BinanceUserDataStream stream = new BinanceUserDataStream(store, "ws://localhost:" + server.port() + "/ws/",
+                () -> "key-" + listenKeys.incrementAndGet(), key -> {
+        });
+        try {
+            stream.start();
+            OrderUpdate update = store.awaitTerminal("binance", "42", Duration.ofSeconds(5));
+
+            assertEquals(OrderUpdate.FILLED, update.status);
+            assertEquals(new BigDecimal("0.25"), update.executedQty);
+            assertEquals(new BigDecimal("10000.5"), update.executedQuote);
+            assertEquals(true, store.isConnected("binance"));
+        } finally {
+            stream.close();
+            server.disposeNow();
+        }
+    }
+}
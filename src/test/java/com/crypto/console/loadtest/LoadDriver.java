@@ -0,0 +1,138 @@
+package com.crypto.console.loadtest;
+
+import com.crypto.console.common.command.Command;
+import com.crypto.console.common.command.impl.BuyInfosCommand;
+import com.crypto.console.common.command.impl.SellInfosCommand;
+import com.crypto.console.common.exchange.ExchangeClient;
+import com.crypto.console.common.exchange.ExchangeName;
+import com.crypto.console.common.exchange.impl.ExchangeRegistry;
+import com.crypto.console.common.properties.AppProperties;
+import com.crypto.console.common.properties.SecretsProperties;
+import com.crypto.console.common.service.CommandExecutor;
+import com.crypto.console.common.service.ExchangeHealthMonitor;
+import com.crypto.console.common.service.ImpactCurveService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+class LoadDriver {
+    private final List<MockExchangeServer> servers;
+    private final MockExchangeServer fallback;
+    private final CommandExecutor executor;
+    private final AtomicLong quotes = new AtomicLong();
+
+    LoadDriver(List<MockExchangeServer> servers, MockExchangeServer fallback) {
+        this.servers = servers;
+        this.fallback = fallback;
+        Map<String, AppProperties.ExchangeConfig> exchanges = new HashMap<>();
+        for (ExchangeName name : ExchangeName.values()) {
+            if (name == ExchangeName.REPLAY) {
+                continue;
+            }
+            AppProperties.ExchangeConfig cfg = new AppProperties.ExchangeConfig();
+            cfg.setBaseUrl(servers.stream()
+                    .filter(server -> server.venue().name().equals(name.name()))
+                    .findFirst()
+                    .orElse(fallback)
+                    .baseUrl());
+            exchanges.put(name.id(), cfg);
+        }
+        AppProperties appProperties = new AppProperties();
+        appProperties.setExchanges(exchanges);
+        ExchangeRegistry registry = ExchangeRegistry.create(appProperties, new SecretsProperties());
+        this.executor = new CommandExecutor(registry, null, null, null, new ImpactCurveService(),
+                new QuoteCountingMonitor(registry, appProperties.getHealth(), quotes), null, null, null, null);
+    }
+
+    Report run(int commands, int concurrency, String base, BigDecimal quoteAmount) throws Exception {
+        long booksBefore = books();
+        long quotesBefore = quotes.get();
+        long[] latencies = new long[commands];
+        AtomicInteger next = new AtomicInteger();
+        long started = System.nanoTime();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                workers.add(pool.submit(() -> {
+                    int i;
+                    while ((i = next.getAndIncrement()) < commands) {
+                        Command command = i % 2 == 0
+                                ? new BuyInfosCommand("buyinfos " + base + " " + quoteAmount + " USDT", base, quoteAmount, "USDT")
+                                : new SellInfosCommand("sellinfos " + base + " " + quoteAmount + " USDT", base, quoteAmount, "USDT");
+                        long t0 = System.nanoTime();
+                        executor.execute(command);
+                        latencies[i] = System.nanoTime() - t0;
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Report(commands, concurrency, elapsed, quotes.get() - quotesBefore, books() - booksBefore,
+                percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1],
+                servers.stream().mapToLong(MockExchangeServer::errors).sum(),
+                servers.stream().mapToLong(MockExchangeServer::throttled).sum());
+    }
+
+    private long books() {
+        return servers.stream().mapToLong(MockExchangeServer::books).sum() + fallback.books();
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static class QuoteCountingMonitor extends ExchangeHealthMonitor {
+        private final AtomicLong quotes;
+
+        QuoteCountingMonitor(ExchangeRegistry registry, AppProperties.HealthConfig cfg, AtomicLong quotes) {
+            super(registry, cfg);
+            this.quotes = quotes;
+        }
+
+        @Override
+        public <T> List<Outcome<T>> fanOut(Function<ExchangeClient, T> call) {
+            List<Outcome<T>> outcomes = super.fanOut(call);
+            quotes.addAndGet(outcomes.stream().filter(outcome -> outcome.ok() && outcome.value() != null).count());
+            return outcomes;
+        }
+    }
+
+    record Report(int commands, int concurrency, long elapsedNanos, long quotes, long depthRequests,
+                  long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos,
+                  long injectedErrors, long injected429) {
+
+        double quotesPerSecond() {
+            return elapsedNanos == 0 ? 0 : quotes * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "commands=%d concurrency=%d elapsed=%.2fs quotes=%d quotes/sec=%.1f depthRequests=%d "
+                            + "latency p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms errors=%d 429=%d",
+                    commands, concurrency, elapsedNanos / 1e9, quotes, quotesPerSecond(), depthRequests,
+                    p50Nanos / 1e6, p90Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6,
+                    injectedErrors, injected429);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.crypto.console.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("load")
+class MockExchangeLoadTest {
+
+    @Test
+    void fanOutCommandsAgainstMockExchanges() throws Exception {
+        MockExchangeServer.Faults faults = new MockExchangeServer.Faults(
+                Long.getLong("load.latencyMillis", 20),
+                Long.getLong("load.jitterMillis", 30),
+                Double.parseDouble(System.getProperty("load.errorRate", "0.01")),
+                Double.parseDouble(System.getProperty("load.throttleRate", "0.02")),
+                Long.getLong("load.seed", 42));
+        int commands = Integer.getInteger("load.commands", 400);
+        int concurrency = Integer.getInteger("load.concurrency", 16);
+
+        try (MockExchangeServer binance = new MockExchangeServer(MockExchangeServer.Venue.BINANCE, faults);
+             MockExchangeServer okx = new MockExchangeServer(MockExchangeServer.Venue.OKX, faults);
+             MockExchangeServer kucoin = new MockExchangeServer(MockExchangeServer.Venue.KUCOIN, faults);
+             MockExchangeServer fallback = new MockExchangeServer(MockExchangeServer.Venue.NONE, MockExchangeServer.Faults.NONE)) {
+            LoadDriver driver = new LoadDriver(List.of(binance, okx, kucoin), fallback);
+            driver.run(Math.min(commands, 20), concurrency, "BTC", new BigDecimal("1000"));
+
+            LoadDriver.Report report = driver.run(commands, concurrency, "BTC", new BigDecimal("1000"));
+            System.out.println("LOAD " + report);
+
+            assertEquals(commands, report.commands());
+            assertTrue(report.quotes() > 0);
+        }
+    }
+}
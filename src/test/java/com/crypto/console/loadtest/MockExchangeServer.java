@@ -0,0 +1,294 @@
+package com.crypto.console.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+class MockExchangeServer implements AutoCloseable {
+    private static final Map<String, BigDecimal> MIDS = Map.of(
+            "BTC", new BigDecimal("65000"),
+            "ETH", new BigDecimal("3200"),
+            "SOL", new BigDecimal("150")
+    );
+
+    private final Venue venue;
+    private final Faults faults;
+    private final Random random;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong books = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+
+    enum Venue {
+        BINANCE,
+        OKX,
+        KUCOIN,
+        NONE
+    }
+
+    record Faults(long latencyMillis, long jitterMillis, double errorRate, double throttleRate, long seed) {
+        static final Faults NONE = new Faults(0, 0, 0, 0, 1);
+    }
+
+    MockExchangeServer(Venue venue, Faults faults) throws IOException {
+        this.venue = venue;
+        this.faults = faults;
+        this.random = new Random(faults.seed());
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    Venue venue() {
+        return venue;
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long books() {
+        return books.get();
+    }
+
+    long errors() {
+        return errors.get();
+    }
+
+    long throttled() {
+        return throttled.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            delay();
+            double roll = random.nextDouble();
+            if (roll < faults.throttleRate()) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                respond(exchange, 429, "{\"code\":429,\"msg\":\"Too many requests\"}");
+                return;
+            }
+            if (roll < faults.throttleRate() + faults.errorRate()) {
+                errors.incrementAndGet();
+                respond(exchange, 500, "{\"code\":500,\"msg\":\"Internal error\"}");
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String body = switch (venue) {
+                case BINANCE -> binance(path, query);
+                case OKX -> okx(path, query);
+                case KUCOIN -> kucoin(path, query);
+                case NONE -> null;
+            };
+            if (body == null) {
+                respond(exchange, 404, "{\"code\":404,\"msg\":\"Not found\"}");
+                return;
+            }
+            respond(exchange, 200, body);
+        }
+    }
+
+    private String binance(String path, Map<String, String> query) {
+        return switch (path) {
+            case "/api/v3/exchangeInfo" -> {
+                StringBuilder sb = new StringBuilder("{\"symbols\":[");
+                String wanted = query.get("symbol");
+                boolean first = true;
+                for (String base : MIDS.keySet()) {
+                    String symbol = base + "USDT";
+                    if (wanted != null && !wanted.equals(symbol)) {
+                        continue;
+                    }
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    sb.append("{\"symbol\":\"").append(symbol).append("\",\"baseAsset\":\"").append(base)
+                            .append("\",\"quoteAsset\":\"USDT\",\"filters\":[")
+                            .append("{\"filterType\":\"LOT_SIZE\",\"minQty\":\"0.00001\",\"maxQty\":\"9000\",\"stepSize\":\"0.00001\"},")
+                            .append("{\"filterType\":\"NOTIONAL\",\"minNotional\":\"5\"}]}");
+                }
+                yield sb.append("]}").toString();
+            }
+            case "/api/v3/depth" -> {
+                BigDecimal mid = mid(query.get("symbol"), "USDT");
+                if (mid == null) {
+                    yield null;
+                }
+                books.incrementAndGet();
+                int levels = Math.min(parseInt(query.get("limit"), 100), 5000);
+                yield "{\"lastUpdateId\":" + requests.get()
+                        + ",\"bids\":" + levels(mid, levels, false)
+                        + ",\"asks\":" + levels(mid, levels, true) + "}";
+            }
+            default -> null;
+        };
+    }
+
+    private String okx(String path, Map<String, String> query) {
+        return switch (path) {
+            case "/api/v5/public/instruments" -> {
+                StringBuilder sb = new StringBuilder("{\"code\":\"0\",\"msg\":\"\",\"data\":[");
+                boolean first = true;
+                for (String base : MIDS.keySet()) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    sb.append("{\"instId\":\"").append(base).append("-USDT\",\"baseCcy\":\"").append(base)
+                            .append("\",\"quoteCcy\":\"USDT\",\"state\":\"live\",\"minSz\":\"0.00001\",\"lotSz\":\"0.00000001\"}");
+                }
+                yield sb.append("]}").toString();
+            }
+            case "/api/v5/market/books" -> {
+                BigDecimal mid = mid(query.get("instId"), "-USDT");
+                if (mid == null) {
+                    yield "{\"code\":\"51001\",\"msg\":\"Instrument ID does not exist\",\"data\":[]}";
+                }
+                books.incrementAndGet();
+                int levels = Math.min(parseInt(query.get("sz"), 1), 400);
+                yield "{\"code\":\"0\",\"msg\":\"\",\"data\":[{\"asks\":" + levels(mid, levels, true, true)
+                        + ",\"bids\":" + levels(mid, levels, false, true)
+                        + ",\"ts\":\"" + System.currentTimeMillis() + "\"}]}";
+            }
+            default -> null;
+        };
+    }
+
+    private String kucoin(String path, Map<String, String> query) {
+        return switch (path) {
+            case "/api/v2/symbols" -> {
+                StringBuilder sb = new StringBuilder("{\"code\":\"200000\",\"data\":[");
+                boolean first = true;
+                for (String base : MIDS.keySet()) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    sb.append("{\"symbol\":\"").append(base).append("-USDT\",\"baseCurrency\":\"").append(base)
+                            .append("\",\"quoteCurrency\":\"USDT\",\"enableTrading\":true,\"baseIncrement\":\"0.00000001\",")
+                            .append("\"baseMinSize\":\"0.00001\",\"quoteMinSize\":\"0.1\"}");
+                }
+                yield sb.append("]}").toString();
+            }
+            case "/api/v1/market/orderbook/level2_100" -> {
+                BigDecimal mid = mid(query.get("symbol"), "-USDT");
+                if (mid == null) {
+                    yield "{\"code\":\"400100\",\"msg\":\"symbol not exists\"}";
+                }
+                books.incrementAndGet();
+                yield "{\"code\":\"200000\",\"data\":{\"time\":" + System.currentTimeMillis()
+                        + ",\"sequence\":\"" + requests.get() + "\""
+                        + ",\"bids\":" + levels(mid, 100, false)
+                        + ",\"asks\":" + levels(mid, 100, true) + "}}";
+            }
+            default -> null;
+        };
+    }
+
+    private String levels(BigDecimal mid, int count, boolean asks) {
+        return levels(mid, count, asks, false);
+    }
+
+    private String levels(BigDecimal mid, int count, boolean asks, boolean withOrderCount) {
+        BigDecimal tick = mid.movePointLeft(5).max(new BigDecimal("0.0001"));
+        StringBuilder sb = new StringBuilder(count * 32).append('[');
+        for (int i = 0; i < count; i++) {
+            BigDecimal offset = tick.multiply(BigDecimal.valueOf(i + 1L));
+            BigDecimal price = (asks ? mid.add(offset) : mid.subtract(offset)).setScale(4, RoundingMode.HALF_UP);
+            BigDecimal qty = BigDecimal.valueOf(1 + random.nextInt(5000), 4);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("[\"").append(price.toPlainString()).append("\",\"").append(qty.toPlainString()).append('"');
+            if (withOrderCount) {
+                sb.append(",\"0\",\"").append(1 + i % 7).append('"');
+            }
+            sb.append(']');
+        }
+        return sb.append(']').toString();
+    }
+
+    private void delay() {
+        long millis = faults.latencyMillis();
+        if (faults.jitterMillis() > 0) {
+            millis += random.nextLong(faults.jitterMillis() + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static BigDecimal mid(String symbol, String quoteSuffix) {
+        if (symbol == null || !symbol.endsWith(quoteSuffix)) {
+            return null;
+        }
+        return MIDS.get(symbol.substring(0, symbol.length() - quoteSuffix.length()));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, int fallback) {
+        try {
+            return value == null ? fallback : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}